@@ -0,0 +1,82 @@
+package games.strategy.engine.data;
+
+import games.strategy.triplea.delegate.Matches;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMaps;
+
+/**
+ * Measures the distance and route queries of {@link GameMap} that the AI and the move validation
+ * run all the time: the distances from one territory to all others and the land routes to a
+ * sample of them.
+ *
+ * <p>Run with {@code ./gradlew :game-app:benchmarks:jmh}, see the README of that project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameMapBenchmark {
+  @Param({BenchmarkMaps.REVISED, BenchmarkMaps.GLOBAL_1940, BenchmarkMaps.TOTAL_WORLD_WAR})
+  public String xmlFile;
+
+  private GameMap map;
+  private Territory start;
+  private List<Territory> landTerritories;
+
+  @Setup
+  public void loadMap() {
+    map = BenchmarkMaps.parse(xmlFile).getMap();
+    landTerritories = new ArrayList<>();
+    final List<Territory> territories = map.getTerritories();
+    // every 10th territory, routes to all of them would take too long on the big maps
+    for (int i = 0; i < territories.size(); i += 10) {
+      if (!territories.get(i).isWater()) {
+        landTerritories.add(territories.get(i));
+      }
+    }
+    start = landTerritories.get(0);
+  }
+
+  @Benchmark
+  public int distancesToAllTerritories() {
+    int sum = 0;
+    for (final Territory territory : map.getTerritories()) {
+      sum += map.getDistance(start, territory);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int landDistancesToAllTerritories() {
+    int sum = 0;
+    for (final Territory territory : map.getTerritories()) {
+      sum += map.getLandDistance(start, territory);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int landRoutes() {
+    int steps = 0;
+    for (final Territory territory : landTerritories) {
+      final Route route = map.getRoute(start, territory, Matches.territoryIsLand());
+      steps += route == null ? 0 : route.numberOfSteps();
+    }
+    return steps;
+  }
+}
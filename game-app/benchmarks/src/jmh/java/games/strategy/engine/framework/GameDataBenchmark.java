@@ -0,0 +1,64 @@
+package games.strategy.engine.framework;
+
+import games.strategy.engine.data.GameData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMaps;
+
+/**
+ * Measures the serialization of complete game data: the copies made for the battle calculator and
+ * the AI, and saving and loading a save game. The games are at their start, so the history is
+ * empty and does not add to the measured times.
+ *
+ * <p>Run with {@code ./gradlew :game-app:benchmarks:jmh}, see the README of that project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameDataBenchmark {
+  @Param({BenchmarkMaps.REVISED, BenchmarkMaps.GLOBAL_1940, BenchmarkMaps.TOTAL_WORLD_WAR})
+  public String xmlFile;
+
+  private GameData data;
+  private byte[] saveGame;
+
+  @Setup
+  public void loadMap() throws IOException {
+    data = BenchmarkMaps.parse(xmlFile);
+    saveGame = saveGame();
+  }
+
+  @Benchmark
+  public GameData cloneForBattleCalculator() {
+    return GameDataUtils.cloneGameData(data, GameDataManager.Options.forBattleCalculator())
+        .orElseThrow();
+  }
+
+  @Benchmark
+  public byte[] saveGame() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GameDataManager.saveGame(out, data);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public GameData loadGame() {
+    return GameDataManager.loadGame(new ByteArrayInputStream(saveGame)).orElseThrow();
+  }
+}
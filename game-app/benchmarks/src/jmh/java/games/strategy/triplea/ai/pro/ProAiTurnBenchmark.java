@@ -0,0 +1,127 @@
+package games.strategy.triplea.ai.pro;
+
+import static org.mockito.Mockito.mock;
+
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.framework.startup.ui.PlayerTypes;
+import games.strategy.engine.player.Player;
+import games.strategy.net.LocalNoOpMessenger;
+import games.strategy.net.Messengers;
+import games.strategy.net.websocket.ClientNetworkBridge;
+import games.strategy.triplea.settings.ClientSetting;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sonatype.goodies.prefs.memory.MemoryPreferences;
+import org.triplea.benchmarks.BenchmarkMaps;
+import org.triplea.game.server.HeadlessGameServer;
+import org.triplea.game.server.HeadlessLaunchAction;
+import org.triplea.io.FileUtils;
+
+/**
+ * Measures a complete turn of the first player of a game where all players are Pro AIs: purchase,
+ * combat move, battles, non combat move and placement, including the battle calculations the AI
+ * runs for all of them. The game is set up the same way as the all-AI games of the smoke tests.
+ *
+ * <p>Every invocation plays the turn of a new game, so the dice differ between invocations and the
+ * results vary more than those of the other benchmarks.
+ *
+ * <p>Run with {@code ./gradlew :game-app:benchmarks:jmh}, see the README of that project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProAiTurnBenchmark {
+  @Param({BenchmarkMaps.REVISED, BenchmarkMaps.GLOBAL_1940})
+  public String xmlFile;
+
+  private ServerGame game;
+  private GamePlayer player;
+
+  @Setup(Level.Trial)
+  public void setUpHeadlessClient() throws IOException {
+    HeadlessLaunchAction.setSkipMapResourceLoading(true);
+    ClientSetting.setPreferences(new MemoryPreferences());
+    ClientSetting.aiMovePauseDuration.setValue(0);
+    ClientSetting.aiCombatStepPauseDuration.setValue(0);
+
+    final Path tempRoot = FileUtils.newTempFolder();
+    FileUtils.writeToFile(tempRoot.resolve(".triplea-root"), "");
+    Files.createDirectory(tempRoot.resolve("assets"));
+    ClientFileSystemHelper.setCodeSourceFolder(tempRoot);
+    System.setProperty(GameRunner.TRIPLEA_HEADLESS, "true");
+  }
+
+  @Setup(Level.Invocation)
+  public void startGame() {
+    final GameData gameData = BenchmarkMaps.parse(xmlFile);
+    final Map<String, PlayerTypes.Type> playerTypes = new HashMap<>();
+    for (final GamePlayer gamePlayer : gameData.getPlayerList().getPlayers()) {
+      playerTypes.put(gamePlayer.getName(), PlayerTypes.PRO_AI);
+    }
+    final Set<Player> gamePlayers = gameData.getGameLoader().newPlayers(playerTypes);
+    final HeadlessLaunchAction launchAction =
+        new HeadlessLaunchAction(mock(HeadlessGameServer.class));
+    game =
+        new ServerGame(
+            gameData,
+            gamePlayers,
+            new HashMap<>(),
+            new Messengers(new LocalNoOpMessenger()),
+            ClientNetworkBridge.NO_OP_SENDER,
+            launchAction);
+    game.setDelegateAutosavesEnabled(false);
+    game.setStopGameOnDelegateExecutionStop(true);
+    gameData.getGameLoader().startGame(game, gamePlayers, launchAction, null);
+
+    // skip the steps that initialize the game, they belong to no player
+    while (getStepPlayer() == null) {
+      game.runNextStep();
+    }
+    player = getStepPlayer();
+  }
+
+  private GamePlayer getStepPlayer() {
+    return game.getData().getSequence().getStep().getPlayerId();
+  }
+
+  @TearDown(Level.Invocation)
+  public void stopGame() {
+    // resets the static battle calculator of the Pro AI, which holds a copy of the game data
+    game.stopGame();
+  }
+
+  @Benchmark
+  public int playTurn() {
+    int steps = 0;
+    while (player.equals(getStepPlayer())) {
+      game.runNextStep();
+      steps++;
+    }
+    return steps;
+  }
+}
@@ -0,0 +1,105 @@
+package games.strategy.triplea.delegate;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.MoveDescription;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.util.ProMatches;
+import games.strategy.triplea.delegate.data.MoveValidationResult;
+import games.strategy.triplea.delegate.move.validation.MoveValidator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMaps;
+import org.triplea.java.collections.CollectionUtils;
+
+/**
+ * Measures the unit filters that the move validation, battle code and AI apply over and over: a
+ * few of the {@link Matches} and {@link ProMatches} predicates on all units of a map, and the
+ * validation of a single land move.
+ *
+ * <p>Run with {@code ./gradlew :game-app:benchmarks:jmh}, see the README of that project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UnitFilterBenchmark {
+  @Param({BenchmarkMaps.REVISED, BenchmarkMaps.GLOBAL_1940, BenchmarkMaps.TOTAL_WORLD_WAR})
+  public String xmlFile;
+
+  private List<Unit> units;
+  private GamePlayer player;
+  private MoveDescription landMove;
+  private MoveValidator moveValidator;
+
+  @Setup
+  public void loadMap() {
+    final GameData data = BenchmarkMaps.parse(xmlFile);
+    units = new ArrayList<>();
+    data.getMap().getTerritories().forEach(t -> units.addAll(t.getUnits()));
+    player = data.getPlayerList().getPlayers().get(0);
+
+    final Predicate<Unit> ownedLandUnit = Matches.unitIsOwnedBy(player).and(Matches.unitIsLand());
+    final Territory from =
+        data.getMap().getTerritories().stream()
+            .filter(t -> !t.isWater() && t.anyUnitsMatch(ownedLandUnit))
+            .findFirst()
+            .orElseThrow();
+    final Territory to =
+        data.getMap().getNeighbors(from, Matches.territoryIsLand()).iterator().next();
+    landMove = new MoveDescription(from.getMatches(ownedLandUnit), new Route(from, to));
+    moveValidator = new MoveValidator(data, false);
+  }
+
+  @Benchmark
+  public int landUnits() {
+    return CollectionUtils.countMatches(units, Matches.unitIsLand());
+  }
+
+  @Benchmark
+  public int seaTransports() {
+    return CollectionUtils.countMatches(units, Matches.unitIsSeaTransport());
+  }
+
+  @Benchmark
+  public int combatUnits() {
+    return CollectionUtils.countMatches(
+        units,
+        Matches.unitIsNotSeaTransportButCouldBeCombatSeaTransport()
+            .and(Matches.unitIsNotInfrastructure())
+            .and(Matches.unitCanEvade().negate()));
+  }
+
+  @Benchmark
+  public int proMovableLandUnits() {
+    return CollectionUtils.countMatches(
+        units, ProMatches.unitCanBeMovedAndIsOwnedLand(player, true));
+  }
+
+  @Benchmark
+  public int proEnemyNotLandUnits() {
+    return CollectionUtils.countMatches(units, ProMatches.unitIsEnemyNotLand(player));
+  }
+
+  @Benchmark
+  public MoveValidationResult validateLandMove() {
+    return moveValidator.validateMove(landMove, player);
+  }
+}
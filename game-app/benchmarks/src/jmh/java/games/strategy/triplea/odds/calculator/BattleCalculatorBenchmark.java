@@ -0,0 +1,99 @@
+package games.strategy.triplea.odds.calculator;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMaps;
+
+/**
+ * Measures the battle calculator as the AI and the battle calculator dialog use it: a German attack
+ * on a Russian territory of the revised map, once as a plain land battle and once with planes and
+ * an AA gun, which need the complete battle engine.
+ *
+ * <p>Run with {@code ./gradlew :game-app:benchmarks:jmh}, see the README of that project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BattleCalculatorBenchmark {
+  @Param({"200", "2000"})
+  public int runCount;
+
+  private final ConcurrentBattleCalculator calculator = new ConcurrentBattleCalculator();
+  private GamePlayer germans;
+  private GamePlayer russians;
+  private Territory karelia;
+  private List<Unit> landAttackers;
+  private List<Unit> landDefenders;
+  private List<Unit> attackersWithAir;
+  private List<Unit> defendersWithAir;
+
+  @Setup
+  public void setUpCalculator() {
+    final GameData data = BenchmarkMaps.parse(BenchmarkMaps.REVISED);
+    germans = data.getPlayerList().getPlayerId("Germans");
+    russians = data.getPlayerList().getPlayerId("Russians");
+    karelia = data.getMap().getTerritory("Karelia S.S.R.");
+
+    landAttackers = new ArrayList<>();
+    landAttackers.addAll(create(data, "infantry", 8, germans));
+    landAttackers.addAll(create(data, "artillery", 3, germans));
+    landAttackers.addAll(create(data, "armour", 4, germans));
+    landDefenders = new ArrayList<>();
+    landDefenders.addAll(create(data, "infantry", 10, russians));
+    landDefenders.addAll(create(data, "armour", 2, russians));
+
+    attackersWithAir = new ArrayList<>(landAttackers);
+    attackersWithAir.addAll(create(data, "fighter", 3, germans));
+    attackersWithAir.addAll(create(data, "bomber", 1, germans));
+    defendersWithAir = new ArrayList<>(landDefenders);
+    defendersWithAir.addAll(create(data, "fighter", 2, russians));
+    defendersWithAir.addAll(create(data, "aaGun", 1, russians));
+
+    calculator.setGameData(data).join();
+  }
+
+  private static List<Unit> create(
+      final GameData data, final String unitType, final int count, final GamePlayer owner) {
+    return data.getUnitTypeList().getUnitType(unitType).create(count, owner);
+  }
+
+  @TearDown
+  public void stopCalculator() {
+    calculator.setGameData(null).join();
+  }
+
+  @Benchmark
+  public AggregateResults landBattle() {
+    return calculate(landAttackers, landDefenders);
+  }
+
+  @Benchmark
+  public AggregateResults battleWithAirAndAa() {
+    return calculate(attackersWithAir, defendersWithAir);
+  }
+
+  private AggregateResults calculate(final List<Unit> attackers, final List<Unit> defenders) {
+    return calculator.calculate(
+        germans, russians, karelia, attackers, defenders, List.of(), List.of(), false, runCount);
+  }
+}
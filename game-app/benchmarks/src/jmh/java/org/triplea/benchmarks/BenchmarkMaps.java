@@ -0,0 +1,30 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.gameparser.GameParser;
+import java.nio.file.Path;
+
+/**
+ * Access to the complete map XML files that are bundled with the game-core tests. Their directory
+ * is set by the build with the system property {@value #XML_DIR_PROPERTY}, the file names are the
+ * {@code @Param} values of the benchmarks that run on several maps.
+ */
+public final class BenchmarkMaps {
+  public static final String REVISED = "revised_test.xml";
+  public static final String GLOBAL_1940 = "ww2_g40_balanced.xml";
+  public static final String TOTAL_WORLD_WAR = "Total_World_War_Dec1941.xml";
+
+  private static final String XML_DIR_PROPERTY = "benchmark.xml.dir";
+
+  private BenchmarkMaps() {}
+
+  public static Path getXmlFile(final String xmlFile) {
+    return Path.of(System.getProperty(XML_DIR_PROPERTY), xmlFile);
+  }
+
+  /** Parses the given map XML file into a new game data. */
+  public static GameData parse(final String xmlFile) {
+    return GameParser.parse(getXmlFile(xmlFile), false)
+        .orElseThrow(() -> new IllegalStateException("Can't parse " + xmlFile));
+  }
+}
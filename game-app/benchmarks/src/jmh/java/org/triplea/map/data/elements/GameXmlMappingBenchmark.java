@@ -0,0 +1,52 @@
+package org.triplea.map.data.elements;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMaps;
+import org.triplea.generic.xml.reader.XmlMapper;
+import org.triplea.generic.xml.reader.exceptions.XmlParsingException;
+
+/**
+ * Measures how long it takes to map complete map XML files to a {@link Game}, this is what happens
+ * at every game launch and map validation. The files are read into memory up front so that only
+ * the XML parsing and mapping is measured.
+ *
+ * <p>Run with {@code ./gradlew :game-app:benchmarks:jmh}, see the README of that project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameXmlMappingBenchmark {
+  @Param({BenchmarkMaps.REVISED, BenchmarkMaps.GLOBAL_1940, BenchmarkMaps.TOTAL_WORLD_WAR})
+  public String xmlFile;
+
+  private byte[] xml;
+
+  @Setup
+  public void readXmlFile() throws IOException {
+    xml = Files.readAllBytes(BenchmarkMaps.getXmlFile(xmlFile));
+  }
+
+  @Benchmark
+  public Game mapXmlToGame() throws XmlParsingException {
+    try (XmlMapper xmlMapper = new XmlMapper(new ByteArrayInputStream(xml))) {
+      return xmlMapper.mapXmlToObject(Game.class);
+    }
+  }
+}
@@ -13,7 +13,7 @@ public class ChangeAttachmentChange extends Change {
   @Getter private final String attachmentName;
   private final Object newValue;
   private final Object oldValue;
-  private final String property;
+  @Getter private final String property;
   private final boolean clearFirst;
 
   /**
@@ -11,6 +11,7 @@ import games.strategy.engine.framework.IGameLoader;
 import games.strategy.engine.history.History;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.TripleA;
+import games.strategy.triplea.attachments.ConditionResultCache;
 import games.strategy.triplea.delegate.AbstractMoveDelegate;
 import games.strategy.triplea.delegate.PoliticsDelegate;
 import games.strategy.triplea.delegate.TechTracker;
@@ -106,6 +107,7 @@ public class GameData implements Serializable, GameState {
   private final TechnologyFrontier technologyFrontier =
       new TechnologyFrontier("allTechsForGame", this);
   @Getter private transient TechTracker techTracker = new TechTracker(this);
+  @Getter private transient ConditionResultCache conditionResultCache = new ConditionResultCache();
   private final IGameLoader loader = new TripleA();
   private History gameHistory = new History(this);
 
@@ -124,6 +126,7 @@ public class GameData implements Serializable, GameState {
     in.defaultReadObject();
     gameDataEventListeners = new GameDataEventListeners();
     techTracker = new TechTracker(this);
+    conditionResultCache = new ConditionResultCache();
   }
 
   /**
@@ -549,6 +552,7 @@ public class GameData implements Serializable, GameState {
     }
     try (Unlocker ignored = acquireWriteLock()) {
       change.perform(this);
+      conditionResultCache.changePerformed(change);
     }
     dataChangeListeners.forEach(listener -> listener.gameDataChanged(change));
     GameDataEvent.lookupEvent(change).ifPresent(this::fireGameDataEvent);
@@ -35,6 +35,8 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   private final Map<Territory, Set<Territory>> connections = new HashMap<>();
   // for fast lookup based on the string name of the territory
   private final Map<String, Territory> territoryLookup = new HashMap<>();
+  // answers the distance queries that don't depend on the game state, rebuilt when the map changes
+  private transient volatile @Nullable TerritoryDistanceIndex distanceIndex;
 
   /**
    * Legacy option to support grid-based maps.
@@ -58,6 +60,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     territories.add(t1);
     connections.put(t1, Set.of());
     territoryLookup.put(t1.getName(), t1);
+    distanceIndex = null;
   }
 
   /** Bi-directional. T1 connects to T2, and T2 connects to T1. */
@@ -79,6 +82,16 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     final Set<Territory> modified = new HashSet<>(current);
     modified.add(to);
     connections.put(from, Collections.unmodifiableSet(modified));
+    distanceIndex = null;
+  }
+
+  private TerritoryDistanceIndex getDistanceIndex() {
+    TerritoryDistanceIndex index = distanceIndex;
+    if (index == null) {
+      index = new TerritoryDistanceIndex(this);
+      distanceIndex = index;
+    }
+    return index;
   }
 
   /**
@@ -116,17 +129,50 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
 
   private Set<Territory> getNeighbors(
       final Territory territory, final BiPredicate<Territory, Territory> routeCondition) {
-    return getNeighbors(territory).stream()
-        .filter(n -> routeCondition.test(territory, n))
-        .collect(Collectors.toSet());
+    final Set<Territory> neighbors = getNeighbors(territory);
+    final Set<Territory> result = new HashSet<>(neighbors.size() * 2);
+    for (final Territory neighbor : neighbors) {
+      if (routeCondition.test(territory, neighbor)) {
+        result.add(neighbor);
+      }
+    }
+    return result;
   }
 
   /**
-   * Returns all neighbors within a certain distance of the starting territory that match the
-   * condition. Does NOT include the original/starting territory in the returned Set.
+   * Returns all neighbors within a certain distance of the starting territory. Does NOT include the
+   * original/starting territory in the returned Set.
    */
   public Set<Territory> getNeighbors(final Territory territory, final int distance) {
-    return getNeighbors(territory, distance, it -> true);
+    return getNeighbors(territory, distance, TerritoryDistanceIndex.Passability.ANY);
+  }
+
+  /**
+   * Returns all land neighbors within a certain distance of the starting territory that can be
+   * reached over land. Same as {@link #getNeighbors(Territory, int, Predicate)} with {@link
+   * Matches#territoryIsLand()}, but cached. Does NOT include the original/starting territory in the
+   * returned Set.
+   */
+  public Set<Territory> getLandNeighbors(final Territory territory, final int distance) {
+    return getNeighbors(territory, distance, TerritoryDistanceIndex.Passability.LAND);
+  }
+
+  /**
+   * Returns all water neighbors within a certain distance of the starting territory that can be
+   * reached over water. Same as {@link #getNeighbors(Territory, int, Predicate)} with {@link
+   * Matches#territoryIsWater()}, but cached. Does NOT include the original/starting territory in
+   * the returned Set.
+   */
+  public Set<Territory> getWaterNeighbors(final Territory territory, final int distance) {
+    return getNeighbors(territory, distance, TerritoryDistanceIndex.Passability.WATER);
+  }
+
+  private Set<Territory> getNeighbors(
+      final Territory territory,
+      final int distance,
+      final TerritoryDistanceIndex.Passability passability) {
+    checkArgument(distance >= 0, "Distance must be non-negative: " + distance);
+    return getDistanceIndex().getNeighbors(territory, distance, passability);
   }
 
   /**
@@ -143,10 +189,13 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
       final Territory territory,
       final int distance,
       @Nullable final Predicate<Territory> territoryCondition) {
+    if (territoryCondition == null) {
+      return getNeighbors(territory, distance);
+    }
     return getNeighbors(
         territory,
         distance,
-        (it, it2) -> territoryCondition == null || territoryCondition.test(it2));
+        (it, it2) -> territoryCondition.test(it2));
   }
 
   /**
@@ -338,6 +387,28 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
         .orElse(null);
   }
 
+  /**
+   * Returns the shortest routes from {@code start} to all territories, like {@link
+   * #getRoute(Territory, Territory, Predicate)} for every end territory, but with a single search.
+   */
+  public RouteTree getRouteTree(final Territory start, final Predicate<Territory> cond) {
+    return new RouteFinder(this, cond).findRoutesByDistance(start);
+  }
+
+  /**
+   * Returns the routes with the minimum movement cost from {@code start} to all territories, like
+   * {@link #getRouteForUnits(Territory, Territory, Predicate, Collection, GamePlayer)} for every
+   * end territory, but with a single search. Routes of equal cost may differ from the ones found
+   * for a single end territory.
+   */
+  public RouteTree getRouteTreeForUnits(
+      final Territory start,
+      final Predicate<Territory> cond,
+      final Collection<Unit> units,
+      final GamePlayer player) {
+    return new RouteFinder(this, cond, units, player).findRoutesByCost(start);
+  }
+
   /**
    * Returns the distance between two territories or -1 if they are not connected.
    *
@@ -345,7 +416,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, it -> true);
+    return getDistanceIndex().getDistance(t1, t2, TerritoryDistanceIndex.Passability.ANY);
   }
 
   /**
@@ -399,7 +470,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getLandDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsLand());
+    return getDistanceIndex().getDistance(t1, t2, TerritoryDistanceIndex.Passability.LAND);
   }
 
   /**
@@ -409,7 +480,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getWaterDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsWater());
+    return getDistanceIndex().getDistance(t1, t2, TerritoryDistanceIndex.Passability.WATER);
   }
 
   /**
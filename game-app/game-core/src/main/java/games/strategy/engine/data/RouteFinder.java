@@ -5,18 +5,17 @@ import com.google.common.base.Preconditions;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.delegate.move.validation.MoveValidator;
 import java.math.BigDecimal;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -44,17 +43,34 @@ class RouteFinder {
   }
 
   Optional<Route> findRouteByDistance(final Territory start, final Territory end) {
-    return findRouteByCost(start, end, t -> BigDecimal.ONE);
+    return findRouteByCost(start, end, t -> 1, 1);
   }
 
   Optional<Route> findRouteByCost(final Territory start, final Territory end) {
-    return findRouteByCost(start, end, this::getMaxMovementCost);
+    return findRouteByCost(
+        start,
+        end,
+        t -> getMaxMovementCost(t).doubleValue(),
+        getMinMovementCost().doubleValue());
   }
 
+  /**
+   * Finds the cheapest route with A*. Territories are numbered in the order they are discovered so
+   * that the search state, including the cost of every territory, can be kept in primitive arrays.
+   *
+   * <p>The heuristic is the cached hop distance to the end multiplied by the lowest possible cost
+   * of a territory. Since no territory can be cheaper than that, the heuristic never overestimates
+   * and the first time the end is taken from the open set its route is the cheapest one. If
+   * territory effects can make territories cost less than nothing, the heuristic is disabled and
+   * the search continues until no cheaper routes are left.
+   *
+   * @param minTerritoryCost a lower bound of {@code territoryCostFunction} for all territories
+   */
   private Optional<Route> findRouteByCost(
       final Territory start,
       final Territory end,
-      final Function<Territory, BigDecimal> territoryCostFunction) {
+      final ToDoubleFunction<Territory> territoryCostFunction,
+      final double minTerritoryCost) {
     Preconditions.checkNotNull(start);
     Preconditions.checkNotNull(end);
 
@@ -62,37 +78,140 @@ class RouteFinder {
       return Optional.of(new Route(start));
     }
 
-    final Map<Territory, Territory> previous = new HashMap<>();
-    previous.put(start, null);
-    final Queue<Territory> toVisit = new ArrayDeque<>();
-    toVisit.add(start);
-    final Map<Territory, BigDecimal> routeCosts = new HashMap<>();
-    routeCosts.put(start, BigDecimal.ZERO);
-    BigDecimal minCost = new BigDecimal(Integer.MAX_VALUE);
+    final boolean nonNegativeCosts = minTerritoryCost >= 0;
+    final double heuristicWeight = Math.max(0, minTerritoryCost);
+    final Map<Territory, Integer> indices = new HashMap<>();
+    final List<Territory> territories = new ArrayList<>();
+    double[] routeCosts = new double[16];
+    double[] territoryCosts = new double[16];
+    double[] heuristics = new double[16];
+    int[] previous = new int[16];
+    indices.put(start, 0);
+    territories.add(start);
+    routeCosts[0] = 0;
+    previous[0] = -1;
+    int endIndex = -1;
+    final OpenSet toVisit = new OpenSet();
+    toVisit.add(0, 0, 0);
 
     while (!toVisit.isEmpty()) {
-      final Territory currentTerritory = toVisit.remove();
-      if (routeCosts.get(currentTerritory).compareTo(minCost) >= 0) {
+      final double currentRouteCost = toVisit.peekRouteCost();
+      final int current = toVisit.remove();
+      if (currentRouteCost > routeCosts[current]) {
+        // a cheaper route to this territory was found after this entry was added
         continue;
       }
+      if (current == endIndex && nonNegativeCosts) {
+        break;
+      }
+      final Territory currentTerritory = territories.get(current);
       for (final Territory neighbor :
           getNeighborsValidatingCanals(currentTerritory, condition, units, player)) {
-        final BigDecimal routeCost =
-            routeCosts.get(currentTerritory).add(territoryCostFunction.apply(neighbor));
-        if (!previous.containsKey(neighbor) || routeCost.compareTo(routeCosts.get(neighbor)) < 0) {
-          previous.put(neighbor, currentTerritory);
-          routeCosts.put(neighbor, routeCost);
-          if (neighbor.equals(end) && routeCost.compareTo(minCost) < 0) {
-            minCost = routeCost;
-            break;
+        Integer neighborIndex = indices.get(neighbor);
+        if (neighborIndex == null) {
+          // connections go both ways, so all distances come from the one cached row of the end
+          final int distanceToEnd = map.getDistance(end, neighbor);
+          if (distanceToEnd < 0) {
+            // not even connected to the end when ignoring the condition
+            continue;
+          }
+          neighborIndex = territories.size();
+          indices.put(neighbor, neighborIndex);
+          territories.add(neighbor);
+          if (neighborIndex == routeCosts.length) {
+            routeCosts = Arrays.copyOf(routeCosts, neighborIndex * 2);
+            territoryCosts = Arrays.copyOf(territoryCosts, neighborIndex * 2);
+            heuristics = Arrays.copyOf(heuristics, neighborIndex * 2);
+            previous = Arrays.copyOf(previous, neighborIndex * 2);
           }
-          toVisit.add(neighbor);
+          routeCosts[neighborIndex] = Double.POSITIVE_INFINITY;
+          territoryCosts[neighborIndex] = territoryCostFunction.applyAsDouble(neighbor);
+          heuristics[neighborIndex] = heuristicWeight * distanceToEnd;
+          if (neighbor.equals(end)) {
+            endIndex = neighborIndex;
+          }
+        }
+        final double routeCost = currentRouteCost + territoryCosts[neighborIndex];
+        // the start has no territory cost, so going back into it would make a negative cost
+        // neighbor a negative cycle
+        if (neighborIndex != 0 && routeCost < routeCosts[neighborIndex]) {
+          routeCosts[neighborIndex] = routeCost;
+          previous[neighborIndex] = current;
+          toVisit.add(neighborIndex, routeCost, routeCost + heuristics[neighborIndex]);
         }
       }
     }
-    return (minCost.compareTo(new BigDecimal(Integer.MAX_VALUE)) == 0)
+    return endIndex < 0 || routeCosts[endIndex] == Double.POSITIVE_INFINITY
         ? Optional.empty()
-        : Optional.of(getRoute(start, end, previous));
+        : Optional.of(getRoute(endIndex, territories, previous));
+  }
+
+  RouteTree findRoutesByDistance(final Territory start) {
+    return findRoutesByCost(start, t -> 1);
+  }
+
+  RouteTree findRoutesByCost(final Territory start) {
+    return findRoutesByCost(start, t -> getMaxMovementCost(t).doubleValue());
+  }
+
+  /**
+   * Finds the cheapest routes from the start to all territories with Dijkstra's algorithm. Like the
+   * routes of {@link #findRouteByCost(Territory, Territory)}, whose end is always allowed, the
+   * routes pass only through territories matching the condition but may end in any neighbor of
+   * them. Routes of equal cost may differ from the ones found by the single route search.
+   */
+  private RouteTree findRoutesByCost(
+      final Territory start, final ToDoubleFunction<Territory> territoryCostFunction) {
+    Preconditions.checkNotNull(start);
+
+    final Map<Territory, Integer> indices = new HashMap<>();
+    final List<Territory> territories = new ArrayList<>();
+    double[] routeCosts = new double[16];
+    double[] territoryCosts = new double[16];
+    int[] previous = new int[16];
+    indices.put(start, 0);
+    territories.add(start);
+    routeCosts[0] = 0;
+    previous[0] = -1;
+    final OpenSet toVisit = new OpenSet();
+    toVisit.add(0, 0, 0);
+
+    while (!toVisit.isEmpty()) {
+      final double currentRouteCost = toVisit.peekRouteCost();
+      final int current = toVisit.remove();
+      if (currentRouteCost > routeCosts[current]) {
+        // a cheaper route to this territory was found after this entry was added
+        continue;
+      }
+      final Territory currentTerritory = territories.get(current);
+      if (current != 0 && !condition.test(currentTerritory)) {
+        // routes may end here, but not pass through
+        continue;
+      }
+      for (final Territory neighbor :
+          getNeighborsValidatingCanals(currentTerritory, t -> true, units, player)) {
+        Integer neighborIndex = indices.get(neighbor);
+        if (neighborIndex == null) {
+          neighborIndex = territories.size();
+          indices.put(neighbor, neighborIndex);
+          territories.add(neighbor);
+          if (neighborIndex == routeCosts.length) {
+            routeCosts = Arrays.copyOf(routeCosts, neighborIndex * 2);
+            territoryCosts = Arrays.copyOf(territoryCosts, neighborIndex * 2);
+            previous = Arrays.copyOf(previous, neighborIndex * 2);
+          }
+          routeCosts[neighborIndex] = Double.POSITIVE_INFINITY;
+          territoryCosts[neighborIndex] = territoryCostFunction.applyAsDouble(neighbor);
+        }
+        final double routeCost = currentRouteCost + territoryCosts[neighborIndex];
+        if (neighborIndex != 0 && routeCost < routeCosts[neighborIndex]) {
+          routeCosts[neighborIndex] = routeCost;
+          previous[neighborIndex] = current;
+          toVisit.add(neighborIndex, routeCost, routeCost);
+        }
+      }
+    }
+    return new RouteTree(indices, territories, routeCosts, previous);
   }
 
   private Set<Territory> getNeighborsValidatingCanals(
@@ -113,19 +232,87 @@ class RouteFinder {
     return TerritoryEffectHelper.getMaxMovementCost(t, units);
   }
 
-  private static Route getRoute(
-      final Territory start,
-      final Territory destination,
-      final Map<Territory, Territory> previous) {
-    final List<Territory> territories = new ArrayList<>();
-    Territory current = destination;
-    while (!start.equals(current)) {
-      assert current != null : "Route was calculated but isn't connected";
-      territories.add(current);
-      current = previous.get(current);
+  @VisibleForTesting
+  BigDecimal getMinMovementCost() {
+    return TerritoryEffectHelper.getMinMovementCost(units);
+  }
+
+  static Route getRoute(
+      final int destination, final List<Territory> territories, final int[] previous) {
+    final List<Territory> route = new ArrayList<>();
+    for (int current = destination; current >= 0; current = previous[current]) {
+      route.add(territories.get(current));
+    }
+    Collections.reverse(route);
+    return new Route(route);
+  }
+
+  /**
+   * A binary min-heap of territory indices ordered by their estimated total route cost. A
+   * territory is added again whenever a cheaper route to it is found, the outdated entries are
+   * recognized by their route cost when they are removed.
+   */
+  private static final class OpenSet {
+    private int size = 0;
+    private int[] territories = new int[16];
+    private double[] routeCosts = new double[16];
+    private double[] estimatedCosts = new double[16];
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void add(final int territory, final double routeCost, final double estimatedCost) {
+      if (size == territories.length) {
+        territories = Arrays.copyOf(territories, size * 2);
+        routeCosts = Arrays.copyOf(routeCosts, size * 2);
+        estimatedCosts = Arrays.copyOf(estimatedCosts, size * 2);
+      }
+      int index = size++;
+      while (index > 0) {
+        final int parent = (index - 1) / 2;
+        if (estimatedCosts[parent] <= estimatedCost) {
+          break;
+        }
+        set(index, parent);
+        index = parent;
+      }
+      territories[index] = territory;
+      routeCosts[index] = routeCost;
+      estimatedCosts[index] = estimatedCost;
+    }
+
+    double peekRouteCost() {
+      return routeCosts[0];
+    }
+
+    int remove() {
+      final int first = territories[0];
+      size--;
+      final int last = size;
+      int index = 0;
+      while (true) {
+        int child = 2 * index + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && estimatedCosts[child + 1] < estimatedCosts[child]) {
+          child++;
+        }
+        if (estimatedCosts[last] <= estimatedCosts[child]) {
+          break;
+        }
+        set(index, child);
+        index = child;
+      }
+      set(index, last);
+      return first;
+    }
+
+    private void set(final int index, final int from) {
+      territories[index] = territories[from];
+      routeCosts[index] = routeCosts[from];
+      estimatedCosts[index] = estimatedCosts[from];
     }
-    territories.add(start);
-    Collections.reverse(territories);
-    return new Route(territories);
   }
 }
@@ -0,0 +1,39 @@
+package games.strategy.engine.data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The cheapest routes from one start territory to every territory they can reach, as found by a
+ * single search. Looking up the route to an end territory only follows the stored predecessors, so
+ * it is much cheaper than searching a route to that end.
+ *
+ * <p>A tree is a snapshot: it is only valid as long as the map and the state its route condition
+ * and movement costs depend on don't change.
+ */
+public final class RouteTree {
+  private final Map<Territory, Integer> indices;
+  private final List<Territory> territories;
+  private final double[] routeCosts;
+  private final int[] previous;
+
+  RouteTree(
+      final Map<Territory, Integer> indices,
+      final List<Territory> territories,
+      final double[] routeCosts,
+      final int[] previous) {
+    this.indices = indices;
+    this.territories = territories;
+    this.routeCosts = routeCosts;
+    this.previous = previous;
+  }
+
+  /** Returns the cheapest route from the start to {@code end}, empty if it is unreachable. */
+  public Optional<Route> getRoute(final Territory end) {
+    final Integer index = indices.get(end);
+    return index == null || routeCosts[index] == Double.POSITIVE_INFINITY
+        ? Optional.empty()
+        : Optional.of(RouteFinder.getRoute(index, territories, previous));
+  }
+}
@@ -0,0 +1,131 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An int-indexed copy of the connections of a {@link GameMap} that answers distance and neighbor
+ * queries for the route conditions that only depend on the map itself, i.e. not on ownership or
+ * units.
+ *
+ * <p>Every territory is given an ordinal and its neighbors are stored as an array of ordinals. The
+ * distances from a territory to all other territories are computed by a single breadth first
+ * search the first time they are needed and kept for later queries. An index is only valid as long
+ * as the territories and connections of its map don't change.
+ *
+ * <p>This class is thread safe. Two threads asking for the same missing distances at the same time
+ * may both compute them, but they will compute the same result.
+ */
+final class TerritoryDistanceIndex {
+  /** The territories a route may pass through, including its end. */
+  enum Passability {
+    ANY,
+    LAND,
+    WATER;
+
+    boolean test(final boolean water) {
+      return this == ANY || (this == WATER) == water;
+    }
+  }
+
+  private static final short NOT_CONNECTED = -1;
+
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> ordinals;
+  private final int[][] neighbors;
+  private final boolean[] water;
+  // distances per passability, indexed by the ordinal of the start territory
+  private final List<AtomicReferenceArray<short[]>> distances;
+
+  TerritoryDistanceIndex(final GameMap map) {
+    territories = List.copyOf(map.getTerritories());
+    ordinals = new HashMap<>(territories.size() * 2);
+    for (int i = 0; i < territories.size(); i++) {
+      ordinals.put(territories.get(i), i);
+    }
+    neighbors = new int[territories.size()][];
+    water = new boolean[territories.size()];
+    for (int i = 0; i < territories.size(); i++) {
+      final Territory territory = territories.get(i);
+      neighbors[i] = map.getNeighbors(territory).stream().mapToInt(ordinals::get).toArray();
+      water[i] = territory.isWater();
+    }
+    distances =
+        List.of(
+            new AtomicReferenceArray<>(territories.size()),
+            new AtomicReferenceArray<>(territories.size()),
+            new AtomicReferenceArray<>(territories.size()));
+  }
+
+  /**
+   * Returns the distance between two territories where every territory after the start satisfies
+   * {@code passability} or -1 if they are not connected.
+   *
+   * @throws IllegalArgumentException if {@code from} is not part of the map.
+   */
+  int getDistance(final Territory from, final Territory to, final Passability passability) {
+    final Integer toOrdinal = ordinals.get(to);
+    final short[] distancesFrom = getDistances(getOrdinal(from), passability);
+    return toOrdinal == null ? NOT_CONNECTED : distancesFrom[toOrdinal];
+  }
+
+  /**
+   * Returns a mutable set of all territories within {@code distance} of {@code from} where every
+   * territory after the start satisfies {@code passability}, not including {@code from}.
+   *
+   * @throws IllegalArgumentException if {@code from} is not part of the map.
+   */
+  Set<Territory> getNeighbors(
+      final Territory from, final int distance, final Passability passability) {
+    final short[] distancesFrom = getDistances(getOrdinal(from), passability);
+    final Set<Territory> result = new HashSet<>();
+    for (int i = 0; i < distancesFrom.length; i++) {
+      if (distancesFrom[i] > 0 && distancesFrom[i] <= distance) {
+        result.add(territories.get(i));
+      }
+    }
+    return result;
+  }
+
+  private int getOrdinal(final Territory territory) {
+    final Integer ordinal = ordinals.get(territory);
+    if (ordinal == null) {
+      throw new IllegalArgumentException("No neighbors for: " + territory);
+    }
+    return ordinal;
+  }
+
+  private short[] getDistances(final int from, final Passability passability) {
+    final AtomicReferenceArray<short[]> distancesFrom = distances.get(passability.ordinal());
+    short[] result = distancesFrom.get(from);
+    if (result == null) {
+      result = computeDistances(from, passability);
+      distancesFrom.set(from, result);
+    }
+    return result;
+  }
+
+  private short[] computeDistances(final int from, final Passability passability) {
+    final short[] result = new short[neighbors.length];
+    Arrays.fill(result, NOT_CONNECTED);
+    result[from] = 0;
+    final ArrayDeque<Integer> territoriesToCheck = new ArrayDeque<>();
+    territoriesToCheck.add(from);
+    while (!territoriesToCheck.isEmpty()) {
+      final int territory = territoriesToCheck.removeFirst();
+      for (final int neighbor : neighbors[territory]) {
+        if (result[neighbor] == NOT_CONNECTED && passability.test(water[neighbor])) {
+          result[neighbor] = (short) (result[territory] + 1);
+          territoriesToCheck.add(neighbor);
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -1,26 +1,94 @@
 package games.strategy.engine.data;
 
-import games.strategy.triplea.delegate.Matches;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.Getter;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 
-/** A collection of units. */
+/**
+ * A collection of units. Besides the units in the order they were added, it keeps an index of the
+ * units by type and of the unit counts by owner and type, so that the counting queries used by the
+ * map rendering, the AI and the move validation do not scan all units. The index is created on the
+ * first query and then updated by every add and remove.
+ *
+ * <p>The index is built and published while holding the monitor of this collection, which every
+ * change of the units holds as well. So an index built by a thread that does not hold the game
+ * data lock, e.g. the map renderer, can't miss a unit that is added meanwhile.
+ */
 public class UnitCollection extends GameDataComponent implements Collection<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
 
   private final List<Unit> units = new ArrayList<>();
   @Getter private final NamedUnitHolder holder;
+  // null until first needed, not saved with the game; only set while holding this monitor
+  private transient volatile Index index;
+
+  /**
+   * The units by type and the unit counts by owner and type. A unit is counted for the owner it had
+   * when it was indexed, so that removing it takes it from the same count even if its owner was
+   * set since without {@link UnitCollection#unitOwnersChanged()} being called.
+   */
+  private static class Index {
+    private final Map<Unit, GamePlayer> indexedOwners = new HashMap<>();
+    private final Map<UnitType, List<Unit>> unitsByType = new HashMap<>();
+    private final Map<GamePlayer, IntegerMap<UnitType>> unitCountsByOwner = new LinkedHashMap<>();
+
+    Index(final Collection<Unit> units) {
+      units.forEach(this::add);
+    }
+
+    void add(final Unit unit) {
+      final GamePlayer owner = unit.getOwner();
+      indexedOwners.put(unit, owner);
+      unitsByType.computeIfAbsent(unit.getType(), type -> new ArrayList<>()).add(unit);
+      unitCountsByOwner.computeIfAbsent(owner, key -> new IntegerMap<>()).add(unit.getType(), 1);
+    }
+
+    /** Returns false if the unit is not indexed. */
+    boolean remove(final Unit unit) {
+      final GamePlayer owner = indexedOwners.get(unit);
+      if (owner == null) {
+        return false;
+      }
+      final List<Unit> unitsOfType = unitsByType.get(unit.getType());
+      unitsOfType.remove(unit);
+      if (unitsOfType.isEmpty()) {
+        unitsByType.remove(unit.getType());
+      }
+      if (!unitsOfType.contains(unit)) {
+        indexedOwners.remove(unit);
+      }
+      final IntegerMap<UnitType> unitCounts = unitCountsByOwner.get(owner);
+      unitCounts.add(unit.getType(), -1);
+      if (unitCounts.getInt(unit.getType()) == 0) {
+        unitCounts.removeKey(unit.getType());
+        if (unitCounts.isEmpty()) {
+          unitCountsByOwner.remove(owner);
+        }
+      }
+      return true;
+    }
+
+    List<Unit> getUnits(final UnitType type) {
+      return unitsByType.getOrDefault(type, List.of());
+    }
+
+    IntegerMap<UnitType> getUnitCounts(final GamePlayer owner) {
+      return unitCountsByOwner.getOrDefault(owner, IntegerMap.of());
+    }
+  }
 
   public UnitCollection(final NamedUnitHolder holder, final GameData data) {
     super(data);
@@ -29,21 +97,34 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean add(final Unit unit) {
-    units.add(unit);
+    synchronized (this) {
+      units.add(unit);
+      final Index index = this.index;
+      if (index != null) {
+        index.add(unit);
+      }
+    }
     holder.notifyChanged();
     return true;
   }
 
   @Override
   public boolean addAll(final Collection<? extends Unit> units) {
-    final boolean result = this.units.addAll(units);
+    final boolean result;
+    synchronized (this) {
+      result = this.units.addAll(units);
+      final Index index = this.index;
+      if (index != null) {
+        units.forEach(index::add);
+      }
+    }
     holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean removeAll(final Collection<?> units) {
-    final boolean result = this.units.removeAll(units);
+    final boolean result = removeUnits(units::contains);
     holder.notifyChanged();
     return result;
   }
@@ -53,24 +134,20 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   }
 
   int getUnitCount(final UnitType type) {
-    return (int) units.stream().filter(u -> u.getType().equals(type)).count();
+    return getIndex().getUnits(type).size();
   }
 
   public int getUnitCount(final UnitType type, final GamePlayer owner) {
-    return (int) units.stream().filter(u -> u.getType().equals(type) && u.isOwnedBy(owner)).count();
+    return getIndex().getUnitCounts(owner).getInt(type);
   }
 
   int getUnitCount(final GamePlayer owner) {
-    return (int) units.stream().filter(u -> u.isOwnedBy(owner)).count();
+    return getIndex().getUnitCounts(owner).totalValues();
   }
 
   @Override
   public boolean containsAll(final Collection<?> units) {
-    // much faster for large sets
-    if (this.units.size() > 500 && units.size() > 500) {
-      return new HashSet<>(this.units).containsAll(units);
-    }
-    return this.units.containsAll(units);
+    return getIndex().indexedOwners.keySet().containsAll(units);
   }
 
   /**
@@ -86,16 +163,8 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
     if (maxUnits < 0) {
       throw new IllegalArgumentException("value must be positive.  Instead its: " + maxUnits);
     }
-    final Collection<Unit> units = new ArrayList<>();
-    for (final Unit current : this.units) {
-      if (current.getType().equals(type)) {
-        units.add(current);
-        if (units.size() == maxUnits) {
-          return units;
-        }
-      }
-    }
-    return units;
+    final List<Unit> unitsOfType = getIndex().getUnits(type);
+    return new ArrayList<>(unitsOfType.subList(0, Math.min(maxUnits, unitsOfType.size())));
   }
 
   /**
@@ -118,11 +187,12 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   /** Returns integer map of UnitType. */
   public IntegerMap<UnitType> getUnitsByType() {
     final IntegerMap<UnitType> units = new IntegerMap<>();
+    final Index index = getIndex();
     getData()
         .getUnitTypeList()
         .forEach(
             type -> {
-              final int count = getUnitCount(type);
+              final int count = index.getUnits(type).size();
               if (count > 0) {
                 units.put(type, count);
               }
@@ -132,11 +202,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   /** Returns map of UnitType (only of units for the specified player). */
   public IntegerMap<UnitType> getUnitsByType(final GamePlayer gamePlayer) {
-    final IntegerMap<UnitType> count = new IntegerMap<>();
-    units.stream()
-        .filter(Matches.unitIsOwnedBy(gamePlayer))
-        .forEach(unit -> count.add(unit.getType(), 1));
-    return count;
+    return new IntegerMap<>(getIndex().getUnitCounts(gamePlayer));
   }
 
   @Override
@@ -152,13 +218,15 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   /** Returns a Set of all players who have units in this collection. */
   public Set<GamePlayer> getPlayersWithUnits() {
     // note nulls are handled by PlayerList.getNullPlayer()
-    return units.stream().map(Unit::getOwner).collect(Collectors.toSet());
+    return new HashSet<>(getIndex().unitCountsByOwner.keySet());
   }
 
   /** Returns the count of units each player has in this collection. */
   public IntegerMap<GamePlayer> getPlayerUnitCounts() {
     final IntegerMap<GamePlayer> count = new IntegerMap<>();
-    units.forEach(unit -> count.add(unit.getOwner(), 1));
+    getIndex()
+        .unitCountsByOwner
+        .forEach((owner, unitCounts) -> count.put(owner, unitCounts.totalValues()));
     return count;
   }
 
@@ -208,7 +276,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean contains(final Object object) {
-    return units.contains(object);
+    return getIndex().indexedOwners.containsKey(object);
   }
 
   @Override
@@ -223,7 +291,13 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean remove(final Object object) {
-    final boolean changed = units.remove(object);
+    final boolean changed;
+    synchronized (this) {
+      changed = units.remove(object);
+      if (changed) {
+        removeFromIndex((Unit) object);
+      }
+    }
     if (changed) {
       holder.notifyChanged();
     }
@@ -232,7 +306,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean removeIf(final Predicate<? super Unit> predicate) {
-    final boolean changed = units.removeIf(predicate);
+    final boolean changed = removeUnits(predicate);
     if (changed) {
       holder.notifyChanged();
     }
@@ -241,7 +315,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean retainAll(final Collection<?> collection) {
-    final boolean changed = units.retainAll(collection);
+    final boolean changed = removeUnits(unit -> !collection.contains(unit));
     if (changed) {
       holder.notifyChanged();
     }
@@ -250,9 +324,53 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public void clear() {
-    if (!units.isEmpty()) {
+    synchronized (this) {
+      if (units.isEmpty()) {
+        return;
+      }
       units.clear();
-      holder.notifyChanged();
+      index = null;
+    }
+    holder.notifyChanged();
+  }
+
+  /**
+   * Updates the index of the units by owner after the owner of units in this collection changed.
+   */
+  public synchronized void unitOwnersChanged() {
+    index = null;
+  }
+
+  private Index getIndex() {
+    final Index index = this.index;
+    return index != null ? index : buildIndex();
+  }
+
+  private synchronized Index buildIndex() {
+    Index index = this.index;
+    if (index == null) {
+      index = new Index(units);
+      this.index = index;
+    }
+    return index;
+  }
+
+  private synchronized boolean removeUnits(final Predicate<? super Unit> predicate) {
+    return units.removeIf(
+        unit -> {
+          if (!predicate.test(unit)) {
+            return false;
+          }
+          removeFromIndex(unit);
+          return true;
+        });
+  }
+
+  @GuardedBy("this")
+  private void removeFromIndex(final Unit unit) {
+    final Index index = this.index;
+    if (index != null && !index.remove(unit)) {
+      this.index = null;
     }
   }
 }
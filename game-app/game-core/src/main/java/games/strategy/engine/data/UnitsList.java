@@ -4,16 +4,20 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /** A keyed collection of {@link Unit}s. */
 public class UnitsList implements Serializable, Iterable<Unit> {
   private static final long serialVersionUID = -3134052492257867416L;
 
-  // TODO - fix this, all units are never gcd
+  // units stay in here after being killed, until removeUnheldUnits is called
   private final Map<UUID, Unit> allUnits = new HashMap<>();
+  // number of units left by the last call of removeUnheldUnits
+  private transient int heldUnitCount = 0;
 
   UnitsList() {}
 
@@ -30,6 +34,37 @@ public class UnitsList implements Serializable, Iterable<Unit> {
     return Collections.unmodifiableCollection(allUnits.values());
   }
 
+  /**
+   * Removes all units that are not held by a territory or a player anymore, e.g. killed units. Only
+   * call this when no pending battle or move references such units. Units that are added to a
+   * holder again by a change, e.g. when going back in the history, are put back by that change.
+   */
+  public void removeUnheldUnits(final GameState data) {
+    final Set<UUID> heldUnitIds = new HashSet<>();
+    for (final Territory territory : data.getMap().getTerritories()) {
+      territory.getUnitCollection().forEach(unit -> heldUnitIds.add(unit.getId()));
+    }
+    for (final GamePlayer player : data.getPlayerList()) {
+      player.getUnitCollection().forEach(unit -> heldUnitIds.add(unit.getId()));
+    }
+    data.getPlayerList()
+        .getNullPlayer()
+        .getUnitCollection()
+        .forEach(unit -> heldUnitIds.add(unit.getId()));
+    allUnits.keySet().retainAll(heldUnitIds);
+    heldUnitCount = allUnits.size();
+  }
+
+  /**
+   * Calls {@link #removeUnheldUnits(GameState)} if more units were put since its last call than
+   * were left by it, so that calling this after every few new units costs O(1) per unit.
+   */
+  public void removeUnheldUnitsIfGrown(final GameState data) {
+    if (allUnits.size() > 2 * heldUnitCount + 1000) {
+      removeUnheldUnits(data);
+    }
+  }
+
   @Override
   public Iterator<Unit> iterator() {
     return getUnits().iterator();
@@ -11,13 +11,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Add units. */
 public class AddUnits extends Change {
   private static final long serialVersionUID = 2694342784633196289L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final String name;
+
   private final Collection<Unit> units;
+
+  @Getter(AccessLevel.PACKAGE)
   private final String type;
 
   /**
@@ -59,6 +65,12 @@ public class AddUnits extends Change {
     final Collection<Unit> unitsWithCorrectOwner =
         // old saved games will have a null unitOwnerMap
         unitOwnerMap == null ? units : buildUnitsWithOwner(data);
+    // removed units can come back, e.g. when going back in the history
+    for (final Unit unit : unitsWithCorrectOwner) {
+      if (data.getUnits().get(unit.getId()) == null) {
+        data.getUnits().put(unit);
+      }
+    }
     holder.getUnitCollection().addAll(unitsWithCorrectOwner);
   }
 
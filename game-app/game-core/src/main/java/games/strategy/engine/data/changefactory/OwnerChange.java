@@ -4,6 +4,8 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.GameState;
 import games.strategy.engine.data.Territory;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Changes ownership of a territory. */
 class OwnerChange extends Change {
@@ -13,6 +15,8 @@ class OwnerChange extends Change {
   private final String oldOwnerName;
 
   private final String newOwnerName;
+
+  @Getter(AccessLevel.PACKAGE)
   private final String territoryName;
 
   /** newOwner can be null. */
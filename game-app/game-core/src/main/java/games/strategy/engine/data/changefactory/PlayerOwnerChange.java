@@ -9,6 +9,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Changes ownership of a unit. */
 class PlayerOwnerChange extends Change {
@@ -16,6 +18,8 @@ class PlayerOwnerChange extends Change {
 
   private final Map<UUID, String> oldOwnerNamesByUnitId;
   private final Map<UUID, String> newOwnerNamesByUnitId;
+
+  @Getter(AccessLevel.PACKAGE)
   private final String territoryName;
 
   PlayerOwnerChange(
@@ -60,7 +64,9 @@ class PlayerOwnerChange extends Change {
       final GamePlayer player = data.getPlayerList().getPlayerId(owner);
       unit.setOwner(player);
     }
-    data.getMap().getTerritory(territoryName).notifyChanged();
+    final Territory territory = data.getMap().getTerritory(territoryName);
+    territory.getUnitCollection().unitOwnersChanged();
+    territory.notifyChanged();
   }
 
   @Override
@@ -9,13 +9,19 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Change type that indicates units have been removed from the map. */
 public class RemoveUnits extends Change {
   private static final long serialVersionUID = -6410444472951010568L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final String name;
+
   private final Collection<Unit> units;
+
+  @Getter(AccessLevel.PACKAGE)
   private final String type;
 
   /**
@@ -0,0 +1,65 @@
+package games.strategy.engine.data.changefactory;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.UnitHitsChange;
+import games.strategy.engine.data.UnitHolder;
+import games.strategy.engine.data.changefactory.units.BombingUnitDamageChange;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+
+/** Finds out which territories a change modifies the units or the owner of. */
+@UtilityClass
+public class TerritoryChanges {
+  /**
+   * Returns the names of the territories whose units or owner are modified by the given change.
+   * Changes that modify neither units nor owners, like changes of resources or unit damage, return
+   * an empty set. Returns empty if the change (or any change it is composed of) may modify other
+   * game data, in which case the caller can not know what has changed.
+   */
+  public static Optional<Set<String>> getModifiedTerritories(final Change change) {
+    if (change instanceof CompositeChange) {
+      final Set<String> territories = new HashSet<>();
+      for (final Change child : ((CompositeChange) change).getChanges()) {
+        final Optional<Set<String>> childTerritories = getModifiedTerritories(child);
+        if (childTerritories.isEmpty()) {
+          return Optional.empty();
+        }
+        territories.addAll(childTerritories.get());
+      }
+      return Optional.of(territories);
+    }
+    if (change instanceof AddUnits) {
+      final AddUnits addUnits = (AddUnits) change;
+      return Optional.of(getTerritoryOfUnitHolder(addUnits.getName(), addUnits.getType()));
+    }
+    if (change instanceof RemoveUnits) {
+      final RemoveUnits removeUnits = (RemoveUnits) change;
+      return Optional.of(getTerritoryOfUnitHolder(removeUnits.getName(), removeUnits.getType()));
+    }
+    if (change instanceof OwnerChange) {
+      return Optional.of(Set.of(((OwnerChange) change).getTerritoryName()));
+    }
+    if (change instanceof PlayerOwnerChange) {
+      return Optional.of(Set.of(((PlayerOwnerChange) change).getTerritoryName()));
+    }
+    if (change instanceof ObjectPropertyChange) {
+      // the territory the unit is in is not known
+      return ((ObjectPropertyChange) change).getProperty().equals("owner")
+          ? Optional.empty()
+          : Optional.of(Set.of());
+    }
+    if (change instanceof ChangeResourceChange
+        || change instanceof UnitHitsChange
+        || change instanceof BombingUnitDamageChange) {
+      return Optional.of(Set.of());
+    }
+    return Optional.empty();
+  }
+
+  private static Set<String> getTerritoryOfUnitHolder(final String name, final String type) {
+    return type.equals(UnitHolder.TERRITORY) ? Set.of(name) : Set.of();
+  }
+}
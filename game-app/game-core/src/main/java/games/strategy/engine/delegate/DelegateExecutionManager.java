@@ -32,6 +32,22 @@ public class DelegateExecutionManager {
   private final ThreadLocal<Boolean> currentThreadHasReadLock =
       ThreadLocal.withInitial(() -> Boolean.FALSE);
   private volatile boolean isGameOver = false;
+  private final Runnable beforeLeavingDelegateExecution;
+
+  public DelegateExecutionManager() {
+    this(() -> {});
+  }
+
+  /**
+   * Creates a new manager.
+   *
+   * @param beforeLeavingDelegateExecution Invoked on a thread that is about to leave delegate
+   *     execution, either because a delegate call is finished or because the delegate calls out of
+   *     the delegate.
+   */
+  public DelegateExecutionManager(final Runnable beforeLeavingDelegateExecution) {
+    this.beforeLeavingDelegateExecution = beforeLeavingDelegateExecution;
+  }
 
   public void setGameOver() {
     isGameOver = true;
@@ -60,6 +76,11 @@ public class DelegateExecutionManager {
     return currentThreadHasReadLock.get();
   }
 
+  /** Returns true if the current thread is executing a delegate. */
+  public boolean isInDelegateExecution() {
+    return currentThreadHasReadLock();
+  }
+
   /**
    * Used to create an object the exits delegate execution.
    *
@@ -134,7 +155,11 @@ public class DelegateExecutionManager {
 
   /** Invoke immediately after executing a delegate. */
   public void leaveDelegateExecution() {
-    readWriteLock.readLock().unlock();
+    try {
+      beforeLeavingDelegateExecution.run();
+    } finally {
+      readWriteLock.readLock().unlock();
+    }
     currentThreadHasReadLock.set(Boolean.FALSE);
   }
 
@@ -0,0 +1,112 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GamePlayer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Broadcasts game modifications of the server, but sends changes in batches.
+ *
+ * <p>Each change is performed on the server right away and then kept until {@link #flush()} is
+ * called or another modification is broadcast, so that all changes made in between reach the
+ * subscribers as a single {@link IGameModifiedChannel#gameDataChangedInBatch(CompositeChange)}
+ * call. Subscribers therefore see the same modifications in the same order as before, only with
+ * fewer messages.
+ *
+ * <p>As the server already contains changes that were not broadcast yet, copies of the server's game
+ * data that are kept up to date with the broadcast changes have to be made through {@link
+ * #flushAndGet(Supplier)}. Otherwise, they would receive the pending changes a second time.
+ */
+class BatchingGameModifiedChannel implements IGameModifiedChannel {
+  private final IGameModifiedChannel broadcaster;
+  private final Consumer<Change> localChangePerformer;
+
+  @GuardedBy("this")
+  private final List<Change> pendingChanges = new ArrayList<>();
+
+  /**
+   * Creates a new channel.
+   *
+   * @param broadcaster The broadcaster of the game modification channel.
+   * @param localChangePerformer Performs a change on the server, the batches broadcast later must
+   *     not perform the changes on the server again.
+   */
+  BatchingGameModifiedChannel(
+      final IGameModifiedChannel broadcaster, final Consumer<Change> localChangePerformer) {
+    this.broadcaster = checkNotNull(broadcaster);
+    this.localChangePerformer = checkNotNull(localChangePerformer);
+  }
+
+  @Override
+  public synchronized void gameDataChanged(final Change change) {
+    localChangePerformer.accept(change);
+    pendingChanges.add(change);
+  }
+
+  @Override
+  public synchronized void gameDataChangedInBatch(final CompositeChange changes) {
+    changes.getChanges().forEach(this::gameDataChanged);
+  }
+
+  /** Broadcasts all changes that were not broadcast yet. */
+  synchronized void flush() {
+    if (!pendingChanges.isEmpty()) {
+      final CompositeChange changes = new CompositeChange(pendingChanges);
+      pendingChanges.clear();
+      broadcaster.gameDataChangedInBatch(changes);
+    }
+  }
+
+  /**
+   * Broadcasts all changes that were not broadcast yet, then returns the result of the given action.
+   * No change can be made or broadcast until the action returns.
+   */
+  synchronized <T> T flushAndGet(final Supplier<T> action) {
+    flush();
+    return action.get();
+  }
+
+  @Override
+  public synchronized void startHistoryEvent(final String event, final Object renderingData) {
+    flush();
+    broadcaster.startHistoryEvent(event, renderingData);
+  }
+
+  @Override
+  public synchronized void startHistoryEvent(final String event) {
+    flush();
+    broadcaster.startHistoryEvent(event);
+  }
+
+  @Override
+  public synchronized void addChildToEvent(final String text, final Object renderingData) {
+    flush();
+    broadcaster.addChildToEvent(text, renderingData);
+  }
+
+  @Override
+  public synchronized void stepChanged(
+      final String stepName,
+      final String delegateName,
+      final GamePlayer player,
+      final int round,
+      final String displayName,
+      final boolean loadedFromSavedGame) {
+    flush();
+    broadcaster.stepChanged(
+        stepName, delegateName, player, round, displayName, loadedFromSavedGame);
+  }
+
+  @Override
+  public synchronized void shutDown() {
+    flush();
+    broadcaster.shutDown();
+  }
+}
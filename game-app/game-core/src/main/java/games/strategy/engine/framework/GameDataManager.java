@@ -13,8 +13,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -23,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NonNls;
 import org.triplea.config.product.ProductVersionReader;
+import org.triplea.io.IoUtils;
 
 /** Responsible for loading saved games, new games from xml, and saving games. */
 @Slf4j
@@ -30,6 +33,7 @@ public final class GameDataManager {
   @NonNls private static final String DELEGATE_START = "<DelegateStart>";
   @NonNls private static final String DELEGATE_DATA_NEXT = "<DelegateData>";
   @NonNls private static final String DELEGATE_LIST_END = "<EndDelegateList>";
+  @NonNls private static final String TEMP_FILE_SUFFIX = ".tmp";
 
   private GameDataManager() {}
 
@@ -144,6 +148,62 @@ public final class GameDataManager {
     }
   }
 
+  /**
+   * Serializes the specified game data the same way as {@link #saveGame(OutputStream, GameData)}
+   * but without compressing it. The whole game data is serialized while the game data lock is held;
+   * only compressing the snapshot into a save game with {@link #saveSnapshot(byte[], Path)} can be
+   * done without the lock.
+   *
+   * @param gameData The game data to save.
+   * @return The uncompressed save game.
+   * @throws IOException If an error occurs while serializing the game.
+   */
+  public static byte[] writeSnapshot(final GameData gameData) throws IOException {
+    checkNotNull(gameData);
+
+    return IoUtils.writeToMemory(os -> saveGameUncompressed(os, gameData, Options.forSaveGame()));
+  }
+
+  /**
+   * Compresses a snapshot taken by {@link #writeSnapshot(GameData)} into the specified save game
+   * file. The snapshot is written to a temporary file next to the save game first, which then
+   * replaces the save game so that a save game is never left half written. The temporary file does
+   * not have the save game extension so that it is not offered as a save game if it is left behind.
+   *
+   * @param snapshot The uncompressed save game.
+   * @param file The save game file to create or replace.
+   * @throws IOException If an error occurs while writing the save game.
+   */
+  public static void saveSnapshot(final byte[] snapshot, final Path file) throws IOException {
+    checkNotNull(snapshot);
+    checkNotNull(file);
+
+    final Path absoluteFile = file.toAbsolutePath();
+    final Path tempFile =
+        Files.createTempFile(
+            absoluteFile.getParent(),
+            absoluteFile.getFileName().toString(),
+            TEMP_FILE_SUFFIX);
+    try {
+      try (OutputStream os = Files.newOutputStream(tempFile);
+          OutputStream bufferedOutStream = new BufferedOutputStream(os);
+          OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream)) {
+        zippedOutStream.write(snapshot);
+      }
+      try {
+        Files.move(
+            tempFile,
+            absoluteFile,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
   @Builder
   public static class Options {
     @Builder.Default boolean withDelegates = false;
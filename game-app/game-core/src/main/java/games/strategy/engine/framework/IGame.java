@@ -10,6 +10,7 @@ import games.strategy.engine.vault.Vault;
 import games.strategy.net.Messengers;
 import games.strategy.triplea.ResourceLoader;
 import java.nio.file.Path;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import org.triplea.sound.ISound;
 
@@ -32,6 +33,16 @@ public interface IGame {
   /** Should not be called outside of engine code. */
   void addChange(Change change);
 
+  /**
+   * Returns the result of the given action, which runs once all changes made to the game data so
+   * far were broadcast on the {@link #GAME_MODIFICATION_CHANNEL}. Copies of the game data that are
+   * kept up to date by subscribing to that channel have to be made and subscribed this way, so that
+   * they receive each change exactly once.
+   */
+  default <T> T getWithChangesBroadcast(final Supplier<T> action) {
+    return action.get();
+  }
+
   IRandomSource getRandomSource();
 
   /** Set a display that will receive broadcasts from the IDelegateBridge.getDisplayBroadcaster. */
@@ -1,6 +1,7 @@
 package games.strategy.engine.framework;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.message.IChannelSubscriber;
 import games.strategy.engine.message.RemoteActionCode;
@@ -10,6 +11,16 @@ public interface IGameModifiedChannel extends IChannelSubscriber {
   @RemoteActionCode(1)
   void gameDataChanged(Change change);
 
+  /**
+   * Invoked with changes that were made one after another. Each change has to be handled as if it
+   * was passed to {@link #gameDataChanged(Change)} on its own, so that the history keeps every
+   * change as it was made.
+   */
+  @RemoteActionCode(6)
+  default void gameDataChangedInBatch(final CompositeChange changes) {
+    changes.getChanges().forEach(this::gameDataChanged);
+  }
+
   @RemoteActionCode(4)
   void startHistoryEvent(String event, Object renderingData);
 
@@ -18,6 +18,7 @@ import games.strategy.engine.delegate.DelegateExecutionManager;
 import games.strategy.engine.delegate.IDelegate;
 import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.engine.delegate.IPersistentDelegate;
+import games.strategy.engine.framework.save.game.AutoSaveWriter;
 import games.strategy.engine.framework.save.game.GameDataWriter;
 import games.strategy.engine.framework.startup.launcher.LaunchAction;
 import games.strategy.engine.framework.startup.mc.IObserverWaitingToJoin;
@@ -52,6 +53,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
@@ -75,7 +77,10 @@ public class ServerGame extends AbstractGame {
   private final RandomStats randomStats;
   private IRandomSource randomSource = new PlainRandomSource();
   private @Nullable IRandomSource delegateRandomSource;
-  private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private final DelegateExecutionManager delegateExecutionManager =
+      new DelegateExecutionManager(this::flushChanges);
+  private final BatchingGameModifiedChannel gameModifiedBroadcaster;
+  private final AutoSaveWriter autoSaveWriter = new AutoSaveWriter();
   @Nullable @Getter private final InGameLobbyWatcherWrapper inGameLobbyWatcher;
   private boolean needToInitialize = true;
   private final LaunchAction launchAction;
@@ -127,6 +132,14 @@ public class ServerGame extends AbstractGame {
     // prevents a need to grab the lock on gameData (as its history object can get reset temporarily
     // during game cloning operations for the battle calculator, e.g. by AIs).
     final HistoryWriter historyWriter = gameData.getHistory().getHistoryWriter();
+    gameModifiedBroadcaster =
+        new BatchingGameModifiedChannel(
+            (IGameModifiedChannel)
+                messengers.getChannelBroadcaster(IGame.GAME_MODIFICATION_CHANNEL),
+            change -> {
+              gameData.performChange(change);
+              historyWriter.addChange(change);
+            });
     gameModifiedChannel =
         new IGameModifiedChannel() {
           @Override
@@ -136,6 +149,12 @@ public class ServerGame extends AbstractGame {
             historyWriter.addChange(change);
           }
 
+          @Override
+          public void gameDataChangedInBatch(final CompositeChange changes) {
+            assertCorrectCaller();
+            // the changes were already performed when they were added to the batch
+          }
+
           private void assertCorrectCaller() {
             if (!MessageContext.getSender().equals(getMessengers().getServerNode())) {
               throw new IllegalStateException("Only server can change game data");
@@ -385,7 +404,7 @@ public class ServerGame extends AbstractGame {
     // shutdown
     try {
       delegateExecutionManager.setGameOver();
-      getGameModifiedBroadcaster().shutDown();
+      gameModifiedBroadcaster.shutDown();
       randomStats.shutDown();
       messengers.unregisterChannelSubscriber(gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
       messengers.unregisterRemote(SERVER_REMOTE);
@@ -406,6 +425,7 @@ public class ServerGame extends AbstractGame {
     } finally {
       delegateExecutionManager.resumeDelegateExecution();
     }
+    autoSaveWriter.shutDown();
     gameData.getGameLoader().shutDown();
     // if this is a bot, shut down the bot. We will rely on systemctl to restart the bot
     // instance. This restart will help us pick up any new maps and/or new bot versions.
@@ -418,13 +438,28 @@ public class ServerGame extends AbstractGame {
   }
 
   private void autoSaveBefore(final IDelegate delegate) {
-    saveGame(launchAction.getAutoSaveFileUtils().getBeforeStepAutoSaveFile(delegate.getName()));
+    autoSave(launchAction.getAutoSaveFileUtils().getBeforeStepAutoSaveFile(delegate.getName()));
   }
 
   @Override
   public void saveGame(final Path file) {
     checkNotNull(file);
 
+    createParentDirectories(file);
+    GameDataWriter.writeToFile(gameData, delegateExecutionManager, file);
+  }
+
+  /**
+   * Saves the game like {@link #saveGame(Path)}. The game data is still serialized while delegate
+   * execution is blocked and the game data lock is held, but compressing it and writing the save
+   * game happen in the background.
+   */
+  private void autoSave(final Path file) {
+    createParentDirectories(file);
+    autoSaveWriter.save(gameData, delegateExecutionManager, file);
+  }
+
+  private static void createParentDirectories(final Path file) {
     final Path parentDir = file.getParent();
     if (!Files.exists(parentDir)) {
       try {
@@ -436,8 +471,6 @@ public class ServerGame extends AbstractGame {
             e);
       }
     }
-
-    GameDataWriter.writeToFile(gameData, delegateExecutionManager, file);
   }
 
   private void runStep(final boolean stepIsRestoredFromSavedGame) {
@@ -475,7 +508,7 @@ public class ServerGame extends AbstractGame {
     }
     if (gameData.getSequence().next()) {
       gameData.getHistory().getHistoryWriter().startNextRound(gameData.getSequence().getRound());
-      saveGame(
+      autoSave(
           gameData.getSequence().getRound() % 2 == 0
               ? launchAction.getAutoSaveFileUtils().getEvenRoundAutoSaveFile()
               : launchAction.getAutoSaveFileUtils().getOddRoundAutoSaveFile());
@@ -514,14 +547,14 @@ public class ServerGame extends AbstractGame {
 
   private void autoSaveAfter(final String stepName) {
     final var saveUtils = launchAction.getAutoSaveFileUtils();
-    saveGame(saveUtils.getAfterStepAutoSaveFile(saveUtils.getAutoSaveStepName(stepName)));
+    autoSave(saveUtils.getAfterStepAutoSaveFile(saveUtils.getAutoSaveStepName(stepName)));
   }
 
   private void autoSaveAfter(final IDelegate delegate) {
     final String typeName = delegate.getClass().getTypeName();
     final String stepName =
         typeName.substring(typeName.lastIndexOf('.') + 1).replaceFirst("Delegate$", "");
-    saveGame(launchAction.getAutoSaveFileUtils().getAfterStepAutoSaveFile(stepName));
+    autoSave(launchAction.getAutoSaveFileUtils().getAfterStepAutoSaveFile(stepName));
   }
 
   private void endStep() {
@@ -549,7 +582,7 @@ public class ServerGame extends AbstractGame {
           new DefaultDelegateBridge(
               gameData,
               this,
-              new DelegateHistoryWriter(messengers, gameData),
+              new DelegateHistoryWriter(gameModifiedBroadcaster, gameData),
               randomStats,
               delegateExecutionManager,
               clientNetworkBridge,
@@ -576,7 +609,7 @@ public class ServerGame extends AbstractGame {
         new DefaultDelegateBridge(
             gameData,
             this,
-            new DelegateHistoryWriter(messengers, gameData),
+            new DelegateHistoryWriter(gameModifiedBroadcaster, gameData),
             randomStats,
             delegateExecutionManager,
             clientNetworkBridge,
@@ -630,8 +663,8 @@ public class ServerGame extends AbstractGame {
     final int round = gameData.getSequence().getRound();
     final GamePlayer gamePlayer = currentStep.getPlayerId();
     gameData.fireGameDataEvent(GameDataEvent.GAME_STEP_CHANGED);
-    getGameModifiedBroadcaster()
-        .stepChanged(stepName, delegateName, gamePlayer, round, displayName, loadedFromSavedGame);
+    gameModifiedBroadcaster.stepChanged(
+        stepName, delegateName, gamePlayer, round, displayName, loadedFromSavedGame);
   }
 
   private String isOrAre(String playerName) {
@@ -700,14 +733,30 @@ public class ServerGame extends AbstractGame {
     }
   }
 
-  private IGameModifiedChannel getGameModifiedBroadcaster() {
-    return (IGameModifiedChannel) messengers.getChannelBroadcaster(IGame.GAME_MODIFICATION_CHANNEL);
+  /**
+   * Performs the change right away, but only broadcasts it to the other nodes once the current
+   * delegate call is left or another game modification is broadcast. Changes made outside of
+   * delegate execution are broadcast right away.
+   */
+  @Override
+  public void addChange(final Change change) {
+    gameModifiedBroadcaster.gameDataChanged(change);
+    if (!delegateExecutionManager.isInDelegateExecution()) {
+      gameModifiedBroadcaster.flush();
+    }
   }
 
+  private void flushChanges() {
+    gameModifiedBroadcaster.flush();
+  }
+
+  /**
+   * Changes are performed on the server before they are broadcast, so the pending ones are
+   * broadcast first. Delegates cannot make further changes until the action returns.
+   */
   @Override
-  public void addChange(final Change change) {
-    // let our channel subscriber do the change, that way all changes will happen in the same thread
-    getGameModifiedBroadcaster().gameDataChanged(change);
+  public <T> T getWithChangesBroadcast(final Supplier<T> action) {
+    return gameModifiedBroadcaster.flushAndGet(action);
   }
 
   @Override
@@ -0,0 +1,111 @@
+package games.strategy.engine.framework.save.game;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.framework.GameDataManager;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes autosaves with less stalling of the game. The game data is still serialized into an
+ * uncompressed snapshot in memory while delegate execution is blocked and the game data lock is
+ * held; only compressing the snapshot and writing it to the file happen on a background thread.
+ *
+ * <p>Saves are written in the order they were requested. At most one snapshot per file waits to be
+ * written. If a save is requested while an older snapshot of the same file is still waiting, the
+ * older snapshot is dropped and only the newer one is written. Snapshots of different files are
+ * all written.
+ */
+@Slf4j
+public class AutoSaveWriter {
+  private static final long SHUT_DOWN_TIMEOUT_SECONDS = 30;
+
+  private final ExecutorService executor;
+
+  @GuardedBy("this")
+  private final Map<Path, byte[]> pendingSnapshots = new HashMap<>();
+
+  public AutoSaveWriter() {
+    this(
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "Autosave writer");
+              thread.setDaemon(true);
+              return thread;
+            }));
+  }
+
+  /** The executor must run the writes one after another in the order they were submitted. */
+  @VisibleForTesting
+  AutoSaveWriter(final ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Takes a snapshot of the game data and writes it to the specified file in the background. Does
+   * nothing if no snapshot could be taken, e.g. because delegate execution could not be blocked,
+   * or if the writer was already shut down.
+   */
+  public void save(
+      final GameData gameData,
+      final DelegateExecutionManager delegateExecutionManager,
+      final Path file) {
+    checkNotNull(file);
+
+    if (executor.isShutdown()) {
+      log.warn("Skipped autosave after the game was stopped: " + file.toAbsolutePath());
+      return;
+    }
+    GameDataWriter.writeSnapshot(gameData, delegateExecutionManager)
+        .ifPresent(snapshot -> enqueue(file, snapshot));
+  }
+
+  private synchronized void enqueue(final Path file, final byte[] snapshot) {
+    if (pendingSnapshots.put(file, snapshot) != null) {
+      // the write of the older snapshot of this file is scheduled and picks up the newer one
+      return;
+    }
+    try {
+      executor.execute(() -> writePendingSnapshot(file));
+    } catch (final RejectedExecutionException e) {
+      // shut down while the snapshot was taken
+      pendingSnapshots.remove(file);
+      log.warn("Skipped autosave after the game was stopped: " + file.toAbsolutePath());
+    }
+  }
+
+  private void writePendingSnapshot(final Path file) {
+    final byte[] snapshot;
+    synchronized (this) {
+      snapshot = pendingSnapshots.remove(file);
+    }
+    try {
+      GameDataManager.saveSnapshot(snapshot, file);
+    } catch (final IOException e) {
+      log.error("Failed to save game to file: " + file.toAbsolutePath(), e);
+    }
+  }
+
+  /** Writes the pending saves and stops the background thread. */
+  public void shutDown() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUT_DOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Timed out waiting for autosaves to be written");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
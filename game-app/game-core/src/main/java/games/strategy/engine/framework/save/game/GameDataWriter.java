@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.IoUtils;
@@ -39,33 +40,59 @@ public class GameDataWriter {
     }
   }
 
-  // error prone is detecting the identical boolean condition as an error, when it's
-  // intentional and is actually a retry.
-  @SuppressWarnings("IdentityBinaryExpression")
+  /**
+   * Returns the game data serialized without compression, see {@link
+   * GameDataManager#writeSnapshot(GameData)}. Delegate execution is blocked while the game data is
+   * serialized, but not while it is compressed and written to a file. Returns an empty optional if
+   * the game data could not be written.
+   */
+  public static Optional<byte[]> writeSnapshot(
+      final GameData gameData, final DelegateExecutionManager delegateExecutionManager) {
+    if (!blockDelegateExecution(delegateExecutionManager)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(GameDataManager.writeSnapshot(gameData));
+    } catch (final IOException e) {
+      log.error("Error saving game.. ", e);
+      return Optional.empty();
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
   private static void writeToOutputStream(
       final GameData gameData,
       final OutputStream out,
       final DelegateExecutionManager delegateExecutionManager)
       throws IOException {
-    final String errorMessage = "Error saving game.. ";
+    if (!blockDelegateExecution(delegateExecutionManager)) {
+      return;
+    }
+    try {
+      GameDataManager.saveGame(out, gameData);
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
 
+  // error prone is detecting the identical boolean condition as an error, when it's
+  // intentional and is actually a retry.
+  @SuppressWarnings("IdentityBinaryExpression")
+  private static boolean blockDelegateExecution(
+      final DelegateExecutionManager delegateExecutionManager) {
     try {
       // TODO: is this necessary to save a game?
       // try twice
       if (!delegateExecutionManager.blockDelegateExecution(6000)
           && !delegateExecutionManager.blockDelegateExecution(6000)) {
-        log.error(errorMessage + " could not lock delegate execution");
-        return;
+        log.error("Error saving game..  could not lock delegate execution");
+        return false;
       }
+      return true;
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
-      return;
-    }
-
-    try {
-      GameDataManager.saveGame(out, gameData);
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
+      return false;
     }
   }
 }
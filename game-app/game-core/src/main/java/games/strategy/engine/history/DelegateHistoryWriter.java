@@ -2,9 +2,7 @@ package games.strategy.engine.history;
 
 import com.google.common.base.Preconditions;
 import games.strategy.engine.data.GameData;
-import games.strategy.engine.framework.IGame;
 import games.strategy.engine.framework.IGameModifiedChannel;
-import games.strategy.engine.message.IChannelMessenger;
 import games.strategy.triplea.delegate.EditDelegate;
 import javax.annotation.Nullable;
 
@@ -18,20 +16,22 @@ public class DelegateHistoryWriter implements IDelegateHistoryWriter {
   @Nullable private final IGameModifiedChannel channel;
   @Nullable private final GameData gameData;
 
-  public DelegateHistoryWriter(final IChannelMessenger messenger, final GameData gameData) {
-    this(
-        (IGameModifiedChannel) messenger.getChannelBroadcaster(IGame.GAME_MODIFICATION_CHANNEL),
-        Preconditions.checkNotNull(gameData));
+  /**
+   * Creates a history writer that writes to the specified broadcaster of the game modification
+   * channel.
+   */
+  public DelegateHistoryWriter(final IGameModifiedChannel channel, final GameData gameData) {
+    this.channel = Preconditions.checkNotNull(channel);
+    this.gameData = Preconditions.checkNotNull(gameData);
   }
 
-  private DelegateHistoryWriter(
-      @Nullable final IGameModifiedChannel channel, @Nullable final GameData gameData) {
-    this.channel = channel;
-    this.gameData = gameData;
+  private DelegateHistoryWriter() {
+    this.channel = null;
+    this.gameData = null;
   }
 
   public static DelegateHistoryWriter createNoOpImplementation() {
-    return new DelegateHistoryWriter((IGameModifiedChannel) null, null);
+    return new DelegateHistoryWriter();
   }
 
   private String getEventPrefix() {
@@ -198,6 +198,11 @@ public class History extends DefaultTreeModel {
     return Optional.ofNullable((HistoryNode) node.getPreviousLeaf());
   }
 
+  /** Returns true if the game data is not set to an earlier point of the history. */
+  public synchronized boolean isAtLatestChange() {
+    return !seekingEnabled || nextChangeIndex == changes.size();
+  }
+
   synchronized void changeAdded(final Change change) {
     changes.add(change);
     if (seekingEnabled && nextChangeIndex == changes.size() - 1) {
@@ -3,7 +3,10 @@ package games.strategy.engine.history;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.stats.StatisticsAggregator;
 import java.io.Serializable;
+import java.util.Map;
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 
@@ -62,6 +65,18 @@ public class HistoryWriter implements Serializable {
    */
   public void startNextRound(final int round) {
     assertCorrectThread();
+    recordRoundStatistics();
+    removeUnheldUnits();
+    startNextRound(round, null);
+  }
+
+  /**
+   * Prepares to write a new round that already has its statistics, used when reading the history
+   * of a save game.
+   */
+  void startNextRound(
+      final int round, final @Nullable Map<String, Map<String, Double>> roundStatistics) {
+    assertCorrectThread();
     if (isCurrentEvent()) {
       closeCurrent();
     }
@@ -72,10 +87,40 @@ public class HistoryWriter implements Serializable {
       closeCurrent();
     }
     final Round currentRound = new Round(round, history.getChanges().size());
+    currentRound.setStatistics(roundStatistics);
     current = (HistoryNode) history.getRoot();
     addToAndSetCurrent(currentRound);
   }
 
+  /**
+   * Keeps the statistics at the end of the current round, so the statistics of a game can be shown
+   * without replaying its history. Nothing is recorded while the game data shows an earlier point
+   * of the history.
+   */
+  private void recordRoundStatistics() {
+    HistoryNode node = current;
+    while (node != null && !(node instanceof Round)) {
+      node = (HistoryNode) node.getParent();
+    }
+    if (node != null && history.isAtLatestChange()) {
+      ((Round) node)
+          .setStatistics(StatisticsAggregator.collectRoundStatistics(history.getGameData()));
+    }
+  }
+
+  /**
+   * The battles and moves of the last round are over, so killed units are only referenced by the
+   * history. Units are only removed while the game data is at the latest change, a unit that comes
+   * back into play when going back in the history is put back by the change that adds it.
+   */
+  private void removeUnheldUnits() {
+    if (history.isAtLatestChange()) {
+      try (GameData.Unlocker ignored = history.getGameData().acquireWriteLock()) {
+        history.getGameData().getUnits().removeUnheldUnits(history.getGameData());
+      }
+    }
+  }
+
   private void closeCurrent() {
     assertCorrectThread();
     final HistoryNode old = current;
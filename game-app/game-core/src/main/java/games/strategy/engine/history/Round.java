@@ -1,5 +1,9 @@
 package games.strategy.engine.history;
 
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /** A history node that represents an entire game round. */
@@ -8,13 +12,29 @@ public class Round extends IndexedHistoryNode {
   private static final long serialVersionUID = 7645058269791039043L;
   private final int roundNo;
 
+  /**
+   * The over time statistics at the end of this round by statistic name and then by player or
+   * alliance name. Null while the round is being played and for rounds of games saved before the
+   * statistics were recorded.
+   */
+  @Getter(AccessLevel.NONE)
+  private @Nullable Map<String, Map<String, Double>> statistics;
+
   Round(final int round, final int changeStartIndex) {
     super("Round: " + round, changeStartIndex);
     roundNo = round;
   }
 
+  public Optional<Map<String, Map<String, Double>>> getStatistics() {
+    return Optional.ofNullable(statistics);
+  }
+
+  void setStatistics(final @Nullable Map<String, Map<String, Double>> statistics) {
+    this.statistics = statistics;
+  }
+
   @Override
   public SerializationWriter getWriter() {
-    return new RoundHistorySerializer(roundNo);
+    return new RoundHistorySerializer(roundNo, statistics);
   }
 }
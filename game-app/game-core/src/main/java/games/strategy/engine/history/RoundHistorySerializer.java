@@ -1,16 +1,22 @@
 package games.strategy.engine.history;
 
+import java.util.Map;
+import javax.annotation.Nullable;
+
 class RoundHistorySerializer implements SerializationWriter {
   private static final long serialVersionUID = 9006488114384654514L;
 
   private final int roundNo;
+  private final @Nullable Map<String, Map<String, Double>> statistics;
 
-  RoundHistorySerializer(final int roundNo) {
+  RoundHistorySerializer(
+      final int roundNo, final @Nullable Map<String, Map<String, Double>> statistics) {
     this.roundNo = roundNo;
+    this.statistics = statistics;
   }
 
   @Override
   public void write(final HistoryWriter writer) {
-    writer.startNextRound(roundNo);
+    writer.startNextRound(roundNo, statistics);
   }
 }
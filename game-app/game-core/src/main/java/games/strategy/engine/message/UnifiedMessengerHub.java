@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -136,8 +137,12 @@ public class UnifiedMessengerHub implements IMessageListener, IConnectionChangeL
     // invoke remotely
     final SpokeInvoke invoke =
         new SpokeInvoke(hubInvoke.methodCallId, hubInvoke.needReturnValues, hubInvoke.call, from);
-    for (final INode node : remote) {
-      send(invoke, node);
+    final List<INode> remoteNodes = new ArrayList<>(remote);
+    final boolean invokeLocally = remoteNodes.remove(messenger.getLocalNode());
+    // serialized only once for all remote nodes, e.g. when broadcasting on a channel
+    messenger.sendToAll(invoke, remoteNodes);
+    if (invokeLocally) {
+      localUnified.messageReceived(invoke, messenger.getLocalNode());
     }
   }
 
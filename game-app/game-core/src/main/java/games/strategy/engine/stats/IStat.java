@@ -4,19 +4,24 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.triplea.ui.mapdata.MapData;
 import java.text.DecimalFormat;
+import javax.annotation.Nullable;
 
 /**
  * A game statistic, such as total resources, total unit value, etc. Statistics can be obtained per
  * player or for all players in an alliance.
+ *
+ * <p>The map data is used to leave out units that the map does not draw. Statistics that are
+ * recorded by the game engine have no map data, then all units are counted.
  */
 public interface IStat {
   DecimalFormat DECIMAL_FORMAT = new DecimalFormat("##0.##");
 
   String getName();
 
-  double getValue(GamePlayer player, GameData data, MapData mapData);
+  double getValue(GamePlayer player, GameData data, @Nullable MapData mapData);
 
-  default double getValue(final String alliance, final GameData data, MapData mapData) {
+  default double getValue(
+      final String alliance, final GameData data, final @Nullable MapData mapData) {
     return data.getAllianceTracker().getPlayersInAlliance(alliance).stream()
         .mapToDouble(player -> getValue(player, data, mapData))
         .sum();
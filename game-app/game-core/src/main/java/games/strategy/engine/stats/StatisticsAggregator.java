@@ -15,11 +15,15 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.swing.tree.TreeNode;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Analyzes a game's history and aggregates interesting statistics in a {@link Statistics} object.
+ *
+ * <p>The values of finished rounds are recorded during play, see {@link Round#getStatistics()}.
+ * Games without recorded values are analyzed by replaying the history of a copy of the game.
  */
 @Slf4j
 public class StatisticsAggregator {
@@ -29,12 +33,11 @@ public class StatisticsAggregator {
           OverTimeStatisticType.PredefinedStatistics.PRODUCTION, new ProductionStat(),
           OverTimeStatisticType.PredefinedStatistics.UNITS, new UnitsStat(),
           OverTimeStatisticType.PredefinedStatistics.VC, new VictoryCityStat());
-  private final Statistics underConstruction = new Statistics();
-  private final GameData game;
+  private final GameData gameData;
   private final MapData mapData;
 
-  public StatisticsAggregator(GameData gameData, MapData map) {
-    this.game = cloneGameData(gameData);
+  public StatisticsAggregator(final GameData gameData, final MapData map) {
+    this.gameData = gameData;
     this.mapData = map;
   }
 
@@ -56,13 +59,100 @@ public class StatisticsAggregator {
     return statisticsMapping;
   }
 
+  /**
+   * Computes the over time statistics of the current game state by statistic name and then by
+   * player or alliance name, as recorded in {@link Round#getStatistics()}. All units are counted,
+   * whether the map draws them or not.
+   */
+  public static Map<String, Map<String, Double>> collectRoundStatistics(final GameData game) {
+    try (GameData.Unlocker ignored = game.acquireReadLock()) {
+      final Map<String, Map<String, Double>> statistics = new HashMap<>();
+      createOverTimeStatisticsMapping(game.getResourceList().getResources())
+          .forEach(
+              (type, source) -> {
+                final Map<String, Double> values = new HashMap<>();
+                for (final GamePlayer player : game.getPlayerList().getPlayers()) {
+                  values.put(player.getName(), source.getValue(player, game, null));
+                }
+                for (final String alliance : game.getAllianceTracker().getAlliances()) {
+                  values.put(alliance, source.getValue(alliance, game, null));
+                }
+                statistics.put(type.getName(), values);
+              });
+      return statistics;
+    }
+  }
+
   public Statistics aggregate() {
-    log.info("Aggregating statistics for game " + game.getGameName());
-    collectOverTimeStatistics();
-    return underConstruction;
+    log.info("Aggregating statistics for game " + gameData.getGameName());
+    return aggregateRecordedStatistics()
+        .orElseGet(
+            () -> {
+              log.info("Statistics were not recorded for every round, replaying game history");
+              final Statistics statistics = new Statistics();
+              collectOverTimeStatistics(statistics, cloneGameData(gameData));
+              return statistics;
+            });
+  }
+
+  /**
+   * Builds the statistics from the values recorded at the end of every round. Only the values of
+   * the current round are computed. They are left out if the game data is set to an earlier point
+   * of the history, as they are not known then. Returns empty if values are missing, e.g. because
+   * the game was saved before statistics were recorded, or if the map does not draw some units, as
+   * the recorded values count all units.
+   */
+  private Optional<Statistics> aggregateRecordedStatistics() {
+    if (!gameData.getUnitTypeList().stream()
+        .allMatch(unitType -> mapData.shouldDrawUnit(unitType.getName()))) {
+      return Optional.empty();
+    }
+    try (GameData.Unlocker ignored = gameData.acquireReadLock()) {
+      final List<Round> rounds = getRounds(gameData);
+      if (rounds.isEmpty()) {
+        return Optional.empty();
+      }
+      final Map<OverTimeStatisticType, IStat> overTimeStatisticSources =
+          createOverTimeStatisticsMapping(gameData.getResourceList().getResources());
+      final List<String> rowNames = new ArrayList<>();
+      gameData.getPlayerList().getPlayers().forEach(player -> rowNames.add(player.getName()));
+      rowNames.addAll(gameData.getAllianceTracker().getAlliances());
+
+      final Statistics statistics = new Statistics();
+      overTimeStatisticSources
+          .keySet()
+          .forEach(type -> statistics.getOverTimeStatistics().put(type, HashBasedTable.create()));
+      final Round currentRound = rounds.get(rounds.size() - 1);
+      // the game data may be set to an earlier point of the history, e.g. in the history panel
+      final boolean isAtLatestChange = gameData.getHistory().isAtLatestChange();
+      for (final Round round : rounds) {
+        final Map<String, Map<String, Double>> roundStatistics;
+        if (round != currentRound) {
+          roundStatistics = round.getStatistics().orElse(null);
+        } else if (isAtLatestChange) {
+          roundStatistics = collectRoundStatistics(gameData);
+        } else {
+          continue;
+        }
+        if (roundStatistics == null) {
+          return Optional.empty();
+        }
+        for (final OverTimeStatisticType type : overTimeStatisticSources.keySet()) {
+          final Map<String, Double> values = roundStatistics.getOrDefault(type.getName(), Map.of());
+          for (final String rowName : rowNames) {
+            final Double value = values.get(rowName);
+            if (value == null) {
+              return Optional.empty();
+            }
+            statistics.getOverTimeStatistics().get(type).put(rowName, round, value);
+          }
+        }
+      }
+      return Optional.of(statistics);
+    }
   }
 
-  private void collectOverTimeStatistics() {
+  private void collectOverTimeStatistics(final Statistics underConstruction, final GameData game) {
     final Map<OverTimeStatisticType, IStat> overTimeStatisticSources =
         createOverTimeStatisticsMapping(game.getResourceList().getResources());
     {
@@ -74,13 +164,16 @@ public class StatisticsAggregator {
 
     final List<GamePlayer> players = game.getPlayerList().getPlayers();
     final List<String> alliances = new ArrayList<>(game.getAllianceTracker().getAlliances());
-    for (final Round round : getRounds()) {
+    for (final Round round : getRounds(game)) {
       game.getHistory().gotoNode(round);
-      collectOverTimeStatisticsForRound(overTimeStatisticSources, players, alliances, round);
+      collectOverTimeStatisticsForRound(
+          underConstruction, game, overTimeStatisticSources, players, alliances, round);
     }
   }
 
   private void collectOverTimeStatisticsForRound(
+      final Statistics underConstruction,
+      final GameData game,
       final Map<OverTimeStatisticType, IStat> overTimeStatisticSources,
       final List<GamePlayer> players,
       final List<String> alliances,
@@ -103,7 +196,7 @@ public class StatisticsAggregator {
     }
   }
 
-  private List<Round> getRounds() {
+  private static List<Round> getRounds(final GameData game) {
     final List<Round> rounds = new ArrayList<>();
     final HistoryNode root = (HistoryNode) game.getHistory().getRoot();
     final Enumeration<TreeNode> rootChildren = root.children();
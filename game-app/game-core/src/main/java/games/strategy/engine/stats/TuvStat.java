@@ -10,6 +10,7 @@ import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.util.TuvCostsCalculator;
 import java.util.Collection;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import org.triplea.java.collections.IntegerMap;
 
 public class TuvStat implements IStat {
@@ -19,14 +20,15 @@ public class TuvStat implements IStat {
   }
 
   @Override
-  public double getValue(final GamePlayer player, final GameData data, final MapData mapData) {
+  public double getValue(
+      final GamePlayer player, final GameData data, final @Nullable MapData mapData) {
     final IntegerMap<UnitType> costs = new TuvCostsCalculator().getCostsForTuv(player);
     final Predicate<Unit> unitIsOwnedBy = Matches.unitIsOwnedBy(player);
     return data.getMap().getTerritories().stream()
         .map(Territory::getUnitCollection)
         .map(units -> units.getMatches(unitIsOwnedBy))
         .flatMap(Collection::stream)
-        .filter(unit -> mapData.shouldDrawUnit(unit.getType().getName()))
+        .filter(unit -> mapData == null || mapData.shouldDrawUnit(unit.getType().getName()))
         .mapToInt(unit -> costs.getInt(unit.getType()))
         .sum();
   }
@@ -8,6 +8,7 @@ import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.ui.mapdata.MapData;
 import java.util.Collection;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 
 public class UnitsStat implements IStat {
   @Override
@@ -16,8 +17,10 @@ public class UnitsStat implements IStat {
   }
 
   @Override
-  public double getValue(final GamePlayer player, final GameData data, final MapData mapData) {
-    final Predicate<Unit> visible = u -> mapData.shouldDrawUnit(u.getType().getName());
+  public double getValue(
+      final GamePlayer player, final GameData data, final @Nullable MapData mapData) {
+    final Predicate<Unit> visible =
+        u -> mapData == null || mapData.shouldDrawUnit(u.getType().getName());
 
     // sum the total match count
     return data.getMap().getTerritories().stream()
@@ -1,6 +1,7 @@
 package games.strategy.net;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * A simple way to connect multiple socket end points. An IMessenger listens for incoming messages,
@@ -15,6 +16,15 @@ public interface IMessenger {
    */
   void send(Serializable msg, INode to);
 
+  /**
+   * Send a message to each of the given nodes. Behaves like calling {@link #send(Serializable,
+   * INode)} for every node, but implementations may serialize the message only once for all of
+   * them.
+   */
+  default void sendToAll(final Serializable msg, final Collection<INode> to) {
+    to.forEach(node -> send(msg, node));
+  }
+
   /** Listen for messages. */
   void addMessageListener(IMessageListener listener);
 
@@ -13,6 +13,7 @@ import games.strategy.engine.message.RemoteMessenger;
 import games.strategy.engine.message.RemoteName;
 import games.strategy.engine.message.unifiedmessenger.UnifiedMessenger;
 import java.io.Serializable;
+import java.util.Collection;
 import lombok.ToString;
 
 /** Convenience grouping of a messenger, remote messenger and channel messenger. */
@@ -106,6 +107,11 @@ public class Messengers implements IMessenger, IRemoteMessenger, IChannelMesseng
     messenger.send(msg, to);
   }
 
+  @Override
+  public void sendToAll(final Serializable msg, final Collection<INode> to) {
+    messenger.sendToAll(msg, to);
+  }
+
   public void sendToServer(final Serializable msg) {
     messenger.send(msg, messenger.getServerNode());
   }
@@ -18,15 +18,18 @@ import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,6 +38,7 @@ import org.triplea.domain.data.UserName;
 import org.triplea.http.client.web.socket.client.connections.GameToLobbyConnection;
 import org.triplea.java.IpAddressParser;
 import org.triplea.java.ThreadRunner;
+import org.triplea.java.collections.CollectionUtils;
 
 /** A Messenger that can have many clients connected to it. */
 @Slf4j
@@ -127,6 +131,23 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     nioSocket.send(socketChannel, new MessageHeader(to, node, msg));
   }
 
+  @Override
+  public void sendToAll(final Serializable msg, final Collection<INode> to) {
+    if (shutdown) {
+      return;
+    }
+    if (to.size() == 1) {
+      send(msg, CollectionUtils.getAny(to));
+      return;
+    }
+    final List<SocketChannel> channels =
+        to.stream().map(nodeToChannel::get).filter(Objects::nonNull).collect(Collectors.toList());
+    if (!channels.isEmpty()) {
+      // the same bytes are written to every node, so the header can't be addressed to one of them
+      nioSocket.send(channels, new MessageHeader(null, node, msg));
+    }
+  }
+
   @Override
   public @Nullable String getPlayerMac(final UserName name) {
     return cachedMacAddresses.get(name);
@@ -205,11 +226,10 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
       return;
     }
     final SocketChannel fromChannel = nodeToChannel.get(msg.getFrom());
-    final List<SocketChannel> nodes = new ArrayList<>(nodeToChannel.values());
-    for (final SocketChannel channel : nodes) {
-      if (channel != fromChannel) {
-        nioSocket.send(channel, msg);
-      }
+    final List<SocketChannel> channels = new ArrayList<>(nodeToChannel.values());
+    channels.remove(fromChannel);
+    if (!channels.isEmpty()) {
+      nioSocket.send(channels, msg);
     }
   }
 
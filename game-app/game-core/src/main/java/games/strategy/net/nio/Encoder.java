@@ -6,7 +6,10 @@ import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.io.IoUtils;
@@ -19,6 +22,15 @@ class Encoder {
   private final IObjectStreamFactory objectStreamFactory;
 
   void write(final SocketChannel to, final MessageHeader header) {
+    checkNotNull(to);
+    write(List.of(to), header);
+  }
+
+  /**
+   * Serializes {@code header} once and queues the result for every channel in {@code to}. All
+   * channels share the same read-only content, only the read position is kept per channel.
+   */
+  void write(final Collection<SocketChannel> to, final MessageHeader header) {
     checkNotNull(to);
     if (header.getFrom() == null) {
       throw new IllegalArgumentException("No from node");
@@ -26,8 +38,10 @@ class Encoder {
     try {
       final byte[] bytes =
           IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os)));
-      final SocketWriteData data = new SocketWriteData(bytes);
-      writer.enque(data, to);
+      final ByteBuffer content = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+      for (final SocketChannel channel : to) {
+        writer.enque(new SocketWriteData(content), channel);
+      }
     } catch (final IOException e) {
       // we aren't doing any I/O, just writing in memory so something is very wrong
       log.error("Error writing object: " + header, e);
@@ -8,6 +8,7 @@ import games.strategy.net.MessageHeader;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -57,6 +58,21 @@ public class NioSocket implements ErrorReporter {
     encoder.write(to, header);
   }
 
+  /**
+   * Sends the specified message header through each of the specified channels. The header is
+   * serialized only once and the same bytes are queued for every channel.
+   *
+   * @param to The destination channels.
+   * @param header The message header to send.
+   */
+  public void send(final Collection<SocketChannel> to, final MessageHeader header) {
+    checkNotNull(to);
+    checkNotNull(header);
+    checkNotNull(header.getFrom());
+
+    encoder.write(to, header);
+  }
+
   /** Add this channel. The channel will either be unquarantined, or an error will be reported */
   public void add(final SocketChannel channel, final QuarantineConversation conversation) {
     if (channel.isBlocking()) {
@@ -19,16 +19,20 @@ class SocketWriteData {
   private final ByteBuffer content;
   private final int number = counter.incrementAndGet();
 
-  SocketWriteData(final byte[] data) {
-    content = ByteBuffer.allocate(data.length);
-    content.put(data);
-    size = ByteBuffer.allocate(4);
-    if (data.length > SocketReadData.MAX_MESSAGE_SIZE) {
-      throw new IllegalStateException("Invalid message size: " + data.length);
+  /**
+   * Creates a packet for the remaining bytes of {@code data}. The bytes are not copied, so the same
+   * buffer can be shared by the packets for several sockets, but it must not be changed afterwards.
+   */
+  SocketWriteData(final ByteBuffer data) {
+    final int length = data.remaining();
+    if (length > SocketReadData.MAX_MESSAGE_SIZE) {
+      throw new IllegalStateException("Invalid message size: " + length);
     }
-    size.putInt(data.length ^ SocketReadData.MAGIC);
+    // every packet needs its own position in the shared content
+    content = data.duplicate();
+    size = ByteBuffer.allocate(4);
+    size.putInt(length ^ SocketReadData.MAGIC);
     size.flip();
-    content.flip();
   }
 
   /**
@@ -56,6 +60,6 @@ class SocketWriteData {
 
   @Override
   public String toString() {
-    return "<id: " + number + " size: " + content.capacity() + ">";
+    return "<id: " + number + " size: " + content.limit() + ">";
   }
 }
@@ -8,6 +8,7 @@ import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.ai.pro.util.ProBattleUtils;
 import games.strategy.triplea.ai.pro.util.ProPurchaseUtils;
 import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.BattleSpec;
 import games.strategy.triplea.odds.calculator.IBattleCalculator;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -54,4 +55,19 @@ class FastOddsEstimator implements IBattleCalculator {
     return new AggregateEstimate(
         battleRoundsFought, winPercentage / 100, remainingAttackingUnits, remainingDefendingUnits);
   }
+
+  @Override
+  public AggregateResults calculate(final BattleSpec battle) {
+    // the estimate does not simulate any runs, so there is nothing to gain from confidence targets
+    return calculate(
+        battle.getAttacker(),
+        battle.getDefender(),
+        battle.getLocation(),
+        battle.getAttacking(),
+        battle.getDefending(),
+        battle.getBombarding(),
+        battle.getTerritoryEffects(),
+        battle.isRetreatWhenOnlyAirLeft(),
+        battle.getRunCount());
+  }
 }
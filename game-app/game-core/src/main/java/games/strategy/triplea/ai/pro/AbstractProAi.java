@@ -148,9 +148,8 @@ public abstract class AbstractProAi extends AbstractAi {
 
     Duration delta = Duration.between(start, Instant.now());
     ProLogger.info(
-        String.format(
-            "%s move (didCombatMove=%s  didNonCombatMove=%s) time=%s",
-            player.getName(), didCombatMove, didNonCombatMove, delta.toMillis()));
+        "%s move (didCombatMove=%s  didNonCombatMove=%s) time=%s",
+        player.getName(), didCombatMove, didNonCombatMove, delta.toMillis());
   }
 
   @Override
@@ -204,7 +203,7 @@ public abstract class AbstractProAi extends AbstractAi {
       for (final GameStep step : gameSteps) {
         sequence.setRoundAndStep(sequence.getRound(), step.getDisplayName(), step.getPlayerId());
         final String stepName = step.getName();
-        ProLogger.info("Simulating phase: " + stepName);
+        ProLogger.info(() -> "Simulating phase: " + stepName);
         if (GameStep.isNonCombatMoveStep(stepName)) {
           proData.initializeSimulation(this, dataCopy, playerCopy);
           final Map<Territory, ProTerritory> factoryMoveMap =
@@ -261,7 +260,8 @@ public abstract class AbstractProAi extends AbstractAi {
         }
       }
     }
-    ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
+    ProLogger.info(
+        () -> player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
   }
 
   private GameData copyData(GameData data) {
@@ -299,7 +299,8 @@ public abstract class AbstractProAi extends AbstractAi {
     initializeData();
     purchaseAi.place(storedPurchaseTerritories, placeDelegate);
     storedPurchaseTerritories = null;
-    ProLogger.info(player.getName() + " time for place=" + (System.currentTimeMillis() - start));
+    ProLogger.info(
+        () -> player.getName() + " time for place=" + (System.currentTimeMillis() - start));
   }
 
   @Override
@@ -337,19 +338,20 @@ public abstract class AbstractProAi extends AbstractAi {
         ProBattleUtils.estimateStrengthDifference(battleTerritory, attackers, defenders);
     final boolean isStrafing = isAttacker && storedStrafingTerritories.contains(battleTerritory);
     ProLogger.info(
-        player.getName()
-            + " checking retreat from territory "
-            + battleTerritory
-            + ", attackers="
-            + attackers.size()
-            + ", defenders="
-            + defenders.size()
-            + ", submerge="
-            + submerge
-            + ", attacker="
-            + isAttacker
-            + ", isStrafing="
-            + isStrafing);
+        () ->
+            player.getName()
+                + " checking retreat from territory "
+                + battleTerritory
+                + ", attackers="
+                + attackers.size()
+                + ", defenders="
+                + defenders.size()
+                + ", submerge="
+                + submerge
+                + ", attacker="
+                + isAttacker
+                + ", isStrafing="
+                + isStrafing);
     if ((isStrafing || (isAttacker && strengthDifference > 50))
         && (battleTerritory.isWater() || attackers.stream().anyMatch(Matches.unitIsLand()))) {
       return null;
@@ -480,15 +482,16 @@ public abstract class AbstractProAi extends AbstractAi {
     final Collection<Unit> attackers = battle.getAttackingUnits();
     final Collection<Unit> defenders = battle.getDefendingUnits();
     ProLogger.info(
-        player.getName()
-            + " checking scramble to "
-            + scrambleTo
-            + ", attackers="
-            + attackers.size()
-            + ", defenders="
-            + defenders.size()
-            + ", possibleScramblers="
-            + possibleScramblers);
+        () ->
+            player.getName()
+                + " checking scramble to "
+                + scrambleTo
+                + ", attackers="
+                + attackers.size()
+                + ", defenders="
+                + defenders.size()
+                + ", possibleScramblers="
+                + possibleScramblers);
     prepareData(getGameData());
     return scrambleAi.scrambleUnitsQuery(scrambleTo, possibleScramblers);
   }
@@ -511,19 +514,20 @@ public abstract class AbstractProAi extends AbstractAi {
     final Collection<Unit> attackers = battle.getAttackingUnits();
     final Collection<Unit> defenders = battle.getDefendingUnits();
     ProLogger.info(
-        player.getName()
-            + " checking sub attack in "
-            + unitTerritory
-            + ", attackers="
-            + attackers
-            + ", defenders="
-            + defenders);
+        () ->
+            player.getName()
+                + " checking sub attack in "
+                + unitTerritory
+                + ", attackers="
+                + attackers
+                + ", defenders="
+                + defenders);
     prepareData(getGameData());
 
     // Calculate battle results
     final ProBattleResult result =
         calc.calculateBattleResults(proData, unitTerritory, attackers, defenders, new HashSet<>());
-    ProLogger.debug(player.getName() + " sub attack TUVSwing=" + result.getTuvSwing());
+    ProLogger.debug(() -> player.getName() + " sub attack TUVSwing=" + result.getTuvSwing());
     return result.getTuvSwing() > 0;
   }
 
@@ -75,7 +75,7 @@ public class ProCombatMoveAi {
         !ProBattleUtils.territoryHasLocalLandSuperiority(
             proData, proData.getMyCapital(), ProBattleUtils.MEDIUM_RANGE, player);
     isBombing = false;
-    ProLogger.debug("Currently in defensive stance: " + isDefensive);
+    ProLogger.debug(() -> "Currently in defensive stance: " + isDefensive);
 
     // Find the maximum number of units that can attack each territory and max enemy defenders
     territoryManager.populateAttackOptions();
@@ -137,7 +137,7 @@ public class ProCombatMoveAi {
 
     // Set strafing territories to avoid retreats
     ai.setStoredStrafingTerritories(territoryManager.getStrafingTerritories());
-    ProLogger.info("Strafing territories: " + territoryManager.getStrafingTerritories());
+    ProLogger.info(() -> "Strafing territories: " + territoryManager.getStrafingTerritories());
 
     // Log results
     ProLogger.info("Logging results");
@@ -268,13 +268,10 @@ public class ProCombatMoveAi {
           }
         }
         ProLogger.debug(
-            t.getName()
-                + " calculated nearby enemy value="
-                + nearbyEnemyValue
-                + " from "
-                + cantReachEnemyTerritories);
+            "%s calculated nearby enemy value=%s from %s",
+            t.getName(), nearbyEnemyValue, cantReachEnemyTerritories);
         if (nearbyEnemyValue > 0) {
-          ProLogger.trace(t.getName() + " updating negative neutral attack value=" + attackValue);
+          ProLogger.trace("%s updating negative neutral attack value=%s", t.getName(), attackValue);
           attackValue = nearbyEnemyValue * .001 / (1 - attackValue);
         } else {
 
@@ -282,9 +279,11 @@ public class ProCombatMoveAi {
           final double strengthDifference =
               ProBattleUtils.estimateStrengthDifference(
                   t, patd.getMaxUnits(), patd.getMaxEnemyDefenders(player));
-          ProLogger.debug(t.getName() + " calculated strengthDifference=" + strengthDifference);
+          ProLogger.debug(
+              () -> t.getName() + " calculated strengthDifference=" + strengthDifference);
           if (strengthDifference > 500) {
-            ProLogger.trace(t.getName() + " updating negative neutral attack value=" + attackValue);
+            ProLogger.trace(
+                "%s updating negative neutral attack value=%s", t.getName(), attackValue);
             attackValue = strengthDifference * .00001 / (1 - attackValue);
           }
         }
@@ -297,10 +296,11 @@ public class ProCombatMoveAi {
               && attackValue <= 8
               && data.getMap().getDistance(proData.getMyCapital(), t) <= 3)) {
         ProLogger.debug(
-            "Removing territory that has a negative attack value: "
-                + t.getName()
-                + ", AttackValue="
-                + patd.getValue());
+            () ->
+                "Removing territory that has a negative attack value: "
+                    + t.getName()
+                    + ", AttackValue="
+                    + patd.getValue());
         it.remove();
       }
     }
@@ -311,14 +311,15 @@ public class ProCombatMoveAi {
     // Log prioritized territories
     for (final ProTerritory patd : attackOptions) {
       ProLogger.debug(
-          "AttackValue="
-              + patd.getValue()
-              + ", TUVSwing="
-              + patd.getMaxBattleResult().getTuvSwing()
-              + ", isAmphib="
-              + patd.isNeedAmphibUnits()
-              + ", "
-              + patd.getTerritory().getName());
+          () ->
+              "AttackValue="
+                  + patd.getValue()
+                  + ", TUVSwing="
+                  + patd.getMaxBattleResult().getTuvSwing()
+                  + ", isAmphib="
+                  + patd.isNeedAmphibUnits()
+                  + ", "
+                  + patd.getTerritory().getName());
     }
   }
 
@@ -332,17 +333,18 @@ public class ProCombatMoveAi {
     while (true) {
       final List<ProTerritory> territoriesToTryToAttack =
           prioritizedTerritories.subList(0, numToAttack);
-      ProLogger.debug("Current number of territories: " + numToAttack);
+      ProLogger.debug("Current number of territories: %s", numToAttack);
       tryToAttackTerritories(territoriesToTryToAttack, List.of());
 
       // Determine if all attacks are successful
+      calc.estimateAttackBattleResults(proData, territoriesToTryToAttack, player);
       boolean areSuccessful = true;
       for (final ProTerritory patd : territoriesToTryToAttack) {
         final Territory t = patd.getTerritory();
         if (patd.getBattleResult() == null) {
           patd.estimateBattleResult(calc, player);
         }
-        ProLogger.trace(patd.getResultString() + " with attackers: " + patd.getUnits());
+        ProLogger.trace(() -> patd.getResultString() + " with attackers: " + patd.getUnits());
         final double estimate =
             ProBattleUtils.estimateStrengthDifference(
                 t, patd.getUnits(), patd.getMaxEnemyDefenders(player));
@@ -374,8 +376,8 @@ public class ProCombatMoveAi {
             if (prioritizedTerritories.get(i).isNeedAmphibUnits()) {
               amphibTerritoriesToRemove.add(prioritizedTerritories.get(i));
               ProLogger.debug(
-                  "Removing amphib territory since already used all transports: "
-                      + prioritizedTerritories.get(i).getTerritory().getName());
+                  "Removing amphib territory since already used all transports: %s",
+                  prioritizedTerritories.get(i).getTerritory().getName());
             }
           }
           prioritizedTerritories.removeAll(amphibTerritoriesToRemove);
@@ -389,15 +391,15 @@ public class ProCombatMoveAi {
         }
       } else {
         ProLogger.debug(
-            "Removing territory: "
-                + prioritizedTerritories.get(numToAttack - 1).getTerritory().getName());
+            "Removing territory: %s",
+            prioritizedTerritories.get(numToAttack - 1).getTerritory().getName());
         prioritizedTerritories.remove(numToAttack - 1);
         if (numToAttack > prioritizedTerritories.size()) {
           numToAttack--;
         }
       }
     }
-    ProLogger.debug("Final number of territories: " + (numToAttack - 1));
+    ProLogger.debug("Final number of territories: %s", numToAttack - 1);
   }
 
   private void determineTerritoriesThatCanBeHeld(
@@ -429,7 +431,7 @@ public class ProCombatMoveAi {
       // If strafing then can't hold
       if (patd.isStrafing()) {
         patd.setCanHold(false);
-        ProLogger.debug(t + ", strafing so CanHold=false");
+        ProLogger.debug(() -> t + ", strafing so CanHold=false");
         continue;
       }
 
@@ -460,11 +462,12 @@ public class ProCombatMoveAi {
       if (!t.isWater() && territoryValue < averageValue) {
         attackMap.get(t).setCanHold(false);
         ProLogger.debug(
-            t
-                + ", CanHold=false, value="
-                + territoryValueMap.get(t)
-                + ", averageAttackFromValue="
-                + averageValue);
+            () ->
+                t
+                    + ", CanHold=false, value="
+                    + territoryValueMap.get(t)
+                    + ", averageAttackFromValue="
+                    + averageValue);
         continue;
       }
       if (enemyAttackOptions.getMax(t) != null) {
@@ -483,15 +486,16 @@ public class ProCombatMoveAi {
             CollectionUtils.getMatches(
                 result.getAverageAttackersRemaining(), Matches.unitIsAir().negate());
         ProLogger.debug(
-            t
-                + ", value="
-                + territoryValueMap.get(t)
-                + ", averageAttackFromValue="
-                + averageValue
-                + ", MyAttackers="
-                + attackingUnits.size()
-                + ", RemainingUnits="
-                + remainingUnitsToDefendWith.size());
+            () ->
+                t
+                    + ", value="
+                    + territoryValueMap.get(t)
+                    + ", averageAttackFromValue="
+                    + averageValue
+                    + ", MyAttackers="
+                    + attackingUnits.size()
+                    + ", RemainingUnits="
+                    + remainingUnitsToDefendWith.size());
 
         // Determine counter-attack results to see if I can hold it
         final ProBattleResult result2 =
@@ -507,27 +511,29 @@ public class ProCombatMoveAi {
                 || (result2.getWinPercentage() < proData.getMinWinPercentage());
         patd.setCanHold(canHold);
         ProLogger.debug(
-            t
-                + ", CanHold="
-                + canHold
-                + ", MyDefenders="
-                + remainingUnitsToDefendWith.size()
-                + ", EnemyAttackers="
-                + patd.getMaxEnemyUnits().size()
-                + ", win%="
-                + result2.getWinPercentage()
-                + ", EnemyTUVSwing="
-                + result2.getTuvSwing()
-                + ", hasLandUnitRemaining="
-                + result2.isHasLandUnitRemaining());
+            () ->
+                t
+                    + ", CanHold="
+                    + canHold
+                    + ", MyDefenders="
+                    + remainingUnitsToDefendWith.size()
+                    + ", EnemyAttackers="
+                    + patd.getMaxEnemyUnits().size()
+                    + ", win%="
+                    + result2.getWinPercentage()
+                    + ", EnemyTUVSwing="
+                    + result2.getTuvSwing()
+                    + ", hasLandUnitRemaining="
+                    + result2.isHasLandUnitRemaining());
       } else {
         attackMap.get(t).setCanHold(true);
         ProLogger.debug(
-            t
-                + ", CanHold=true since no enemy counter attackers, value="
-                + territoryValueMap.get(t)
-                + ", averageAttackFromValue="
-                + averageValue);
+            () ->
+                t
+                    + ", CanHold=true since no enemy counter attackers, value="
+                    + territoryValueMap.get(t)
+                    + ", averageAttackFromValue="
+                    + averageValue);
       }
     }
   }
@@ -543,10 +549,11 @@ public class ProCombatMoveAi {
       final ProTerritory patd = it.next();
       final Territory t = patd.getTerritory();
       ProLogger.debug(
-          "Checking territory="
-              + patd.getTerritory().getName()
-              + " with isAmphib="
-              + patd.isNeedAmphibUnits());
+          () ->
+              "Checking territory="
+                  + patd.getTerritory().getName()
+                  + " with isAmphib="
+                  + patd.isNeedAmphibUnits());
 
       // Remove empty convoy zones that can't be held
       if (!patd.isCanHold()
@@ -554,10 +561,11 @@ public class ProCombatMoveAi {
           && t.isWater()
           && !t.anyUnitsMatch(Matches.enemyUnit(player))) {
         ProLogger.debug(
-            "Removing convoy zone that can't be held: "
-                + t.getName()
-                + ", enemyAttackers="
-                + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits()));
+            () ->
+                "Removing convoy zone that can't be held: "
+                    + t.getName()
+                    + ", enemyAttackers="
+                    + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits()));
         it.remove();
         continue;
       }
@@ -573,26 +581,28 @@ public class ProCombatMoveAi {
           // Remove neutral territories that can't be held and don't have overwhelming attack
           // strength
           ProLogger.debug(
-              "Removing neutral territory that can't be held: "
-                  + t.getName()
-                  + ", enemyAttackers="
-                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
-                  + ", enemyAmphibAttackers="
-                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
-                  + ", strengthDifference="
-                  + strengthDifference);
+              () ->
+                  "Removing neutral territory that can't be held: "
+                      + t.getName()
+                      + ", enemyAttackers="
+                      + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
+                      + ", enemyAmphibAttackers="
+                      + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
+                      + ", strengthDifference="
+                      + strengthDifference);
           it.remove();
           continue;
         } else if (patd.isNeedAmphibUnits() && patd.getValue() < 2) {
 
           // Remove amphib territories that aren't worth attacking
           ProLogger.debug(
-              "Removing low value amphib territory that can't be held: "
-                  + t.getName()
-                  + ", enemyAttackers="
-                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
-                  + ", enemyAmphibAttackers="
-                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits()));
+              () ->
+                  "Removing low value amphib territory that can't be held: "
+                      + t.getName()
+                      + ", enemyAttackers="
+                      + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
+                      + ", enemyAmphibAttackers="
+                      + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits()));
           it.remove();
           continue;
         }
@@ -631,10 +641,11 @@ public class ProCombatMoveAi {
                 .orElse(null);
         if (attackFromTerritoryWithEnemyNeighbors != null) {
           ProLogger.debug(
-              "Removing neutral territory that has attackers that are adjacent to enemies: "
-                  + t.getName()
-                  + ", attackFromTerritory="
-                  + attackFromTerritoryWithEnemyNeighbors);
+              () ->
+                  "Removing neutral territory that has attackers that are adjacent to enemies: "
+                      + t.getName()
+                      + ", attackFromTerritory="
+                      + attackFromTerritoryWithEnemyNeighbors);
           it.remove();
         }
       }
@@ -683,7 +694,7 @@ public class ProCombatMoveAi {
         if (minUnit != null) {
           unitMoveMap.remove(minUnit);
           alreadyMovedUnits.add(minUnit);
-          ProLogger.debug(t + ", added one land unit: " + minUnit);
+          ProLogger.debug("%s, added one land unit: %s", t, minUnit);
         }
       }
     }
@@ -723,10 +734,11 @@ public class ProCombatMoveAi {
       final Territory t = attackEntry.getKey();
       final ProTerritory patd = attackEntry.getValue();
       ProLogger.debug(
-          "Checking territory="
-              + patd.getTerritory().getName()
-              + " with transport size="
-              + patd.getTransportTerritoryMap().size());
+          () ->
+              "Checking territory="
+                  + patd.getTerritory().getName()
+                  + " with transport size="
+                  + patd.getTransportTerritoryMap().size());
       if (!patd.getTerritory().isWater() && !patd.getTransportTerritoryMap().isEmpty()) {
 
         // Find all transports for each unload territory
@@ -781,19 +793,21 @@ public class ProCombatMoveAi {
               enemyTuvSwing += minTuvSwing;
             }
             ProLogger.trace(
-                unloadTerritory
-                    + ", EnemyAttackers="
-                    + enemyAttackers.size()
-                    + ", MaxDefenders="
-                    + defenders.size()
-                    + ", MaxEnemyTUVSwing="
-                    + result.getTuvSwing()
-                    + ", MinDefenders="
-                    + territoryTransportAndBombardMap.get(unloadTerritory).size()
-                    + ", MinEnemyTUVSwing="
-                    + minResult.getTuvSwing());
+                () ->
+                    unloadTerritory
+                        + ", EnemyAttackers="
+                        + enemyAttackers.size()
+                        + ", MaxDefenders="
+                        + defenders.size()
+                        + ", MaxEnemyTUVSwing="
+                        + result.getTuvSwing()
+                        + ", MinDefenders="
+                        + territoryTransportAndBombardMap.get(unloadTerritory).size()
+                        + ", MinEnemyTUVSwing="
+                        + minResult.getTuvSwing());
           } else {
-            ProLogger.trace("Territory=" + unloadTerritory.getName() + " has no enemy attackers");
+            ProLogger.trace(
+                () -> "Territory=" + unloadTerritory.getName() + " has no enemy attackers");
           }
         }
 
@@ -817,23 +831,15 @@ public class ProCombatMoveAi {
         final double attackValue = result.getTuvSwing() + production * (1 + 3.0 * isEnemyCapital);
         if (!patd.isStrafing() && (0.75 * enemyTuvSwing) > attackValue) {
           ProLogger.debug(
-              "Removing amphib territory: "
-                  + patd.getTerritory()
-                  + ", enemyTUVSwing="
-                  + enemyTuvSwing
-                  + ", attackValue="
-                  + attackValue);
+              "Removing amphib territory: %s, enemyTUVSwing=%s, attackValue=%s",
+              patd.getTerritory(), enemyTuvSwing, attackValue);
           patd.getUnits().clear();
           patd.getAmphibAttackMap().clear();
           patd.getBombardTerritoryMap().clear();
         } else {
           ProLogger.debug(
-              "Keeping amphib territory: "
-                  + patd.getTerritory()
-                  + ", enemyTUVSwing="
-                  + enemyTuvSwing
-                  + ", attackValue="
-                  + attackValue);
+              "Keeping amphib territory: %s, enemyTUVSwing=%s, attackValue=%s",
+              patd.getTerritory(), enemyTuvSwing, attackValue);
         }
       }
     }
@@ -1001,6 +1007,7 @@ public class ProCombatMoveAi {
         usedUnits.addAll(patd.getUnits());
       }
       ProTerritory territoryToRemove = null;
+      calc.estimateAttackBattleResults(proData, prioritizedTerritories, player);
       for (final ProTerritory patd : prioritizedTerritories) {
         final Territory t = patd.getTerritory();
 
@@ -1046,20 +1053,15 @@ public class ProCombatMoveAi {
             enemyCounterTuvSwing = result2.getTuvSwing();
           }
           ProLogger.trace(
-              "Territory="
-                  + t.getName()
-                  + ", CanHold="
-                  + canHold
-                  + ", MyDefenders="
-                  + remainingUnitsToDefendWith.size()
-                  + ", EnemyAttackers="
-                  + patd.getMaxEnemyUnits().size()
-                  + ", win%="
-                  + result2.getWinPercentage()
-                  + ", EnemyTUVSwing="
-                  + result2.getTuvSwing()
-                  + ", hasLandUnitRemaining="
-                  + result2.isHasLandUnitRemaining());
+              "Territory=%s, CanHold=%s, MyDefenders=%s, EnemyAttackers=%s, win%%=%s, "
+                  + "EnemyTUVSwing=%s, hasLandUnitRemaining=%s",
+              t.getName(),
+              canHold,
+              remainingUnitsToDefendWith.size(),
+              patd.getMaxEnemyUnits().size(),
+              result2.getWinPercentage(),
+              result2.getTuvSwing(),
+              result2.isHasLandUnitRemaining());
         }
 
         // Find attack value
@@ -1128,16 +1130,18 @@ public class ProCombatMoveAi {
                         || result.getBattleRounds() >= 4)))) {
           territoryToRemove = patd;
         }
+        final boolean finalAllUnitsCanAttackOtherTerritory = allUnitsCanAttackOtherTerritory;
         ProLogger.debug(
-            patd.getResultString()
-                + ", attackValue="
-                + attackValue
-                + ", territoryValue="
-                + territoryValue
-                + ", allUnitsCanAttackOtherTerritory="
-                + allUnitsCanAttackOtherTerritory
-                + " with attackers="
-                + patd.getUnits());
+            () ->
+                patd.getResultString()
+                    + ", attackValue="
+                    + attackValue
+                    + ", territoryValue="
+                    + territoryValue
+                    + ", allUnitsCanAttackOtherTerritory="
+                    + finalAllUnitsCanAttackOtherTerritory
+                    + " with attackers="
+                    + patd.getUnits());
       }
 
       // Determine whether all attacks are successful or try to hold fewer territories
@@ -1146,7 +1150,7 @@ public class ProCombatMoveAi {
       }
 
       prioritizedTerritories.remove(territoryToRemove);
-      ProLogger.debug("Removing " + territoryToRemove.getTerritory().getName());
+      ProLogger.debug("Removing %s", territoryToRemove.getTerritory().getName());
     }
   }
 
@@ -1232,7 +1236,7 @@ public class ProCombatMoveAi {
       final Territory t = maxBombingTerritory.get();
       attackMap.get(t).getBombers().add(bomber);
       sortedUnitAttackOptions.remove(bomber);
-      ProLogger.debug("Add bomber (" + bomber + ") to " + t);
+      ProLogger.debug(() -> "Add bomber (" + bomber + ") to " + t);
     }
   }
 
@@ -1562,7 +1566,7 @@ public class ProCombatMoveAi {
               patd.addUnit(transport);
               patd.setBattleResult(null);
               alreadyAttackedWithTransports.add(transport);
-              ProLogger.trace("Adding attack transport to: " + t.getName());
+              ProLogger.trace(() -> "Adding attack transport to: " + t.getName());
               break;
             }
           }
@@ -1681,12 +1685,8 @@ public class ProCombatMoveAi {
           sortedUnitAttackOptions.remove(unit);
         }
         ProLogger.trace(
-            "Adding amphibious attack to "
-                + minWinTerritory
-                + ", units="
-                + minAmphibUnitsToAdd.size()
-                + ", unloadFrom="
-                + minUnloadFromTerritory);
+            "Adding amphibious attack to %s, units=%s, unloadFrom=%s",
+            minWinTerritory, minAmphibUnitsToAdd.size(), minUnloadFromTerritory);
       }
     }
 
@@ -1759,12 +1759,8 @@ public class ProCombatMoveAi {
         attackMap.get(minWinTerritory).setBattleResult(null);
         sortedUnitAttackOptions.remove(unit);
         ProLogger.trace(
-            "Adding bombard to "
-                + minWinTerritory
-                + ", units="
-                + unit
-                + ", bombardFrom="
-                + minBombardFromTerritory);
+            "Adding bombard to %s, units=%s, bombardFrom=%s",
+            minWinTerritory, unit, minBombardFromTerritory);
       }
     }
     return sortedUnitAttackOptions;
@@ -1801,7 +1797,7 @@ public class ProCombatMoveAi {
       for (final ProTerritory t : prioritizedTerritories) {
         territoriesToAttack.add(t.getTerritory());
       }
-      ProLogger.trace("Remaining territories to attack=" + territoriesToAttack);
+      ProLogger.trace(() -> "Remaining territories to attack=" + territoriesToAttack);
       territoryManager.populateEnemyAttackOptions(territoriesToAttack, List.of(myCapital));
       final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
       if (enemyAttackOptions.getMax(myCapital) == null) {
@@ -1832,14 +1828,15 @@ public class ProCombatMoveAi {
               defenders,
               enemyAttackOptions.getMax(myCapital).getMaxBombardUnits());
       ProLogger.trace(
-          "Current capital result hasLandUnitRemaining="
-              + result.isHasLandUnitRemaining()
-              + ", TUVSwing="
-              + result.getTuvSwing()
-              + ", defenders="
-              + defenders.size()
-              + ", attackers="
-              + enemyAttackingUnits.size());
+          () ->
+              "Current capital result hasLandUnitRemaining="
+                  + result.isHasLandUnitRemaining()
+                  + ", TUVSwing="
+                  + result.getTuvSwing()
+                  + ", defenders="
+                  + defenders.size()
+                  + ", attackers="
+                  + enemyAttackingUnits.size());
 
       // Determine attack that uses the most units per value from capital and remove it
       if (result.isHasLandUnitRemaining()) {
@@ -1858,7 +1855,7 @@ public class ProCombatMoveAi {
           }
           final double unitsNearCapitalPerValue = unitsNearCapital / attackMap.get(t).getValue();
           ProLogger.trace(
-              t.getName() + " has unit near capital per value: " + unitsNearCapitalPerValue);
+              () -> t.getName() + " has unit near capital per value: " + unitsNearCapitalPerValue);
           if (unitsNearCapitalPerValue > maxUnitsNearCapitalPerValue) {
             maxUnitsNearCapitalPerValue = unitsNearCapitalPerValue;
             maxTerritory = t;
@@ -1870,12 +1867,12 @@ public class ProCombatMoveAi {
           patdMax.getUnits().clear();
           patdMax.getAmphibAttackMap().clear();
           patdMax.setBattleResult(null);
-          ProLogger.debug("Removing territory to try to hold capital: " + maxTerritory.getName());
+          ProLogger.debug("Removing territory to try to hold capital: %s", maxTerritory.getName());
         } else {
           break;
         }
       } else {
-        ProLogger.debug("Can hold capital: " + myCapital.getName());
+        ProLogger.debug(() -> "Can hold capital: " + myCapital.getName());
         break;
       }
     }
@@ -1899,7 +1896,8 @@ public class ProCombatMoveAi {
           final List<Unit> mySeaUnits =
               t.getMatches(ProMatches.unitCanBeMovedAndIsOwnedSea(player, true));
           proData.getProTerritory(attackMap, moveToTerritory).addUnits(mySeaUnits);
-          ProLogger.info(t + " is a contested territory so moving subs to " + moveToTerritory);
+          ProLogger.info(
+              () -> t + " is a contested territory so moving subs to " + moveToTerritory);
         }
       }
     }
@@ -1914,12 +1912,13 @@ public class ProCombatMoveAi {
     ProLogger.debug("Prioritized territories:");
     for (final ProTerritory attackTerritoryData : prioritizedTerritories) {
       ProLogger.trace(
-          "  "
-              + attackTerritoryData.getMaxBattleResult().getTuvSwing()
-              + "  "
-              + attackTerritoryData.getValue()
-              + "  "
-              + attackTerritoryData.getTerritory().getName());
+          () ->
+              "  "
+                  + attackTerritoryData.getMaxBattleResult().getTuvSwing()
+                  + "  "
+                  + attackTerritoryData.getValue()
+                  + "  "
+                  + attackTerritoryData.getTerritory().getName());
     }
 
     // Print enemy territories with enemy units vs my units
@@ -1928,7 +1927,7 @@ public class ProCombatMoveAi {
     for (final Map.Entry<Territory, ProTerritory> attackEntry : attackMap.entrySet()) {
       final Territory t = attackEntry.getKey();
       count++;
-      ProLogger.trace(count + ". ---" + t.getName());
+      ProLogger.trace("%s. ---%s", count, t.getName());
       final Set<Unit> combinedUnits = new HashSet<>(attackEntry.getValue().getMaxUnits());
       combinedUnits.addAll(attackEntry.getValue().getMaxAmphibUnits());
       ProLogger.trace("  --- My max units ---");
@@ -2001,7 +2000,7 @@ public class ProCombatMoveAi {
 
   private void writeProLog(final Map<String, Integer> printMap) {
     for (final Map.Entry<String, Integer> printEntry : printMap.entrySet()) {
-      ProLogger.trace("    " + printEntry.getValue() + " " + printEntry.getKey());
+      ProLogger.trace(() -> "    " + printEntry.getValue() + " " + printEntry.getKey());
     }
   }
 
@@ -10,8 +10,10 @@ import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOption;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOptionMap;
 import games.strategy.triplea.ai.pro.data.ProTerritory;
+import games.strategy.triplea.ai.pro.util.ProTerritoryDistances;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.triplea.util.TuvCostsCalculator;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -41,6 +43,10 @@ public final class ProData {
   // future, we could add logic about moving such units to factory territories from elsewhere.
   private final Set<Unit> unitsToBeConsumed = new HashSet<>();
   private double minCostPerHitPoint = Double.MAX_VALUE;
+  // Distances used to value territories, searched on first use and kept until the next phase
+  private @Nullable ProTerritoryDistances territoryDistances = null;
+  // Whether the move options of units are searched on all cores, see ProTerritoryManager
+  private boolean parallelMoveOptionSearch = false;
 
   private AbstractProAi proAi;
   private GameData data;
@@ -86,6 +92,8 @@ public final class ProData {
     unitValueMap = new TuvCostsCalculator().getCostsForTuv(player);
     purchaseOptions = new ProPurchaseOptionMap(player, data);
     minCostPerHitPoint = getMinCostPerHitPoint(purchaseOptions.getLandOptions());
+    territoryDistances = new ProTerritoryDistances(player);
+    parallelMoveOptionSearch = ClientSetting.aiParallelMoveOptionSearch.getValueOrThrow();
   }
 
   private static Map<Unit, Territory> newUnitTerritoryMap(final GameState data) {
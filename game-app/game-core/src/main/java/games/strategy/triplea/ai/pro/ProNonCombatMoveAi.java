@@ -136,7 +136,7 @@ class ProNonCombatMoveAi {
             new HashSet<>(territoryManager.getDefendTerritories()));
     final Map<Territory, Double> seaTerritoryValueMap =
         ProTerritoryValueUtils.findSeaTerritoryValues(
-            player, territoriesThatCantBeHeld, territoryManager.getDefendTerritories());
+            proData, player, territoriesThatCantBeHeld, territoryManager.getDefendTerritories());
     Map<Territory, ProTerritory> moveMap = territoryManager.getDefendOptions().getTerritoryMap();
 
     // Use loop to ensure capital is protected after moves
@@ -161,8 +161,8 @@ class ProNonCombatMoveAi {
 
         // Check if capital has local land superiority
         ProLogger.info(
-            "Checking if capital has local land superiority with enemyDistanceToMyCapital="
-                + enemyDistanceToMyCapital);
+            "Checking if capital has local land superiority with enemyDistanceToMyCapital=%s",
+            enemyDistanceToMyCapital);
         if (enemyDistanceToMyCapital >= 2
             && enemyDistanceToMyCapital <= 3
             && defenseRange == -1
@@ -286,7 +286,10 @@ class ProNonCombatMoveAi {
     // Log can't move units per territory
     for (final Territory t : moveMap.keySet()) {
       if (!moveMap.get(t).getCantMoveUnits().isEmpty()) {
-        ProLogger.trace(t + " has units that can't move: " + moveMap.get(t).getCantMoveUnits());
+        ProLogger.trace(
+            () ->
+                String.format(
+                    "%s has units that can't move: %s", t, moveMap.get(t).getCantMoveUnits()));
       }
     }
   }
@@ -303,7 +306,7 @@ class ProNonCombatMoveAi {
       if (ProMatches.unitCanBeMovedAndIsOwned(player).test(u)
           && Matches.unitIsInfrastructure().test(u)) {
         infraUnitMoveMap.put(u, unitMoveMap.get(u));
-        ProLogger.trace(u + " is infra unit with move options: " + unitMoveMap.get(u));
+        ProLogger.trace(() -> u + " is infra unit with move options: " + unitMoveMap.get(u));
         it.remove();
       }
     }
@@ -372,7 +375,7 @@ class ProNonCombatMoveAi {
             moveMap.get(t).addUnit(unit);
             unitMoveMap.remove(unit);
             territoriesToDefendWithOneUnit.remove(t);
-            ProLogger.debug(t + ", added one land unit: " + unit);
+            ProLogger.debug(() -> t + ", added one land unit: " + unit);
             break;
           }
         }
@@ -399,7 +402,8 @@ class ProNonCombatMoveAi {
       // Check if no enemy attackers
       final ProTerritory enemyAttackMax = enemyAttackOptions.getMax(t);
       if (enemyAttackMax == null) {
-        ProLogger.debug("Territory=" + t.getName() + ", CanHold=true since has no enemy attackers");
+        ProLogger.debug(
+            () -> "Territory=" + t.getName() + ", CanHold=true since has no enemy attackers");
         continue;
       }
 
@@ -421,19 +425,20 @@ class ProNonCombatMoveAi {
       patd.setMinBattleResult(minResult);
       if (minResult.getTuvSwing() <= 0 && !minDefendingUnitsAndNotAa.isEmpty()) {
         ProLogger.debug(
-            "Territory="
-                + t.getName()
-                + ", CanHold=true"
-                + ", MinDefenders="
-                + minDefendingUnitsAndNotAa.size()
-                + ", EnemyAttackers="
-                + enemyAttackingUnits.size()
-                + ", win%="
-                + minResult.getWinPercentage()
-                + ", EnemyTUVSwing="
-                + minResult.getTuvSwing()
-                + ", hasLandUnitRemaining="
-                + minResult.isHasLandUnitRemaining());
+            () ->
+                "Territory="
+                    + t.getName()
+                    + ", CanHold=true"
+                    + ", MinDefenders="
+                    + minDefendingUnitsAndNotAa.size()
+                    + ", EnemyAttackers="
+                    + enemyAttackingUnits.size()
+                    + ", win%="
+                    + minResult.getWinPercentage()
+                    + ", EnemyTUVSwing="
+                    + minResult.getTuvSwing()
+                    + ", hasLandUnitRemaining="
+                    + minResult.isHasLandUnitRemaining());
         continue;
       }
 
@@ -465,45 +470,47 @@ class ProNonCombatMoveAi {
       if (minDefendingUnitsAndNotAa.size() != defendingUnitsAndNotAa.size()
           && (result.getTuvSwing() - holdValue) < minResult.getTuvSwing()) {
         ProLogger.debug(
-            "Territory="
-                + t.getName()
-                + ", CanHold=true"
-                + ", MaxDefenders="
-                + defendingUnitsAndNotAa.size()
-                + ", EnemyAttackers="
-                + enemyAttackingUnits.size()
-                + ", minTUVSwing="
-                + minResult.getTuvSwing()
-                + ", win%="
-                + result.getWinPercentage()
-                + ", EnemyTUVSwing="
-                + result.getTuvSwing()
-                + ", hasLandUnitRemaining="
-                + result.isHasLandUnitRemaining()
-                + ", holdValue="
-                + holdValue);
+            () ->
+                "Territory="
+                    + t.getName()
+                    + ", CanHold=true"
+                    + ", MaxDefenders="
+                    + defendingUnitsAndNotAa.size()
+                    + ", EnemyAttackers="
+                    + enemyAttackingUnits.size()
+                    + ", minTUVSwing="
+                    + minResult.getTuvSwing()
+                    + ", win%="
+                    + result.getWinPercentage()
+                    + ", EnemyTUVSwing="
+                    + result.getTuvSwing()
+                    + ", hasLandUnitRemaining="
+                    + result.isHasLandUnitRemaining()
+                    + ", holdValue="
+                    + holdValue);
         continue;
       }
 
       // Can't hold territory
       patd.setCanHold(false);
       ProLogger.debug(
-          "Can't hold Territory="
-              + t.getName()
-              + ", MaxDefenders="
-              + defendingUnitsAndNotAa.size()
-              + ", EnemyAttackers="
-              + enemyAttackingUnits.size()
-              + ", minTUVSwing="
-              + minResult.getTuvSwing()
-              + ", win%="
-              + result.getWinPercentage()
-              + ", EnemyTUVSwing="
-              + result.getTuvSwing()
-              + ", hasLandUnitRemaining="
-              + result.isHasLandUnitRemaining()
-              + ", holdValue="
-              + holdValue);
+          () ->
+              "Can't hold Territory="
+                  + t.getName()
+                  + ", MaxDefenders="
+                  + defendingUnitsAndNotAa.size()
+                  + ", EnemyAttackers="
+                  + enemyAttackingUnits.size()
+                  + ", minTUVSwing="
+                  + minResult.getTuvSwing()
+                  + ", win%="
+                  + result.getWinPercentage()
+                  + ", EnemyTUVSwing="
+                  + result.getTuvSwing()
+                  + ", hasLandUnitRemaining="
+                  + result.isHasLandUnitRemaining()
+                  + ", holdValue="
+                  + holdValue);
     }
   }
 
@@ -622,28 +629,29 @@ class ProNonCombatMoveAi {
         final double tuvSwing = minResult.getTuvSwing();
         final boolean hasRemainingLandUnit = minResult.isHasLandUnitRemaining();
         ProLogger.debug(
-            "Removing territory="
-                + t.getName()
-                + ", value="
-                + patd.getValue()
-                + ", CanHold="
-                + patd.isCanHold()
-                + ", isLandAndCanOnlyBeAttackedByAir="
-                + isLandAndCanOnlyBeAttackedByAir
-                + ", isNotFactoryAndShouldHold="
-                + isNotFactoryAndShouldHold
-                + ", canAlreadyBeHeld="
-                + canAlreadyBeHeld
-                + ", isNotFactoryAndHasNoEnemyNeighbors="
-                + isNotFactoryAndHasNoEnemyNeighbors
-                + ", isNotFactoryAndOnlyAmphib="
-                + isNotFactoryAndOnlyAmphib
-                + ", tuvSwing="
-                + tuvSwing
-                + ", hasRemainingLandUnit="
-                + hasRemainingLandUnit
-                + ", maxEnemyUnits="
-                + patd.getMaxEnemyUnits().size());
+            () ->
+                "Removing territory="
+                    + t.getName()
+                    + ", value="
+                    + patd.getValue()
+                    + ", CanHold="
+                    + patd.isCanHold()
+                    + ", isLandAndCanOnlyBeAttackedByAir="
+                    + isLandAndCanOnlyBeAttackedByAir
+                    + ", isNotFactoryAndShouldHold="
+                    + isNotFactoryAndShouldHold
+                    + ", canAlreadyBeHeld="
+                    + canAlreadyBeHeld
+                    + ", isNotFactoryAndHasNoEnemyNeighbors="
+                    + isNotFactoryAndHasNoEnemyNeighbors
+                    + ", isNotFactoryAndOnlyAmphib="
+                    + isNotFactoryAndOnlyAmphib
+                    + ", tuvSwing="
+                    + tuvSwing
+                    + ", hasRemainingLandUnit="
+                    + hasRemainingLandUnit
+                    + ", maxEnemyUnits="
+                    + patd.getMaxEnemyUnits().size());
         it.remove();
       }
     }
@@ -698,10 +706,11 @@ class ProNonCombatMoveAi {
     // Log prioritized territories
     for (final ProTerritory attackTerritoryData : prioritizedTerritories) {
       ProLogger.debug(
-          "Value="
-              + attackTerritoryData.getValue()
-              + ", "
-              + attackTerritoryData.getTerritory().getName());
+          () ->
+              "Value="
+                  + attackTerritoryData.getValue()
+                  + ", "
+                  + attackTerritoryData.getTerritory().getName());
     }
     return prioritizedTerritories;
   }
@@ -894,7 +903,7 @@ class ProNonCombatMoveAi {
                 proTerritory.addTempUnit(transport);
                 proTerritory.setBattleResult(null);
                 alreadyMovedTransports.add(transport);
-                ProLogger.trace("Adding defend transport to: " + t.getName());
+                ProLogger.trace(() -> "Adding defend transport to: " + t.getName());
                 break;
               }
             }
@@ -1002,12 +1011,8 @@ class ProNonCombatMoveAi {
                     sortedUnitMoveOptions.remove(unit);
                   }
                   ProLogger.trace(
-                      "Adding amphibious defense to: "
-                          + t
-                          + ", units="
-                          + amphibUnitsToAdd
-                          + ", unloadTerritory="
-                          + minTerritory);
+                      "Adding amphibious defense to: %s, units=%s, unloadTerritory=%s",
+                      t, amphibUnitsToAdd, minTerritory);
                   addedAmphibUnits = true;
                   break;
                 }
@@ -1040,7 +1045,7 @@ class ProNonCombatMoveAi {
               territoryManager.getCantHoldTerritories(),
               List.of(),
               territoriesToCheck);
-      ProLogger.debug("Current number of territories: " + numToDefend);
+      ProLogger.debug("Current number of territories: %s", numToDefend);
       for (final ProTerritory patd : territoriesToTryToDefend) {
         final Territory t = patd.getTerritory();
 
@@ -1086,11 +1091,12 @@ class ProNonCombatMoveAi {
           if (territoryValueMap.get(t) < averageValue) {
             hasHigherStrategicValue = false;
             ProLogger.trace(
-                t
-                    + " has lower value then move from with value="
-                    + territoryValueMap.get(t)
-                    + ", averageMoveFromValue="
-                    + averageValue);
+                () ->
+                    t
+                        + " has lower value then move from with value="
+                        + territoryValueMap.get(t)
+                        + ", averageMoveFromValue="
+                        + averageValue);
           }
         }
 
@@ -1102,18 +1108,20 @@ class ProNonCombatMoveAi {
                     >= patd.getMinBattleResult().getTuvSwing())) {
           areSuccessful = false;
         }
+        final boolean finalHasHigherStrategicValue = hasHigherStrategicValue;
         ProLogger.debug(
-            patd.getResultString()
-                + ", holdValue="
-                + holdValue
-                + ", minTUVSwing="
-                + patd.getMinBattleResult().getTuvSwing()
-                + ", hasHighStrategicValue="
-                + hasHigherStrategicValue
-                + ", defenders="
-                + patd.getAllDefenders()
-                + ", attackers="
-                + patd.getMaxEnemyUnits());
+            () ->
+                patd.getResultString()
+                    + ", holdValue="
+                    + holdValue
+                    + ", minTUVSwing="
+                    + patd.getMinBattleResult().getTuvSwing()
+                    + ", hasHighStrategicValue="
+                    + finalHasHigherStrategicValue
+                    + ", defenders="
+                    + patd.getAllDefenders()
+                    + ", attackers="
+                    + patd.getMaxEnemyUnits());
       }
 
       final Territory currentTerritory = prioritizedTerritories.get(numToDefend - 1).getTerritory();
@@ -1129,8 +1137,9 @@ class ProNonCombatMoveAi {
                 moveMap.get(myCapital).getMaxDefenders())) {
           areSuccessful = false;
           ProLogger.debug(
-              "Capital isn't safe after defense moves with winPercentage="
-                  + moveMap.get(myCapital).getBattleResult().getWinPercentage());
+              () ->
+                  "Capital isn't safe after defense moves with winPercentage="
+                      + moveMap.get(myCapital).getBattleResult().getWinPercentage());
         }
 
         // Check capital local superiority
@@ -1147,9 +1156,10 @@ class ProNonCombatMoveAi {
                   proData, myCapital, enemyDistance, player, moveMap)) {
             areSuccessful = false;
             ProLogger.debug(
-                "Capital doesn't have local land superiority after defense "
-                    + "moves with enemyDistance="
-                    + enemyDistance);
+                () ->
+                    "Capital doesn't have local land superiority after defense "
+                        + "moves with enemyDistance="
+                        + enemyDistance);
           }
         }
       }
@@ -1168,7 +1178,7 @@ class ProNonCombatMoveAi {
       } else {
 
         // Remove territory last territory in prioritized list since we can't hold them all
-        ProLogger.debug("Removing territory: " + currentTerritory);
+        ProLogger.debug(() -> "Removing territory: " + currentTerritory);
         prioritizedTerritories.get(numToDefend - 1).setCanHold(false);
         prioritizedTerritories.remove(numToDefend - 1);
         if (numToDefend > prioritizedTerritories.size()) {
@@ -1204,7 +1214,7 @@ class ProNonCombatMoveAi {
       t.getTempUnits().clear();
       t.getTempAmphibAttackMap().clear();
     }
-    ProLogger.debug("Final number of territories: " + (numToDefend - 1));
+    ProLogger.debug("Final number of territories: %s", numToDefend - 1);
   }
 
   private void moveUnitsToBestTerritories(final boolean isCombatMove) {
@@ -1303,13 +1313,12 @@ class ProNonCombatMoveAi {
         }
         if (maxValueTerritory != null) {
           ProLogger.trace(
-              String.format(
-                  "%s moved to %s and unloading to best land at %s with %s, value=%s",
-                  transport,
-                  maxUnloadFromTerritory,
-                  maxValueTerritory.getTerritory(),
-                  maxAmphibUnitsToAdd,
-                  maxValue));
+              "%s moved to %s and unloading to best land at %s with %s, value=%s",
+              transport,
+              maxUnloadFromTerritory,
+              maxValueTerritory.getTerritory(),
+              maxAmphibUnitsToAdd,
+              maxValue);
           maxValueTerritory.addTempUnits(maxAmphibUnitsToAdd);
           maxValueTerritory.putTempAmphibAttackMap(transport, maxAmphibUnitsToAdd);
           maxValueTerritory.getTransportTerritoryMap().put(transport, maxUnloadFromTerritory);
@@ -1371,13 +1380,12 @@ class ProNonCombatMoveAi {
                 .getTransportTerritoryMap()
                 .put(transport, maxValueTerritory.getTerritory());
             ProLogger.trace(
-                String.format(
-                    "%s moved to best sea at %s and unloading to %s with %s, value=%s",
-                    transport,
-                    maxValueTerritory.getTerritory(),
-                    unloadToTerritory.getTerritory(),
-                    maxAmphibUnitsToAdd,
-                    maxValue));
+                "%s moved to best sea at %s and unloading to %s with %s, value=%s",
+                transport,
+                maxValueTerritory.getTerritory(),
+                unloadToTerritory.getTerritory(),
+                maxAmphibUnitsToAdd,
+                maxValue);
           } else {
             maxValueTerritory.addTempUnits(maxAmphibUnitsToAdd);
             maxValueTerritory.putTempAmphibAttackMap(transport, maxAmphibUnitsToAdd);
@@ -1385,9 +1393,8 @@ class ProNonCombatMoveAi {
                 .getTransportTerritoryMap()
                 .put(transport, maxValueTerritory.getTerritory());
             ProLogger.trace(
-                String.format(
-                    "%s moved to best sea at %s with %s, value=%s",
-                    transport, maxValueTerritory.getTerritory(), maxAmphibUnitsToAdd, maxValue));
+                "%s moved to best sea at %s with %s, value=%s",
+                transport, maxValueTerritory.getTerritory(), maxAmphibUnitsToAdd, maxValue);
           }
           currentTransportMoveMap.remove(transport);
           for (final Unit unit : maxAmphibUnitsToAdd) {
@@ -1457,17 +1464,14 @@ class ProNonCombatMoveAi {
                     - 0.1 * numUnitsToLoad
                     - 0.1 * factoryProduction;
             ProLogger.trace(
-                t
-                    + " load value "
-                    + value
-                    + " via territoryValue="
-                    + territoryValue
-                    + " numTurnsAway="
-                    + numTurnsAway
-                    + " numUnitsToLoad="
-                    + numUnitsToLoad
-                    + " factoryProduction="
-                    + factoryProduction);
+                "%s load value %s via territoryValue=%s numTurnsAway=%s numUnitsToLoad=%s "
+                    + "factoryProduction=%s",
+                t,
+                value,
+                territoryValue,
+                numTurnsAway,
+                numUnitsToLoad,
+                factoryProduction);
             proTerritory.setLoadValue(value);
             priorizitedLoadTerritories.add(proTerritory);
           }
@@ -1498,11 +1502,12 @@ class ProNonCombatMoveAi {
             final ProTerritory patd2 = moveMap.get(moveToTerritory);
             if (patd2 != null && patd2.isCanHold()) {
               ProLogger.trace(
-                  transport
-                      + " moved towards best loading territory "
-                      + patd.getTerritory()
-                      + " and moved to "
-                      + moveToTerritory);
+                  () ->
+                      transport
+                          + " moved towards best loading territory "
+                          + patd.getTerritory()
+                          + " and moved to "
+                          + moveToTerritory);
               patd2.addTempUnit(transport);
               territoriesToDefend.add(moveToTerritory);
               it.remove();
@@ -1546,15 +1551,16 @@ class ProNonCombatMoveAi {
 
           // TODO: add logic to move towards closest factory
           ProLogger.trace(
-              transport
-                  + " at "
-                  + t
-                  + ", strengthDifference="
-                  + strengthDifference
-                  + ", attackers="
-                  + attackers
-                  + ", defenders="
-                  + defenders);
+              () ->
+                  transport
+                      + " at "
+                      + t
+                      + ", strengthDifference="
+                      + strengthDifference
+                      + ", attackers="
+                      + attackers
+                      + ", defenders="
+                      + defenders);
           if (strengthDifference < minStrengthDifference) {
             minStrengthDifference = strengthDifference;
             minTerritory = t;
@@ -1581,21 +1587,19 @@ class ProNonCombatMoveAi {
                     .orElse(CollectionUtils.getAny(possibleUnloadTerritories));
             proDestination = proData.getProTerritory(moveMap, unloadToTerritory);
             ProLogger.trace(
-                String.format(
-                    "%s moved to safest territory at %s and unloading to %s with %s, "
-                        + "strengthDifference=%s",
-                    transport,
-                    minTerritory,
-                    unloadToTerritory,
-                    amphibUnits,
-                    minStrengthDifference));
+                "%s moved to safest territory at %s and unloading to %s with %s, "
+                    + "strengthDifference=%s",
+                transport,
+                minTerritory,
+                unloadToTerritory,
+                amphibUnits,
+                minStrengthDifference);
           } else {
             // Move transport with units since no unload options
             proDestination = proData.getProTerritory(moveMap, minTerritory);
             ProLogger.trace(
-                String.format(
-                    "%s moved to safest territory at %s with %s, strengthDifference=%s",
-                    transport, minTerritory, amphibUnits, minStrengthDifference));
+                "%s moved to safest territory at %s with %s, strengthDifference=%s",
+                transport, minTerritory, amphibUnits, minStrengthDifference);
           }
           proDestination.addTempUnits(amphibUnits);
           proDestination.putTempAmphibAttackMap(transport, amphibUnits);
@@ -1606,11 +1610,8 @@ class ProNonCombatMoveAi {
         } else {
           // If not transporting units
           ProLogger.trace(
-              transport
-                  + " moved to safest territory at "
-                  + minTerritory
-                  + ", strengthDifference="
-                  + minStrengthDifference);
+              "%s moved to safest territory at %s, strengthDifference=%s",
+              transport, minTerritory, minStrengthDifference);
           moveMap.get(minTerritory).addTempUnit(transport);
         }
         it.remove();
@@ -1642,7 +1643,7 @@ class ProNonCombatMoveAi {
               && proTerritory.getAllDefenders().stream()
                   .anyMatch(ProMatches.unitIsOwnedTransport(player))
               && ProTransportUtils.checkTransportDefense(proData, calc, proTerritory)) {
-            ProLogger.trace(u + " added sea to defend transport at " + t);
+            ProLogger.trace(() -> u + " added sea to defend transport at " + t);
             proTerritory.addTempUnit(u);
             proTerritory.setBattleResult(null);
             territoriesToDefend.add(t);
@@ -1668,7 +1669,7 @@ class ProNonCombatMoveAi {
               && ProTransportUtils.validateCarrierCapacity(
                   player, t, proTerritory.getAllDefendersForCarrierCalcs(data, player), u)
               && ProTransportUtils.checkTransportDefense(proData, calc, proTerritory)) {
-            ProLogger.trace(u + " added air to defend transport at " + t);
+            ProLogger.trace(() -> u + " added air to defend transport at " + t);
             proTerritory.addTempUnit(u);
             proTerritory.setBattleResult(null);
             territoriesToDefend.add(t);
@@ -1696,9 +1697,10 @@ class ProNonCombatMoveAi {
                 (1 + transports) * proTerritory.getSeaValue()
                     + (1 + transports * 100.0) * proTerritory.getValue() / 10000;
             ProLogger.trace(
-                String.format(
-                    "%s, value=%s, seaValue=%s, tValue=%s, transports=%s",
-                    t, value, proTerritory.getSeaValue(), proTerritory.getValue(), transports));
+                () ->
+                    String.format(
+                        "%s, value=%s, seaValue=%s, tValue=%s, transports=%s",
+                        t, value, proTerritory.getSeaValue(), proTerritory.getValue(), transports));
             if (value > maxValue) {
               maxValue = value;
               maxValueTerritory = t;
@@ -1708,7 +1710,7 @@ class ProNonCombatMoveAi {
         if (maxValueTerritory != null) {
           ProTerritory to = moveMap.get(maxValueTerritory);
           ProLogger.trace(
-              u + " added to best territory " + maxValueTerritory + ", value=" + maxValue);
+              "%s added to best territory %s, value=%s", u, maxValueTerritory, maxValue);
           to.addTempUnit(u);
           to.setBattleResult(null);
           territoriesToDefend.add(maxValueTerritory);
@@ -1740,9 +1742,8 @@ class ProNonCombatMoveAi {
           if (minTerritory != null) {
             ProTerritory to = moveMap.get(minTerritory);
             ProLogger.trace(
-                String.format(
-                    "%s moved to safest territory at %s, strengthDifference=%s",
-                    u, minTerritory, minStrengthDifference));
+                "%s moved to safest territory at %s, strengthDifference=%s",
+                u, minTerritory, minStrengthDifference);
             to.addTempUnit(u);
             to.setBattleResult(null);
             moveAlliedCarriedFighters(u, to);
@@ -1750,7 +1751,10 @@ class ProNonCombatMoveAi {
           } else {
             final Territory currentTerritory = unitTerritoryMap.get(u);
             ProLogger.trace(
-                u + " added to current territory since no better options at " + currentTerritory);
+                () ->
+                    u
+                        + " added to current territory since no better options at "
+                        + currentTerritory);
             moveMap.get(currentTerritory).addTempUnit(u);
             moveMap.get(currentTerritory).setBattleResult(null);
             it.remove();
@@ -1759,7 +1763,7 @@ class ProNonCombatMoveAi {
       }
 
       // Determine if all defenses are successful
-      ProLogger.debug("Checking if all sea moves are safe for " + territoriesToDefend);
+      ProLogger.debug(() -> "Checking if all sea moves are safe for " + territoriesToDefend);
       boolean areSuccessful = true;
       for (final Territory t : territoriesToDefend) {
         final ProTerritory proTerritory = moveMap.get(t);
@@ -1788,19 +1792,21 @@ class ProNonCombatMoveAi {
           proTerritory.setValue(0);
           proTerritory.setSeaValue(0);
           ProLogger.trace(
-              String.format(
-                  "%s unable to defend so removing with holdValue=%s, minTUVSwing=%s, defenders=%s,"
-                      + " enemyAttackers=%s",
-                  t,
-                  holdValue,
-                  minResult.getTuvSwing(),
-                  summarizeUnits(defendingUnits),
-                  summarizeUnits(proTerritory.getMaxEnemyUnits())));
+              () ->
+                  String.format(
+                      "%s unable to defend so removing with holdValue=%s, minTUVSwing=%s, "
+                          + "defenders=%s, enemyAttackers=%s",
+                      t,
+                      holdValue,
+                      minResult.getTuvSwing(),
+                      summarizeUnits(defendingUnits),
+                      summarizeUnits(proTerritory.getMaxEnemyUnits())));
         }
         ProLogger.trace(
-            String.format(
-                "%s, holdValue=%s, minTUVSwing=%s",
-                proTerritory.getResultString(), holdValue, minResult.getTuvSwing()));
+            () ->
+                String.format(
+                    "%s, holdValue=%s, minTUVSwing=%s",
+                    proTerritory.getResultString(), holdValue, minResult.getTuvSwing()));
       }
 
       // Determine whether to try more territories, remove a territory, or end
@@ -1898,9 +1904,8 @@ class ProNonCombatMoveAi {
       }
       if (maxValueTerritory != null) {
         ProLogger.trace(
-            String.format(
-                "%s moved to %s with value=%s, needAmphibUnitValue=%s",
-                u, maxValueTerritory, maxValue, maxNeedAmphibUnitValue));
+            "%s moved to %s with value=%s, needAmphibUnitValue=%s",
+            u, maxValueTerritory, maxValue, maxNeedAmphibUnitValue);
         final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
         moveMap.get(maxValueTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
@@ -1938,9 +1943,8 @@ class ProNonCombatMoveAi {
       }
       if (minTerritory != null) {
         ProLogger.trace(
-            u.getType().getName()
-                + " moved towards closest factory adjacent to sea at "
-                + minTerritory.getName());
+            "%s moved towards closest factory adjacent to sea at %s",
+            u.getType().getName(), minTerritory.getName());
         final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
         moveMap.get(minTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
@@ -1981,11 +1985,8 @@ class ProNonCombatMoveAi {
       }
       if (minTerritory != null) {
         ProLogger.debug(
-            u.getType().getName()
-                + " moved to safest territory at "
-                + minTerritory.getName()
-                + " with strengthDifference="
-                + minStrengthDifference);
+            "%s moved to safest territory at %s with strengthDifference=%s",
+            u.getType().getName(), minTerritory.getName(), minStrengthDifference);
         final List<Unit> unitsToAdd = ProTransportUtils.getUnitsToAdd(proData, u, moveMap);
         moveMap.get(minTerritory).addUnits(unitsToAdd);
         addedUnits.addAll(unitsToAdd);
@@ -2018,7 +2019,7 @@ class ProNonCombatMoveAi {
         if (t.isWater()
             && !ProTransportUtils.validateCarrierCapacity(
                 player, t, proTerritory.getAllDefendersForCarrierCalcs(data, player), u)) {
-          ProLogger.trace(t + " already at MAX carrier capacity");
+          ProLogger.trace(() -> t + " already at MAX carrier capacity");
           continue;
         }
 
@@ -2029,13 +2030,14 @@ class ProNonCombatMoveAi {
             () -> calc.calculateBattleResults(proData, proTerritory, defendingUnits));
         final ProBattleResult result = proTerritory.getBattleResult();
         ProLogger.trace(
-            String.format(
-                "%s, TUVSwing=%s, win%%=%s, defendingUnits=%s, enemyAttackers=%s",
-                t,
-                result.getTuvSwing(),
-                result.getWinPercentage(),
-                defendingUnits,
-                proTerritory.getMaxEnemyUnits()));
+            () ->
+                String.format(
+                    "%s, TUVSwing=%s, win%%=%s, defendingUnits=%s, enemyAttackers=%s",
+                    t,
+                    result.getTuvSwing(),
+                    result.getWinPercentage(),
+                    defendingUnits,
+                    proTerritory.getMaxEnemyUnits()));
         if (result.getWinPercentage() >= proData.getMinWinPercentage()
             || result.getTuvSwing() > 0) {
           proTerritory.setCanHold(false);
@@ -2101,22 +2103,18 @@ class ProNonCombatMoveAi {
           maxTerritory = t;
         }
         ProLogger.trace(
-            String.format(
-                "Safe territory: %s, airValue=%s, numLandAttackOptions=%s, "
-                    + "numSeaAttackTerritories=%s, numEnemyAttackTerritories=%s",
-                t,
-                airValue,
-                numLandAttackTerritories,
-                numSeaAttackTerritories,
-                numEnemyAttackTerritories));
+            "Safe territory: %s, airValue=%s, numLandAttackOptions=%s, "
+                + "numSeaAttackTerritories=%s, numEnemyAttackTerritories=%s",
+            t,
+            airValue,
+            numLandAttackTerritories,
+            numSeaAttackTerritories,
+            numEnemyAttackTerritories);
       }
       if (maxTerritory != null) {
         ProLogger.debug(
-            u.getType().getName()
-                + " added to safe territory with most attack options "
-                + maxTerritory
-                + ", maxAirValue="
-                + maxAirValue);
+            "%s added to safe territory with most attack options %s, maxAirValue=%s",
+            u.getType().getName(), maxTerritory, maxAirValue);
         moveMap.get(maxTerritory).addUnit(u);
         moveMap.get(maxTerritory).setBattleResult(null);
         it.remove();
@@ -2136,7 +2134,7 @@ class ProNonCombatMoveAi {
         if (t.isWater()
             && !ProTransportUtils.validateCarrierCapacity(
                 player, t, proTerritory.getAllDefendersForCarrierCalcs(data, player), u)) {
-          ProLogger.trace(t + " already at MAX carrier capacity");
+          ProLogger.trace(() -> t + " already at MAX carrier capacity");
           continue;
         }
         final List<Unit> attackers = proTerritory.getMaxEnemyUnits();
@@ -2145,7 +2143,7 @@ class ProNonCombatMoveAi {
         final double strengthDifference =
             ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
         ProLogger.trace(
-            "Unsafe territory: " + t + " with strengthDifference=" + strengthDifference);
+            () -> "Unsafe territory: " + t + " with strengthDifference=" + strengthDifference);
         if (strengthDifference < minStrengthDifference) {
           minStrengthDifference = strengthDifference;
           minTerritory = t;
@@ -2153,9 +2151,8 @@ class ProNonCombatMoveAi {
       }
       if (minTerritory != null) {
         ProLogger.debug(
-            String.format(
-                "%s added to safest territory at %s with strengthDifference=%s",
-                u.getType().getName(), minTerritory, minStrengthDifference));
+            "%s added to safest territory at %s with strengthDifference=%s",
+            u.getType().getName(), minTerritory, minStrengthDifference);
         moveMap.get(minTerritory).addUnit(u);
         it.remove();
       }
@@ -2235,7 +2232,7 @@ class ProNonCombatMoveAi {
           if (hasAa) {
             value *= 0.01;
           }
-          ProLogger.trace(t.getName() + " has value=" + value);
+          ProLogger.trace("%s has value=%s", t.getName(), value);
           if (value > maxValue) {
             maxValue = value;
             maxValueTerritory = t;
@@ -2243,11 +2240,8 @@ class ProNonCombatMoveAi {
         }
         if (maxValueTerritory != null) {
           ProLogger.debug(
-              u.getType().getName()
-                  + " moved to "
-                  + maxValueTerritory.getName()
-                  + " with value="
-                  + maxValue);
+              "%s moved to %s with value=%s",
+              u.getType().getName(), maxValueTerritory.getName(), maxValue);
           moveMap.get(maxValueTerritory).addUnit(u);
           it.remove();
         }
@@ -2287,9 +2281,8 @@ class ProNonCombatMoveAi {
           value = proTerritory.getValue() * production + 0.01 * production;
         }
         ProLogger.trace(
-            String.format(
-                "%s has value=%s, strategicValue=%s, production=%s",
-                t.getName(), value, proTerritory.getValue(), production));
+            "%s has value=%s, strategicValue=%s, production=%s",
+            t.getName(), value, proTerritory.getValue(), production);
         if (value > maxValue) {
           maxValue = value;
           maxValueTerritory = t;
@@ -2297,9 +2290,8 @@ class ProNonCombatMoveAi {
       }
       if (maxValueTerritory != null) {
         ProLogger.debug(
-            String.format(
-                "%s moved to %s with value=%s",
-                u.getType().getName(), maxValueTerritory.getName(), maxValue));
+            "%s moved to %s with value=%s",
+            u.getType().getName(), maxValueTerritory.getName(), maxValue);
         moveMap.get(maxValueTerritory).addUnit(u);
         proData.getProTerritory(factoryMoveMap, maxValueTerritory).addUnit(u);
         it.remove();
@@ -2371,9 +2363,10 @@ class ProNonCombatMoveAi {
       if (to != null) {
         if (!to.equals(from)) {
           ProLogger.debug(
-              String.format(
-                  "Consumable %s moved from %s to %s",
-                  u.getType().getName(), from.getName(), to.getName()));
+              () ->
+                  String.format(
+                      "Consumable %s moved from %s to %s",
+                      u.getType().getName(), from.getName(), to.getName()));
         }
         moveMap.get(to).addUnit(u);
         it.remove();
@@ -2451,10 +2444,11 @@ class ProNonCombatMoveAi {
     ProLogger.debug("Prioritized territories:");
     for (final ProTerritory attackTerritoryData : prioritizedTerritories) {
       ProLogger.trace(
-          "  "
-              + attackTerritoryData.getValue()
-              + "  "
-              + attackTerritoryData.getTerritory().getName());
+          () ->
+              "  "
+                  + attackTerritoryData.getValue()
+                  + "  "
+                  + attackTerritoryData.getTerritory().getName());
     }
 
     // Print enemy territories with enemy units vs my units
@@ -2463,7 +2457,7 @@ class ProNonCombatMoveAi {
     for (final Territory t : moveMap.keySet()) {
       final ProTerritory proTerritory = moveMap.get(t);
       count++;
-      ProLogger.trace(count + ". ---" + t.getName());
+      ProLogger.trace("%s. ---%s", count, t.getName());
       final Set<Unit> combinedUnits = new HashSet<>(proTerritory.getMaxUnits());
       combinedUnits.addAll(proTerritory.getMaxAmphibUnits());
       combinedUnits.addAll(proTerritory.getCantMoveUnits());
@@ -2477,7 +2471,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap.keySet()) {
-        ProLogger.trace("    " + printMap.get(key) + " " + key);
+        ProLogger.trace(() -> "    " + printMap.get(key) + " " + key);
       }
       ProLogger.trace("  --- My max amphib units ---");
       final Map<String, Integer> printMap5 = new HashMap<>();
@@ -2489,7 +2483,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap5.keySet()) {
-        ProLogger.trace("    " + printMap5.get(key) + " " + key);
+        ProLogger.trace(() -> "    " + printMap5.get(key) + " " + key);
       }
       final List<Unit> units3 = proTerritory.getUnits();
       ProLogger.trace("  --- My actual units ---");
@@ -2505,7 +2499,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap3.keySet()) {
-        ProLogger.trace("    " + printMap3.get(key) + " " + key);
+        ProLogger.trace(() -> "    " + printMap3.get(key) + " " + key);
       }
       ProLogger.trace("  --- Enemy units ---");
       final Map<String, Integer> printMap2 = new HashMap<>();
@@ -2518,7 +2512,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap2.keySet()) {
-        ProLogger.trace("    " + printMap2.get(key) + " " + key);
+        ProLogger.trace(() -> "    " + printMap2.get(key) + " " + key);
       }
       ProLogger.trace("  --- Enemy bombard units ---");
       final Map<String, Integer> printMap4 = new HashMap<>();
@@ -2531,7 +2525,7 @@ class ProNonCombatMoveAi {
         }
       }
       for (final String key : printMap4.keySet()) {
-        ProLogger.trace("    " + printMap4.get(key) + " " + key);
+        ProLogger.trace(() -> "    " + printMap4.get(key) + " " + key);
       }
     }
   }
@@ -38,19 +38,19 @@ class ProPoliticsAi {
     final double round = data.getSequence().getRound();
     final ProTerritoryManager territoryManager = new ProTerritoryManager(calc, proData);
     final PoliticsDelegate politicsDelegate = data.getPoliticsDelegate();
-    ProLogger.info("Politics for " + player.getName());
+    ProLogger.info(() -> "Politics for " + player.getName());
 
     // Find valid war actions
     final List<PoliticalActionAttachment> actionChoicesTowardsWar =
         AiPoliticalUtils.getPoliticalActionsTowardsWar(
             player, politicsDelegate.getTestedConditions(), data);
-    ProLogger.trace("War options: " + actionChoicesTowardsWar);
+    ProLogger.trace(() -> "War options: " + actionChoicesTowardsWar);
     final List<PoliticalActionAttachment> validWarActions =
         CollectionUtils.getMatches(
             actionChoicesTowardsWar,
             Matches.abstractUserActionAttachmentCanBeAttempted(
                 politicsDelegate.getTestedConditions()));
-    ProLogger.trace("Valid War options: " + validWarActions);
+    ProLogger.trace(() -> "Valid War options: " + validWarActions);
 
     // Divide war actions into enemy and neutral
     final Map<PoliticalActionAttachment, List<GamePlayer>> enemyMap = new HashMap<>();
@@ -82,8 +82,8 @@ class ProPoliticsAi {
         }
       }
     }
-    ProLogger.debug("Neutral options: " + neutralMap);
-    ProLogger.debug("Enemy options: " + enemyMap);
+    ProLogger.debug(() -> "Neutral options: " + neutralMap);
+    ProLogger.debug(() -> "Enemy options: " + enemyMap);
     final List<PoliticalActionAttachment> results = new ArrayList<>();
     if (!enemyMap.isEmpty()) {
 
@@ -92,11 +92,12 @@ class ProPoliticsAi {
       final List<ProTerritory> attackOptions =
           territoryManager.removePotentialTerritoriesThatCantBeConquered();
       ProLogger.trace(
-          player.getName()
-              + ", numAttackOptions="
-              + attackOptions.size()
-              + ", options="
-              + attackOptions);
+          () ->
+              player.getName()
+                  + ", numAttackOptions="
+                  + attackOptions.size()
+                  + ", options="
+                  + attackOptions);
 
       // Find attack options per war action
       final Map<PoliticalActionAttachment, Double> attackPercentageMap = new HashMap<>();
@@ -112,8 +113,7 @@ class ProPoliticsAi {
         }
         final double attackPercentage = count / (attackOptions.size() + 1.0);
         attackPercentageMap.put(action, attackPercentage);
-        ProLogger.trace(
-            enemyPlayers + ", count=" + count + ", attackPercentage=" + attackPercentage);
+        ProLogger.trace("%s, count=%s, attackPercentage=%s", enemyPlayers, count, attackPercentage);
       }
 
       // Decide whether to declare war on an enemy
@@ -124,10 +124,11 @@ class ProPoliticsAi {
         final double warChance =
             roundFactor + attackPercentageMap.get(action) * (1 + 10 * roundFactor);
         final double random = Math.random();
-        ProLogger.trace(enemyMap.get(action) + ", warChance=" + warChance + ", random=" + random);
+        ProLogger.trace(
+            () -> enemyMap.get(action) + ", warChance=" + warChance + ", random=" + random);
         if (random <= warChance) {
           results.add(action);
-          ProLogger.debug("---Declared war on " + enemyMap.get(action));
+          ProLogger.debug(() -> "---Declared war on " + enemyMap.get(action));
           break;
         }
       }
@@ -138,10 +139,10 @@ class ProPoliticsAi {
       Collections.shuffle(options);
       final double random = Math.random();
       final double warChance = .01;
-      ProLogger.debug("warChance=" + warChance + ", random=" + random);
+      ProLogger.debug(() -> "warChance=" + warChance + ", random=" + random);
       if (random <= warChance) {
         results.add(options.get(0));
-        ProLogger.debug("Declared war on " + enemyMap.get(options.get(0)));
+        ProLogger.debug(() -> "Declared war on " + enemyMap.get(options.get(0)));
       }
     }
 
@@ -185,7 +186,7 @@ class ProPoliticsAi {
     final GameData data = proData.getData();
     final PoliticsDelegate politicsDelegate = data.getPoliticsDelegate();
     for (final PoliticalActionAttachment action : actions) {
-      ProLogger.debug("Performing action: " + action);
+      ProLogger.debug(() -> "Performing action: " + action);
       politicsDelegate.attemptAction(action);
     }
   }
@@ -76,7 +76,7 @@ class ProPurchaseAi {
       final GameData data,
       final GamePlayer player) {
     int pusRemaining = initialPusRemaining;
-    ProLogger.info("Repairing factories with PUsRemaining=" + pusRemaining);
+    ProLogger.info("Repairing factories with PUsRemaining=%s", pusRemaining);
 
     // Current data at the start of combat move
     this.data = data;
@@ -109,7 +109,7 @@ class ProPurchaseAi {
           unitsThatCanProduceNeedingRepair.put(possibleFactoryNeedingRepair, fixTerr);
         }
       }
-      ProLogger.debug("Factories that need repaired: " + unitsThatCanProduceNeedingRepair);
+      ProLogger.debug(() -> "Factories that need repaired: " + unitsThatCanProduceNeedingRepair);
       for (final var repairRule : player.getRepairFrontier().getRules()) {
         for (final Unit fixUnit : unitsThatCanProduceNeedingRepair.keySet()) {
           if (fixUnit == null || !fixUnit.getType().equals(repairRule.getAnyResultKey())) {
@@ -128,7 +128,13 @@ class ProPurchaseAi {
             repair.put(fixUnit, repairMap);
             pusRemaining -= diff;
             ProLogger.debug(
-                "Repairing factory=" + fixUnit + ", damage=" + diff + ", repairRule=" + repairRule);
+                () ->
+                    "Repairing factory="
+                        + fixUnit
+                        + ", damage="
+                        + diff
+                        + ", repairRule="
+                        + repairRule);
             purchaseDelegate.purchaseRepair(repair);
           }
         }
@@ -152,9 +158,9 @@ class ProPurchaseAi {
     isBid = true;
     final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
-    ProLogger.info("Starting bid phase with resources: " + resourceTracker);
+    ProLogger.info(() -> "Starting bid phase with resources: " + resourceTracker);
     if (!player.getUnits().isEmpty()) {
-      ProLogger.info("Starting bid phase with unplaced units=" + player.getUnits());
+      ProLogger.info(() -> "Starting bid phase with unplaced units=" + player.getUnits());
     }
 
     // Find all purchase/place territories
@@ -194,7 +200,10 @@ class ProPurchaseAi {
         for (final ProPlaceTerritory ppt : t.getCanPlaceTerritories()) {
           ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
           ProLogger.debug(
-              ppt.getTerritory() + ", strategicValue=" + territoryValueMap.get(ppt.getTerritory()));
+              () ->
+                  ppt.getTerritory()
+                      + ", strategicValue="
+                      + territoryValueMap.get(ppt.getTerritory()));
         }
       }
 
@@ -266,9 +275,9 @@ class ProPurchaseAi {
     isBid = false;
     final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
-    ProLogger.info("Starting purchase phase with resources: " + resourceTracker);
+    ProLogger.info(() -> "Starting purchase phase with resources: " + resourceTracker);
     if (!player.getUnits().isEmpty()) {
-      ProLogger.info("Starting purchase phase with unplaced units=" + player.getUnits());
+      ProLogger.info(() -> "Starting purchase phase with unplaced units=" + player.getUnits());
     }
 
     // Find all purchase/place territories
@@ -314,7 +323,10 @@ class ProPurchaseAi {
       for (final ProPlaceTerritory ppt : purchaseTerritories.get(t).getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
         ProLogger.debug(
-            ppt.getTerritory() + ", strategicValue=" + territoryValueMap.get(ppt.getTerritory()));
+            () ->
+                ppt.getTerritory()
+                    + ", strategicValue="
+                    + territoryValueMap.get(ppt.getTerritory()));
       }
     }
 
@@ -474,7 +486,7 @@ class ProPurchaseAi {
                 data.getMap().getTerritory(ppt.getTerritory().getName()),
                 unitsToPlace,
                 placeDelegate);
-            ProLogger.debug(ppt.getTerritory() + " placed units: " + unitsToPlace);
+            ProLogger.debug(() -> ppt.getTerritory() + " placed units: " + unitsToPlace);
           }
         }
       }
@@ -495,7 +507,7 @@ class ProPurchaseAi {
                 data.getMap().getTerritory(ppt.getTerritory().getName()),
                 unitsToPlace,
                 placeDelegate);
-            ProLogger.debug(ppt.getTerritory() + " placed units: " + unitsToPlace);
+            ProLogger.debug(() -> ppt.getTerritory() + " placed units: " + unitsToPlace);
           }
         }
       }
@@ -507,7 +519,7 @@ class ProPurchaseAi {
     }
 
     // Current data at the start of place
-    ProLogger.debug("Remaining units to place: " + player.getUnits());
+    ProLogger.debug(() -> "Remaining units to place: " + player.getUnits());
 
     // Find all place territories
     final Map<Territory, ProPurchaseTerritory> placeNonConstructionTerritories =
@@ -550,7 +562,10 @@ class ProPurchaseAi {
       for (final ProPlaceTerritory ppt : t.getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
         ProLogger.debug(
-            ppt.getTerritory() + ", strategicValue=" + territoryValueMap.get(ppt.getTerritory()));
+            () ->
+                ppt.getTerritory()
+                    + ", strategicValue="
+                    + territoryValueMap.get(ppt.getTerritory()));
       }
     }
 
@@ -581,7 +596,7 @@ class ProPurchaseAi {
         final Territory t = placeTerritory.getTerritory();
         final List<Unit> units = t.getMatches(Matches.isUnitAllied(player));
         placeTerritory.setDefendingUnits(units);
-        ProLogger.debug(t + " has numDefenders=" + units.size());
+        ProLogger.debug(() -> t + " has numDefenders=" + units.size());
       }
     }
   }
@@ -589,7 +604,7 @@ class ProPurchaseAi {
   private List<ProPlaceTerritory> prioritizeTerritoriesToDefend(
       final Map<Territory, ProPurchaseTerritory> purchaseTerritories, final boolean isLand) {
 
-    ProLogger.info("Prioritize territories to defend with isLand=" + isLand);
+    ProLogger.info(() -> "Prioritize territories to defend with isLand=" + isLand);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -628,20 +643,22 @@ class ProPurchaseAi {
                   proData.getUnitValueMap());
           holdValue = unitValue / 8;
         }
+        final double finalHoldValue = holdValue;
         ProLogger.trace(
-            t.getName()
-                + " TUVSwing="
-                + result.getTuvSwing()
-                + ", win%="
-                + result.getWinPercentage()
-                + ", hasLandUnitRemaining="
-                + result.isHasLandUnitRemaining()
-                + ", holdValue="
-                + holdValue
-                + ", enemyAttackers="
-                + summarizeUnits(enemyAttackingUnits)
-                + ", defenders="
-                + summarizeUnits(placeTerritory.getDefendingUnits()));
+            () ->
+                t.getName()
+                    + " TUVSwing="
+                    + result.getTuvSwing()
+                    + ", win%="
+                    + result.getWinPercentage()
+                    + ", hasLandUnitRemaining="
+                    + result.isHasLandUnitRemaining()
+                    + ", holdValue="
+                    + finalHoldValue
+                    + ", enemyAttackers="
+                    + summarizeUnits(enemyAttackingUnits)
+                    + ", defenders="
+                    + summarizeUnits(placeTerritory.getDefendingUnits()));
 
         // If it can't currently be held then add to list
         final boolean isLandAndCanOnlyBeAttackedByAir =
@@ -706,7 +723,7 @@ class ProPurchaseAi {
         Comparator.comparingDouble(ProPlaceTerritory::getDefenseValue).reversed());
     for (final ProPlaceTerritory placeTerritory : sortedTerritories) {
       ProLogger.debug(
-          placeTerritory.toString() + " defenseValue=" + placeTerritory.getDefenseValue());
+          () -> placeTerritory.toString() + " defenseValue=" + placeTerritory.getDefenseValue());
     }
     return sortedTerritories;
   }
@@ -721,7 +738,8 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return;
     }
-    ProLogger.info("Purchase defenders with resources: " + resourceTracker + ", isLand=" + isLand);
+    ProLogger.info(
+        () -> "Purchase defenders with resources: " + resourceTracker + ", isLand=" + isLand);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -729,14 +747,15 @@ class ProPurchaseAi {
     for (final ProPlaceTerritory placeTerritory : needToDefendTerritories) {
       final Territory t = placeTerritory.getTerritory();
       ProLogger.debug(
-          "Purchasing defenders for "
-              + t.getName()
-              + ", enemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
-              + ", amphibEnemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
-              + ", defenders="
-              + summarizeUnits(placeTerritory.getDefendingUnits()));
+          () ->
+              "Purchasing defenders for "
+                  + t.getName()
+                  + ", enemyAttackers="
+                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
+                  + ", amphibEnemyAttackers="
+                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
+                  + ", defenders="
+                  + summarizeUnits(placeTerritory.getDefendingUnits()));
 
       // Find local owned units
       final List<Unit> ownedLocalUnits = t.getMatches(Matches.unitIsOwnedBy(player));
@@ -745,11 +764,8 @@ class ProPurchaseAi {
       int unusedLocalCarrierCapacity =
           ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
       ProLogger.trace(
-          t
-              + ", unusedCarrierCapacity="
-              + unusedCarrierCapacity
-              + ", unusedLocalCarrierCapacity="
-              + unusedLocalCarrierCapacity);
+          "%s, unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
+          t, unusedCarrierCapacity, unusedLocalCarrierCapacity);
 
       // Determine if need destroyer
       boolean needDestroyer =
@@ -768,11 +784,8 @@ class ProPurchaseAi {
         int remainingConstructions =
             ProPurchaseUtils.getMaxConstructions(zeroMoveDefensePurchaseOptions);
         ProLogger.debug(
-            purchaseTerritory.getTerritory()
-                + ", remainingUnitProduction="
-                + remainingUnitProduction
-                + ", remainingConstructions="
-                + remainingConstructions);
+            "%s, remainingUnitProduction=%s, remainingConstructions=%s",
+            purchaseTerritory.getTerritory(), remainingUnitProduction, remainingConstructions);
         if (remainingUnitProduction <= 0 && remainingConstructions <= 0) {
           continue;
         }
@@ -847,12 +860,10 @@ class ProPurchaseAi {
                 ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
           }
           ProLogger.trace(
-              "Selected unit="
-                  + selectedOption.getUnitType().getName()
-                  + ", unusedCarrierCapacity="
-                  + unusedCarrierCapacity
-                  + ", unusedLocalCarrierCapacity="
-                  + unusedLocalCarrierCapacity);
+              "Selected unit=%s, unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
+              selectedOption.getUnitType().getName(),
+              unusedCarrierCapacity,
+              unusedLocalCarrierCapacity);
 
           // Find current battle result
           final Set<Unit> enemyAttackingUnits =
@@ -891,27 +902,22 @@ class ProPurchaseAi {
           || (!t.isWater() && hasLocalSuperiority)) {
         resourceTracker.confirmTempPurchases();
         ProLogger.trace(
-            t
-                + ", placedUnits="
-                + unitsToPlace
-                + ", TUVSwing="
-                + finalResult.getTuvSwing()
-                + ", hasLandUnitRemaining="
-                + finalResult.isHasLandUnitRemaining()
-                + ", hasLocalSuperiority="
-                + hasLocalSuperiority);
+            "%s, placedUnits=%s, TUVSwing=%s, hasLandUnitRemaining=%s, hasLocalSuperiority=%s",
+            t,
+            unitsToPlace,
+            finalResult.getTuvSwing(),
+            finalResult.isHasLandUnitRemaining(),
+            hasLocalSuperiority);
         addUnitsToPlaceTerritory(placeTerritory, unitsToPlace, purchaseTerritories);
       } else {
         resourceTracker.clearTempPurchases();
         setCantHoldPlaceTerritory(placeTerritory, purchaseTerritories);
         ProLogger.trace(
-            t
-                + ", unable to defend with placedUnits="
-                + unitsToPlace
-                + ", TUVSwing="
-                + finalResult.getTuvSwing()
-                + ", minTUVSwing="
-                + placeTerritory.getMinBattleResult().getTuvSwing());
+            "%s, unable to defend with placedUnits=%s, TUVSwing=%s, minTUVSwing=%s",
+            t,
+            unitsToPlace,
+            finalResult.getTuvSwing(),
+            placeTerritory.getMinBattleResult().getTuvSwing());
       }
     }
   }
@@ -951,7 +957,8 @@ class ProPurchaseAi {
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue).reversed());
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       ProLogger.debug(
-          placeTerritory.toString() + " strategicValue=" + placeTerritory.getStrategicValue());
+          () ->
+              placeTerritory.toString() + " strategicValue=" + placeTerritory.getStrategicValue());
     }
     return prioritizedLandTerritories;
   }
@@ -964,14 +971,14 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return;
     }
-    ProLogger.info("Purchase AA units with resources: " + resourceTracker);
+    ProLogger.info(() -> "Purchase AA units with resources: " + resourceTracker);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
     // Loop through prioritized territories and purchase AA units
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking AA place for " + t);
+      ProLogger.debug(() -> "Checking AA place for " + t);
 
       // Check if any enemy attackers
       if (enemyAttackOptions.getMax(t) == null) {
@@ -980,7 +987,7 @@ class ProPurchaseAi {
 
       // Check remaining production
       final int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
-      ProLogger.debug(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.debug(() -> t + ", remainingUnitProduction=" + remainingUnitProduction);
       if (remainingUnitProduction <= 0) {
         continue;
       }
@@ -993,13 +1000,14 @@ class ProPurchaseAi {
           t.anyUnitsMatch(Matches.unitCanProduceUnitsAndCanBeDamaged());
       final boolean hasAaBombingDefense = t.anyUnitsMatch(Matches.unitIsAaForBombingThisUnitOnly());
       ProLogger.debug(
-          t
-              + ", enemyCanBomb="
-              + enemyCanBomb
-              + ", territoryCanBeBombed="
-              + territoryCanBeBombed
-              + ", hasAABombingDefense="
-              + hasAaBombingDefense);
+          () ->
+              t
+                  + ", enemyCanBomb="
+                  + enemyCanBomb
+                  + ", territoryCanBeBombed="
+                  + territoryCanBeBombed
+                  + ", hasAABombingDefense="
+                  + hasAaBombingDefense);
       if (!enemyCanBomb || !territoryCanBeBombed || hasAaBombingDefense) {
         continue;
       }
@@ -1041,7 +1049,7 @@ class ProPurchaseAi {
       if (bestAaOption == null) {
         continue;
       }
-      ProLogger.trace("Best AA unit: " + bestAaOption.getUnitType().getName());
+      ProLogger.trace("Best AA unit: %s", bestAaOption.getUnitType().getName());
 
       // Create new temp units
       resourceTracker.purchase(bestAaOption);
@@ -1058,9 +1066,9 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty() && unplacedUnits.isEmpty()) {
       return;
     }
-    ProLogger.info("Purchase land units with resources: " + resourceTracker);
+    ProLogger.info(() -> "Purchase land units with resources: " + resourceTracker);
     if (!unplacedUnits.isEmpty()) {
-      ProLogger.info("Purchase land units with unplaced units=" + unplacedUnits);
+      ProLogger.info(() -> "Purchase land units with unplaced units=" + unplacedUnits);
     }
 
     // Loop through prioritized territories and purchase land units
@@ -1079,11 +1087,11 @@ class ProPurchaseAi {
             proData, player, List.of(), List.of(), territoriesToCheck);
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking land place for " + t.getName());
+      ProLogger.debug(() -> "Checking land place for " + t.getName());
 
       // Check remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
-      ProLogger.debug(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.debug("%s, remainingUnitProduction=%s", t, remainingUnitProduction);
       if (remainingUnitProduction <= 0) {
         continue;
       }
@@ -1107,7 +1115,7 @@ class ProPurchaseAi {
         enemyDistance = 10;
       }
       final int fodderPercent = 80 - enemyDistance * 5;
-      ProLogger.debug(t + ", enemyDistance=" + enemyDistance + ", fodderPercent=" + fodderPercent);
+      ProLogger.debug("%s, enemyDistance=%s, fodderPercent=%s", t, enemyDistance, fodderPercent);
       final Set<Territory> neighbors =
           data.getMap().getNeighbors(t, 2, ProMatches.territoryCanMoveLandUnits(player, false));
       neighbors.add(t);
@@ -1126,7 +1134,7 @@ class ProPurchaseAi {
             proData, unitsToPlace, player, t, t, isBid)) {
           remainingUnitProduction--;
           it.remove();
-          ProLogger.trace("Selected unplaced unit=" + u);
+          ProLogger.trace(() -> "Selected unplaced unit=" + u);
         } else {
           unitsToPlace.remove(unitsToPlace.size() - 1);
         }
@@ -1213,7 +1221,7 @@ class ProPurchaseAi {
         unitsToPlace.addAll(selectedOption.createTempUnits());
         attackAndDefenseDifference += (selectedOption.getAttack() - selectedOption.getDefense());
         selectFodderUnit = ((double) addedFodderUnits / unitsToPlace.size() * 100) <= fodderPercent;
-        ProLogger.trace("Selected unit=" + selectedOption.getUnitType().getName());
+        ProLogger.trace(() -> "Selected unit=" + selectedOption.getUnitType().getName());
       }
 
       // Add units to place territory
@@ -1232,7 +1240,8 @@ class ProPurchaseAi {
       return;
     }
     ProLogger.info(
-        "Purchase factory with resources: " + resourceTracker + ", hasExtraPUs=" + hasExtraPUs);
+        () ->
+            "Purchase factory with resources: " + resourceTracker + ", hasExtraPUs=" + hasExtraPUs);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -1241,7 +1250,7 @@ class ProPurchaseAi {
       for (final Territory t : purchaseTerritories.keySet()) {
         if (placeTerritory.getTerritory().equals(t)
             && purchaseTerritories.get(t).getRemainingUnitProduction() > 0) {
-          ProLogger.debug("Not purchasing a factory since remaining land production in " + t);
+          ProLogger.debug(() -> "Not purchasing a factory since remaining land production in " + t);
           return;
         }
       }
@@ -1267,7 +1276,7 @@ class ProPurchaseAi {
       // Check if no enemy attackers and that it wasn't conquered this turn
       if (enemyAttackOptions.getMax(t) == null) {
         purchaseFactoryTerritories.add(t);
-        ProLogger.trace("Possible factory since no enemy attackers: " + t.getName());
+        ProLogger.trace(() -> "Possible factory since no enemy attackers: " + t.getName());
       } else {
 
         // Find current battle result
@@ -1287,33 +1296,35 @@ class ProPurchaseAi {
         if (result.isHasLandUnitRemaining() || result.getTuvSwing() > 0) {
           territoriesThatCantBeHeld.add(t);
           ProLogger.trace(
-              "Can't hold territory: "
-                  + t.getName()
-                  + ", hasLandUnitRemaining="
-                  + result.isHasLandUnitRemaining()
-                  + ", TUVSwing="
-                  + result.getTuvSwing()
-                  + ", enemyAttackers="
-                  + enemyAttackingUnits.size()
-                  + ", myDefenders="
-                  + defenders.size());
+              () ->
+                  "Can't hold territory: "
+                      + t.getName()
+                      + ", hasLandUnitRemaining="
+                      + result.isHasLandUnitRemaining()
+                      + ", TUVSwing="
+                      + result.getTuvSwing()
+                      + ", enemyAttackers="
+                      + enemyAttackingUnits.size()
+                      + ", myDefenders="
+                      + defenders.size());
         } else {
           purchaseFactoryTerritories.add(t);
           ProLogger.trace(
-              "Possible factory: "
-                  + t.getName()
-                  + ", hasLandUnitRemaining="
-                  + result.isHasLandUnitRemaining()
-                  + ", TUVSwing="
-                  + result.getTuvSwing()
-                  + ", enemyAttackers="
-                  + enemyAttackingUnits.size()
-                  + ", myDefenders="
-                  + defenders.size());
+              () ->
+                  "Possible factory: "
+                      + t.getName()
+                      + ", hasLandUnitRemaining="
+                      + result.isHasLandUnitRemaining()
+                      + ", TUVSwing="
+                      + result.getTuvSwing()
+                      + ", enemyAttackers="
+                      + enemyAttackingUnits.size()
+                      + ", myDefenders="
+                      + defenders.size());
         }
       }
     }
-    ProLogger.debug("Possible factory territories: " + purchaseFactoryTerritories);
+    ProLogger.debug(() -> "Possible factory territories: " + purchaseFactoryTerritories);
 
     // Remove any territories that don't have local land superiority
     if (!hasExtraPUs) {
@@ -1322,7 +1333,9 @@ class ProPurchaseAi {
               !ProBattleUtils.territoryHasLocalLandSuperiority(
                   proData, t, ProBattleUtils.MEDIUM_RANGE, player, purchaseTerritories));
       ProLogger.debug(
-          "Possible factory territories that have land superiority: " + purchaseFactoryTerritories);
+          () ->
+              "Possible factory territories that have land superiority: "
+                  + purchaseFactoryTerritories);
     }
 
     // Find strategic value for each territory
@@ -1341,13 +1354,14 @@ class ProPurchaseAi {
       final int numNearbyEnemyTerritories =
           CollectionUtils.countMatches(nearbyLandTerritories, Matches.isTerritoryEnemy(player));
       ProLogger.trace(
-          t
-              + ", strategic value="
-              + territoryValueMap.get(t)
-              + ", value="
-              + value
-              + ", numNearbyEnemyTerritories="
-              + numNearbyEnemyTerritories);
+          () ->
+              t
+                  + ", strategic value="
+                  + territoryValueMap.get(t)
+                  + ", value="
+                  + value
+                  + ", numNearbyEnemyTerritories="
+                  + numNearbyEnemyTerritories);
       if (value > maxValue
           && ((numNearbyEnemyTerritories >= 4 && territoryValueMap.get(t) >= 1)
               || (isAdjacentToSea && hasExtraPUs))) {
@@ -1355,7 +1369,7 @@ class ProPurchaseAi {
         maxTerritory = t;
       }
     }
-    ProLogger.debug("Try to purchase factory for territory: " + maxTerritory);
+    ProLogger.debug("Try to purchase factory for territory: %s", maxTerritory);
 
     // Determine whether to purchase factory
     if (maxTerritory != null) {
@@ -1408,7 +1422,7 @@ class ProPurchaseAi {
 
       // Check if there are enough PUs to buy a factory
       if (bestFactoryOption != null) {
-        ProLogger.debug("Best factory unit: " + bestFactoryOption.getUnitType().getName());
+        ProLogger.debug("Best factory unit: %s", bestFactoryOption.getUnitType().getName());
         final ProPurchaseTerritory factoryPurchaseTerritory =
             new ProPurchaseTerritory(maxTerritory, data, player, 0);
         factoryPurchaseTerritories.put(maxTerritory, factoryPurchaseTerritory);
@@ -1418,7 +1432,7 @@ class ProPurchaseAi {
             addUnitsToPlace(ppt, factory);
             if (resourceTracker.hasEnough(bestFactoryOption)) {
               resourceTracker.purchase(bestFactoryOption);
-              ProLogger.debug(maxTerritory + ", placedFactory=" + factory);
+              ProLogger.debug("%s, placedFactory=%s", maxTerritory, factory);
             } else {
               resourceTracker.purchase(bestFactoryOption);
               resourceTracker.removePurchase(maxPlacedOption);
@@ -1426,7 +1440,7 @@ class ProPurchaseAi {
                 maxPlacedTerritory.getPlaceUnits().remove(maxPlacedUnit);
               }
               ProLogger.debug(
-                  maxTerritory + ", placedFactory=" + factory + ", removedUnit=" + maxPlacedUnit);
+                  "%s, placedFactory=%s, removedUnit=%s", maxTerritory, factory, maxPlacedUnit);
             }
           }
         }
@@ -1489,17 +1503,14 @@ class ProPurchaseAi {
               * (1 + numMyTransports + 0.1 * numSeaDefenders)
               / (1 + 3.0 * needDefenders);
       ProLogger.debug(
-          t
-              + ", value="
-              + territoryValue
-              + ", strategicValue="
-              + placeTerritory.getStrategicValue()
-              + ", numMyTransports="
-              + numMyTransports
-              + ", numSeaDefenders="
-              + numSeaDefenders
-              + ", needDefenders="
-              + needDefenders);
+          "%s, value=%s, strategicValue=%s, numMyTransports=%s, numSeaDefenders=%s, "
+              + "needDefenders=%s",
+          t,
+          territoryValue,
+          placeTerritory.getStrategicValue(),
+          numMyTransports,
+          numSeaDefenders,
+          needDefenders);
       placeTerritory.setStrategicValue(territoryValue);
     }
 
@@ -1509,7 +1520,8 @@ class ProPurchaseAi {
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue).reversed());
     ProLogger.debug("Sorted sea territories:");
     for (final ProPlaceTerritory placeTerritory : sortedTerritories) {
-      ProLogger.debug(placeTerritory.toString() + " value=" + placeTerritory.getStrategicValue());
+      ProLogger.debug(
+          () -> placeTerritory.toString() + " value=" + placeTerritory.getStrategicValue());
     }
     return sortedTerritories;
   }
@@ -1522,7 +1534,7 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return false;
     }
-    ProLogger.info("Purchase sea and amphib units with resources: " + resourceTracker);
+    ProLogger.info(() -> "Purchase sea and amphib units with resources: " + resourceTracker);
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
     boolean boughtUnits = false;
@@ -1532,7 +1544,7 @@ class ProPurchaseAi {
     // Loop through prioritized territories and purchase sea units
     for (final ProPlaceTerritory placeTerritory : prioritizedSeaTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking sea place for " + t.getName());
+      ProLogger.debug(() -> "Checking sea place for " + t.getName());
 
       // Find all purchase territories for place territory
       final List<ProPurchaseTerritory> selectedPurchaseTerritories =
@@ -1550,9 +1562,8 @@ class ProPurchaseAi {
       int unusedLocalCarrierCapacity =
           ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, List.of());
       ProLogger.trace(
-          String.format(
-              "%s, unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
-              t, unusedCarrierCapacity, unusedLocalCarrierCapacity));
+          "%s, unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
+          t, unusedCarrierCapacity, unusedLocalCarrierCapacity);
 
       // If any enemy attackers then purchase sea defenders until it can be held
       boolean needDestroyer = false;
@@ -1566,9 +1577,8 @@ class ProPurchaseAi {
           needDestroyer = true;
         }
         ProLogger.trace(
-            String.format(
-                "%s, needDestroyer=%s, checking defense since has enemy attackers: %s",
-                t, needDestroyer, attackers));
+            "%s, needDestroyer=%s, checking defense since has enemy attackers: %s",
+            t, needDestroyer, attackers);
         List<Unit> defendingUnits = new ArrayList<>(placeTerritory.getDefendingUnits());
         defendingUnits.addAll(ProPurchaseUtils.getPlaceUnits(t, purchaseTerritories));
         ProBattleResult result =
@@ -1583,9 +1593,8 @@ class ProPurchaseAi {
           // Check remaining production
           int remainingUnitProduction = purchaseTerritory.getRemainingUnitProduction();
           ProLogger.trace(
-              String.format(
-                  "%s, purchaseTerritory=%s, remainingUnitProduction=%s",
-                  t, purchaseTerritory.getTerritory(), remainingUnitProduction));
+              "%s, purchaseTerritory=%s, remainingUnitProduction=%s",
+              t, purchaseTerritory.getTerritory(), remainingUnitProduction);
           if (remainingUnitProduction <= 0) {
             continue;
           }
@@ -1660,17 +1669,14 @@ class ProPurchaseAi {
                   ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
             }
             ProLogger.trace(
-                t
-                    + ", added sea defender for defense: "
-                    + selectedOption.getUnitType().getName()
-                    + ", TUVSwing="
-                    + result.getTuvSwing()
-                    + ", win%="
-                    + result.getWinPercentage()
-                    + ", unusedCarrierCapacity="
-                    + unusedCarrierCapacity
-                    + ", unusedLocalCarrierCapacity="
-                    + unusedLocalCarrierCapacity);
+                "%s, added sea defender for defense: %s, TUVSwing=%s, win%%=%s, "
+                    + "unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
+                t,
+                selectedOption.getUnitType().getName(),
+                result.getTuvSwing(),
+                result.getWinPercentage(),
+                unusedCarrierCapacity,
+                unusedLocalCarrierCapacity);
 
             // Find current battle result
             defendingUnits = new ArrayList<>(placeTerritory.getDefendingUnits());
@@ -1691,24 +1697,26 @@ class ProPurchaseAi {
             || result.getWinPercentage() < (100.0 - proData.getWinPercentage())) {
           resourceTracker.confirmTempPurchases();
           ProLogger.trace(
-              String.format(
-                  "%s, placedUnits=%s, TUVSwing=%s, win%%=%s",
-                  t, unitsToPlace, result.getTuvSwing(), result.getWinPercentage()));
+              "%s, placedUnits=%s, TUVSwing=%s, win%%=%s",
+              t, unitsToPlace, result.getTuvSwing(), result.getWinPercentage());
           addUnitsToPlaceTerritory(placeTerritory, unitsToPlace, purchaseTerritories);
           boughtUnits = true;
         } else {
           resourceTracker.clearTempPurchases();
           setCantHoldPlaceTerritory(placeTerritory, purchaseTerritories);
+          final ProBattleResult finalResult = result;
+          final List<Unit> finalDefendingUnits = defendingUnits;
           ProLogger.trace(
-              String.format(
-                  "%s, can't defend TUVSwing=%s, win%%=%s, tried to placeDefenders=%s, "
-                      + "enemyAttackers=%s, defendingUnits=%s",
-                  t,
-                  result.getTuvSwing(),
-                  result.getWinPercentage(),
-                  summarizeUnits(unitsToPlace),
-                  summarizeUnits(attackers),
-                  summarizeUnits(defendingUnits)));
+              () ->
+                  String.format(
+                      "%s, can't defend TUVSwing=%s, win%%=%s, tried to placeDefenders=%s, "
+                          + "enemyAttackers=%s, defendingUnits=%s",
+                      t,
+                      finalResult.getTuvSwing(),
+                      finalResult.getWinPercentage(),
+                      summarizeUnits(unitsToPlace),
+                      summarizeUnits(attackers),
+                      summarizeUnits(finalDefendingUnits)));
           wantedToBuyUnitsButCouldNotDefendThem = true;
           continue;
         }
@@ -1727,11 +1735,11 @@ class ProPurchaseAi {
       final List<Territory> nearbyLandTerritories =
           CollectionUtils.getMatches(nearbyTerritories, Matches.territoryIsLand());
       final Set<Territory> nearbyEnemySeaTerritories =
-          data.getMap().getNeighbors(t, enemyDistance, Matches.territoryIsWater());
+          data.getMap().getWaterNeighbors(t, enemyDistance);
       nearbyEnemySeaTerritories.add(t);
       final int alliedDistance = (enemyDistance + 1) / 2;
       final Set<Territory> nearbyAlliedSeaTerritories =
-          data.getMap().getNeighbors(t, alliedDistance, Matches.territoryIsWater());
+          data.getMap().getWaterNeighbors(t, alliedDistance);
       nearbyAlliedSeaTerritories.add(t);
       final List<Unit> enemyUnitsInLandTerritories = new ArrayList<>();
       for (final Territory nearbyLandTerritory : nearbyLandTerritories) {
@@ -1778,20 +1786,22 @@ class ProPurchaseAi {
       if (numEnemySubs > 2 * numMyDestroyers) {
         needDestroyer = true;
       }
+      final boolean finalNeedDestroyer = needDestroyer;
       ProLogger.trace(
-          t
-              + ", enemyDistance="
-              + enemyDistance
-              + ", alliedDistance="
-              + alliedDistance
-              + ", enemyAirUnits="
-              + summarizeUnits(enemyUnitsInLandTerritories)
-              + ", enemySeaUnits="
-              + summarizeUnits(enemyUnitsInSeaTerritories)
-              + ", mySeaUnits="
-              + summarizeUnits(myUnitsInSeaTerritories)
-              + ", needDestroyer="
-              + needDestroyer);
+          () ->
+              t
+                  + ", enemyDistance="
+                  + enemyDistance
+                  + ", alliedDistance="
+                  + alliedDistance
+                  + ", enemyAirUnits="
+                  + summarizeUnits(enemyUnitsInLandTerritories)
+                  + ", enemySeaUnits="
+                  + summarizeUnits(enemyUnitsInSeaTerritories)
+                  + ", mySeaUnits="
+                  + summarizeUnits(myUnitsInSeaTerritories)
+                  + ", needDestroyer="
+                  + finalNeedDestroyer);
 
       // Purchase naval defenders until I have local naval superiority
       final List<Unit> unitsToPlace = new ArrayList<>();
@@ -1800,11 +1810,8 @@ class ProPurchaseAi {
         // Check remaining production
         int remainingUnitProduction = purchaseTerritory.getRemainingUnitProduction();
         ProLogger.trace(
-            t
-                + ", purchaseTerritory="
-                + purchaseTerritory.getTerritory()
-                + ", remainingUnitProduction="
-                + remainingUnitProduction);
+            "%s, purchaseTerritory=%s, remainingUnitProduction=%s",
+            t, purchaseTerritory.getTerritory(), remainingUnitProduction);
         if (remainingUnitProduction <= 0) {
           continue;
         }
@@ -1872,13 +1879,12 @@ class ProPurchaseAi {
                 ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
           }
           ProLogger.trace(
-              String.format(
-                  "%s, added sea defender for naval superiority: %s, "
-                      + "unusedCarrierCapacity=%s, unusedLocalCarrierCapacity=%s",
-                  t,
-                  selectedOption.getUnitType().getName(),
-                  unusedCarrierCapacity,
-                  unusedLocalCarrierCapacity));
+              "%s, added sea defender for naval superiority: %s, unusedCarrierCapacity=%s, "
+                  + "unusedLocalCarrierCapacity=%s",
+              t,
+              selectedOption.getUnitType().getName(),
+              unusedCarrierCapacity,
+              unusedLocalCarrierCapacity);
         }
       }
 
@@ -1906,16 +1912,15 @@ class ProPurchaseAi {
       final Map<Territory, Double> territoryValueMap =
           ProTerritoryValueUtils.findTerritoryValues(
               proData, player, List.of(), List.of(), territoriesToCheck);
-      ProLogger.trace(t + ", transportMovement=" + distance);
+      ProLogger.trace(() -> t + ", transportMovement=" + distance);
       for (final ProPurchaseTerritory purchaseTerritory : selectedPurchaseTerritories) {
         final Territory landTerritory = purchaseTerritory.getTerritory();
 
         // Check if territory can produce units and has remaining production
         int remainingUnitProduction = purchaseTerritory.getRemainingUnitProduction();
         ProLogger.trace(
-            String.format(
-                "%s, purchaseTerritory=%s, remainingUnitProduction=%s",
-                t, landTerritory, remainingUnitProduction));
+            "%s, purchaseTerritory=%s, remainingUnitProduction=%s",
+            t, landTerritory, remainingUnitProduction);
         if (remainingUnitProduction <= 0) {
           continue;
         }
@@ -1973,9 +1978,12 @@ class ProPurchaseAi {
           }
         }
         ProLogger.trace(
-            String.format(
-                "%s, potentialUnitsToLoad=%s,  transportsThatNeedUnits=%s",
-                t, summarizeUnits(potentialUnitsToLoad), summarizeUnits(transportsThatNeedUnits)));
+            () ->
+                String.format(
+                    "%s, potentialUnitsToLoad=%s,  transportsThatNeedUnits=%s",
+                    t,
+                    summarizeUnits(potentialUnitsToLoad),
+                    summarizeUnits(transportsThatNeedUnits)));
 
         // Purchase transports and amphib units
         final List<Unit> amphibUnitsToPlace = new ArrayList<>();
@@ -2029,7 +2037,7 @@ class ProPurchaseAi {
               resourceTracker.purchase(ppo);
               remainingUnitProduction -= ppo.getQuantity();
               transportCapacity -= ppo.getTransportCost();
-              ProLogger.trace("Selected unit=" + ppo.getUnitType().getName());
+              ProLogger.trace(() -> "Selected unit=" + ppo.getUnitType().getName());
             }
             transportsThatNeedUnits.remove(transport);
           } else {
@@ -2063,12 +2071,13 @@ class ProPurchaseAi {
             remainingUnitProduction -= ppo.getQuantity();
             transportsThatNeedUnits.addAll(transports);
             ProLogger.trace(
-                "Selected unit="
-                    + ppo.getUnitType().getName()
-                    + ", potentialUnitsToLoad="
-                    + potentialUnitsToLoad
-                    + ", transportsThatNeedUnits="
-                    + transportsThatNeedUnits);
+                () ->
+                    "Selected unit="
+                        + ppo.getUnitType().getName()
+                        + ", potentialUnitsToLoad="
+                        + potentialUnitsToLoad
+                        + ", transportsThatNeedUnits="
+                        + transportsThatNeedUnits);
           }
         }
 
@@ -2084,9 +2093,8 @@ class ProPurchaseAi {
           boughtUnits = true;
         }
         ProLogger.trace(
-            String.format(
-                "%s, purchaseTerritory=%s, transportUnitsToPlace=%s, amphibUnitsToPlace=%s",
-                t, landTerritory, transportUnitsToPlace, amphibUnitsToPlace));
+            "%s, purchaseTerritory=%s, transportUnitsToPlace=%s, amphibUnitsToPlace=%s",
+            t, landTerritory, transportUnitsToPlace, amphibUnitsToPlace);
       }
     }
 
@@ -2106,8 +2114,9 @@ class ProPurchaseAi {
       return;
     }
     ProLogger.info(
-        "Purchase units in territories with remaining production with resources: "
-            + resourceTracker);
+        () ->
+            "Purchase units in territories with remaining production with resources: "
+                + resourceTracker);
 
     // Get all safe/unsafe land place territories with remaining production
     final List<ProPlaceTerritory> prioritizedLandTerritories = new ArrayList<>();
@@ -2129,12 +2138,12 @@ class ProPurchaseAi {
     prioritizedLandTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue).reversed());
     ProLogger.debug(
-        "Sorted land territories with remaining production: " + prioritizedLandTerritories);
+        () -> "Sorted land territories with remaining production: " + prioritizedLandTerritories);
 
     // Loop through territories and purchase long range attack units
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking territory: " + t);
+      ProLogger.debug(() -> "Checking territory: " + t);
 
       // Determine units that can be produced in this territory
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
@@ -2191,13 +2200,14 @@ class ProPurchaseAi {
     prioritizedCantHoldLandTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getDefenseValue).reversed());
     ProLogger.debug(
-        "Sorted can't hold land territories with remaining production: "
-            + prioritizedCantHoldLandTerritories);
+        () ->
+            "Sorted can't hold land territories with remaining production: "
+                + prioritizedCantHoldLandTerritories);
 
     // Loop through territories and purchase defense units
     for (final ProPlaceTerritory placeTerritory : prioritizedCantHoldLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking territory: " + t);
+      ProLogger.debug(() -> "Checking territory: " + t);
 
       // Find local owned units
       final List<Unit> ownedLocalUnits = t.getMatches(Matches.unitIsOwnedBy(player));
@@ -2254,7 +2264,7 @@ class ProPurchaseAi {
     if (resourceTracker.isEmpty()) {
       return;
     }
-    ProLogger.info("Upgrade units with resources: " + resourceTracker);
+    ProLogger.info(() -> "Upgrade units with resources: " + resourceTracker);
 
     // Get all safe land place territories
     final List<ProPlaceTerritory> prioritizedLandTerritories = new ArrayList<>();
@@ -2270,12 +2280,12 @@ class ProPurchaseAi {
     // Sort territories by ascending value (try upgrading units in far away territories first)
     prioritizedLandTerritories.sort(
         Comparator.comparingDouble(ProPlaceTerritory::getStrategicValue));
-    ProLogger.debug("Sorted land territories: " + prioritizedLandTerritories);
+    ProLogger.debug(() -> "Sorted land territories: " + prioritizedLandTerritories);
 
     // Loop through territories and upgrade units to long range attack units
     for (final ProPlaceTerritory placeTerritory : prioritizedLandTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking territory: " + t);
+      ProLogger.debug(() -> "Checking territory: " + t);
 
       // Determine units that can be produced in this territory
       final List<ProPurchaseOption> airAndLandPurchaseOptions =
@@ -2378,7 +2388,7 @@ class ProPurchaseAi {
         resourceTracker.removePurchase(minPurchaseOption);
         remainingUpgradeUnits -= minPurchaseOption.getQuantity();
         placeTerritory.getPlaceUnits().removeAll(unitsToRemove);
-        ProLogger.trace(t + ", removedUnits=" + unitsToRemove);
+        ProLogger.trace(() -> t + ", removedUnits=" + unitsToRemove);
         for (int i = 0; i < unitsToRemove.size(); i++) {
           if (resourceTracker.hasEnough(bestUpgradeOption)) {
             resourceTracker.purchase(bestUpgradeOption);
@@ -2422,7 +2432,7 @@ class ProPurchaseAi {
       if (numUnits > 0) {
         final int numProductionRule = numUnits / ppo.getQuantity();
         purchaseMap.put(ppo.getProductionRule(), numProductionRule);
-        ProLogger.info(numProductionRule + " " + ppo.getProductionRule());
+        ProLogger.info(() -> numProductionRule + " " + ppo.getProductionRule());
       }
     }
     return purchaseMap;
@@ -2432,7 +2442,7 @@ class ProPurchaseAi {
       final Map<Territory, ProPurchaseTerritory> placeNonConstructionTerritories,
       final List<ProPlaceTerritory> needToDefendTerritories,
       final IAbstractPlaceDelegate placeDelegate) {
-    ProLogger.info("Place defenders with units=" + player.getUnits());
+    ProLogger.info(() -> "Place defenders with units=" + player.getUnits());
 
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
@@ -2440,20 +2450,22 @@ class ProPurchaseAi {
     for (final ProPlaceTerritory placeTerritory : needToDefendTerritories) {
       final Territory t = placeTerritory.getTerritory();
       ProLogger.debug(
-          "Placing defenders for "
-              + t.getName()
-              + ", enemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
-              + ", amphibEnemyAttackers="
-              + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
-              + ", defenders="
-              + summarizeUnits(placeTerritory.getDefendingUnits()));
+          () ->
+              "Placing defenders for "
+                  + t.getName()
+                  + ", enemyAttackers="
+                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxUnits())
+                  + ", amphibEnemyAttackers="
+                  + summarizeUnits(enemyAttackOptions.getMax(t).getMaxAmphibUnits())
+                  + ", defenders="
+                  + summarizeUnits(placeTerritory.getDefendingUnits()));
 
       // Check if any units can be placed
       final PlaceableUnits placeableUnits =
           placeDelegate.getPlaceableUnits(player.getMatches(Matches.unitIsNotConstruction()), t);
       if (placeableUnits.isError()) {
-        ProLogger.trace(t + " can't place units with error: " + placeableUnits.getErrorMessage());
+        ProLogger.trace(
+            () -> t + " can't place units with error: " + placeableUnits.getErrorMessage());
         continue;
       }
 
@@ -2462,7 +2474,7 @@ class ProPurchaseAi {
       if (remainingUnitProduction == -1) {
         remainingUnitProduction = Integer.MAX_VALUE;
       }
-      ProLogger.trace(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.trace("%s, remainingUnitProduction=%s", t, remainingUnitProduction);
 
       // Place defenders and check battle results
       final List<Unit> unitsThatCanBePlaced = new ArrayList<>(placeableUnits.getUnits());
@@ -2503,18 +2515,16 @@ class ProPurchaseAi {
           || finalResult.getTuvSwing() < placeTerritory.getMinBattleResult().getTuvSwing()
           || t.equals(proData.getMyCapital())) {
         ProLogger.trace(
-            t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTuvSwing());
+            "%s, placedUnits=%s, TUVSwing=%s", t, unitsToPlace, finalResult.getTuvSwing());
         doPlace(t, unitsToPlace, placeDelegate);
       } else {
         setCantHoldPlaceTerritory(placeTerritory, placeNonConstructionTerritories);
         ProLogger.trace(
-            t
-                + ", unable to defend with placedUnits="
-                + unitsToPlace
-                + ", TUVSwing="
-                + finalResult.getTuvSwing()
-                + ", minTUVSwing="
-                + placeTerritory.getMinBattleResult().getTuvSwing());
+            "%s, unable to defend with placedUnits=%s, TUVSwing=%s, minTUVSwing=%s",
+            t,
+            unitsToPlace,
+            finalResult.getTuvSwing(),
+            placeTerritory.getMinBattleResult().getTuvSwing());
       }
     }
   }
@@ -2523,18 +2533,19 @@ class ProPurchaseAi {
       final List<ProPlaceTerritory> prioritizedTerritories,
       final IAbstractPlaceDelegate placeDelegate,
       final Predicate<Unit> unitMatch) {
-    ProLogger.info("Place units=" + player.getUnits());
+    ProLogger.info(() -> "Place units=" + player.getUnits());
 
     // Loop through prioritized territories and place units
     for (final ProPlaceTerritory placeTerritory : prioritizedTerritories) {
       final Territory t = placeTerritory.getTerritory();
-      ProLogger.debug("Checking place for " + t.getName());
+      ProLogger.debug(() -> "Checking place for " + t.getName());
 
       // Check if any units can be placed
       final PlaceableUnits placeableUnits =
           placeDelegate.getPlaceableUnits(player.getMatches(unitMatch), t);
       if (placeableUnits.isError()) {
-        ProLogger.trace(t + " can't place units with error: " + placeableUnits.getErrorMessage());
+        ProLogger.trace(
+            () -> t + " can't place units with error: " + placeableUnits.getErrorMessage());
         continue;
       }
 
@@ -2543,13 +2554,13 @@ class ProPurchaseAi {
       if (remainingUnitProduction == -1) {
         remainingUnitProduction = Integer.MAX_VALUE;
       }
-      ProLogger.trace(t + ", remainingUnitProduction=" + remainingUnitProduction);
+      ProLogger.trace("%s, remainingUnitProduction=%s", t, remainingUnitProduction);
 
       // Place as many units as possible
       final List<Unit> unitsThatCanBePlaced = new ArrayList<>(placeableUnits.getUnits());
       final int placeCount = Math.min(remainingUnitProduction, unitsThatCanBePlaced.size());
       final List<Unit> unitsToPlace = unitsThatCanBePlaced.subList(0, placeCount);
-      ProLogger.trace(t + ", placedUnits=" + unitsToPlace);
+      ProLogger.trace(() -> t + ", placedUnits=" + unitsToPlace);
       doPlace(t, unitsToPlace, placeDelegate);
     }
   }
@@ -2591,14 +2602,14 @@ class ProPurchaseAi {
       return;
     }
     ppt.getPlaceUnits().addAll(unitsToPlace);
-    ProLogger.trace(ppt.getTerritory() + ", placedUnits=" + unitsToPlace);
+    ProLogger.trace(() -> ppt.getTerritory() + ", placedUnits=" + unitsToPlace);
     // TODO: If consumed units can come from a different territory, this will need to change.
     Collection<Unit> candidateUnitsToConsume =
         CollectionUtils.difference(ppt.getTerritory().getUnits(), proData.getUnitsToBeConsumed());
     Collection<Unit> toConsume =
         ProPurchaseUtils.getUnitsToConsume(player, candidateUnitsToConsume, unitsToPlace);
     if (!toConsume.isEmpty()) {
-      ProLogger.trace(" toConsume=" + toConsume);
+      ProLogger.trace(() -> " toConsume=" + toConsume);
       proData.getUnitsToBeConsumed().addAll(toConsume);
     }
   }
@@ -116,27 +116,19 @@ class ProRetreatAi {
         }
       }
       ProLogger.debug(
-          player.getName()
-              + " retreating from territory "
-              + battleTerritory
-              + " to "
-              + retreatTerritory
-              + " because AttackValue="
-              + battleValue
-              + ", TUVSwing="
-              + result.getTuvSwing()
-              + ", possibleTerritories="
-              + possibleTerritories.size());
+          "%s retreating from territory %s to %s because AttackValue=%s, TUVSwing=%s, "
+              + "possibleTerritories=%s",
+          player.getName(),
+          battleTerritory,
+          retreatTerritory,
+          battleValue,
+          result.getTuvSwing(),
+          possibleTerritories.size());
       return retreatTerritory;
     }
     ProLogger.debug(
-        player.getName()
-            + " not retreating from territory "
-            + battleTerritory
-            + " with AttackValue="
-            + battleValue
-            + ", TUVSwing="
-            + result.getTuvSwing());
+        "%s not retreating from territory %s with AttackValue=%s, TUVSwing=%s",
+        player.getName(), battleTerritory, battleValue, result.getTuvSwing());
 
     return null;
   }
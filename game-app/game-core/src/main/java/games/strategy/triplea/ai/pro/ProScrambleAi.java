@@ -53,11 +53,12 @@ class ProScrambleAi {
     final ProBattleResult minResult =
         calc.calculateBattleResults(proData, scrambleTo, attackers, defenders, bombardingUnits);
     ProLogger.debug(
-        scrambleTo
-            + ", minTUVSwing="
-            + minResult.getTuvSwing()
-            + ", minWin%="
-            + minResult.getWinPercentage());
+        () ->
+            scrambleTo
+                + ", minTUVSwing="
+                + minResult.getTuvSwing()
+                + ", minWin%="
+                + minResult.getWinPercentage());
     if (minResult.getTuvSwing() <= 0
         && minResult.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
       return null;
@@ -84,11 +85,12 @@ class ProScrambleAi {
     final ProBattleResult maxResult =
         calc.calculateBattleResults(proData, scrambleTo, attackers, defenders, bombardingUnits);
     ProLogger.debug(
-        scrambleTo
-            + ", maxTUVSwing="
-            + maxResult.getTuvSwing()
-            + ", maxWin%="
-            + maxResult.getWinPercentage());
+        () ->
+            scrambleTo
+                + ", maxTUVSwing="
+                + maxResult.getTuvSwing()
+                + ", maxWin%="
+                + maxResult.getWinPercentage());
     if (maxResult.getTuvSwing() >= minResult.getTuvSwing()) {
       return null;
     }
@@ -127,13 +129,8 @@ class ProScrambleAi {
           calc.calculateBattleResults(
               proData, scrambleTo, attackers, currentDefenders, bombardingUnits);
       ProLogger.debug(
-          scrambleTo
-              + ", TUVSwing="
-              + result.getTuvSwing()
-              + ", Win%="
-              + result.getWinPercentage()
-              + ", addedUnit="
-              + u);
+          "%s, TUVSwing=%s, Win%%=%s, addedUnit=%s",
+          scrambleTo, result.getTuvSwing(), result.getWinPercentage(), u);
       if (result.getTuvSwing() <= 0
           && result.getWinPercentage() < (100 - proData.getMinWinPercentage())) {
         break;
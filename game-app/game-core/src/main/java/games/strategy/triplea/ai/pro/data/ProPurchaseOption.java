@@ -338,25 +338,20 @@ public class ProPurchaseOption {
         final double supportFactor = Math.pow(numAddedSupport * 0.9, 0.9) * bonus * ratio;
         totalSupportFactor += supportFactor;
         ProLogger.trace(
-            unitType.getName()
-                + ", bonusType="
-                + usa.getBonusType()
-                + ", supportFactor="
-                + supportFactor
-                + ", numSupportProvided="
-                + numSupportProvided
-                + ", numSupportableUnits="
-                + numSupportableUnits
-                + ", numAddedSupport="
-                + numAddedSupport
-                + ", ratio="
-                + ratio
-                + ", bonus="
-                + bonus);
+            "%s, bonusType=%s, supportFactor=%s, numSupportProvided=%s, numSupportableUnits=%s, "
+                + "numAddedSupport=%s, ratio=%s, bonus=%s",
+            unitType.getName(),
+            usa.getBonusType(),
+            supportFactor,
+            numSupportProvided,
+            numSupportableUnits,
+            numAddedSupport,
+            ratio,
+            bonus);
       }
     }
     ProLogger.debug(
-        unitType.getName() + ", defense=" + defense + ", totalSupportFactor=" + totalSupportFactor);
+        "%s, defense=%s, totalSupportFactor=%s", unitType.getName(), defense, totalSupportFactor);
     return totalSupportFactor;
   }
 
@@ -69,17 +69,17 @@ public class ProPurchaseOptionMap {
       if (unitType.getUnitAttachment().isSuicideOnHit() || canUnitTypeSuicide(unitType, player)) {
         final ProPurchaseOption ppo = new ProPurchaseOption(rule, unitType, player, data);
         specialOptions.add(ppo);
-        ProLogger.debug("Special: " + ppo);
+        ProLogger.debug(() -> "Special: " + ppo);
       } else if (Matches.unitTypeCanProduceUnits().test(unitType)
           && Matches.unitTypeIsInfrastructure().test(unitType)) {
         final ProPurchaseOption ppo = new ProPurchaseOption(rule, unitType, player, data);
         factoryOptions.add(ppo);
-        ProLogger.debug("Factory: " + ppo);
+        ProLogger.debug(() -> "Factory: " + ppo);
       } else if (unitType.getUnitAttachment().getMovement(player) <= 0
           && Matches.unitTypeIsLand().test(unitType)) {
         final ProPurchaseOption ppo = new ProPurchaseOption(rule, unitType, player, data);
         landZeroMoveOptions.add(ppo);
-        ProLogger.debug("Zero Move Land: " + ppo);
+        ProLogger.debug(() -> "Zero Move Land: " + ppo);
       } else if (Matches.unitTypeIsLand().test(unitType)) {
         final ProPurchaseOption ppo = new ProPurchaseOption(rule, unitType, player, data);
         if (!Matches.unitTypeIsInfrastructure().test(unitType)) {
@@ -96,11 +96,11 @@ public class ProPurchaseOptionMap {
         if (Matches.unitTypeIsAaForBombingThisUnitOnly().test(unitType)) {
           aaOptions.add(ppo);
         }
-        ProLogger.debug("Land: " + ppo);
+        ProLogger.debug(() -> "Land: " + ppo);
       } else if (Matches.unitTypeIsAir().test(unitType)) {
         final ProPurchaseOption ppo = new ProPurchaseOption(rule, unitType, player, data);
         airOptions.add(ppo);
-        ProLogger.debug("Air: " + ppo);
+        ProLogger.debug(() -> "Air: " + ppo);
       } else if (Matches.unitTypeIsSea().test(unitType)) {
         final ProPurchaseOption ppo = new ProPurchaseOption(rule, unitType, player, data);
         if (!ppo.isSub()) {
@@ -115,7 +115,7 @@ public class ProPurchaseOptionMap {
         if (ppo.isSub()) {
           seaSubOptions.add(ppo);
         }
-        ProLogger.debug("Sea: " + ppo);
+        ProLogger.debug(() -> "Sea: " + ppo);
       }
     }
     if (landAttackOptions.isEmpty()) {
@@ -183,6 +183,6 @@ public class ProPurchaseOptionMap {
       sb.append(", ");
     }
     sb.delete(sb.length() - 2, sb.length());
-    ProLogger.debug(sb.toString());
+    ProLogger.debug(() -> sb.toString());
   }
 }
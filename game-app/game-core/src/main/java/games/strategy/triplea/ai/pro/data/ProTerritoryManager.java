@@ -32,14 +32,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import lombok.Getter;
+import lombok.Value;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.util.Tuple;
 
 /** Manages info about territories. */
 public class ProTerritoryManager {
+  private static final ForkJoinPool MOVE_OPTION_SEARCH_POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
   private final ProOddsCalculator calc;
   private final ProData proData;
@@ -52,6 +58,13 @@ public class ProTerritoryManager {
   @Getter private ProOtherMoveOptions enemyDefendOptions;
   @Getter private ProOtherMoveOptions enemyAttackOptions;
 
+  /** The territories a unit can move to, as found by searching the territory the unit is in. */
+  @Value
+  private static class UnitMoves {
+    Unit unit;
+    List<Territory> territories;
+  }
+
   public ProTerritoryManager(final ProOddsCalculator calc, final ProData proData) {
     this.calc = calc;
     this.proData = proData;
@@ -257,16 +270,17 @@ public class ProTerritoryManager {
                       alliedAttack.getMaxBombardUnits()));
 
               ProLogger.debug(
-                  "Checking strafing territory: "
-                      + t
-                      + ", alliedPlayer="
-                      + CollectionUtils.getAny(alliedUnits).getOwner().getName()
-                      + ", maxWin%="
-                      + patd.getMaxBattleResult().getWinPercentage()
-                      + ", maxAttackers="
-                      + alliedUnits.size()
-                      + ", maxDefenders="
-                      + enemyDefendersAfterStrafe.size());
+                  () ->
+                      "Checking strafing territory: "
+                          + t
+                          + ", alliedPlayer="
+                          + CollectionUtils.getAny(alliedUnits).getOwner().getName()
+                          + ", maxWin%="
+                          + patd.getMaxBattleResult().getWinPercentage()
+                          + ", maxAttackers="
+                          + alliedUnits.size()
+                          + ", maxDefenders="
+                          + enemyDefendersAfterStrafe.size());
             }
           }
         }
@@ -288,12 +302,13 @@ public class ProTerritoryManager {
       final Set<Unit> combinedUnits = new HashSet<>(proTerritoryToRemove.getMaxUnits());
       combinedUnits.addAll(proTerritoryToRemove.getMaxAmphibUnits());
       ProLogger.debug(
-          "Removing territory that we can't successfully attack: "
-              + t
-              + ", maxWin%="
-              + proTerritoryToRemove.getMaxBattleResult().getWinPercentage()
-              + ", maxAttackers="
-              + combinedUnits.size());
+          () ->
+              "Removing territory that we can't successfully attack: "
+                  + t
+                  + ", maxWin%="
+                  + proTerritoryToRemove.getMaxBattleResult().getWinPercentage()
+                  + ", maxAttackers="
+                  + combinedUnits.size());
       result.remove(proTerritoryToRemove);
       for (final Set<Territory> territories : unitAttackMap.values()) {
         territories.remove(t);
@@ -730,50 +745,70 @@ public class ProTerritoryManager {
             ? ProMatches.territoryCanMoveSeaUnits(player, isCombatMove)
             : ProMatches.territoryCanMoveSeaUnitsThroughOrClearedAndNotInList(
                 player, isCombatMove, clearedTerritories, List.of());
-    for (final Territory myUnitTerritory : myUnitTerritories) {
-      // Find my naval units that have movement left
-      final List<Unit> mySeaUnits =
-          myUnitTerritory.getMatches(ProMatches.unitCanBeMovedAndIsOwnedSea(player, isCombatMove));
-
-      // Check each sea unit individually since they can have different ranges
-      for (final Unit mySeaUnit : mySeaUnits) {
-        // If my combat move and carrier has dependent allied fighters then skip it
-        if (isCombatMove && !isCheckingEnemyAttacks) {
-          final Collection<Unit> carrierMustMoveWith =
-              MoveValidator.carrierMustMoveWith(myUnitTerritory, player).get(mySeaUnit);
-          if (carrierMustMoveWith != null && !carrierMustMoveWith.isEmpty()) {
-            continue;
-          }
-        }
+    final List<List<UnitMoves>> unitMovesByTerritory =
+        searchTerritories(
+            proData,
+            myUnitTerritories,
+            myUnitTerritory -> {
+              final List<UnitMoves> unitMoves = new ArrayList<>();
+
+              // Find my naval units that have movement left
+              final List<Unit> mySeaUnits =
+                  myUnitTerritory.getMatches(
+                      ProMatches.unitCanBeMovedAndIsOwnedSea(player, isCombatMove));
+
+              // Check each sea unit individually since they can have different ranges
+              for (final Unit mySeaUnit : mySeaUnits) {
+                // If my combat move and carrier has dependent allied fighters then skip it
+                if (isCombatMove && !isCheckingEnemyAttacks) {
+                  final Collection<Unit> carrierMustMoveWith =
+                      MoveValidator.carrierMustMoveWith(myUnitTerritory, player).get(mySeaUnit);
+                  if (carrierMustMoveWith != null && !carrierMustMoveWith.isEmpty()) {
+                    continue;
+                  }
+                }
 
-        // Find range
-        final BigDecimal range =
-            getUnitRange(mySeaUnit, myUnitTerritory, player, isCheckingEnemyAttacks);
-
-        // Find list of potential territories to move to
-        final Set<Territory> possibleMoveTerritories =
-            gameMap.getNeighborsByMovementCost(
-                myUnitTerritory, range, ProMatches.territoryCanMoveSeaUnits(player, isCombatMove));
-        possibleMoveTerritories.add(myUnitTerritory);
-        final Collection<Territory> potentialTerritories =
-            CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch);
-        if (!isCombatMove && !potentialTerritories.contains(myUnitTerritory)) {
-          potentialTerritories.add(myUnitTerritory);
-        }
+                // Find range
+                final BigDecimal range =
+                    getUnitRange(mySeaUnit, myUnitTerritory, player, isCheckingEnemyAttacks);
+
+                // Find list of potential territories to move to
+                final Set<Territory> possibleMoveTerritories =
+                    gameMap.getNeighborsByMovementCost(
+                        myUnitTerritory,
+                        range,
+                        ProMatches.territoryCanMoveSeaUnits(player, isCombatMove));
+                possibleMoveTerritories.add(myUnitTerritory);
+                final Collection<Territory> potentialTerritories =
+                    CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch);
+                if (!isCombatMove && !potentialTerritories.contains(myUnitTerritory)) {
+                  potentialTerritories.add(myUnitTerritory);
+                }
 
-        for (final Territory potentialTerritory : potentialTerritories) {
-          // Find route over water
-          final Route myRoute =
-              gameMap.getRouteForUnit(
-                  myUnitTerritory, potentialTerritory, canMove, mySeaUnit, player);
-          if (myRoute == null) {
-            continue;
-          }
-          final BigDecimal myRouteLength = myRoute.getMovementCost(mySeaUnit);
-          if (myRouteLength.compareTo(range) > 0) {
-            continue;
-          }
+                final List<Territory> moveTerritories = new ArrayList<>();
+                for (final Territory potentialTerritory : potentialTerritories) {
+                  // Find route over water
+                  final Route myRoute =
+                      gameMap.getRouteForUnit(
+                          myUnitTerritory, potentialTerritory, canMove, mySeaUnit, player);
+                  if (myRoute == null) {
+                    continue;
+                  }
+                  final BigDecimal myRouteLength = myRoute.getMovementCost(mySeaUnit);
+                  if (myRouteLength.compareTo(range) > 0) {
+                    continue;
+                  }
+                  moveTerritories.add(potentialTerritory);
+                }
+                unitMoves.add(new UnitMoves(mySeaUnit, moveTerritories));
+              }
+              return unitMoves;
+            });
 
+    for (final List<UnitMoves> unitMoves : unitMovesByTerritory) {
+      for (final UnitMoves unitMove : unitMoves) {
+        final Unit mySeaUnit = unitMove.getUnit();
+        for (final Territory potentialTerritory : unitMove.getTerritories()) {
           // Populate territories with sea unit
           proData.getProTerritory(moveMap, potentialTerritory).addMaxUnit(mySeaUnit);
 
@@ -806,42 +841,67 @@ public class ProTerritoryManager {
     final GameData data = proData.getData();
     final GameMap gameMap = data.getMap();
 
-    for (final Territory myUnitTerritory : myUnitTerritories) {
-
-      // Find my land units that have movement left
-      final List<Unit> myLandUnits =
-          myUnitTerritory.getMatches(ProMatches.unitCanBeMovedAndIsOwnedLand(player, isCombatMove));
+    final List<List<UnitMoves>> unitMovesByTerritory =
+        searchTerritories(
+            proData,
+            myUnitTerritories,
+            myUnitTerritory -> {
+              final List<UnitMoves> unitMoves = new ArrayList<>();
+
+              // Find my land units that have movement left
+              final List<Unit> myLandUnits =
+                  myUnitTerritory.getMatches(
+                      ProMatches.unitCanBeMovedAndIsOwnedLand(player, isCombatMove));
+
+              // Check each land unit individually since they can have different ranges
+              for (final Unit u : myLandUnits) {
+                final Territory startTerritory = proData.getUnitTerritory(u);
+                // Should this use getUnitRange()?
+                final BigDecimal range = u.getMovementLeft();
+                final Set<Territory> possibleMoveTerritories =
+                    gameMap.getNeighborsByMovementCost(
+                        myUnitTerritory,
+                        range,
+                        isIgnoringRelationships
+                            ? ProMatches.territoryCanPotentiallyMoveSpecificLandUnit(player, u)
+                            : ProMatches.territoryCanMoveSpecificLandUnit(
+                                player, isCombatMove, u));
+                possibleMoveTerritories.add(myUnitTerritory);
+                final Collection<Territory> potentialTerritories =
+                    CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch);
+                if (!isCombatMove && !potentialTerritories.contains(myUnitTerritory)) {
+                  potentialTerritories.add(myUnitTerritory);
+                }
+                final Predicate<Territory> canMove =
+                    isCheckingEnemyAttacks
+                        ? ProMatches.territoryCanMoveLandUnitsThroughIgnoreEnemyUnits(
+                            player,
+                            u,
+                            startTerritory,
+                            isCombatMove,
+                            enemyTerritories,
+                            clearedTerritories)
+                        : ProMatches.territoryCanMoveLandUnitsThrough(
+                            player, u, startTerritory, isCombatMove, enemyTerritories);
+                final List<Territory> moveTerritories = new ArrayList<>();
+                for (final Territory t : potentialTerritories) {
+                  // Find route over land checking whether unit can blitz
+                  if (isLandMoveOption(
+                      isCombatMove, player, u, myUnitTerritory, t, range, canMove)) {
+                    moveTerritories.add(t);
+                  }
+                }
+                unitMoves.add(new UnitMoves(u, moveTerritories));
+              }
+              return unitMoves;
+            });
 
-      // Check each land unit individually since they can have different ranges
-      for (final Unit u : myLandUnits) {
+    for (int i = 0; i < myUnitTerritories.size(); i++) {
+      final Territory myUnitTerritory = myUnitTerritories.get(i);
+      for (final UnitMoves unitMove : unitMovesByTerritory.get(i)) {
+        final Unit u = unitMove.getUnit();
         final Territory startTerritory = proData.getUnitTerritory(u);
-        // Should this use getUnitRange()?
-        final BigDecimal range = u.getMovementLeft();
-        final Set<Territory> possibleMoveTerritories =
-            gameMap.getNeighborsByMovementCost(
-                myUnitTerritory,
-                range,
-                isIgnoringRelationships
-                    ? ProMatches.territoryCanPotentiallyMoveSpecificLandUnit(player, u)
-                    : ProMatches.territoryCanMoveSpecificLandUnit(player, isCombatMove, u));
-        possibleMoveTerritories.add(myUnitTerritory);
-        final Collection<Territory> potentialTerritories =
-            CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch);
-        if (!isCombatMove && !potentialTerritories.contains(myUnitTerritory)) {
-          potentialTerritories.add(myUnitTerritory);
-        }
-        final Predicate<Territory> canMove =
-            isCheckingEnemyAttacks
-                ? ProMatches.territoryCanMoveLandUnitsThroughIgnoreEnemyUnits(
-                    player, u, startTerritory, isCombatMove, enemyTerritories, clearedTerritories)
-                : ProMatches.territoryCanMoveLandUnitsThrough(
-                    player, u, startTerritory, isCombatMove, enemyTerritories);
-        for (final Territory t : potentialTerritories) {
-          // Find route over land checking whether unit can blitz
-          if (!isLandMoveOption(isCombatMove, player, u, myUnitTerritory, t, range, canMove)) {
-            continue;
-          }
-
+        for (final Territory t : unitMove.getTerritories()) {
           // Add to route map
           landRoutesMap.computeIfAbsent(t, k -> new HashSet<>()).add(myUnitTerritory);
 
@@ -946,64 +1006,82 @@ public class ProTerritoryManager {
             : ProMatches.territoryCanMoveAirUnitsAndNoAa(data, player, isCombatMove);
 
     final Predicate<Unit> unitMatch = ProMatches.unitCanBeMovedAndIsOwnedAir(player, isCombatMove);
-    for (final Territory myUnitTerritory : myUnitTerritories) {
-      // Find my air units that have movement left
-      final List<Unit> myAirUnits = myUnitTerritory.getMatches(unitMatch);
-
-      // Check each air unit individually since they can have different ranges
-      for (final Unit myAirUnit : myAirUnits) {
-        // Find range
-        final BigDecimal range =
-            getUnitRange(myAirUnit, myUnitTerritory, player, isCheckingEnemyAttacks);
-
-        // Find potential territories to move to
-        final Set<Territory> possibleMoveTerritories =
-            gameMap.getNeighborsByMovementCost(myUnitTerritory, range, canMove);
-        possibleMoveTerritories.add(myUnitTerritory);
-        final Set<Territory> potentialTerritories =
-            new HashSet<>(
-                CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
-        if (!isCombatMove && Matches.unitCanLandOnCarrier().test(myAirUnit)) {
-          potentialTerritories.addAll(
-              CollectionUtils.getMatches(
-                  possibleMoveTerritories, possibleCarrierTerritories::contains));
-        }
-
-        for (final Territory potentialTerritory : potentialTerritories) {
-          final Route myRoute =
-              gameMap.getRouteForUnit(
-                  myUnitTerritory, potentialTerritory, canFlyOverMatch, myAirUnit, player);
-          if (myRoute == null) {
-            continue;
-          }
-          final BigDecimal myRouteLength = myRoute.getMovementCost(myAirUnit);
-          final BigDecimal remainingMoves = range.subtract(myRouteLength);
-          if (remainingMoves.compareTo(BigDecimal.ZERO) < 0) {
-            continue;
-          }
+    final List<List<UnitMoves>> unitMovesByTerritory =
+        searchTerritories(
+            proData,
+            myUnitTerritories,
+            myUnitTerritory -> {
+              final List<UnitMoves> unitMoves = new ArrayList<>();
+
+              // Find my air units that have movement left
+              final List<Unit> myAirUnits = myUnitTerritory.getMatches(unitMatch);
+
+              // Check each air unit individually since they can have different ranges
+              for (final Unit myAirUnit : myAirUnits) {
+                // Find range
+                final BigDecimal range =
+                    getUnitRange(myAirUnit, myUnitTerritory, player, isCheckingEnemyAttacks);
+
+                // Find potential territories to move to
+                final Set<Territory> possibleMoveTerritories =
+                    gameMap.getNeighborsByMovementCost(myUnitTerritory, range, canMove);
+                possibleMoveTerritories.add(myUnitTerritory);
+                final Set<Territory> potentialTerritories =
+                    new HashSet<>(
+                        CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
+                if (!isCombatMove && Matches.unitCanLandOnCarrier().test(myAirUnit)) {
+                  potentialTerritories.addAll(
+                      CollectionUtils.getMatches(
+                          possibleMoveTerritories, possibleCarrierTerritories::contains));
+                }
 
-          // Check if unit can land
-          if (isCombatMove
-              && (remainingMoves.compareTo(myRouteLength) < 0 || myUnitTerritory.isWater())) {
-            final Set<Territory> possibleLandingTerritories =
-                gameMap.getNeighborsByMovementCost(
-                    potentialTerritory, remainingMoves, canFlyOverMatch);
-            final List<Territory> landingTerritories =
-                CollectionUtils.getMatches(
-                    possibleLandingTerritories,
-                    ProMatches.territoryCanLandAirUnits(
-                        player, isCombatMove, enemyTerritories, alliedTerritories));
-            List<Territory> carrierTerritories = List.of();
-            if (Matches.unitCanLandOnCarrier().test(myAirUnit)) {
-              carrierTerritories =
-                  CollectionUtils.getMatches(
-                      possibleLandingTerritories, possibleCarrierTerritories::contains);
-            }
-            if (landingTerritories.isEmpty() && carrierTerritories.isEmpty()) {
-              continue;
-            }
-          }
+                final List<Territory> moveTerritories = new ArrayList<>();
+                for (final Territory potentialTerritory : potentialTerritories) {
+                  final Route myRoute =
+                      gameMap.getRouteForUnit(
+                          myUnitTerritory, potentialTerritory, canFlyOverMatch, myAirUnit, player);
+                  if (myRoute == null) {
+                    continue;
+                  }
+                  final BigDecimal myRouteLength = myRoute.getMovementCost(myAirUnit);
+                  final BigDecimal remainingMoves = range.subtract(myRouteLength);
+                  if (remainingMoves.compareTo(BigDecimal.ZERO) < 0) {
+                    continue;
+                  }
+
+                  // Check if unit can land
+                  if (isCombatMove
+                      && (remainingMoves.compareTo(myRouteLength) < 0
+                          || myUnitTerritory.isWater())) {
+                    final Set<Territory> possibleLandingTerritories =
+                        gameMap.getNeighborsByMovementCost(
+                            potentialTerritory, remainingMoves, canFlyOverMatch);
+                    final List<Territory> landingTerritories =
+                        CollectionUtils.getMatches(
+                            possibleLandingTerritories,
+                            ProMatches.territoryCanLandAirUnits(
+                                player, isCombatMove, enemyTerritories, alliedTerritories));
+                    List<Territory> carrierTerritories = List.of();
+                    if (Matches.unitCanLandOnCarrier().test(myAirUnit)) {
+                      carrierTerritories =
+                          CollectionUtils.getMatches(
+                              possibleLandingTerritories, possibleCarrierTerritories::contains);
+                    }
+                    if (landingTerritories.isEmpty() && carrierTerritories.isEmpty()) {
+                      continue;
+                    }
+                  }
+                  moveTerritories.add(potentialTerritory);
+                }
+                unitMoves.add(new UnitMoves(myAirUnit, moveTerritories));
+              }
+              return unitMoves;
+            });
 
+    for (final List<UnitMoves> unitMoves : unitMovesByTerritory) {
+      for (final UnitMoves unitMove : unitMoves) {
+        final Unit myAirUnit = unitMove.getUnit();
+        for (final Territory potentialTerritory : unitMove.getTerritories()) {
           // Populate enemy territories with air unit
           proData.getProTerritory(moveMap, potentialTerritory).addMaxUnit(myAirUnit);
 
@@ -1033,95 +1111,104 @@ public class ProTerritoryManager {
         ProMatches.territoryCanMoveSeaUnitsThrough(player, isCombatMove);
     final Predicate<Territory> canMoveSea =
         ProMatches.territoryCanMoveSeaUnits(player, isCombatMove);
-    Predicate<Territory> unloadAmphibTerritoryMatch;
-    if (isIgnoringRelationships) {
-      unloadAmphibTerritoryMatch = ProMatches.territoryCanPotentiallyMoveLandUnits(player);
-    } else {
-      unloadAmphibTerritoryMatch = ProMatches.territoryCanMoveLandUnits(player, isCombatMove);
-    }
-    unloadAmphibTerritoryMatch = unloadAmphibTerritoryMatch.and(moveAmphibToTerritoryMatch);
-
-    for (final Territory transportTerritory : myUnitTerritories) {
-      // Find my transports and amphibious units that have movement left
-      final List<Unit> transports = transportTerritory.getMatches(isTransport);
-
-      // Check each transport unit individually since they can have different ranges
-      for (final Unit transport : transports) {
-        // Find units to load and territories to unload
-        final ProTransport proTransportData = new ProTransport(transport);
-        transportMapList.add(proTransportData);
-        final Set<Territory> currentTerritories = new HashSet<>();
-        currentTerritories.add(transportTerritory);
-        final Predicate<Unit> canBeTransported =
-            isCheckingEnemyAttacks
-                ? ProMatches.unitIsOwnedCombatTransportableUnit(player)
-                : ProMatches.unitIsOwnedTransportableUnitAndCanBeLoaded(
-                    player, transport, isCombatMove);
-        // Get remaining moves
-        int movesLeft =
-            getUnitRange(transport, transportTerritory, player, isCheckingEnemyAttacks).intValue();
-        MoveValidator moveValidator = new MoveValidator(data, !isCombatMove);
-        while (movesLeft >= 0) {
-          final Set<Territory> nextTerritories = new HashSet<>();
-          for (final Territory from : currentTerritories) {
-            // Find neighbors I can move to
-            for (final Territory neighbor : map.getNeighbors(from, canMoveSeaThrough)) {
-              final Route route = new Route(from, neighbor);
-              if (moveValidator.validateCanal(route, List.of(transport), player) == null) {
-                nextTerritories.add(neighbor);
-              }
-            }
-
-            // Get loaded units or get units that can be loaded into current territory if no enemies
-            // present
-            boolean haveUnitsToTransport = false;
-            final Set<Territory> loadFromTerritories = new HashSet<>();
-            if (!transport.getTransporting(transportTerritory).isEmpty()) {
-              haveUnitsToTransport = true;
-            } else if (Matches.territoryHasEnemySeaUnits(player).negate().test(from)) {
-              int capacity = transport.getUnitAttachment().getTransportCapacity();
-              Predicate<Unit> canFitOnTransport =
-                  canBeTransported.and(u -> u.getUnitAttachment().getTransportCost() <= capacity);
-              for (Territory loadTerritory : map.getNeighbors(from)) {
-                if (loadTerritory.anyUnitsMatch(canFitOnTransport)) {
-                  loadFromTerritories.add(loadTerritory);
-                  haveUnitsToTransport = true;
-                }
-              }
-            }
-
-            // If there are any units to be transported
-            if (!haveUnitsToTransport) {
-              continue;
-            }
-            // Find all water territories I can move to
-            final Set<Territory> seaMoveTerritories = new HashSet<>();
-            seaMoveTerritories.add(from);
-            if (movesLeft > 0) {
-              final Predicate<Territory> canMove =
-                  isCheckingEnemyAttacks ? canMoveSea : canMoveSeaThrough;
-              for (final Territory to : map.getNeighbors(from, movesLeft, canMove)) {
-                if (map.getRouteForUnit(from, to, canMoveSeaThrough, transport, player) != null) {
-                  seaMoveTerritories.add(to);
+    final Predicate<Territory> unloadAmphibTerritoryMatch =
+        (isIgnoringRelationships
+                ? ProMatches.territoryCanPotentiallyMoveLandUnits(player)
+                : ProMatches.territoryCanMoveLandUnits(player, isCombatMove))
+            .and(moveAmphibToTerritoryMatch);
+
+    final List<List<ProTransport>> transportsByTerritory =
+        searchTerritories(
+            proData,
+            myUnitTerritories,
+            transportTerritory -> {
+              final List<ProTransport> proTransports = new ArrayList<>();
+
+              // Find my transports and amphibious units that have movement left
+              final List<Unit> transports = transportTerritory.getMatches(isTransport);
+
+              // Check each transport unit individually since they can have different ranges
+              for (final Unit transport : transports) {
+                // Find units to load and territories to unload
+                final ProTransport proTransportData = new ProTransport(transport);
+                proTransports.add(proTransportData);
+                final Set<Territory> currentTerritories = new HashSet<>();
+                currentTerritories.add(transportTerritory);
+                final Predicate<Unit> canBeTransported =
+                    isCheckingEnemyAttacks
+                        ? ProMatches.unitIsOwnedCombatTransportableUnit(player)
+                        : ProMatches.unitIsOwnedTransportableUnitAndCanBeLoaded(
+                            player, transport, isCombatMove);
+                // Get remaining moves
+                int movesLeft =
+                    getUnitRange(transport, transportTerritory, player, isCheckingEnemyAttacks)
+                        .intValue();
+                MoveValidator moveValidator = new MoveValidator(data, !isCombatMove);
+                while (movesLeft >= 0) {
+                  final Set<Territory> nextTerritories = new HashSet<>();
+                  for (final Territory from : currentTerritories) {
+                    // Find neighbors I can move to
+                    for (final Territory neighbor : map.getNeighbors(from, canMoveSeaThrough)) {
+                      final Route route = new Route(from, neighbor);
+                      if (moveValidator.validateCanal(route, List.of(transport), player) == null) {
+                        nextTerritories.add(neighbor);
+                      }
+                    }
+
+                    // Get loaded units or get units that can be loaded into current territory if no
+                    // enemies present
+                    boolean haveUnitsToTransport = false;
+                    final Set<Territory> loadFromTerritories = new HashSet<>();
+                    if (!transport.getTransporting(transportTerritory).isEmpty()) {
+                      haveUnitsToTransport = true;
+                    } else if (Matches.territoryHasEnemySeaUnits(player).negate().test(from)) {
+                      int capacity = transport.getUnitAttachment().getTransportCapacity();
+                      Predicate<Unit> canFitOnTransport =
+                          canBeTransported.and(
+                              u -> u.getUnitAttachment().getTransportCost() <= capacity);
+                      for (Territory loadTerritory : map.getNeighbors(from)) {
+                        if (loadTerritory.anyUnitsMatch(canFitOnTransport)) {
+                          loadFromTerritories.add(loadTerritory);
+                          haveUnitsToTransport = true;
+                        }
+                      }
+                    }
+
+                    // If there are any units to be transported
+                    if (!haveUnitsToTransport) {
+                      continue;
+                    }
+                    // Find all water territories I can move to
+                    final Set<Territory> seaMoveTerritories = new HashSet<>();
+                    seaMoveTerritories.add(from);
+                    if (movesLeft > 0) {
+                      final Predicate<Territory> canMove =
+                          isCheckingEnemyAttacks ? canMoveSea : canMoveSeaThrough;
+                      for (final Territory to : map.getNeighbors(from, movesLeft, canMove)) {
+                        if (map.getRouteForUnit(from, to, canMoveSeaThrough, transport, player)
+                            != null) {
+                          seaMoveTerritories.add(to);
+                        }
+                      }
+                    }
+                    // Find possible unload territories
+                    final Set<Territory> unloadTerritories = new HashSet<>();
+                    for (final Territory to : seaMoveTerritories) {
+                      unloadTerritories.addAll(map.getNeighbors(to, unloadAmphibTerritoryMatch));
+                    }
+
+                    // Add to transport map
+                    proTransportData.addTerritories(unloadTerritories, loadFromTerritories);
+                    proTransportData.addSeaTerritories(seaMoveTerritories, loadFromTerritories);
+                  }
+                  currentTerritories.clear();
+                  currentTerritories.addAll(nextTerritories);
+                  movesLeft--;
                 }
               }
-            }
-            // Find possible unload territories
-            final Set<Territory> unloadTerritories = new HashSet<>();
-            for (final Territory to : seaMoveTerritories) {
-              unloadTerritories.addAll(map.getNeighbors(to, unloadAmphibTerritoryMatch));
-            }
-
-            // Add to transport map
-            proTransportData.addTerritories(unloadTerritories, loadFromTerritories);
-            proTransportData.addSeaTerritories(seaMoveTerritories, loadFromTerritories);
-          }
-          currentTerritories.clear();
-          currentTerritories.addAll(nextTerritories);
-          movesLeft--;
-        }
-      }
-    }
+              return proTransports;
+            });
+    transportsByTerritory.forEach(transportMapList::addAll);
 
     // Remove any territories from transport map that I can move to on land and transports with no
     // amphib options
@@ -1190,36 +1277,53 @@ public class ProTerritoryManager {
             : ProMatches.territoryCanMoveSeaUnitsThrough(player, true);
 
     // Loop through territories with my units
-    for (final Territory myUnitTerritory : myUnitTerritories) {
-      // Find my bombard units that have movement left
-      final List<Unit> mySeaUnits =
-          myUnitTerritory.getMatches(ProMatches.unitCanBeMovedAndIsOwnedBombard(player));
-
-      // Check each sea unit individually since they can have different ranges
-      for (final Unit mySeaUnit : mySeaUnits) {
-        // Find range
-        final BigDecimal range =
-            getUnitRange(mySeaUnit, myUnitTerritory, player, isCheckingEnemyAttacks);
-
-        // Find list of potential territories to move to
-        final Set<Territory> potentialTerritories =
-            gameMap.getNeighborsByMovementCost(
-                myUnitTerritory, range, ProMatches.territoryCanMoveSeaUnits(player, true));
-        potentialTerritories.add(myUnitTerritory);
-        potentialTerritories.retainAll(unloadFromTerritories);
-        for (final Territory bombardFromTerritory : potentialTerritories) {
-          // Find route over water with no enemy units blocking
-          final Route myRoute =
-              gameMap.getRouteForUnit(
-                  myUnitTerritory, bombardFromTerritory, canMove, mySeaUnit, player);
-          if (myRoute == null) {
-            continue;
-          }
-          final BigDecimal myRouteLength = myRoute.getMovementCost(mySeaUnit);
-          if (myRouteLength.compareTo(range) > 0) {
-            continue;
-          }
+    final List<List<UnitMoves>> unitMovesByTerritory =
+        searchTerritories(
+            proData,
+            myUnitTerritories,
+            myUnitTerritory -> {
+              final List<UnitMoves> unitMoves = new ArrayList<>();
+
+              // Find my bombard units that have movement left
+              final List<Unit> mySeaUnits =
+                  myUnitTerritory.getMatches(ProMatches.unitCanBeMovedAndIsOwnedBombard(player));
+
+              // Check each sea unit individually since they can have different ranges
+              for (final Unit mySeaUnit : mySeaUnits) {
+                // Find range
+                final BigDecimal range =
+                    getUnitRange(mySeaUnit, myUnitTerritory, player, isCheckingEnemyAttacks);
+
+                // Find list of potential territories to move to
+                final Set<Territory> potentialTerritories =
+                    gameMap.getNeighborsByMovementCost(
+                        myUnitTerritory, range, ProMatches.territoryCanMoveSeaUnits(player, true));
+                potentialTerritories.add(myUnitTerritory);
+                potentialTerritories.retainAll(unloadFromTerritories);
+                final List<Territory> bombardFromTerritories = new ArrayList<>();
+                for (final Territory bombardFromTerritory : potentialTerritories) {
+                  // Find route over water with no enemy units blocking
+                  final Route myRoute =
+                      gameMap.getRouteForUnit(
+                          myUnitTerritory, bombardFromTerritory, canMove, mySeaUnit, player);
+                  if (myRoute == null) {
+                    continue;
+                  }
+                  final BigDecimal myRouteLength = myRoute.getMovementCost(mySeaUnit);
+                  if (myRouteLength.compareTo(range) > 0) {
+                    continue;
+                  }
+                  bombardFromTerritories.add(bombardFromTerritory);
+                }
+                unitMoves.add(new UnitMoves(mySeaUnit, bombardFromTerritories));
+              }
+              return unitMoves;
+            });
 
+    for (final List<UnitMoves> unitMoves : unitMovesByTerritory) {
+      for (final UnitMoves unitMove : unitMoves) {
+        final Unit mySeaUnit = unitMove.getUnit();
+        for (final Territory bombardFromTerritory : unitMove.getTerritories()) {
           // Find potential unload to territories
           final Set<Territory> bombardToTerritories =
               new HashSet<>(gameMap.getNeighbors(bombardFromTerritory));
@@ -1240,6 +1344,27 @@ public class ProTerritoryManager {
     }
   }
 
+  /**
+   * Returns the result of {@code search} for each of the territories, in the order of the
+   * territories. The searches must only read the game data; if {@link
+   * ProData#isParallelMoveOptionSearch()} is set, they run on all cores while this thread holds the
+   * read lock of the game data for them. Callers merge the results in the order of the territories,
+   * so the options found don't depend on whether or in what order the searches ran in parallel.
+   */
+  private static <T> List<T> searchTerritories(
+      final ProData proData,
+      final List<Territory> territories,
+      final Function<Territory, T> search) {
+    if (!proData.isParallelMoveOptionSearch() || territories.size() < 2) {
+      return territories.stream().map(search).collect(Collectors.toList());
+    }
+    try (GameData.Unlocker ignored = proData.getData().acquireReadLock()) {
+      return MOVE_OPTION_SEARCH_POOL
+          .submit(() -> territories.parallelStream().map(search).collect(Collectors.toList()))
+          .join();
+    }
+  }
+
   private static BigDecimal getUnitRange(
       final Unit unit,
       final Territory unitTerritory,
@@ -0,0 +1,100 @@
+package games.strategy.triplea.ai.pro.logging;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.logging.Level;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * The log messages of one AI turn, kept in memory until the log window shows them. Messages are
+ * only formatted when they are shown, and only the most recent {@link #CAPACITY} messages are kept
+ * so that a verbose turn can't use up the memory.
+ *
+ * <p>This class is thread safe: the AI adds messages while the event dispatch thread shows them.
+ */
+final class ProLogBuffer {
+  static final int CAPACITY = 20_000;
+
+  private final int capacity;
+  private final ArrayDeque<Event> events = new ArrayDeque<>();
+  private long droppedCount = 0;
+
+  @AllArgsConstructor
+  private static final class Event {
+    private final Level level;
+    private final String message;
+    private final @Nullable Throwable throwable;
+  }
+
+  /** Messages rendered by {@link #renderSince(long)}. */
+  @Value
+  static class Rendering {
+    String text;
+    /** The version of the buffer that the text was rendered at. */
+    long version;
+    /** Whether the text only holds the messages added since the given version. */
+    boolean appendable;
+  }
+
+  ProLogBuffer() {
+    this(CAPACITY);
+  }
+
+  ProLogBuffer(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  synchronized void add(final Level level, final String message, final @Nullable Throwable t) {
+    if (events.size() == capacity) {
+      events.removeFirst();
+      droppedCount++;
+    }
+    events.addLast(new Event(level, message, t));
+  }
+
+  /** Returns the number of messages added so far, which changes whenever a message is added. */
+  synchronized long getVersion() {
+    return droppedCount + events.size();
+  }
+
+  /**
+   * Returns the messages added since {@code version} so that they can be appended to the text that
+   * was rendered at that version. If some of them were dropped already, all messages are rendered
+   * again instead.
+   */
+  synchronized Rendering renderSince(final long version) {
+    final long currentVersion = getVersion();
+    if (version < droppedCount || version > currentVersion) {
+      return new Rendering(render(), currentVersion, false);
+    }
+    final Event[] newEvents = new Event[(int) (currentVersion - version)];
+    final Iterator<Event> iterator = events.descendingIterator();
+    for (int i = newEvents.length - 1; i >= 0; i--) {
+      newEvents[i] = iterator.next();
+    }
+    final StringBuilder builder = new StringBuilder();
+    for (final Event event : newEvents) {
+      appendEvent(builder, event);
+    }
+    return new Rendering(builder.toString(), currentVersion, true);
+  }
+
+  /** Returns the formatted messages, one per line. */
+  synchronized String render() {
+    final StringBuilder builder = new StringBuilder();
+    if (droppedCount > 0) {
+      builder.append("(").append(droppedCount).append(" earlier messages dropped)\r\n");
+    }
+    for (final Event event : events) {
+      appendEvent(builder, event);
+    }
+    return builder.toString();
+  }
+
+  private static void appendEvent(final StringBuilder builder, final Event event) {
+    ProLogger.formatMessage(builder, event.level, event.message, event.throwable);
+    builder.append("\r\n");
+  }
+}
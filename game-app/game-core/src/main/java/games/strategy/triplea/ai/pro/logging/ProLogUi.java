@@ -7,20 +7,23 @@ import games.strategy.ui.Util;
 import java.awt.Frame;
 import java.awt.event.KeyEvent;
 import java.util.List;
-import javax.swing.SwingUtilities;
+import java.util.logging.Level;
+import javax.annotation.Nullable;
 import lombok.experimental.UtilityClass;
 
 /** Class to manage log window display. */
 @UtilityClass
 public final class ProLogUi {
-  private static ProLogWindow settingsWindow = null;
+  private static volatile ProLogWindow settingsWindow = null;
   private static String currentName = "";
   private static int currentRound = 0;
+  // the messages of the current AI turn, shown by the settings window when it is opened
+  private static volatile ProLogBuffer currentLog = new ProLogBuffer();
 
   public static List<AiPlayerDebugOption> buildDebugOptions(final Frame frame) {
     Util.ensureOnEventDispatchThread();
     if (settingsWindow == null) {
-      settingsWindow = new ProLogWindow(frame);
+      settingsWindow = new ProLogWindow(frame, currentLog);
       GameShutdownRegistry.registerShutdownAction(ProLogUi::clearCachedInstances);
     }
     ProLogger.info("Initialized Hard AI");
@@ -37,6 +40,7 @@ public final class ProLogUi {
       settingsWindow.dispose();
     }
     settingsWindow = null;
+    currentLog = new ProLogBuffer();
   }
 
   public static void showSettingsWindow(AiPlayerDebugAction aiPlayerDebugAction) {
@@ -44,26 +48,29 @@ public final class ProLogUi {
       return;
     }
     ProLogger.info("Showing Hard AI settings window");
+    settingsWindow.renderCurrentLog();
     settingsWindow.setVisible(true);
   }
 
-  static void notifyAiLogMessage(final String message) {
-    SwingUtilities.invokeLater(
-        () -> {
-          if (settingsWindow != null) {
-            settingsWindow.addMessage(message);
-          }
-        });
+  static boolean hasLogWindow() {
+    return settingsWindow != null;
+  }
+
+  static void notifyAiLogMessage(
+      final Level level, final String message, final @Nullable Throwable t) {
+    currentLog.add(level, message, t);
   }
 
   public static void notifyStartOfRound(final int round, final String name) {
-    if (settingsWindow == null) {
+    final ProLogWindow window = settingsWindow;
+    if (window == null) {
       return;
     }
     if (round != currentRound || !name.equals(currentName)) {
       currentRound = round;
       currentName = name;
-      settingsWindow.notifyNewRound(round, name);
+      currentLog = new ProLogBuffer();
+      window.notifyNewRound(round, name, currentLog);
     }
   }
 }
@@ -27,15 +27,29 @@ import javax.swing.JTextArea;
 import javax.swing.ScrollPaneConstants;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.WindowConstants;
+import javax.swing.text.BadLocationException;
 import lombok.extern.slf4j.Slf4j;
 
 /** GUI class used to display logging window and logging settings. */
 @Slf4j
 class ProLogWindow extends JDialog {
   private static final long serialVersionUID = -5989598624017028122L;
+  private static final int REFRESH_INTERVAL_MILLIS = 1000;
 
   private JTextArea currentLogTextArea;
+  // the messages shown in currentLogTextArea, rendered when they changed and the window is visible
+  private transient ProLogBuffer currentLog;
+  private long renderedVersion = -1;
+  private final transient Timer refreshTimer =
+      new Timer(
+          REFRESH_INTERVAL_MILLIS,
+          e -> {
+            if (isVisible()) {
+              renderCurrentLog();
+            }
+          });
   private final JTextArea aiOutputLogArea = new JTextArea();
   private final JCheckBox enableAiLogging = new JCheckBox();
   private final JCheckBox limitLogHistoryCheckBox = new JCheckBox();
@@ -44,8 +58,9 @@ class ProLogWindow extends JDialog {
   private final JTabbedPane logHolderTabbedPane = new JTabbedPane();
   private final JTabbedPane tabPaneMain = new JTabbedPane();
 
-  ProLogWindow(final Frame frame) {
+  ProLogWindow(final Frame frame, final ProLogBuffer currentLog) {
     super(frame);
+    this.currentLog = currentLog;
 
     final Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
     final JPanel panel7 = new JPanel();
@@ -234,6 +249,7 @@ class ProLogWindow extends JDialog {
     gridBagConstraints.insets = new Insets(7, 7, 0, 7);
     getContentPane().add(tabPaneMain, gridBagConstraints);
     setBounds((screenSize.width - 800), 25, 775, 401);
+    refreshTimer.start();
   }
 
   private void formWindowOpened() {
@@ -368,7 +384,18 @@ class ProLogWindow extends JDialog {
     dialog.setVisible(true);
   }
 
-  void addMessage(final String message) {
+  @Override
+  public void dispose() {
+    refreshTimer.stop();
+    super.dispose();
+  }
+
+  /** Shows the messages of the current AI turn. Must be called on the event dispatch thread. */
+  void renderCurrentLog() {
+    final long version = currentLog.getVersion();
+    if (version == renderedVersion) {
+      return;
+    }
     try {
       if (currentLogTextArea == null) {
         currentLogTextArea = aiOutputLogArea;
@@ -377,16 +404,34 @@ class ProLogWindow extends JDialog {
       // java.lang.NullPointerException
       // at java.desktop/javax.swing.text.PlainView.calculateLongestLine(PlainView.java:782)
       // See: https://github.com/triplea-game/triplea/issues/6481
-      currentLogTextArea.append(message + "\r\n");
+      final ProLogBuffer.Rendering rendering = currentLog.renderSince(renderedVersion);
+      if (rendering.isAppendable()) {
+        // appending keeps the scroll position of a user who reads earlier messages
+        currentLogTextArea.append(rendering.getText());
+        dropOldestLines(currentLogTextArea);
+      } else {
+        currentLogTextArea.setText(rendering.getText());
+      }
+      renderedVersion = rendering.getVersion();
     } catch (
         final Exception ex) { // This is bad, but we don't want TripleA crashing because of this...
-      log.info("Error adding Pro log message! Message: " + message, ex);
+      log.info("Error showing Pro log messages!", ex);
+    }
+  }
+
+  /** Keeps the text area from growing past the number of messages a buffer keeps. */
+  private static void dropOldestLines(final JTextArea textArea) throws BadLocationException {
+    final int excessLines = textArea.getLineCount() - ProLogBuffer.CAPACITY - 1;
+    if (excessLines > 0) {
+      textArea.replaceRange(null, 0, textArea.getLineEndOffset(excessLines - 1));
     }
   }
 
-  void notifyNewRound(final int roundNumber, final String name) {
+  void notifyNewRound(final int roundNumber, final String name, final ProLogBuffer newLog) {
     SwingUtilities.invokeLater(
         () -> {
+          // Show the last messages of the previous turn before moving on to the new one
+          renderCurrentLog();
           final JPanel newPanel = new JPanel();
           final JScrollPane newScrollPane = new JScrollPane();
           final JTextArea newTextArea = new JTextArea();
@@ -400,6 +445,8 @@ class ProLogWindow extends JDialog {
           newPanel.add(newScrollPane);
           logHolderTabbedPane.addTab(roundNumber + "-" + name, newPanel);
           currentLogTextArea = newTextArea;
+          currentLog = newLog;
+          renderedVersion = -1;
           // Now remove round logging that has 'expired'.
           // Note that this method will also trim all but the first and last log panels if logging
           // is turned off
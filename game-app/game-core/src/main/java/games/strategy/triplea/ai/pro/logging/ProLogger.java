@@ -1,10 +1,18 @@
 package games.strategy.triplea.ai.pro.logging;
 
 import games.strategy.triplea.ai.pro.AbstractProAi;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import javax.annotation.Nullable;
 
-/** Class to log messages to log window and console. */
+/**
+ * Class to log messages to log window and console.
+ *
+ * <p>The messages of an AI turn are kept in memory and only formatted when the log window shows
+ * them. Messages with arguments should use the methods taking a format, see {@link
+ * String#format(String, Object...)}, which only format the message when it would be logged.
+ * Messages whose arguments need work to compute should use the {@link Supplier} methods.
+ */
 public final class ProLogger {
   private ProLogger() {}
 
@@ -24,6 +32,42 @@ public final class ProLogger {
     log(Level.FINEST, message);
   }
 
+  public static void info(final String format, final Object... args) {
+    logFormatted(Level.FINE, format, args);
+  }
+
+  public static void debug(final String format, final Object... args) {
+    logFormatted(Level.FINER, format, args);
+  }
+
+  public static void trace(final String format, final Object... args) {
+    logFormatted(Level.FINEST, format, args);
+  }
+
+  public static void info(final Supplier<String> message) {
+    log(Level.FINE, message);
+  }
+
+  public static void debug(final Supplier<String> message) {
+    log(Level.FINER, message);
+  }
+
+  public static void trace(final Supplier<String> message) {
+    log(Level.FINEST, message);
+  }
+
+  private static void log(final Level level, final Supplier<String> message) {
+    if (isLoggable(level)) {
+      ProLogUi.notifyAiLogMessage(level, message.get(), null);
+    }
+  }
+
+  private static void logFormatted(final Level level, final String format, final Object... args) {
+    if (isLoggable(level)) {
+      ProLogUi.notifyAiLogMessage(level, String.format(format, args), null);
+    }
+  }
+
   private static void log(final Level level, final String message) {
     log(level, message, null);
   }
@@ -44,32 +88,44 @@ public final class ProLogger {
    * in mind while adding new logging code.
    */
   public static void log(final Level level, final String message, final @Nullable Throwable t) {
+    if (isLoggable(level)) {
+      ProLogUi.notifyAiLogMessage(level, message, t);
+    }
+  }
+
+  /**
+   * Returns true if messages of the given level would be shown, that is if there is a log window,
+   * logging is enabled and the level is within the log depth of the settings.
+   */
+  public static boolean isLoggable(final Level level) {
+    if (!ProLogUi.hasLogWindow()) {
+      return false; // Nobody could ever see the message, e.g. in a headless game
+    }
     final ProLogSettings settings = ProLogSettings.loadSettings();
     if (!settings.isLogEnabled()) {
-      return; // Skip displaying to settings window if settings window option is turned off
+      return false; // Skip displaying to settings window if settings window option is turned off
     }
     final Level logDepth = settings.getLogLevel();
     if (logDepth.equals(Level.FINE) && (level.equals(Level.FINER) || level.equals(Level.FINEST))) {
-      return; // If the settings window log depth is a higher level than this messages, skip
-    }
-    if (logDepth.equals(Level.FINER) && level.equals(Level.FINEST)) {
-      return;
+      return false; // If the settings window log depth is a higher level than this messages, skip
     }
-    ProLogUi.notifyAiLogMessage(formatMessage(message, t, level));
+    return !(logDepth.equals(Level.FINER) && level.equals(Level.FINEST));
   }
 
   /**
    * Adds extra spaces to get logs to lineup correctly. (Adds two spaces to fine, one to finer, none
    * to finest, etc.)
    */
-  private static String formatMessage(
-      final String message, final @Nullable Throwable t, final Level level) {
+  static void formatMessage(
+      final StringBuilder builder,
+      final Level level,
+      final String message,
+      final @Nullable Throwable t) {
     final int compensateLength = (level.toString().length() - 4) * 2;
-    final StringBuilder builder = new StringBuilder(" ".repeat(Math.max(0, compensateLength)));
+    builder.append(" ".repeat(Math.max(0, compensateLength)));
     builder.append(message);
     if (t != null) {
       builder.append(" (error: ").append(t.getMessage()).append(")");
     }
-    return builder.toString();
   }
 }
@@ -60,17 +60,17 @@ public final class ProSimulateTurnUtils {
         final Collection<Unit> defenders = new ArrayList<>(battle.getDefendingUnits());
         defenders.retainAll(t.getUnits());
         final Collection<Unit> bombardingUnits = battle.getBombardingUnits();
-        ProLogger.debug("---" + t);
-        ProLogger.debug("attackers=" + attackers);
-        ProLogger.debug("defenders=" + defenders);
-        ProLogger.debug("bombardingUnits=" + bombardingUnits);
+        ProLogger.debug(() -> "---" + t);
+        ProLogger.debug(() -> "attackers=" + attackers);
+        ProLogger.debug(() -> "defenders=" + defenders);
+        ProLogger.debug(() -> "bombardingUnits=" + bombardingUnits);
 
         final ProBattleResult result =
             calc.callBattleCalc(proData, t, attackers, defenders, bombardingUnits);
         final Collection<Unit> remainingAttackers = result.getAverageAttackersRemaining();
         final Collection<Unit> remainingDefenders = result.getAverageDefendersRemaining();
-        ProLogger.debug("remainingAttackers=" + remainingAttackers);
-        ProLogger.debug("remainingDefenders=" + remainingDefenders);
+        ProLogger.debug(() -> "remainingAttackers=" + remainingAttackers);
+        ProLogger.debug(() -> "remainingDefenders=" + remainingDefenders);
 
         // Make updates to data
         final List<Unit> attackersToRemove = new ArrayList<>(attackers);
@@ -80,9 +80,9 @@ public final class ProSimulateTurnUtils {
         defendersToRemove.removeAll(remainingDefenders);
         final List<Unit> infrastructureToChangeOwner =
             CollectionUtils.getMatches(defenders, Matches.unitIsInfrastructure());
-        ProLogger.debug("attackersToRemove=" + attackersToRemove);
-        ProLogger.debug("defendersToRemove=" + defendersToRemove);
-        ProLogger.debug("infrastructureToChangeOwner=" + infrastructureToChangeOwner);
+        ProLogger.debug(() -> "attackersToRemove=" + attackersToRemove);
+        ProLogger.debug(() -> "defendersToRemove=" + defendersToRemove);
+        ProLogger.debug(() -> "infrastructureToChangeOwner=" + infrastructureToChangeOwner);
         final Change attackersKilledChange = ChangeFactory.removeUnits(t, attackersToRemove);
         delegateBridge.addChange(attackersKilledChange);
         final Change defendersKilledChange = ChangeFactory.removeUnits(t, defendersToRemove);
@@ -95,10 +95,11 @@ public final class ProSimulateTurnUtils {
         battleDelegate.getBattleTracker().removeBattle(battle, data);
         final Territory updatedTerritory = data.getMap().getTerritory(t.getName());
         ProLogger.debug(
-            "after changes owner="
-                + updatedTerritory.getOwner()
-                + ", units="
-                + updatedTerritory.getUnits());
+            () ->
+                "after changes owner="
+                    + updatedTerritory.getOwner()
+                    + ", units="
+                    + updatedTerritory.getUnits());
       }
     }
   }
@@ -130,7 +131,7 @@ public final class ProSimulateTurnUtils {
       final Map<Unit, Territory> transportTerritoryMap =
           moveMap.get(fromTerritory).getTransportTerritoryMap();
       final Map<Unit, Territory> bombardMap = moveMap.get(fromTerritory).getBombardTerritoryMap();
-      ProLogger.debug("Transferring " + fromTerritory + " to " + toTerritory);
+      ProLogger.debug(() -> "Transferring " + fromTerritory + " to " + toTerritory);
       final List<Unit> amphibUnits = new ArrayList<>();
       for (final Unit transport : amphibAttackMap.keySet()) {
         final Unit toTransport;
@@ -170,25 +171,26 @@ public final class ProSimulateTurnUtils {
                   toData.getMap().getTerritory(transportTerritoryMap.get(transport).getName()));
         }
         ProLogger.trace(
-            "---Transferring transport="
-                + transport
-                + " with units="
-                + amphibAttackMap.get(transport)
-                + " unloadTerritory="
-                + transportTerritoryMap.get(transport)
-                + " to transport="
-                + toTransport
-                + " with units="
-                + toUnits
-                + " unloadTerritory="
-                + patd.getTransportTerritoryMap().get(toTransport));
+            () ->
+                "---Transferring transport="
+                    + transport
+                    + " with units="
+                    + amphibAttackMap.get(transport)
+                    + " unloadTerritory="
+                    + transportTerritoryMap.get(transport)
+                    + " to transport="
+                    + toTransport
+                    + " with units="
+                    + toUnits
+                    + " unloadTerritory="
+                    + patd.getTransportTerritoryMap().get(toTransport));
       }
       for (final Unit u : moveMap.get(fromTerritory).getUnits()) {
         if (!amphibUnits.contains(u)) {
           final Unit toUnit = transferUnit(u, unitTerritoryMap, usedUnits, toData, player);
           if (toUnit != null) {
             patd.addUnit(toUnit);
-            ProLogger.trace("---Transferring unit " + u + " to " + toUnit);
+            ProLogger.trace(() -> "---Transferring unit " + u + " to " + toUnit);
           }
         }
       }
@@ -196,7 +198,7 @@ public final class ProSimulateTurnUtils {
         final Unit toUnit = transferUnit(u, unitTerritoryMap, usedUnits, toData, player);
         if (toUnit != null) {
           patd.getBombers().add(toUnit);
-          ProLogger.trace("---Transferring bomber " + u + " to " + toUnit);
+          ProLogger.trace(() -> "---Transferring bomber " + u + " to " + toUnit);
         }
       }
       for (final Unit u : bombardMap.keySet()) {
@@ -205,14 +207,15 @@ public final class ProSimulateTurnUtils {
           patd.getBombardTerritoryMap()
               .put(toUnit, toData.getMap().getTerritory(bombardMap.get(u).getName()));
           ProLogger.trace(
-              "---Transferring bombard="
-                  + u
-                  + ", bombardFromTerritory="
-                  + bombardMap.get(u)
-                  + " to bombard="
-                  + toUnit
-                  + ", bombardFromTerritory="
-                  + patd.getBombardTerritoryMap().get(toUnit));
+              () ->
+                  "---Transferring bombard="
+                      + u
+                      + ", bombardFromTerritory="
+                      + bombardMap.get(u)
+                      + " to bombard="
+                      + toUnit
+                      + ", bombardFromTerritory="
+                      + patd.getBombardTerritoryMap().get(toUnit));
         }
       }
     }
@@ -209,15 +209,8 @@ public final class ProBattleUtils {
       // Determine strength difference
       final double strengthDifference = estimateStrengthDifference(t, enemyUnits, alliedUnits);
       ProLogger.trace(
-          t
-              + ", current enemy land strengthDifference="
-              + strengthDifference
-              + ", distance="
-              + i
-              + ", enemySize="
-              + enemyUnits.size()
-              + ", alliedSize="
-              + alliedUnits.size());
+          "%s, current enemy land strengthDifference=%s, distance=%s, enemySize=%s, alliedSize=%s",
+          t, strengthDifference, i, enemyUnits.size(), alliedUnits.size());
       if (strengthDifference > 50) {
         return false;
       }
@@ -269,13 +262,14 @@ public final class ProBattleUtils {
     final double strengthDifference =
         estimateStrengthDifference(t, enemyUnits, new ArrayList<>(alliedUnits));
     ProLogger.trace(
-        t
-            + ", current enemy land strengthDifference="
-            + strengthDifference
-            + ", enemySize="
-            + enemyUnits.size()
-            + ", alliedSize="
-            + alliedUnits.size());
+        () ->
+            t
+                + ", current enemy land strengthDifference="
+                + strengthDifference
+                + ", enemySize="
+                + enemyUnits.size()
+                + ", alliedSize="
+                + alliedUnits.size());
     return strengthDifference <= 50;
   }
 
@@ -301,11 +295,11 @@ public final class ProBattleUtils {
     final List<Territory> nearbyLandTerritories =
         CollectionUtils.getMatches(nearbyTerritories, Matches.territoryIsLand());
     final Set<Territory> nearbyEnemySeaTerritories =
-        data.getMap().getNeighbors(t, enemyDistance, Matches.territoryIsWater());
+        data.getMap().getWaterNeighbors(t, enemyDistance);
     nearbyEnemySeaTerritories.add(t);
     final int alliedDistance = (enemyDistance + 1) / 2;
     final Set<Territory> nearbyAlliedSeaTerritories =
-        data.getMap().getNeighbors(t, alliedDistance, Matches.territoryIsWater());
+        data.getMap().getWaterNeighbors(t, alliedDistance);
     nearbyAlliedSeaTerritories.add(t);
 
     final List<Unit> alliedUnitsInSeaTerritories = new ArrayList<>();
@@ -355,17 +349,18 @@ public final class ProBattleUtils {
     }
 
     ProLogger.trace(
-        t
-            + ", enemyDistance="
-            + enemyDistance
-            + ", alliedDistance="
-            + alliedDistance
-            + ", enemyAirUnits="
-            + summarizeUnits(enemyUnitsInLandTerritories)
-            + ", enemySeaUnits="
-            + summarizeUnits(enemyUnitsInSeaTerritories)
-            + ", myUnits="
-            + summarizeUnits(myUnits));
+        () ->
+            t
+                + ", enemyDistance="
+                + enemyDistance
+                + ", alliedDistance="
+                + alliedDistance
+                + ", enemyAirUnits="
+                + summarizeUnits(enemyUnitsInLandTerritories)
+                + ", enemySeaUnits="
+                + summarizeUnits(enemyUnitsInSeaTerritories)
+                + ", myUnits="
+                + summarizeUnits(myUnits));
 
     // Find current naval defense strength
     final List<Unit> enemyAttackers = new ArrayList<>(enemyUnitsInSeaTerritories);
@@ -373,15 +368,13 @@ public final class ProBattleUtils {
     final double defenseStrengthDifference = estimateStrengthDifference(t, enemyAttackers, myUnits);
     boolean hasSuperiority = (defenseStrengthDifference < 50);
     ProLogger.trace(
-        t
-            + ", current enemy naval attack strengthDifference="
-            + defenseStrengthDifference
-            + ", enemySize="
-            + enemyAttackers.size()
-            + ", alliedSize="
-            + myUnits.size()
-            + ", hasSuperiority="
-            + hasSuperiority);
+        "%s, current enemy naval attack strengthDifference=%s, enemySize=%s, alliedSize=%s, "
+            + "hasSuperiority=%s",
+        t,
+        defenseStrengthDifference,
+        enemyAttackers.size(),
+        myUnits.size(),
+        hasSuperiority);
     if (!hasSuperiority) {
       return false;
     }
@@ -395,15 +388,13 @@ public final class ProBattleUtils {
                 t, alliedUnitsInSeaTerritories, enemyUnitsInSeaTerritories);
     hasSuperiority = (attackStrengthDifference > 50);
     ProLogger.trace(
-        t
-            + ", current allied naval attack strengthDifference="
-            + attackStrengthDifference
-            + ", alliedSize="
-            + myUnits.size()
-            + ", enemySize="
-            + enemyUnitsInSeaTerritories.size()
-            + ", hasSuperiority="
-            + hasSuperiority);
+        "%s, current allied naval attack strengthDifference=%s, alliedSize=%s, enemySize=%s, "
+            + "hasSuperiority=%s",
+        t,
+        attackStrengthDifference,
+        myUnits.size(),
+        enemyUnitsInSeaTerritories.size(),
+        hasSuperiority);
     if (!hasSuperiority) {
       return false;
     }
@@ -416,14 +407,17 @@ public final class ProBattleUtils {
           calc.estimateAttackBattleResults(
               proData, t, myUnits, strongestEnemyDefenseFleet, List.of());
       hasSuperiority = (result.getTuvSwing() > 0);
+      final List<Unit> finalStrongestEnemyDefenseFleet = strongestEnemyDefenseFleet;
+      final boolean finalHasSuperiority = hasSuperiority;
       ProLogger.trace(
-          String.format(
-              "%s, TUVSwing=%s, myUnits=%s, strongestEnemyDefenseFleet=%s, hasSuperiority=%s",
-              t,
-              result.getTuvSwing(),
-              summarizeUnits(myUnits),
-              summarizeUnits(strongestEnemyDefenseFleet),
-              hasSuperiority));
+          () ->
+              String.format(
+                  "%s, TUVSwing=%s, myUnits=%s, strongestEnemyDefenseFleet=%s, hasSuperiority=%s",
+                  t,
+                  result.getTuvSwing(),
+                  summarizeUnits(myUnits),
+                  summarizeUnits(finalStrongestEnemyDefenseFleet),
+                  finalHasSuperiority));
     }
 
     return hasSuperiority;
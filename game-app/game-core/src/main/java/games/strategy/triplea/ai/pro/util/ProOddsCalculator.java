@@ -12,14 +12,21 @@ import games.strategy.triplea.ai.pro.data.ProTerritory;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.BattleSpec;
+import games.strategy.triplea.odds.calculator.ConfidenceTarget;
 import games.strategy.triplea.odds.calculator.IBattleCalculator;
 import games.strategy.triplea.util.TuvUtils;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.triplea.java.collections.CollectionUtils;
 
 /** Pro AI odds calculator. */
 public class ProOddsCalculator {
+  // the smallest run count, and the number of runs between two checks of the confidence target
+  private static final int BATCH_SIZE = 16;
 
   private final IBattleCalculator calc;
   private boolean stopped = false;
@@ -45,6 +52,24 @@ public class ProOddsCalculator {
       final Collection<Unit> defendingUnits,
       final Collection<Unit> bombardingUnits) {
 
+    final ProBattleResult result =
+        estimateAttackBattleResultsWithoutSimulation(proData, t, attackingUnits, defendingUnits);
+    if (result != null) {
+      return result;
+    }
+    return callBattleCalc(proData, t, attackingUnits, defendingUnits, bombardingUnits);
+  }
+
+  /**
+   * Returns the result of an attack that doesn't need to be simulated because either side has no
+   * units or the attackers have almost no chance to win, or null if the attack needs to be
+   * simulated.
+   */
+  private static ProBattleResult estimateAttackBattleResultsWithoutSimulation(
+      final ProData proData,
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits) {
     final ProBattleResult result =
         checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits, true);
     if (result != null) {
@@ -57,7 +82,7 @@ public class ProOddsCalculator {
     if (strengthDifference < 45) {
       return new ProBattleResult(0, -999, false, List.of(), defendingUnits, 1);
     }
-    return callBattleCalc(proData, t, attackingUnits, defendingUnits, bombardingUnits);
+    return null;
   }
 
   /**
@@ -226,6 +251,51 @@ public class ProOddsCalculator {
         proData, t, attackingUnits, defendingUnits, bombardingUnits, checkSubmerge, false);
   }
 
+  /**
+   * Estimates the attack battle result of every territory in {@code territories} that does not have
+   * one yet. The battles that need a simulation are handed to the battle calculator as one batch so
+   * they can be simulated at the same time.
+   */
+  public void estimateAttackBattleResults(
+      final ProData proData, final Collection<ProTerritory> territories, final GamePlayer player) {
+    final Map<ProTerritory, BattleSpec> battlesToSimulate = new LinkedHashMap<>();
+    for (final ProTerritory patd : territories) {
+      if (patd.getBattleResult() != null) {
+        continue;
+      }
+      final Territory t = patd.getTerritory();
+      final Collection<Unit> attackingUnits = patd.getUnits();
+      final Collection<Unit> defendingUnits = patd.getMaxEnemyDefenders(player);
+      final ProBattleResult result =
+          estimateAttackBattleResultsWithoutSimulation(proData, t, attackingUnits, defendingUnits);
+      if (result != null) {
+        patd.setBattleResult(result);
+      } else if (stopped || defendingUnits.isEmpty()) {
+        patd.setBattleResult(new ProBattleResult());
+      } else {
+        battlesToSimulate.put(
+            patd,
+            createBattleSpec(
+                t, attackingUnits, defendingUnits, patd.getBombardTerritoryMap().keySet(), false));
+      }
+    }
+    if (battlesToSimulate.isEmpty()) {
+      return;
+    }
+    final Map<BattleSpec, AggregateResults> results =
+        calc.calculateAll(new ArrayList<>(battlesToSimulate.values()));
+    battlesToSimulate.forEach(
+        (patd, battle) ->
+            patd.setBattleResult(
+                toProBattleResult(
+                    proData,
+                    patd.getTerritory(),
+                    battle.getAttacking(),
+                    battle.getDefending(),
+                    true,
+                    results.get(battle))));
+  }
+
   /** Simulates the specified battle. */
   private ProBattleResult callBattleCalc(
       final ProData proData,
@@ -235,27 +305,64 @@ public class ProOddsCalculator {
       final Collection<Unit> bombardingUnits,
       final boolean checkSubmerge,
       final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = t.getData();
-
     if (stopped || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
+    final AggregateResults results =
+        calc.calculate(
+            createBattleSpec(
+                t, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft));
+    return toProBattleResult(proData, t, attackingUnits, defendingUnits, checkSubmerge, results);
+  }
+
+  private static BattleSpec createBattleSpec(
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final boolean retreatWhenOnlyAirLeft) {
     final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
-    final int runCount = Math.max(16, 100 - minArmySize);
+    final int runCount = Math.max(BATCH_SIZE, 100 - minArmySize);
+    return BattleSpec.builder()
+        .attacker(CollectionUtils.getAny(attackingUnits).getOwner())
+        .defender(CollectionUtils.getAny(defendingUnits).getOwner())
+        .location(t)
+        .attacking(attackingUnits)
+        .defending(defendingUnits)
+        .bombarding(bombardingUnits)
+        .territoryEffects(TerritoryEffectHelper.getEffects(t))
+        .retreatWhenOnlyAirLeft(retreatWhenOnlyAirLeft)
+        .runCount(runCount)
+        .confidenceTarget(getConfidenceTarget(runCount))
+        .build();
+  }
+
+  /**
+   * Returns the confidence target of a battle with the given run count. After all its runs, the
+   * win percentage of a close battle, one the attacker wins about half of the time, is only known
+   * to within 0.98 / sqrt(runCount) either way, e.g. within 9.8% after 100 runs. Simulating stops
+   * once the win percentage is known as precisely. With 100 runs, a battle that one side always
+   * wins stops after 32 runs, one the attacker wins 90% of the time after 48 and one the attacker
+   * wins 75% of the time after 80, while close battles use all runs as before.
+   */
+  private static ConfidenceTarget getConfidenceTarget(final int runCount) {
+    return ConfidenceTarget.builder()
+        .winPercentError(0.98 / Math.sqrt(runCount))
+        .batchSize(BATCH_SIZE)
+        .build();
+  }
+
+  private static ProBattleResult toProBattleResult(
+      final ProData proData,
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final boolean checkSubmerge,
+      final AggregateResults results) {
+    final GameData data = t.getData();
     final GamePlayer attacker = CollectionUtils.getAny(attackingUnits).getOwner();
     final GamePlayer defender = CollectionUtils.getAny(defendingUnits).getOwner();
-    final AggregateResults results =
-        calc.calculate(
-            attacker,
-            defender,
-            t,
-            attackingUnits,
-            defendingUnits,
-            bombardingUnits,
-            TerritoryEffectHelper.getEffects(t),
-            retreatWhenOnlyAirLeft,
-            runCount);
 
     // Find battle result statistics
     final double winPercentage = results.getAttackerWinPercent() * 100;
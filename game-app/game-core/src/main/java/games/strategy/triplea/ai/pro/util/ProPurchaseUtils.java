@@ -49,7 +49,7 @@ public final class ProPurchaseUtils {
   public static Optional<ProPurchaseOption> randomizePurchaseOption(
       final Map<ProPurchaseOption, Double> purchaseEfficiencies, final String type) {
 
-    ProLogger.trace("Select purchase option for " + type);
+    ProLogger.trace(() -> "Select purchase option for " + type);
     double totalEfficiency = 0;
     for (final Double efficiency : purchaseEfficiencies.values()) {
       totalEfficiency += efficiency;
@@ -64,10 +64,10 @@ public final class ProPurchaseUtils {
       upperBound += chance;
       purchasePercentages.put(ppo, upperBound);
       ProLogger.trace(
-          ppo.getUnitType().getName() + ", probability=" + chance + ", upperBound=" + upperBound);
+          "%s, probability=%s, upperBound=%s", ppo.getUnitType().getName(), chance, upperBound);
     }
     final double randomNumber = Math.random() * 100;
-    ProLogger.trace("Random number: " + randomNumber);
+    ProLogger.trace(() -> "Random number: " + randomNumber);
     for (final ProPurchaseOption ppo : purchasePercentages.keySet()) {
       if (randomNumber <= purchasePercentages.get(ppo)) {
         return Optional.of(ppo);
@@ -86,7 +86,7 @@ public final class ProPurchaseUtils {
       final Territory t,
       final List<ProPurchaseOption> landPurchaseOptions) {
 
-    ProLogger.info("Find max purchase defenders for " + t.getName());
+    ProLogger.info(() -> "Find max purchase defenders for " + t.getName());
     final GameState data = proData.getData();
 
     // Determine most cost efficient defender that can be produced in this territory
@@ -107,7 +107,7 @@ public final class ProPurchaseUtils {
     // Determine number of defenders I can purchase
     final List<Unit> placeUnits = new ArrayList<>();
     if (bestDefenseOption != null) {
-      ProLogger.debug("Best defense option: " + bestDefenseOption.getUnitType().getName());
+      ProLogger.debug("Best defense option: %s", bestDefenseOption.getUnitType().getName());
       int remainingUnitProduction = getUnitProduction(t, player);
       int pusSpent = 0;
       while (bestDefenseOption.getCost() <= (pusRemaining - pusSpent)
@@ -121,7 +121,7 @@ public final class ProPurchaseUtils {
         placeUnits.addAll(
             bestDefenseOption.getUnitType().createTemp(bestDefenseOption.getQuantity(), player));
       }
-      ProLogger.debug("Potential purchased defenders: " + placeUnits);
+      ProLogger.debug(() -> "Potential purchased defenders: " + placeUnits);
     }
     return placeUnits;
   }
@@ -154,7 +154,7 @@ public final class ProPurchaseUtils {
     for (final Territory t : potentialTerritories) {
       final ProPurchaseTerritory ppt = new ProPurchaseTerritory(t, data, player, 1, true);
       purchaseTerritories.put(t, ppt);
-      ProLogger.debug(ppt.toString());
+      ProLogger.debug(() -> ppt.toString());
     }
     return purchaseTerritories;
   }
@@ -193,7 +193,7 @@ public final class ProPurchaseUtils {
       final int unitProduction = getUnitProduction(t, player);
       final ProPurchaseTerritory ppt = new ProPurchaseTerritory(t, data, player, unitProduction);
       purchaseTerritories.put(t, ppt);
-      ProLogger.debug(ppt.toString());
+      ProLogger.debug(() -> ppt.toString());
     }
     return purchaseTerritories;
   }
@@ -0,0 +1,125 @@
+package games.strategy.triplea.ai.pro.util;
+
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.util.BreadthFirstSearch;
+import games.strategy.triplea.delegate.move.validation.MoveValidator;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+/**
+ * Distances the Pro AI uses to value territories, see {@link ProTerritoryValueUtils}. The first
+ * lookup from a territory searches the distances to all territories from it once, later lookups
+ * from the same territory are map lookups.
+ *
+ * <p>The distances only depend on the map, the relationships of the player and the owners of the
+ * canals, so an instance is kept by {@link games.strategy.triplea.ai.pro.ProData} for one phase.
+ */
+public class ProTerritoryDistances {
+  private final GamePlayer player;
+  private final BiPredicate<Territory, Territory> landRouteCondition;
+  private final Predicate<Territory> seaRouteCondition;
+  private final Map<Territory, Map<Territory, Integer>> landDistances = new HashMap<>();
+  private final Map<Territory, Map<Territory, Integer>> seaDistances = new HashMap<>();
+  private @Nullable Integer maxLandMassSize;
+
+  public ProTerritoryDistances(final GamePlayer player) {
+    this.player = player;
+    final Predicate<Territory> canMoveLandUnits =
+        ProMatches.territoryCanPotentiallyMoveLandUnits(player);
+    final BiPredicate<Territory, Territory> noCanals =
+        ProMatches.noCanalsBetweenTerritories(player);
+    landRouteCondition = (t1, t2) -> canMoveLandUnits.test(t2) && noCanals.test(t1, t2);
+    seaRouteCondition = ProMatches.territoryCanMoveSeaUnits(player, true);
+  }
+
+  /**
+   * Returns the land distance between two territories or -1 if they are not connected. Same as
+   * {@link GameMap#getDistance(Territory, Territory, BiPredicate)} with territories land units can
+   * potentially move through and no canals between them.
+   */
+  public int getLandDistance(final Territory from, final Territory to) {
+    return landDistances.computeIfAbsent(from, this::findLandDistances).getOrDefault(to, -1);
+  }
+
+  /**
+   * Returns the territories within {@code distance} of {@code from} over land, not including {@code
+   * from}. Same as {@link GameMap#getNeighbors(Territory, int, BiPredicate)} with the condition of
+   * {@link #getLandDistance}.
+   */
+  public Set<Territory> getLandNeighbors(final Territory from, final int distance) {
+    final Set<Territory> neighbors = new HashSet<>();
+    landDistances
+        .computeIfAbsent(from, this::findLandDistances)
+        .forEach(
+            (territory, territoryDistance) -> {
+              if (territoryDistance > 0 && territoryDistance <= distance) {
+                neighbors.add(territory);
+              }
+            });
+    return neighbors;
+  }
+
+  /**
+   * Returns the number of steps of the route sea units would take between two territories or -1 if
+   * there is none. Same as the number of steps of {@link GameMap#getRouteForUnits} with territories
+   * sea units can move through in a combat move and no units: the route passes only through such
+   * territories, may end in any territory and passes canals only if the player controls them.
+   */
+  public int getSeaDistance(final Territory from, final Territory to) {
+    return seaDistances.computeIfAbsent(from, this::findSeaDistances).getOrDefault(to, -1);
+  }
+
+  /** Returns the cached result of {@link ProTerritoryValueUtils#findMaxLandMassSize}. */
+  public int getMaxLandMassSize() {
+    if (maxLandMassSize == null) {
+      maxLandMassSize = ProTerritoryValueUtils.findMaxLandMassSize(player);
+    }
+    return maxLandMassSize;
+  }
+
+  private Map<Territory, Integer> findLandDistances(final Territory from) {
+    final Map<Territory, Integer> distances = new HashMap<>();
+    distances.put(from, 0);
+    new BreadthFirstSearch(List.of(from), landRouteCondition)
+        .traverse(
+            (territory, distance) -> {
+              distances.put(territory, distance);
+              return true;
+            });
+    return distances;
+  }
+
+  private Map<Territory, Integer> findSeaDistances(final Territory from) {
+    final GameMap map = from.getData().getMap();
+    // Note: We only use MoveValidator for canal checks, where isNonCombat isn't used.
+    final MoveValidator moveValidator = new MoveValidator(from.getData(), false);
+    final Map<Territory, Integer> distances = new HashMap<>();
+    distances.put(from, 0);
+    final ArrayDeque<Territory> territoriesToCheck = new ArrayDeque<>();
+    territoriesToCheck.add(from);
+    while (!territoriesToCheck.isEmpty()) {
+      final Territory territory = territoriesToCheck.removeFirst();
+      final int distance = distances.get(territory) + 1;
+      for (final Territory neighbor : map.getNeighbors(territory)) {
+        if (!distances.containsKey(neighbor)
+            && moveValidator.canAnyUnitsPassCanal(territory, neighbor, Set.of(), player)) {
+          distances.put(neighbor, distance);
+          // routes may end in any territory, but only pass through those sea units can move to
+          if (seaRouteCondition.test(neighbor)) {
+            territoriesToCheck.add(neighbor);
+          }
+        }
+      }
+    }
+    return distances;
+  }
+}
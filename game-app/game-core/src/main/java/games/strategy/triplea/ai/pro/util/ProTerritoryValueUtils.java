@@ -1,9 +1,7 @@
 package games.strategy.triplea.ai.pro.util;
 
-import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.GameState;
-import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.util.BreadthFirstSearch;
 import games.strategy.triplea.ai.pro.ProData;
@@ -17,7 +15,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import lombok.experimental.UtilityClass;
 import org.triplea.java.collections.CollectionUtils;
@@ -55,7 +52,7 @@ public final class ProTerritoryValueUtils {
       final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack,
       final Set<Territory> territoriesToCheck) {
-    final int maxLandMassSize = findMaxLandMassSize(player);
+    final int maxLandMassSize = proData.getTerritoryDistances().getMaxLandMassSize();
     final Map<Territory, Double> enemyCapitalsAndFactoriesMap =
         findEnemyCapitalsAndFactoriesValue(
             player, maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
@@ -97,6 +94,7 @@ public final class ProTerritoryValueUtils {
 
   /** Returns the value of each sea territory in {@link ProData#getData()}. */
   public static Map<Territory, Double> findSeaTerritoryValues(
+      final ProData proData,
       final GamePlayer player,
       final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToCheck) {
@@ -104,6 +102,7 @@ public final class ProTerritoryValueUtils {
     // Determine value for water territories
     final Map<Territory, Double> territoryValueMap = new HashMap<>();
     final GameState data = player.getData();
+    final ProTerritoryDistances distances = proData.getTerritoryDistances();
     for (final Territory t : territoriesToCheck) {
       if (!territoriesThatCantBeHeld.contains(t)
           && t.isWater()
@@ -118,18 +117,7 @@ public final class ProTerritoryValueUtils {
                 nearbySeaTerritories,
                 ProMatches.territoryIsEnemyOrCantBeHeld(player, territoriesThatCantBeHeld));
         for (final Territory nearbyEnemySeaTerritory : nearbyEnemySeaTerritories) {
-          final Route route =
-              data.getMap()
-                  .getRouteForUnits(
-                      t,
-                      nearbyEnemySeaTerritory,
-                      ProMatches.territoryCanMoveSeaUnits(player, true),
-                      Set.of(),
-                      player);
-          if (route == null) {
-            continue;
-          }
-          final int distance = route.numberOfSteps();
+          final int distance = distances.getSeaDistance(t, nearbyEnemySeaTerritory);
           if (distance > 0) {
             nearbySeaProductionValue +=
                 TerritoryAttachment.getProduction(nearbyEnemySeaTerritory) / Math.pow(2, distance);
@@ -142,18 +130,7 @@ public final class ProTerritoryValueUtils {
             CollectionUtils.getMatches(
                 nearbySeaTerritories, Matches.territoryHasEnemyUnits(player));
         for (final Territory nearbyEnemySeaTerritory : nearbyEnemySeaUnitTerritories) {
-          final Route route =
-              data.getMap()
-                  .getRouteForUnits(
-                      t,
-                      nearbyEnemySeaTerritory,
-                      ProMatches.territoryCanMoveSeaUnits(player, true),
-                      Set.of(),
-                      player);
-          if (route == null) {
-            continue;
-          }
-          final int distance = route.numberOfSteps();
+          final int distance = distances.getSeaDistance(t, nearbyEnemySeaTerritory);
           if (distance > 0) {
             nearbyEnemySeaUnitValue +=
                 nearbyEnemySeaTerritory
@@ -275,15 +252,11 @@ public final class ProTerritoryValueUtils {
 
     // Determine value based on enemy factory land distance
     final List<Double> values = new ArrayList<>();
-    final GameData data = proData.getData();
+    final ProTerritoryDistances distances = proData.getTerritoryDistances();
     final Collection<Territory> nearbyEnemyCapitalsAndFactories =
         findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap.keySet());
-    final BiPredicate<Territory, Territory> routeCond =
-        (t1, t2) ->
-            ProMatches.territoryCanPotentiallyMoveLandUnits(player).test(t2)
-                && ProMatches.noCanalsBetweenTerritories(player).test(t1, t2);
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
-      final int distance = data.getMap().getDistance(t, enemyCapitalOrFactory, routeCond);
+      final int distance = distances.getLandDistance(t, enemyCapitalOrFactory);
       if (distance > 0) {
         values.add(enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
       }
@@ -297,14 +270,14 @@ public final class ProTerritoryValueUtils {
 
     // Determine value based on nearby territory production
     double nearbyEnemyValue = 0;
-    final Set<Territory> nearbyTerritories = data.getMap().getNeighbors(t, 2, routeCond);
+    final Set<Territory> nearbyTerritories = distances.getLandNeighbors(t, 2);
     final List<Territory> nearbyEnemyTerritories =
         CollectionUtils.getMatches(
             nearbyTerritories,
             ProMatches.territoryIsEnemyOrCantBeHeld(player, territoriesThatCantBeHeld));
     nearbyEnemyTerritories.removeAll(territoriesToAttack);
     for (final Territory nearbyEnemyTerritory : nearbyEnemyTerritories) {
-      final int distance = data.getMap().getDistance(t, nearbyEnemyTerritory, routeCond);
+      final int distance = distances.getLandDistance(t, nearbyEnemyTerritory);
       if (distance > 0) {
         double value = TerritoryAttachment.getProduction(nearbyEnemyTerritory);
         if (ProUtils.isNeutralLand(nearbyEnemyTerritory)) {
@@ -319,7 +292,7 @@ public final class ProTerritoryValueUtils {
         }
       }
     }
-    final int landMassSize = 1 + data.getMap().getNeighbors(t, 6, routeCond).size();
+    final int landMassSize = 1 + distances.getLandNeighbors(t, 6).size();
     double value = nearbyEnemyValue * landMassSize / maxLandMassSize + capitalOrFactoryValue;
     if (ProMatches.territoryHasInfraFactoryAndIsLand().test(t)) {
       value *= 1.1; // prefer territories with factories
@@ -345,21 +318,11 @@ public final class ProTerritoryValueUtils {
 
     // Determine value based on enemy factory distance
     final List<Double> values = new ArrayList<>();
+    final ProTerritoryDistances distances = proData.getTerritoryDistances();
     final Collection<Territory> nearbyEnemyCapitalsAndFactories =
         findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap.keySet());
     for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
-      final Route route =
-          data.getMap()
-              .getRouteForUnits(
-                  t,
-                  enemyCapitalOrFactory,
-                  ProMatches.territoryCanMoveSeaUnits(player, true),
-                  Set.of(),
-                  player);
-      if (route == null) {
-        continue;
-      }
-      final int distance = route.numberOfSteps();
+      final int distance = distances.getSeaDistance(t, enemyCapitalOrFactory);
       if (distance > 0) {
         values.add(enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
       }
@@ -381,18 +344,7 @@ public final class ProTerritoryValueUtils {
             nearbyTerritories, ProMatches.territoryCanPotentiallyMoveLandUnits(player));
     nearbyLandTerritories.removeAll(territoriesToAttack);
     for (final Territory nearbyLandTerritory : nearbyLandTerritories) {
-      final Route route =
-          data.getMap()
-              .getRouteForUnits(
-                  t,
-                  nearbyLandTerritory,
-                  ProMatches.territoryCanMoveSeaUnits(player, true),
-                  Set.of(),
-                  player);
-      if (route == null) {
-        continue;
-      }
-      final int distance = route.numberOfSteps();
+      final int distance = distances.getSeaDistance(t, nearbyLandTerritory);
       if (distance > 0 && distance <= 3) {
         if (ProMatches.territoryIsEnemyOrCantBeHeld(player, territoriesThatCantBeHeld)
             .test(nearbyLandTerritory)) {
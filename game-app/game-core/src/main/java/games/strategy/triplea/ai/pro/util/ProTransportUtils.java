@@ -538,13 +538,14 @@ public final class ProTransportUtils {
     Territory t = proTerritory.getTerritory();
     ProBattleResult result = proTerritory.getBattleResult();
     ProLogger.trace(
-        String.format(
-            "%s TUVSwing=%s, Win%%=%s, enemyAttackers=%s, defenders=%s",
-            t.getName(),
-            result.getTuvSwing(),
-            result.getWinPercentage(),
-            proTerritory.getMaxEnemyUnits().size(),
-            defendingUnits.size()));
+        () ->
+            String.format(
+                "%s TUVSwing=%s, Win%%=%s, enemyAttackers=%s, defenders=%s",
+                t.getName(),
+                result.getTuvSwing(),
+                result.getWinPercentage(),
+                proTerritory.getMaxEnemyUnits().size(),
+                defendingUnits.size()));
     return result.getWinPercentage() > (100 - proData.getWinPercentage())
         || result.getTuvSwing() > 0;
   }
@@ -163,6 +163,12 @@ public abstract class AbstractConditionsAttachment extends DefaultAttachment imp
         != getInvert();
   }
 
+  /** Only the sub conditions, invert and conditionType are needed to test these conditions. */
+  @Override
+  public ConditionInputs getConditionInputs() {
+    return ConditionInputs.NONE;
+  }
+
   /**
    * Anything that implements ICondition (currently RulesAttachment, TriggerAttachment, and
    * PoliticalActionAttachment) can use this to get all the conditions that must be checked for the
@@ -0,0 +1,55 @@
+package games.strategy.triplea.attachments;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * The game data a condition reads to find out if it is satisfied, used to only test a condition
+ * again once some of this data has changed. Only the units and owners of territories are tracked,
+ * a condition that reads any other data changing during a round is untracked and has to be tested
+ * every time.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConditionInputs {
+  /** A condition that reads nothing but its own properties and its sub conditions. */
+  public static final ConditionInputs NONE = new ConditionInputs(true, false, Set.of());
+  /** A condition that reads the units or owners of any territory. */
+  public static final ConditionInputs ALL_TERRITORIES = new ConditionInputs(true, true, Set.of());
+  /** A condition that has to be tested every time. */
+  public static final ConditionInputs UNTRACKED = new ConditionInputs(false, false, Set.of());
+
+  boolean tracked;
+  boolean allTerritories;
+  /** The names of the territories read, only used if not {@link #allTerritories}. */
+  Set<String> territoryNames;
+
+  public static ConditionInputs ofTerritories(final Collection<String> territoryNames) {
+    return territoryNames.isEmpty()
+        ? NONE
+        : new ConditionInputs(true, false, Set.copyOf(territoryNames));
+  }
+
+  /** Returns the inputs of a condition that reads both these and the other inputs. */
+  public ConditionInputs and(final ConditionInputs other) {
+    if (!tracked || !other.tracked) {
+      return UNTRACKED;
+    }
+    if (allTerritories || other.allTerritories) {
+      return ALL_TERRITORIES;
+    }
+    if (other.territoryNames.isEmpty()) {
+      return this;
+    }
+    if (territoryNames.isEmpty()) {
+      return other;
+    }
+    final Set<String> union = new HashSet<>(territoryNames);
+    union.addAll(other.territoryNames);
+    return new ConditionInputs(true, false, union);
+  }
+}
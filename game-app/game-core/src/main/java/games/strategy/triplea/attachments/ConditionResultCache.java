@@ -0,0 +1,141 @@
+package games.strategy.triplea.attachments;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeAttachmentChange;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.changefactory.TerritoryChanges;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Remembers the results of tested conditions, so that triggers fired before and after every step
+ * of a round do not test all of their conditions again and again. A result is kept until the
+ * round ends or a change is performed that modifies data the condition (or one of its sub
+ * conditions) reads, see {@link ICondition#getConditionInputs()}. Changes that can not be traced
+ * to territories, like changes of attachments, relationships or battle records, forget all
+ * results.
+ */
+public class ConditionResultCache {
+  /** Properties changed when firing triggers and testing conditions, not read by isSatisfied. */
+  private static final Set<String> IGNORED_ATTACHMENT_PROPERTIES =
+      Set.of("uses", "usedThisRound", AbstractConditionsAttachment.PROPERTY_CHANCE);
+
+  private final Map<ICondition, Boolean> results = new HashMap<>();
+  private final Map<String, Set<ICondition>> conditionsByTerritory = new HashMap<>();
+  private final Set<ICondition> conditionsReadingAllTerritories = new HashSet<>();
+  private int round = -1;
+
+  /** Returns the remembered results of those of the given conditions that are still valid. */
+  public synchronized Map<ICondition, Boolean> getResults(
+      final int round, final Collection<ICondition> conditions) {
+    startRound(round);
+    final Map<ICondition, Boolean> validResults = new HashMap<>();
+    for (final ICondition condition : conditions) {
+      final Boolean result = results.get(condition);
+      if (result != null) {
+        validResults.put(condition, result);
+      }
+    }
+    return validResults;
+  }
+
+  /** Remembers the results of all tested conditions whose inputs are tracked. */
+  public synchronized void putResults(
+      final int round, final Map<ICondition, Boolean> testedConditions) {
+    startRound(round);
+    final Map<ICondition, ConditionInputs> inputsByCondition = new HashMap<>();
+    for (final Map.Entry<ICondition, Boolean> entry : testedConditions.entrySet()) {
+      final ICondition condition = entry.getKey();
+      final ConditionInputs inputs = getInputsRecursive(condition, inputsByCondition);
+      if (!inputs.isTracked()) {
+        continue;
+      }
+      results.put(condition, entry.getValue());
+      if (inputs.isAllTerritories()) {
+        conditionsReadingAllTerritories.add(condition);
+      } else {
+        for (final String territoryName : inputs.getTerritoryNames()) {
+          conditionsByTerritory
+              .computeIfAbsent(territoryName, name -> new HashSet<>())
+              .add(condition);
+        }
+      }
+    }
+  }
+
+  /** Forgets the results of all conditions that read data modified by the given change. */
+  public synchronized void changePerformed(final Change change) {
+    if (results.isEmpty()) {
+      return;
+    }
+    final Optional<Set<String>> modifiedTerritories = getModifiedTerritories(change);
+    if (modifiedTerritories.isEmpty()) {
+      clear();
+      return;
+    }
+    if (modifiedTerritories.get().isEmpty()) {
+      return;
+    }
+    results.keySet().removeAll(conditionsReadingAllTerritories);
+    conditionsReadingAllTerritories.clear();
+    for (final String territoryName : modifiedTerritories.get()) {
+      final Set<ICondition> conditions = conditionsByTerritory.remove(territoryName);
+      if (conditions != null) {
+        results.keySet().removeAll(conditions);
+      }
+    }
+  }
+
+  private void startRound(final int round) {
+    if (this.round != round) {
+      clear();
+      this.round = round;
+    }
+  }
+
+  private void clear() {
+    results.clear();
+    conditionsByTerritory.clear();
+    conditionsReadingAllTerritories.clear();
+  }
+
+  private static ConditionInputs getInputsRecursive(
+      final ICondition condition, final Map<ICondition, ConditionInputs> inputsByCondition) {
+    final ConditionInputs knownInputs = inputsByCondition.get(condition);
+    if (knownInputs != null) {
+      return knownInputs;
+    }
+    // a condition that (indirectly) contains itself is never cached
+    inputsByCondition.put(condition, ConditionInputs.UNTRACKED);
+    ConditionInputs inputs = condition.getConditionInputs();
+    for (final ICondition subCondition : condition.getConditions()) {
+      inputs = inputs.and(getInputsRecursive(subCondition, inputsByCondition));
+    }
+    inputsByCondition.put(condition, inputs);
+    return inputs;
+  }
+
+  private static Optional<Set<String>> getModifiedTerritories(final Change change) {
+    if (change instanceof CompositeChange) {
+      final Set<String> territories = new HashSet<>();
+      for (final Change child : ((CompositeChange) change).getChanges()) {
+        final Optional<Set<String>> childTerritories = getModifiedTerritories(child);
+        if (childTerritories.isEmpty()) {
+          return Optional.empty();
+        }
+        territories.addAll(childTerritories.get());
+      }
+      return Optional.of(territories);
+    }
+    if (change instanceof ChangeAttachmentChange
+        && IGNORED_ATTACHMENT_PROPERTIES.contains(
+            ((ChangeAttachmentChange) change).getProperty())) {
+      return Optional.of(Set.of());
+    }
+    return TerritoryChanges.getModifiedTerritories(change);
+  }
+}
@@ -34,4 +34,12 @@ public interface ICondition extends IAttachment {
    * conditions already, or this will give you errors.
    */
   boolean isSatisfied(Map<ICondition, Boolean> testedConditions);
+
+  /**
+   * Returns the game data this condition reads, not counting its sub conditions. The result of the
+   * condition may be reused for as long as this data does not change.
+   */
+  default ConditionInputs getConditionInputs() {
+    return ConditionInputs.UNTRACKED;
+  }
 }
@@ -3,6 +3,7 @@ package games.strategy.triplea.attachments;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.primitives.Ints;
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.BattleRecordsList;
 import games.strategy.engine.data.GameData;
@@ -597,6 +598,53 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
     return testedConditions.get(this);
   }
 
+  /**
+   * Only the territories listed for unit presence, unit exclusion and ownership are tracked.
+   * Territory lists using a group like "controlled" or "original" read all territories. Chance,
+   * isAI and gameProperty conditions are not tracked as they roll dice or read data that is not
+   * changed through game data changes.
+   */
+  @Override
+  public ConditionInputs getConditionInputs() {
+    if (getChanceToHit() != getChanceDiceSides()
+        || getChanceIncrementOnFailure() != 0
+        || getChanceDecrementOnSuccess() != 0
+        || isAI != null
+        || gameProperty != null) {
+      return ConditionInputs.UNTRACKED;
+    }
+    ConditionInputs inputs = ConditionInputs.NONE;
+    for (final String[] territoryList :
+        new String[][] {
+          alliedOwnershipTerritories,
+          directOwnershipTerritories,
+          alliedExclusionTerritories,
+          directExclusionTerritories,
+          enemyExclusionTerritories,
+          enemySurfaceExclusionTerritories,
+          directPresenceTerritories,
+          alliedPresenceTerritories,
+          enemyPresenceTerritories
+        }) {
+      if (territoryList != null) {
+        inputs = inputs.and(getConditionInputs(territoryList));
+      }
+    }
+    return inputs;
+  }
+
+  private ConditionInputs getConditionInputs(final String[] territoryList) {
+    final Set<String> territoryNames = new HashSet<>();
+    for (final String name : territoryList) {
+      if (getData().getMap().getTerritory(name) != null) {
+        territoryNames.add(name);
+      } else if (!name.equals("each") && Ints.tryParse(name) == null) {
+        return ConditionInputs.ALL_TERRITORIES;
+      }
+    }
+    return ConditionInputs.ofTerritories(territoryNames);
+  }
+
   @Override
   public boolean isSatisfied(
       final Map<ICondition, Boolean> testedConditions, final IDelegateBridge delegateBridge) {
@@ -211,7 +211,7 @@ public class TriggerAttachment extends AbstractTriggerAttachment {
       return;
     }
     final Map<ICondition, Boolean> testedConditions =
-        collectTestsForAllTriggers(toFirePossible, bridge);
+        collectCachedTestsForAllTriggers(toFirePossible, bridge);
     final List<TriggerAttachment> toFireTestedAndSatisfied =
         CollectionUtils.getMatches(
             toFirePossible, AbstractTriggerAttachment.isSatisfiedMatch(testedConditions));
@@ -240,6 +240,26 @@ public class TriggerAttachment extends AbstractTriggerAttachment {
     return collectTestsForAllTriggers(toFirePossible, bridge, null, null);
   }
 
+  /**
+   * Like {@link #collectTestsForAllTriggers(Set, IDelegateBridge)}, but only tests the conditions
+   * whose result is not known from an earlier test in this round, see {@link
+   * ConditionResultCache}.
+   */
+  private static Map<ICondition, Boolean> collectCachedTestsForAllTriggers(
+      final Set<TriggerAttachment> toFirePossible, final IDelegateBridge bridge) {
+    final GameData data = bridge.getData();
+    final int round = data.getSequence().getRound();
+    final Set<ICondition> allConditionsNeeded =
+        AbstractConditionsAttachment.getAllConditionsRecursive(Set.copyOf(toFirePossible), null);
+    final Map<ICondition, Boolean> testedConditions =
+        AbstractConditionsAttachment.testAllConditionsRecursive(
+            allConditionsNeeded,
+            data.getConditionResultCache().getResults(round, allConditionsNeeded),
+            bridge);
+    data.getConditionResultCache().putResults(round, testedConditions);
+    return testedConditions;
+  }
+
   static Map<ICondition, Boolean> collectTestsForAllTriggers(
       final Set<TriggerAttachment> toFirePossible,
       final IDelegateBridge bridge,
@@ -348,6 +348,38 @@ public class UnitAttachment extends DefaultAttachment {
   private boolean isSub = false;
   private boolean isSuicide = false;
 
+  // computed from the properties above, 0 if they changed since the last computation
+  private transient int capabilities = 0;
+
+  /**
+   * Capabilities that are tested for very often, like in nearly every filter of the move
+   * validation, battle code and AI. They are combined from the unit properties into a single bit
+   * set that is only computed again after one of these properties changed.
+   */
+  public enum Capability {
+    AIR(UnitAttachment::isAir),
+    SEA(UnitAttachment::isSea),
+    LAND(ua -> !ua.isAir() && !ua.isSea()),
+    INFRASTRUCTURE(UnitAttachment::isInfrastructure),
+    TRANSPORT(ua -> ua.getTransportCapacity() != -1),
+    SEA_TRANSPORT(ua -> ua.getTransportCapacity() != -1 && ua.isSea()),
+    COMBAT_SEA_TRANSPORT(ua -> ua.isCombatTransport() && ua.isSea()),
+    DESTROYER(UnitAttachment::isDestroyer),
+    CAN_EVADE(UnitAttachment::getCanEvade),
+    FIRST_STRIKE(UnitAttachment::getIsFirstStrike),
+    STRATEGIC_BOMBER(UnitAttachment::isStrategicBomber);
+
+    private static final Capability[] ALL = values();
+    private static final int COMPUTED = 1 << 31;
+
+    private final Predicate<UnitAttachment> test;
+    private final int bit = 1 << ordinal();
+
+    Capability(final Predicate<UnitAttachment> test) {
+      this.test = test;
+    }
+  }
+
   public UnitAttachment(final String name, final Attachable attachable, final GameData gameData) {
     super(name, attachable, gameData);
   }
@@ -356,6 +388,24 @@ public class UnitAttachment extends DefaultAttachment {
     return getAttachment(type, nameOfAttachment, UnitAttachment.class);
   }
 
+  /**
+   * Final so that the capabilities of a mocked attachment are computed from the mocked getters of
+   * the individual properties.
+   */
+  public final boolean hasCapability(final Capability capability) {
+    int bits = capabilities;
+    if (bits == 0) {
+      bits = Capability.COMPUTED;
+      for (final Capability each : Capability.ALL) {
+        if (each.test.test(this)) {
+          bits |= each.bit;
+        }
+      }
+      capabilities = bits;
+    }
+    return (bits & capability.bit) != 0;
+  }
+
   private TechTracker getTechTracker() {
     return getData().getTechTracker();
   }
@@ -689,12 +739,14 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setIsSub(final Boolean s) {
     isSub = s;
+    capabilities = 0;
     resetCanNotTarget();
     resetCanNotBeTargetedBy();
   }
 
   private void setCanEvade(final Boolean s) {
     canEvade = s;
+    capabilities = 0;
   }
 
   public boolean getCanEvade() {
@@ -704,6 +756,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setIsFirstStrike(final Boolean s) {
     isFirstStrike = s;
+    capabilities = 0;
   }
 
   public boolean getIsFirstStrike() {
@@ -789,39 +842,48 @@ public class UnitAttachment extends DefaultAttachment {
 
   private void setIsCombatTransport(final String s) {
     isCombatTransport = getBool(s);
+    capabilities = 0;
   }
 
   private void setIsCombatTransport(final Boolean s) {
     isCombatTransport = s;
+    capabilities = 0;
   }
 
   private void resetIsCombatTransport() {
     isCombatTransport = false;
+    capabilities = 0;
   }
 
   private void setIsStrategicBomber(final String s) {
     isStrategicBomber = getBool(s);
+    capabilities = 0;
   }
 
   private void setIsStrategicBomber(final Boolean s) {
     isStrategicBomber = s;
+    capabilities = 0;
   }
 
   private void resetIsStrategicBomber() {
     isStrategicBomber = false;
+    capabilities = 0;
   }
 
   private void setIsDestroyer(final String s) {
     isDestroyer = getBool(s);
+    capabilities = 0;
   }
 
   @VisibleForTesting
   public void setIsDestroyer(final Boolean s) {
     isDestroyer = s;
+    capabilities = 0;
   }
 
   private void resetIsDestroyer() {
     isDestroyer = false;
+    capabilities = 0;
   }
 
   public void setCanBombard(final String s) {
@@ -847,29 +909,35 @@ public class UnitAttachment extends DefaultAttachment {
 
   private void setIsAir(final String s) {
     isAir = getBool(s);
+    capabilities = 0;
   }
 
   @VisibleForTesting
   public void setIsAir(final Boolean s) {
     isAir = s;
+    capabilities = 0;
   }
 
   private void resetIsAir() {
     isAir = false;
+    capabilities = 0;
   }
 
   private void setIsSea(final String s) {
     isSea = getBool(s);
+    capabilities = 0;
   }
 
   @VisibleForTesting
   public UnitAttachment setIsSea(final Boolean s) {
     isSea = s;
+    capabilities = 0;
     return this;
   }
 
   private void resetIsSea() {
     isSea = false;
+    capabilities = 0;
   }
 
   private void setIsFactory(final String s) {
@@ -1328,6 +1396,7 @@ public class UnitAttachment extends DefaultAttachment {
 
   private void setTransportCapacity(final int s) {
     transportCapacity = s;
+    capabilities = 0;
   }
 
   public boolean isTransportCapacity() {
@@ -1690,16 +1759,19 @@ public class UnitAttachment extends DefaultAttachment {
 
   private void setIsInfrastructure(final String s) {
     isInfrastructure = getBool(s);
+    capabilities = 0;
   }
 
   @VisibleForTesting
   public UnitAttachment setIsInfrastructure(final Boolean s) {
     isInfrastructure = s;
+    capabilities = 0;
     return this;
   }
 
   private void resetIsInfrastructure() {
     isInfrastructure = false;
+    capabilities = 0;
   }
 
   private void setCanBeDamaged(final String s) {
@@ -1730,6 +1802,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setIsSuicide(final Boolean s) {
     isSuicide = s;
+    capabilities = 0;
     resetCanNotTarget();
   }
 
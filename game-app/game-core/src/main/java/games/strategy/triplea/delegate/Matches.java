@@ -25,6 +25,7 @@ import games.strategy.triplea.attachments.RulesAttachment;
 import games.strategy.triplea.attachments.TechAttachment;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitAttachment.Capability;
 import games.strategy.triplea.attachments.UnitSupportAttachment;
 import games.strategy.triplea.delegate.battle.BattleTracker;
 import games.strategy.triplea.delegate.battle.DependentBattle;
@@ -91,7 +92,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsSea() {
-    return unit -> unit.getUnitAttachment().isSea();
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.SEA);
   }
 
   public static Predicate<Unit> unitHasSubBattleAbilities() {
@@ -99,11 +100,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanEvade() {
-    return unit -> unit.getUnitAttachment().getCanEvade();
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.CAN_EVADE);
   }
 
   public static Predicate<Unit> unitIsFirstStrike() {
-    return unit -> unit.getUnitAttachment().getIsFirstStrike();
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.FIRST_STRIKE);
   }
 
   public static Predicate<Unit> unitIsFirstStrikeOnDefense(final GameProperties properties) {
@@ -136,10 +137,7 @@ public final class Matches {
   }
 
   private static Predicate<Unit> unitIsCombatSeaTransport() {
-    return unit -> {
-      final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.isCombatTransport() && ua.isSea();
-    };
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.COMBAT_SEA_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsNotCombatSeaTransport() {
@@ -149,30 +147,29 @@ public final class Matches {
   public static Predicate<Unit> unitIsSeaTransportButNotCombatSeaTransport() {
     return unit -> {
       final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.getTransportCapacity() != -1 && ua.isSea() && !ua.isCombatTransport();
+      return ua.hasCapability(Capability.SEA_TRANSPORT)
+          && !ua.hasCapability(Capability.COMBAT_SEA_TRANSPORT);
     };
   }
 
   public static Predicate<Unit> unitIsNotSeaTransportButCouldBeCombatSeaTransport() {
     return unit -> {
       final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.getTransportCapacity() == -1 || (ua.isCombatTransport() && ua.isSea());
+      return !ua.hasCapability(Capability.TRANSPORT)
+          || ua.hasCapability(Capability.COMBAT_SEA_TRANSPORT);
     };
   }
 
   public static Predicate<Unit> unitIsDestroyer() {
-    return unit -> unit.getUnitAttachment().isDestroyer();
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.DESTROYER);
   }
 
   public static Predicate<UnitType> unitTypeIsDestroyer() {
-    return type -> type.getUnitAttachment().isDestroyer();
+    return type -> type.getUnitAttachment().hasCapability(Capability.DESTROYER);
   }
 
   public static Predicate<Unit> unitIsSeaTransport() {
-    return unit -> {
-      final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.getTransportCapacity() != -1 && ua.isSea();
-    };
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.SEA_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsNotSeaTransport() {
@@ -182,12 +179,12 @@ public final class Matches {
   public static Predicate<Unit> unitIsSeaTransportAndNotDestroyer() {
     return unit -> {
       final UnitAttachment ua = unit.getUnitAttachment();
-      return !unitIsDestroyer().test(unit) && ua.getTransportCapacity() != -1 && ua.isSea();
+      return !ua.hasCapability(Capability.DESTROYER) && ua.hasCapability(Capability.SEA_TRANSPORT);
     };
   }
 
   public static Predicate<UnitType> unitTypeIsStrategicBomber() {
-    return unitType -> unitType.getUnitAttachment().isStrategicBomber();
+    return unitType -> unitType.getUnitAttachment().hasCapability(Capability.STRATEGIC_BOMBER);
   }
 
   public static Predicate<Unit> unitIsStrategicBomber() {
@@ -262,30 +259,27 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsNotSea() {
-    return unit -> !unit.getUnitAttachment().isSea();
+    return unit -> !unit.getUnitAttachment().hasCapability(Capability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsSea() {
-    return type -> type.getUnitAttachment().isSea();
+    return type -> type.getUnitAttachment().hasCapability(Capability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsNotSea() {
-    return type -> !type.getUnitAttachment().isSea();
+    return type -> !type.getUnitAttachment().hasCapability(Capability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsSeaOrAir() {
-    return type -> {
-      final UnitAttachment ua = type.getUnitAttachment();
-      return ua.isSea() || ua.isAir();
-    };
+    return type -> !type.getUnitAttachment().hasCapability(Capability.LAND);
   }
 
   public static Predicate<Unit> unitIsAir() {
-    return unit -> unit.getUnitAttachment().isAir();
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.AIR);
   }
 
   public static Predicate<Unit> unitIsNotAir() {
-    return unit -> !unit.getUnitAttachment().isAir();
+    return unit -> !unit.getUnitAttachment().hasCapability(Capability.AIR);
   }
 
   public static Predicate<UnitType> unitTypeCanBombard(final GamePlayer gamePlayer) {
@@ -428,7 +422,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsInfrastructure() {
-    return ut -> ut.getUnitAttachment().isInfrastructure();
+    return ut -> ut.getUnitAttachment().hasCapability(Capability.INFRASTRUCTURE);
   }
 
   public static Predicate<Unit> unitIsInfrastructure() {
@@ -536,11 +530,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsAir() {
-    return type -> type.getUnitAttachment().isAir();
-  }
-
-  private static Predicate<UnitType> unitTypeIsNotAir() {
-    return type -> !type.getUnitAttachment().isAir();
+    return type -> type.getUnitAttachment().hasCapability(Capability.AIR);
   }
 
   public static Predicate<Unit> unitCanLandOnCarrier() {
@@ -1405,11 +1395,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsLand() {
-    return unitIsNotSea().and(unitIsNotAir());
+    return unit -> unit.getUnitAttachment().hasCapability(Capability.LAND);
   }
 
   public static Predicate<UnitType> unitTypeIsLand() {
-    return unitTypeIsNotSea().and(unitTypeIsNotAir());
+    return type -> type.getUnitAttachment().hasCapability(Capability.LAND);
   }
 
   public static Predicate<Unit> unitIsNotLand() {
@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import org.triplea.java.collections.CollectionUtils;
 
 /** Placeholder for all calculations to do with TerritoryEffects. */
 public final class TerritoryEffectHelper {
@@ -106,6 +107,32 @@ public final class TerritoryEffectHelper {
     return max;
   }
 
+  /**
+   * Returns a lower bound of {@link #getMaxMovementCost} for the given units across all
+   * territories, i.e. the cost in a territory that has every territory effect lowering the cost of
+   * one of the units. This is 1 unless some territory effect lowers the movement cost.
+   */
+  public static BigDecimal getMinMovementCost(final Collection<Unit> units) {
+    if (units.isEmpty()) {
+      return BigDecimal.ONE;
+    }
+    final Collection<TerritoryEffect> effects =
+        CollectionUtils.getAny(units).getData().getTerritoryEffectList().values();
+    BigDecimal max = new BigDecimal(Integer.MIN_VALUE);
+    for (final Unit unit : units) {
+      BigDecimal movementCost = BigDecimal.ONE;
+      for (final TerritoryEffect effect : effects) {
+        movementCost =
+            movementCost.add(
+                getMovementCostModiferForUnitType(effect, unit.getType()).min(BigDecimal.ZERO));
+      }
+      if (movementCost.compareTo(max) > 0) {
+        max = movementCost;
+      }
+    }
+    return max;
+  }
+
   private static BigDecimal getMovementCostModiferForUnitType(
       final TerritoryEffect effect, final UnitType unitType) {
     final Map<UnitType, BigDecimal> map =
@@ -45,6 +45,20 @@ public class BattleResults extends GameDataComponent {
     whoWon = scriptedWhoWon;
   }
 
+  /** Use this for battles that were simulated without a battle instance. */
+  public BattleResults(
+      final int battleRoundsFought,
+      final Collection<Unit> remainingAttackingUnits,
+      final Collection<Unit> remainingDefendingUnits,
+      final WhoWon whoWon,
+      final GameData data) {
+    super(data);
+    this.battleRoundsFought = battleRoundsFought;
+    this.remainingAttackingUnits = remainingAttackingUnits;
+    this.remainingDefendingUnits = remainingDefendingUnits;
+    this.whoWon = whoWon;
+  }
+
   // These could easily screw up an AI into thinking it has won when it really hasn't. Must make
   // sure we only count
   // combat units that can die.
@@ -0,0 +1,284 @@
+package games.strategy.triplea.delegate.move.validation;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.RouteTree;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.delegate.AbstractMoveDelegate;
+import games.strategy.triplea.delegate.GameStepPropertiesHelper;
+import games.strategy.triplea.delegate.Matches;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.triplea.java.PredicateBuilder;
+import org.triplea.java.collections.CollectionUtils;
+
+/**
+ * Finds the best route for units from a start territory, see {@link
+ * MoveValidator#getBestRoute(Territory, Territory, GameData, GamePlayer, Collection, boolean)}.
+ *
+ * <p>The conditions the route should satisfy don't depend on the end territory, so they are built
+ * once. A finder created by {@link #withRouteTrees} also searches the routes from the start to all
+ * territories once per condition, after which the best route to any end is found by following the
+ * stored routes. Such a finder is a snapshot of the game state it was created in.
+ */
+public final class BestRouteFinder {
+  private static final Predicate<Territory> ANY_TERRITORY = it -> true;
+
+  private final Territory start;
+  private final GameData data;
+  private final GamePlayer player;
+  private final Collection<Unit> units;
+  private final boolean forceLandOrSeaRoute;
+  private final boolean useRouteTrees;
+
+  private final Predicate<Territory> noImpassableOrRestrictedOrNeutral;
+  private final Predicate<Territory> impassableFallback;
+  private final Predicate<Territory> landCondition;
+  private final Predicate<Territory> waterCondition;
+  private final Collection<Unit> unitsWhichAreNotBeingTransportedOrDependent;
+  // the conditions we would like the route to satisfy, starting with the most important
+  private final List<Predicate<Territory>> moveConditions;
+  private final List<Predicate<Territory>> landMoveConditions;
+  private final List<Predicate<Territory>> waterMoveConditions;
+  private final int maxLandMoves;
+
+  private final Map<Predicate<Territory>, RouteTree> routeTreesForUnits = new HashMap<>();
+  private final Map<Predicate<Territory>, RouteTree> routeTrees = new HashMap<>();
+
+  private BestRouteFinder(
+      final Territory start,
+      final GameData data,
+      final GamePlayer player,
+      final Collection<Unit> units,
+      final boolean forceLandOrSeaRoute,
+      final boolean useRouteTrees) {
+    this.start = start;
+    this.data = data;
+    this.player = player;
+    this.units = units;
+    this.forceLandOrSeaRoute = forceLandOrSeaRoute;
+    this.useRouteTrees = useRouteTrees;
+
+    final boolean hasLand = units.stream().anyMatch(Matches.unitIsLand());
+    final boolean hasAir = units.stream().anyMatch(Matches.unitIsAir());
+    final boolean isNeutralsImpassable =
+        Properties.getNeutralsImpassable(data.getProperties())
+            || (hasAir && !Properties.getNeutralFlyoverAllowed(data.getProperties()));
+    final Predicate<Territory> noNeutral = Matches.territoryIsNeutralButNotWater().negate();
+    noImpassableOrRestrictedOrNeutral =
+        PredicateBuilder.of(Matches.territoryIsPassableAndNotRestricted(player))
+            .and(Matches.territoryEffectsAllowUnits(units))
+            .andIf(hasAir, Matches.territoryAllowsCanMoveAirUnitsOverOwnedLand(player))
+            .andIf(hasLand, Matches.territoryAllowsCanMoveLandUnitsOverOwnedLand(player))
+            .andIf(isNeutralsImpassable, noNeutral)
+            .build();
+    impassableFallback =
+        isNeutralsImpassable
+            ? noNeutral.and(Matches.territoryIsImpassable())
+            : Matches.territoryIsImpassable();
+    landCondition = Matches.territoryIsLand().and(noImpassableOrRestrictedOrNeutral);
+    waterCondition = Matches.territoryIsWater().and(noImpassableOrRestrictedOrNeutral);
+
+    // Avoid looking at the dependents
+    unitsWhichAreNotBeingTransportedOrDependent =
+        CollectionUtils.getMatches(
+            units,
+            Matches.unitIsBeingTransportedByOrIsDependentOfSomeUnitInThisList(units, player, true)
+                .negate());
+
+    final Predicate<Territory> hasRequiredUnitsToMove =
+        Matches.territoryHasRequiredUnitsToMove(unitsWhichAreNotBeingTransportedOrDependent);
+    final Predicate<Territory> notEnemyOwned =
+        Matches.isTerritoryEnemy(player)
+            .negate()
+            .and(
+                Matches.territoryWasFoughtOver(AbstractMoveDelegate.getBattleTracker(data))
+                    .negate());
+    final Predicate<Territory> noEnemyUnits = Matches.territoryHasNoEnemyUnits(player);
+    final Predicate<Territory> noAa = Matches.territoryHasEnemyAaForFlyOver(player).negate();
+    final List<Predicate<Territory>> prioritizedMovePreferences =
+        List.of(
+            hasRequiredUnitsToMove.and(notEnemyOwned).and(noEnemyUnits),
+            hasRequiredUnitsToMove.and(noEnemyUnits),
+            hasRequiredUnitsToMove.and(noAa),
+            notEnemyOwned.and(noEnemyUnits),
+            noEnemyUnits,
+            noAa);
+    moveConditions =
+        prioritizedMovePreferences.stream()
+            .map(movePreference -> movePreference.and(noImpassableOrRestrictedOrNeutral))
+            .collect(Collectors.toList());
+    landMoveConditions =
+        prioritizedMovePreferences.stream()
+            .map(
+                movePreference ->
+                    movePreference
+                        .and(Matches.territoryIsLand())
+                        .and(noImpassableOrRestrictedOrNeutral))
+            .collect(Collectors.toList());
+    waterMoveConditions =
+        prioritizedMovePreferences.stream()
+            .map(
+                movePreference ->
+                    movePreference
+                        .and(Matches.territoryIsWater())
+                        .and(noImpassableOrRestrictedOrNeutral))
+            .collect(Collectors.toList());
+
+    // Determine max distance route is willing to accept
+    final List<Unit> landUnits =
+        CollectionUtils.getMatches(
+            unitsWhichAreNotBeingTransportedOrDependent, Matches.unitIsLand());
+    maxLandMoves = landUnits.isEmpty() ? 0 : MoveValidator.getMaxMovement(landUnits).intValue();
+  }
+
+  /** Returns a finder that searches the routes for every end territory separately. */
+  static BestRouteFinder of(
+      final Territory start,
+      final GameData data,
+      final GamePlayer player,
+      final Collection<Unit> units,
+      final boolean forceLandOrSeaRoute) {
+    return new BestRouteFinder(start, data, player, units, forceLandOrSeaRoute, false);
+  }
+
+  /**
+   * Returns a finder that searches the routes from the start to all territories up front. This
+   * takes longer than finding a single best route, so it should not be done on the UI thread. The
+   * read lock of the game data is held for each search separately, so that a change of the game
+   * data only waits for one search. A finder that was searched while the game data changed is
+   * outdated and should be discarded by the caller.
+   *
+   * @param isCancelled checked between the searches, the search is abandoned with a {@link
+   *     CancellationException} when it returns true
+   */
+  public static BestRouteFinder withRouteTrees(
+      final Territory start,
+      final GameData data,
+      final GamePlayer player,
+      final Collection<Unit> units,
+      final boolean forceLandOrSeaRoute,
+      final BooleanSupplier isCancelled) {
+    final BestRouteFinder finder;
+    try (GameData.Unlocker ignored = data.acquireReadLock()) {
+      finder = new BestRouteFinder(start, data, player, units, forceLandOrSeaRoute, true);
+    }
+    final List<Predicate<Territory>> conditions = new ArrayList<>();
+    conditions.add(finder.noImpassableOrRestrictedOrNeutral);
+    conditions.addAll(finder.moveConditions);
+    if (start.isWater()) {
+      conditions.add(finder.waterCondition);
+      conditions.addAll(finder.waterMoveConditions);
+    } else {
+      conditions.add(finder.landCondition);
+      conditions.addAll(finder.landMoveConditions);
+    }
+    for (final Predicate<Territory> condition : conditions) {
+      if (isCancelled.getAsBoolean()) {
+        throw new CancellationException("Route search from " + start + " was cancelled");
+      }
+      try (GameData.Unlocker ignored = data.acquireReadLock()) {
+        finder.getRouteTreeForUnits(condition);
+      }
+    }
+    return finder;
+  }
+
+  public Territory getStart() {
+    return start;
+  }
+
+  /** Returns the best route from the start to {@code end}, see {@link BestRouteFinder}. */
+  public @Nullable Route getBestRoute(final Territory end) {
+    Route defaultRoute = getRouteForUnits(end, noImpassableOrRestrictedOrNeutral);
+    if (defaultRoute == null) {
+      // Try for a route without impassable territories, but allowing restricted territories, since
+      // there is a chance politics may change in the future
+      defaultRoute = getRoute(end, impassableFallback);
+      // There really is nothing, so just return any route, without conditions
+      if (defaultRoute == null) {
+        return getRoute(end, ANY_TERRITORY);
+      }
+      return defaultRoute;
+    }
+
+    // If start and end are land, try a land route. Don't force a land route, since planes may be
+    // moving
+    boolean mustGoLand = false;
+    if (!start.isWater() && !end.isWater()) {
+      final Route landRoute = getRouteForUnits(end, landCondition);
+      if ((landRoute != null)
+          && ((landRoute.numberOfSteps() <= defaultRoute.numberOfSteps())
+              || (forceLandOrSeaRoute
+                  && unitsWhichAreNotBeingTransportedOrDependent.stream()
+                      .anyMatch(Matches.unitIsLand())))) {
+        defaultRoute = landRoute;
+        mustGoLand = true;
+      }
+    }
+
+    // If the start and end are water, try and get a water route don't force a water route, since
+    // planes may be moving
+    boolean mustGoSea = false;
+    if (start.isWater() && end.isWater()) {
+      final Route waterRoute = getRouteForUnits(end, waterCondition);
+      if ((waterRoute != null)
+          && ((waterRoute.numberOfSteps() <= defaultRoute.numberOfSteps())
+              || (forceLandOrSeaRoute
+                  && unitsWhichAreNotBeingTransportedOrDependent.stream()
+                      .anyMatch(Matches.unitIsSea())))) {
+        defaultRoute = waterRoute;
+        mustGoSea = true;
+      }
+    }
+
+    final int maxSteps =
+        GameStepPropertiesHelper.isCombatMove(data)
+            ? defaultRoute.numberOfSteps()
+            : Math.max(defaultRoute.numberOfSteps(), maxLandMoves);
+
+    // Try to find preferred route
+    final List<Predicate<Territory>> conditions =
+        mustGoLand ? landMoveConditions : (mustGoSea ? waterMoveConditions : moveConditions);
+    for (final Predicate<Territory> moveCondition : conditions) {
+      final Route route = getRouteForUnits(end, moveCondition);
+      if ((route != null) && (route.numberOfSteps() <= maxSteps)) {
+        return route;
+      }
+    }
+
+    return defaultRoute;
+  }
+
+  private @Nullable Route getRouteForUnits(
+      final Territory end, final Predicate<Territory> condition) {
+    return useRouteTrees
+        ? getRouteTreeForUnits(condition).getRoute(end).orElse(null)
+        : data.getMap().getRouteForUnits(start, end, condition, units, player);
+  }
+
+  private RouteTree getRouteTreeForUnits(final Predicate<Territory> condition) {
+    return routeTreesForUnits.computeIfAbsent(
+        condition, key -> data.getMap().getRouteTreeForUnits(start, key, units, player));
+  }
+
+  private @Nullable Route getRoute(final Territory end, final Predicate<Territory> condition) {
+    return useRouteTrees
+        ? routeTrees
+            .computeIfAbsent(condition, key -> data.getMap().getRouteTree(start, key))
+            .getRoute(end)
+            .orElse(null)
+        : data.getMap().getRoute(start, end, condition);
+  }
+}
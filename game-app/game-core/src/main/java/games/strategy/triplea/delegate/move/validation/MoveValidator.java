@@ -51,7 +51,6 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
-import org.triplea.java.PredicateBuilder;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 import org.triplea.util.Triple;
@@ -214,7 +213,7 @@ public class MoveValidator {
     // cannot enter territories owned by a player to which we are neutral towards
     final Collection<Territory> landOnRoute = route.getMatches(Matches.territoryIsLand());
     if (!landOnRoute.isEmpty()) {
-      // TODO: if this ever changes, we need to also update getBestRoute(), because getBestRoute is
+      // TODO: if this ever changes, we need to also update BestRouteFinder, because getBestRoute is
       // also checking to make sure we avoid land territories owned by nations with these 2
       // relationship type attachment options
       for (final Territory t : landOnRoute) {
@@ -1673,142 +1672,7 @@ public class MoveValidator {
       final GamePlayer player,
       final Collection<Unit> units,
       final boolean forceLandOrSeaRoute) {
-    final boolean hasLand = units.stream().anyMatch(Matches.unitIsLand());
-    final boolean hasAir = units.stream().anyMatch(Matches.unitIsAir());
-    final boolean isNeutralsImpassable =
-        Properties.getNeutralsImpassable(data.getProperties())
-            || (hasAir && !Properties.getNeutralFlyoverAllowed(data.getProperties()));
-    final Predicate<Territory> noNeutral = Matches.territoryIsNeutralButNotWater().negate();
-    final Predicate<Territory> noImpassableOrRestrictedOrNeutral =
-        PredicateBuilder.of(Matches.territoryIsPassableAndNotRestricted(player))
-            .and(Matches.territoryEffectsAllowUnits(units))
-            .andIf(hasAir, Matches.territoryAllowsCanMoveAirUnitsOverOwnedLand(player))
-            .andIf(hasLand, Matches.territoryAllowsCanMoveLandUnitsOverOwnedLand(player))
-            .andIf(isNeutralsImpassable, noNeutral)
-            .build();
-
-    Route defaultRoute =
-        data.getMap()
-            .getRouteForUnits(start, end, noImpassableOrRestrictedOrNeutral, units, player);
-    if (defaultRoute == null) {
-      // Try for a route without impassable territories, but allowing restricted territories, since
-      // there is a chance politics may change in the future
-      defaultRoute =
-          data.getMap()
-              .getRoute(
-                  start,
-                  end,
-                  (isNeutralsImpassable
-                      ? noNeutral.and(Matches.territoryIsImpassable())
-                      : Matches.territoryIsImpassable()));
-      // There really is nothing, so just return any route, without conditions
-      if (defaultRoute == null) {
-        return data.getMap().getRoute(start, end, it -> true);
-      }
-      return defaultRoute;
-    }
-
-    // Avoid looking at the dependents
-    final Collection<Unit> unitsWhichAreNotBeingTransportedOrDependent =
-        CollectionUtils.getMatches(
-            units,
-            Matches.unitIsBeingTransportedByOrIsDependentOfSomeUnitInThisList(units, player, true)
-                .negate());
-
-    // If start and end are land, try a land route. Don't force a land route, since planes may be
-    // moving
-    boolean mustGoLand = false;
-    if (!start.isWater() && !end.isWater()) {
-      final Route landRoute =
-          data.getMap()
-              .getRouteForUnits(
-                  start,
-                  end,
-                  Matches.territoryIsLand().and(noImpassableOrRestrictedOrNeutral),
-                  units,
-                  player);
-      if ((landRoute != null)
-          && ((landRoute.numberOfSteps() <= defaultRoute.numberOfSteps())
-              || (forceLandOrSeaRoute
-                  && unitsWhichAreNotBeingTransportedOrDependent.stream()
-                      .anyMatch(Matches.unitIsLand())))) {
-        defaultRoute = landRoute;
-        mustGoLand = true;
-      }
-    }
-
-    // If the start and end are water, try and get a water route don't force a water route, since
-    // planes may be moving
-    boolean mustGoSea = false;
-    if (start.isWater() && end.isWater()) {
-      final Route waterRoute =
-          data.getMap()
-              .getRouteForUnits(
-                  start,
-                  end,
-                  Matches.territoryIsWater().and(noImpassableOrRestrictedOrNeutral),
-                  units,
-                  player);
-      if ((waterRoute != null)
-          && ((waterRoute.numberOfSteps() <= defaultRoute.numberOfSteps())
-              || (forceLandOrSeaRoute
-                  && unitsWhichAreNotBeingTransportedOrDependent.stream()
-                      .anyMatch(Matches.unitIsSea())))) {
-        defaultRoute = waterRoute;
-        mustGoSea = true;
-      }
-    }
-
-    // These are the conditions we would like the route to satisfy, starting with the most important
-    final Predicate<Territory> hasRequiredUnitsToMove =
-        Matches.territoryHasRequiredUnitsToMove(unitsWhichAreNotBeingTransportedOrDependent);
-    final Predicate<Territory> notEnemyOwned =
-        Matches.isTerritoryEnemy(player)
-            .negate()
-            .and(
-                Matches.territoryWasFoughtOver(AbstractMoveDelegate.getBattleTracker(data))
-                    .negate());
-    final Predicate<Territory> noEnemyUnits = Matches.territoryHasNoEnemyUnits(player);
-    final Predicate<Territory> noAa = Matches.territoryHasEnemyAaForFlyOver(player).negate();
-    final List<Predicate<Territory>> prioritizedMovePreferences =
-        new ArrayList<>(
-            List.of(
-                hasRequiredUnitsToMove.and(notEnemyOwned).and(noEnemyUnits),
-                hasRequiredUnitsToMove.and(noEnemyUnits),
-                hasRequiredUnitsToMove.and(noAa),
-                notEnemyOwned.and(noEnemyUnits),
-                noEnemyUnits,
-                noAa));
-
-    // Determine max distance route is willing to accept
-    final List<Unit> landUnits =
-        CollectionUtils.getMatches(
-            unitsWhichAreNotBeingTransportedOrDependent, Matches.unitIsLand());
-    final int maxLandMoves = landUnits.isEmpty() ? 0 : getMaxMovement(landUnits).intValue();
-    final int maxSteps =
-        GameStepPropertiesHelper.isCombatMove(data)
-            ? defaultRoute.numberOfSteps()
-            : Math.max(defaultRoute.numberOfSteps(), maxLandMoves);
-
-    // Try to find preferred route
-    for (final Predicate<Territory> movePreference : prioritizedMovePreferences) {
-      final Predicate<Territory> moveCondition;
-      if (mustGoLand) {
-        moveCondition =
-            movePreference.and(Matches.territoryIsLand()).and(noImpassableOrRestrictedOrNeutral);
-      } else if (mustGoSea) {
-        moveCondition =
-            movePreference.and(Matches.territoryIsWater()).and(noImpassableOrRestrictedOrNeutral);
-      } else {
-        moveCondition = movePreference.and(noImpassableOrRestrictedOrNeutral);
-      }
-      final Route route = data.getMap().getRouteForUnits(start, end, moveCondition, units, player);
-      if ((route != null) && (route.numberOfSteps() <= maxSteps)) {
-        return route;
-      }
-    }
-
-    return defaultRoute;
+    return BestRouteFinder.of(start, data, player, units, forceLandOrSeaRoute).getBestRoute(end);
   }
 
   private static boolean isNeutralsBlitzable(final GameProperties properties) {
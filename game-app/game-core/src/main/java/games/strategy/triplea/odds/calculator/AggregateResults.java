@@ -9,55 +9,73 @@ import games.strategy.triplea.util.TuvCostsCalculator;
 import games.strategy.triplea.util.TuvUtils;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.math3.stat.descriptive.moment.Mean;
+import lombok.Value;
 import org.triplea.java.collections.IntegerMap;
 import org.triplea.util.Tuple;
 
 /**
  * A container for the results of multiple battle simulation runs.
  *
- * <p>This class wraps a collection of {@code BattleResult}s and provides methods to query certain
+ * <p>This class accumulates {@code BattleResult}s and provides methods to query certain
  * statistical properties over this set, e.g. the win probability, or the average number of units
  * left.
  *
+ * <p>The battle results themselves are not retained. Win, loss and draw counts as well as the sums
+ * needed for the averages are updated as results are added. The remaining units are only kept once
+ * per distinct outcome together with the number of runs that ended that way, so the memory used
+ * depends on the number of possible outcomes of a battle instead of the number of runs. Two
+ * aggregators can be merged with {@link #addResults(AggregateResults)} without revisiting any run.
+ *
  * <p>This class does not restrict the added battle result to come from the same battle setup. If
  * this is desired, the user must ensure that the results added have that property.
  */
-@Getter
 public class AggregateResults {
-  /**
-   * -- GETTER -- Returns the stored battle results.
-   *
-   * <p>Note: The returned list is the encapsulated list and not a copy.
-   */
-  private final List<BattleResults> results;
+  /** The number of runs per distinct combination of remaining attacking and defending units. */
+  private final Map<Outcome, Integer> outcomes;
 
-  @Setter private long time;
+  private int rollCount;
+  private int attackerWins;
+  private int defenderWins;
+  private int draws;
+  private long battleRoundsFought;
+  private long attackingUnitsLeft;
+  private long attackingUnitsLeftWhenAttackerWon;
+  private long defendingUnitsLeft;
+  private long defendingUnitsLeftWhenDefenderWon;
+
+  @Getter @Setter private long time;
 
   /**
-   * Creates a new aggregator and sets the internal storage size to {@code expectedCount}. Choosing
-   * a good estimate reduces the number of reallocations of the internal storage when adding
-   * results.
+   * Creates a new aggregator and sizes the internal storage for {@code expectedCount} results.
+   * Since only distinct outcomes are stored, the internal storage will rarely need to grow beyond
+   * this.
    *
-   * @param expectedCount number of expected results to store
+   * @param expectedCount number of expected results to add
    */
   public AggregateResults(final int expectedCount) {
-    results = new ArrayList<>(expectedCount);
+    // distinct outcomes are usually much rarer than runs, so don't reserve space for every run
+    outcomes = new LinkedHashMap<>(Math.min(expectedCount, 64));
   }
 
   /**
-   * Creates a new aggregator and populates it with thr battle results {@code results}. Further
+   * Creates a new aggregator and populates it with the battle results {@code results}. Further
    * results can later be added with the usual methods.
    *
    * @param results the battle results to add initially to this aggregator.
    */
   public AggregateResults(final List<BattleResults> results) {
-    this.results = new ArrayList<>(results);
+    this(results.size());
+    addResults(results);
   }
 
   /**
@@ -66,7 +84,27 @@ public class AggregateResults {
    * @param result the battle result to add.
    */
   public void addResult(final BattleResults result) {
-    results.add(result);
+    final Collection<Unit> remainingAttackingUnits = result.getRemainingAttackingUnits();
+    final Collection<Unit> remainingDefendingUnits = result.getRemainingDefendingUnits();
+    rollCount++;
+    battleRoundsFought += result.getBattleRoundsFought();
+    attackingUnitsLeft += remainingAttackingUnits.size();
+    defendingUnitsLeft += remainingDefendingUnits.size();
+    if (result.attackerWon()) {
+      attackerWins++;
+      attackingUnitsLeftWhenAttackerWon += remainingAttackingUnits.size();
+    } else if (result.defenderWon()) {
+      defenderWins++;
+      defendingUnitsLeftWhenDefenderWon += remainingDefendingUnits.size();
+    } else {
+      draws++;
+    }
+    outcomes.merge(
+        new Outcome(
+            Collections.unmodifiableSet(new LinkedHashSet<>(remainingAttackingUnits)),
+            Collections.unmodifiableSet(new LinkedHashSet<>(remainingDefendingUnits))),
+        1,
+        Integer::sum);
   }
 
   /**
@@ -75,31 +113,55 @@ public class AggregateResults {
    * @param results the battle results to add
    */
   public void addResults(final Collection<BattleResults> results) {
-    this.results.addAll(results);
+    results.forEach(this::addResult);
+  }
+
+  /**
+   * Add all battle results aggregated by {@code other} to this aggregator. The cost of this does
+   * not depend on the number of results aggregated by {@code other}, only on its number of
+   * distinct outcomes.
+   *
+   * @param other the aggregator whose results to add
+   */
+  public void addResults(final AggregateResults other) {
+    rollCount += other.rollCount;
+    attackerWins += other.attackerWins;
+    defenderWins += other.defenderWins;
+    draws += other.draws;
+    battleRoundsFought += other.battleRoundsFought;
+    attackingUnitsLeft += other.attackingUnitsLeft;
+    attackingUnitsLeftWhenAttackerWon += other.attackingUnitsLeftWhenAttackerWon;
+    defendingUnitsLeft += other.defendingUnitsLeft;
+    defendingUnitsLeftWhenDefenderWon += other.defendingUnitsLeftWhenDefenderWon;
+    other.outcomes.forEach((outcome, count) -> outcomes.merge(outcome, count, Integer::sum));
   }
 
-  private Optional<BattleResults> getBattleResultsClosestToAverage() {
-    return results.stream()
+  private Optional<Outcome> getOutcomeClosestToAverage() {
+    final double averageAttackingUnitsLeft = getAverageAttackingUnitsLeft();
+    final double averageDefendingUnitsLeft = getAverageDefendingUnitsLeft();
+    return outcomes.keySet().stream()
         .min(
             Comparator.comparingDouble(
-                result ->
+                outcome ->
                     Math.abs(
-                            result.getRemainingAttackingUnits().size()
-                                - getAverageAttackingUnitsLeft())
+                            outcome.getRemainingAttackingUnits().size()
+                                - averageAttackingUnitsLeft)
                         + Math.abs(
-                            result.getRemainingDefendingUnits().size()
-                                - getAverageDefendingUnitsLeft())));
+                            outcome.getRemainingDefendingUnits().size()
+                                - averageDefendingUnitsLeft)));
   }
 
   public Collection<Unit> getAverageAttackingUnitsRemaining() {
-    return getBattleResultsClosestToAverage()
-        .map(BattleResults::getRemainingAttackingUnits)
+    return getOutcomeClosestToAverage()
+        .map(Outcome::getRemainingAttackingUnits)
+        .map(ArrayList::new)
         .orElseGet(ArrayList::new);
   }
 
   public Collection<Unit> getAverageDefendingUnitsRemaining() {
-    return getBattleResultsClosestToAverage()
-        .map(BattleResults::getRemainingDefendingUnits)
+    return getOutcomeClosestToAverage()
+        .map(Outcome::getRemainingDefendingUnits)
+        .map(ArrayList::new)
         .orElseGet(ArrayList::new);
   }
 
@@ -116,15 +178,55 @@ public class AggregateResults {
   public Tuple<Double, Double> getAverageTuvOfUnitsLeftOver(
       final IntegerMap<UnitType> attackerCostsForTuv,
       final IntegerMap<UnitType> defenderCostsForTuv) {
-    final Mean attackerTuvMean = new Mean();
-    final Mean defenderTuvMean = new Mean();
-    for (final BattleResults result : results) {
-      attackerTuvMean.increment(
-          TuvUtils.getTuv(result.getRemainingAttackingUnits(), attackerCostsForTuv));
-      defenderTuvMean.increment(
-          TuvUtils.getTuv(result.getRemainingDefendingUnits(), defenderCostsForTuv));
+    double attackerTuv = 0;
+    double defenderTuv = 0;
+    for (final Map.Entry<Outcome, Integer> entry : outcomes.entrySet()) {
+      final Outcome outcome = entry.getKey();
+      attackerTuv +=
+          (double) entry.getValue()
+              * TuvUtils.getTuv(outcome.getRemainingAttackingUnits(), attackerCostsForTuv);
+      defenderTuv +=
+          (double) entry.getValue()
+              * TuvUtils.getTuv(outcome.getRemainingDefendingUnits(), defenderCostsForTuv);
+    }
+    return Tuple.of(average(attackerTuv), average(defenderTuv));
+  }
+
+  /**
+   * Returns the sample variance of the TUV swing across all simulations of the battle, i.e. how
+   * much the TUV swing of single runs spreads around {@link #getAverageTuvSwing}.
+   *
+   * <p>If less than two battle results were added to this aggregator instance, {@code NaN} is
+   * returned.
+   *
+   * @param attackerCostsForTuv lookup table assigning the TUV value to the attacking units
+   * @param defenderCostsForTuv lookup table assigning the TUV value to the defending units
+   */
+  public double getTuvSwingVariance(
+      final IntegerMap<UnitType> attackerCostsForTuv,
+      final IntegerMap<UnitType> defenderCostsForTuv) {
+    if (rollCount < 2) {
+      return Double.NaN;
+    }
+    // the TUV swing of a run only differs from its remaining TUV difference by the constant
+    // starting TUV difference, which does not change the variance
+    final Map<Outcome, Double> remainingTuvDifferences = new LinkedHashMap<>();
+    double mean = 0;
+    for (final Map.Entry<Outcome, Integer> entry : outcomes.entrySet()) {
+      final Outcome outcome = entry.getKey();
+      final double remainingTuvDifference =
+          TuvUtils.getTuv(outcome.getRemainingAttackingUnits(), attackerCostsForTuv)
+              - TuvUtils.getTuv(outcome.getRemainingDefendingUnits(), defenderCostsForTuv);
+      remainingTuvDifferences.put(outcome, remainingTuvDifference);
+      mean += entry.getValue() * remainingTuvDifference;
+    }
+    mean /= rollCount;
+    double sumOfSquares = 0;
+    for (final Map.Entry<Outcome, Integer> entry : outcomes.entrySet()) {
+      final double deviation = remainingTuvDifferences.get(entry.getKey()) - mean;
+      sumOfSquares += entry.getValue() * deviation * deviation;
     }
-    return Tuple.of(attackerTuvMean.getResult(), defenderTuvMean.getResult());
+    return sumOfSquares / (rollCount - 1);
   }
 
   /**
@@ -169,17 +271,12 @@ public class AggregateResults {
     final IntegerMap<UnitType> defenderCostsForTuv = tuvCalculator.getCostsForTuv(defender);
     final int attackerStartingTuv = TuvUtils.getTuv(attackers, attackerCostsForTuv);
     final int defenderStartingTuv = TuvUtils.getTuv(defenders, defenderCostsForTuv);
-    final Mean mean = new Mean();
+    final Tuple<Double, Double> averageTuvLeftOver =
+        getAverageTuvOfUnitsLeftOver(attackerCostsForTuv, defenderCostsForTuv);
     return defenderStartingTuv
         - attackerStartingTuv
-        + mean.evaluate(
-            results.stream()
-                .mapToDouble(
-                    result ->
-                        TuvUtils.getTuv(result.getRemainingAttackingUnits(), attackerCostsForTuv)
-                            - TuvUtils.getTuv(
-                                result.getRemainingDefendingUnits(), defenderCostsForTuv))
-                .toArray());
+        + averageTuvLeftOver.getFirst()
+        - averageTuvLeftOver.getSecond();
   }
 
   /**
@@ -188,12 +285,7 @@ public class AggregateResults {
    * <p>If no battle results were added to this aggregator instance, {@code NaN} is returned.
    */
   public double getAverageAttackingUnitsLeft() {
-    final Mean mean = new Mean();
-    return mean.evaluate(
-        results.stream()
-            .map(BattleResults::getRemainingAttackingUnits)
-            .mapToDouble(Collection::size)
-            .toArray());
+    return average(attackingUnitsLeft);
   }
 
   /**
@@ -204,13 +296,7 @@ public class AggregateResults {
    * any of those battles, then {@code NaN} is returned.
    */
   public double getAverageAttackingUnitsLeftWhenAttackerWon() {
-    final Mean mean = new Mean();
-    return mean.evaluate(
-        results.stream()
-            .filter(BattleResults::attackerWon)
-            .map(BattleResults::getRemainingAttackingUnits)
-            .mapToDouble(Collection::size)
-            .toArray());
+    return (double) attackingUnitsLeftWhenAttackerWon / attackerWins;
   }
 
   /**
@@ -219,12 +305,7 @@ public class AggregateResults {
    * <p>If no battle results were added to this aggregator instance, {@code NaN} is returned.
    */
   public double getAverageDefendingUnitsLeft() {
-    final Mean mean = new Mean();
-    return mean.evaluate(
-        results.stream()
-            .map(BattleResults::getRemainingDefendingUnits)
-            .mapToDouble(Collection::size)
-            .toArray());
+    return average(defendingUnitsLeft);
   }
 
   /**
@@ -235,13 +316,7 @@ public class AggregateResults {
    * any of those battles, then {@code NaN} is returned.
    */
   public double getAverageDefendingUnitsLeftWhenDefenderWon() {
-    final Mean mean = new Mean();
-    return mean.evaluate(
-        results.stream()
-            .filter(BattleResults::defenderWon)
-            .map(BattleResults::getRemainingDefendingUnits)
-            .mapToDouble(Collection::size)
-            .toArray());
+    return (double) defendingUnitsLeftWhenDefenderWon / defenderWins;
   }
 
   /**
@@ -252,9 +327,7 @@ public class AggregateResults {
    * <p>If no battle results were added to this aggregator instance, {@code NaN} is returned.
    */
   public double getAttackerWinPercent() {
-    final Mean mean = new Mean();
-    return mean.evaluate(
-        results.stream().mapToDouble(result -> result.attackerWon() ? 1 : 0).toArray());
+    return average(attackerWins);
   }
 
   /**
@@ -265,9 +338,7 @@ public class AggregateResults {
    * <p>If no battle results were added to this aggregator instance, {@code NaN} is returned.
    */
   public double getDefenderWinPercent() {
-    final Mean mean = new Mean();
-    return mean.evaluate(
-        results.stream().mapToDouble(result -> result.defenderWon() ? 1 : 0).toArray());
+    return average(defenderWins);
   }
 
   /**
@@ -277,8 +348,7 @@ public class AggregateResults {
    * <p>If no battle results were added to this aggregator instance, {@code NaN} is returned.
    */
   public double getDrawPercent() {
-    final Mean mean = new Mean();
-    return mean.evaluate(results.stream().mapToDouble(result -> result.draw() ? 1 : 0).toArray());
+    return average(draws);
   }
 
   /**
@@ -287,13 +357,31 @@ public class AggregateResults {
    * <p>If no battle results were added to this aggregator instance, {@code NaN} is returned.
    */
   public double getAverageBattleRoundsFought() {
-    final Mean mean = new Mean();
-    return mean.evaluate(
-        results.stream().mapToDouble(BattleResults::getBattleRoundsFought).toArray());
+    return average(battleRoundsFought);
   }
 
   /** Returns the number of battles aggregated by this instance. */
   public int getRollCount() {
-    return results.size();
+    return rollCount;
+  }
+
+  /** Returns the number of distinct outcomes, i.e. combinations of remaining units, aggregated. */
+  public int getOutcomeCount() {
+    return outcomes.size();
+  }
+
+  private double average(final double sum) {
+    // 0.0 / 0 is NaN, which is what all averages return when no results were added
+    return sum / rollCount;
+  }
+
+  /**
+   * The units remaining after a run. Runs where the same units remain have the same outcome, no
+   * matter in which order the battle returned the units.
+   */
+  @Value
+  private static class Outcome {
+    Set<Unit> remainingAttackingUnits;
+    Set<Unit> remainingDefendingUnits;
   }
 }
@@ -2,6 +2,7 @@ package games.strategy.triplea.odds.calculator;
 
 import static games.strategy.triplea.Constants.EDIT_MODE;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
@@ -12,21 +13,27 @@ import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.IRandomSource;
+import games.strategy.engine.random.PlainRandomSource;
 import games.strategy.triplea.delegate.battle.BattleResults;
 import games.strategy.triplea.delegate.battle.BattleTracker;
 import games.strategy.triplea.delegate.battle.MustFightBattle;
 import games.strategy.triplea.util.TuvCostsCalculator;
-import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Setter;
 
 class BattleCalculator implements IBattleCalculator {
   @Nonnull private final GameData gameData;
+  @Nonnull private final GameDataTranslator translator;
   // Use a single TuvCostsCalculator so its computations are cached.
   private final TuvCostsCalculator tuvCalculator = new TuvCostsCalculator();
   @Setter private boolean keepOneAttackingLandUnit = false;
@@ -35,6 +42,12 @@ class BattleCalculator implements IBattleCalculator {
   @Setter private int retreatAfterXUnitsLeft = -1;
   @Setter private String attackerOrderOfLosses = null;
   @Setter private String defenderOrderOfLosses = null;
+  // whether plain land battles are simulated without the full battle engine
+  @Setter(value = AccessLevel.PACKAGE, onMethod_ = @VisibleForTesting)
+  private boolean landBattleSimulatorEnabled = true;
+  // the dice, seeded by tests to get the same results every time
+  private IRandomSource randomSource = new PlainRandomSource();
+  private @Nullable Random simulatorRandom = null;
   private volatile boolean cancelled = false;
   private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
@@ -42,11 +55,20 @@ class BattleCalculator implements IBattleCalculator {
     gameData =
         GameDataUtils.cloneGameData(data, GameDataManager.Options.forBattleCalculator())
             .orElseThrow();
+    translator = new GameDataTranslator(gameData);
   }
 
   BattleCalculator(byte[] data) {
     gameData = GameDataUtils.createGameDataFromBytes(data).orElseThrow();
     gameData.getProperties().set(EDIT_MODE, false);
+    translator = new GameDataTranslator(gameData);
+  }
+
+  /** Makes the battles roll the same dice for the same seed. */
+  @VisibleForTesting
+  void setSeed(final long seed) {
+    randomSource = new PlainRandomSource(seed);
+    simulatorRandom = new Random(seed);
   }
 
   @Override
@@ -60,27 +82,74 @@ class BattleCalculator implements IBattleCalculator {
       final Collection<TerritoryEffect> territoryEffects,
       final boolean retreatWhenOnlyAirLeft,
       final int runCount) {
+    return calculate(
+        attacker,
+        defender,
+        location,
+        attacking,
+        defending,
+        bombarding,
+        territoryEffects,
+        retreatWhenOnlyAirLeft,
+        runCount,
+        null);
+  }
+
+  @Override
+  public AggregateResults calculate(final BattleSpec battle) {
+    if (battle.getConfidenceTarget() == null) {
+      return IBattleCalculator.super.calculate(battle);
+    }
+    final ConfidentRuns runs = new ConfidentRuns(battle);
+    calculate(battle, runs);
+    return runs.getResults();
+  }
+
+  /**
+   * Simulates batches of the runs of {@code battle} until {@code runs} needs no more. The battle is
+   * only set up once for all batches.
+   */
+  void calculate(final BattleSpec battle, final ConfidentRuns runs) {
+    calculate(
+        battle.getAttacker(),
+        battle.getDefender(),
+        battle.getLocation(),
+        battle.getAttacking(),
+        battle.getDefending(),
+        battle.getBombarding(),
+        battle.getTerritoryEffects(),
+        battle.isRetreatWhenOnlyAirLeft(),
+        battle.getRunCount(),
+        runs);
+  }
+
+  private AggregateResults calculate(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean retreatWhenOnlyAirLeft,
+      final int runCount,
+      final @Nullable ConfidentRuns confidentRuns) {
     Preconditions.checkState(
         !isRunning.getAndSet(true), "Can't calculate while operation is still running!");
     try {
-      final GamePlayer attacker2 =
-          attacker == null
-              ? gameData.getPlayerList().getNullPlayer()
-              : gameData.getPlayerList().getPlayerId(attacker.getName());
-      final GamePlayer defender2 =
-          defender == null
-              ? gameData.getPlayerList().getNullPlayer()
-              : gameData.getPlayerList().getPlayerId(defender.getName());
-      final Territory location2 = gameData.getMap().getTerritory(location.getName());
-      final Collection<Unit> attackingUnits =
-          translateCollectionIntoOtherGameData(attacking, gameData);
-      final Collection<Unit> defendingUnits =
-          translateCollectionIntoOtherGameData(defending, gameData);
-      final Collection<Unit> bombardingUnits =
-          translateCollectionIntoOtherGameData(bombarding, gameData);
+      final GamePlayer attacker2 = translator.translate(attacker);
+      final GamePlayer defender2 = translator.translate(defender);
+      final Territory location2 = translator.translate(location);
       final Collection<TerritoryEffect> territoryEffects2 =
-          translateCollectionIntoOtherGameData(territoryEffects, gameData);
+          translator.translateTerritoryEffects(territoryEffects);
       gameData.performChange(ChangeFactory.removeUnits(location2, location2.getUnits()));
+      // The units of earlier calculations are not needed anymore. This has to happen before the
+      // units are translated, as the translated units and the units they reference (e.g. their
+      // transports) are not held by anything until the end of the calculation.
+      gameData.getUnits().removeUnheldUnitsIfGrown(gameData);
+      final Collection<Unit> attackingUnits = translator.translateUnits(attacking);
+      final Collection<Unit> defendingUnits = translator.translateUnits(defending);
+      final Collection<Unit> bombardingUnits = translator.translateUnits(bombarding);
       gameData.performChange(
           ChangeFactory.addUnits(location2, mergeUnitCollections(attackingUnits, defendingUnits)));
       final long start = System.currentTimeMillis();
@@ -92,35 +161,80 @@ class BattleCalculator implements IBattleCalculator {
       final List<Unit> defenderOrderOfLosses =
           OrderOfLossesInputPanel.getUnitListByOrderOfLoss(
               this.defenderOrderOfLosses, defendingUnits, gameData);
-      for (int i = 0; i < runCount && !cancelled; i++) {
-        final CompositeChange allChanges = new CompositeChange();
-        final DummyDelegateBridge bridge =
-            new DummyDelegateBridge(
-                attacker2,
-                gameData,
-                allChanges,
-                attackerOrderOfLosses,
-                defenderOrderOfLosses,
-                keepOneAttackingLandUnit,
-                retreatAfterRound,
-                retreatAfterXUnitsLeft,
-                retreatWhenOnlyAirLeft,
-                tuvCalculator);
-        final MustFightBattle battle =
-            new MustFightBattle(location2, attacker2, gameData, battleTracker);
-        battle.setHeadless(true);
-        if (amphibious) {
-          attackingUnits.forEach(unit -> unit.setWasAmphibious(true));
+      // plain land battles don't need the full battle engine
+      final Optional<LandBattleSimulator> simulator =
+          landBattleSimulatorEnabled
+                  && attackerOrderOfLosses == null
+                  && defenderOrderOfLosses == null
+              ? createLandBattleSimulator(
+                  attacker2,
+                  defender2,
+                  location2,
+                  attackingUnits,
+                  defendingUnits,
+                  bombardingUnits,
+                  territoryEffects2,
+                  retreatWhenOnlyAirLeft)
+              : Optional.empty();
+      final Supplier<BattleResults> fightBattle;
+      if (simulator.isPresent()) {
+        final LandBattleSimulator landBattleSimulator = simulator.get();
+        fightBattle =
+            () ->
+                simulatorRandom == null
+                    ? landBattleSimulator.simulate()
+                    : landBattleSimulator.simulate(simulatorRandom);
+      } else {
+        fightBattle =
+            () -> {
+              final CompositeChange allChanges = new CompositeChange();
+              final DummyDelegateBridge bridge =
+                  new DummyDelegateBridge(
+                      attacker2,
+                      gameData,
+                      allChanges,
+                      attackerOrderOfLosses,
+                      defenderOrderOfLosses,
+                      keepOneAttackingLandUnit,
+                      retreatAfterRound,
+                      retreatAfterXUnitsLeft,
+                      retreatWhenOnlyAirLeft,
+                      tuvCalculator,
+                      randomSource);
+              final MustFightBattle battle =
+                  new MustFightBattle(location2, attacker2, gameData, battleTracker);
+              battle.setHeadless(true);
+              if (amphibious) {
+                attackingUnits.forEach(unit -> unit.setWasAmphibious(true));
+              }
+              battle.setUnits(
+                  defendingUnits, attackingUnits, bombardingUnits, defender2, territoryEffects2);
+              bridge.setBattle(battle);
+              battle.fight(bridge);
+              final BattleResults results = new BattleResults(battle, gameData);
+              // restore the game to its original state
+              gameData.performChange(allChanges.invert());
+              battleTracker.clear();
+              battleTracker.clearBattleRecords();
+              return results;
+            };
+      }
+      if (confidentRuns == null) {
+        for (int i = 0; i < runCount && !cancelled; i++) {
+          aggregateResults.addResult(fightBattle.get());
+        }
+      } else {
+        // the battle stays set up while the batches are simulated
+        for (int batchSize = confidentRuns.claimBatch();
+            batchSize > 0;
+            batchSize = confidentRuns.claimBatch()) {
+          final AggregateResults batch = new AggregateResults(batchSize);
+          for (int i = 0; i < batchSize && !cancelled; i++) {
+            batch.addResult(fightBattle.get());
+          }
+          confidentRuns.addBatch(batchSize, batch);
+          aggregateResults.addResults(batch);
         }
-        battle.setUnits(
-            defendingUnits, attackingUnits, bombardingUnits, defender2, territoryEffects2);
-        bridge.setBattle(battle);
-        battle.fight(bridge);
-        aggregateResults.addResult(new BattleResults(battle, gameData));
-        // restore the game to its original state
-        gameData.performChange(allChanges.invert());
-        battleTracker.clear();
-        battleTracker.clearBattleRecords();
       }
       aggregateResults.setTime(System.currentTimeMillis() - start);
       cancelled = false;
@@ -130,14 +244,33 @@ class BattleCalculator implements IBattleCalculator {
     }
   }
 
-  private <T> Collection<T> translateCollectionIntoOtherGameData(
-      Collection<T> collection, GameData otherData) {
-    // translateIntoOtherGameData() uses serialization, so if the collection is not serializable,
-    // copy it into one that is. In particular, HashMap.keySet() and similar are not serializable.
-    if (!(collection instanceof Serializable)) {
-      collection = new ArrayList<>(collection);
+  private Optional<LandBattleSimulator> createLandBattleSimulator(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean retreatWhenOnlyAirLeft) {
+    // the simulator has no notion of retreats or of units that were unloaded from transports
+    if (amphibious
+        || keepOneAttackingLandUnit
+        || retreatAfterRound > -1
+        || retreatAfterXUnitsLeft > -1
+        || retreatWhenOnlyAirLeft) {
+      return Optional.empty();
     }
-    return GameDataUtils.translateIntoOtherGameData(collection, otherData);
+    return LandBattleSimulator.of(
+        gameData,
+        attacker,
+        defender,
+        location,
+        attacking,
+        defending,
+        bombarding,
+        territoryEffects,
+        tuvCalculator);
   }
 
   private Collection<Unit> mergeUnitCollections(Collection<Unit> c1, Collection<Unit> c2) {
@@ -65,6 +65,9 @@ import org.triplea.swing.jpanel.GridBagConstraintsFill;
 class BattleCalculatorPanel extends JPanel {
   private static final long serialVersionUID = -3559687618320469183L;
   private static final String NO_EFFECTS = "*None*";
+  // the target when the simulation should stop once the attacker win percentage is within 1%
+  private static final ConfidenceTarget CONFIDENCE_TARGET =
+      ConfidenceTarget.builder().winPercentError(0.01).build();
   private final JLabel attackerWin = new JLabel();
   private final JLabel defenderWin = new JLabel();
   private final JLabel draw = new JLabel();
@@ -86,6 +89,7 @@ class BattleCalculatorPanel extends JPanel {
   private final JCheckBox landBattleCheckBox = new JCheckBox("Land battle");
   private final JCheckBox retreatWhenOnlyAirLeftCheckBox =
       new JCheckBox("Retreat when only air left");
+  private final JCheckBox stopWhenPreciseCheckBox = new JCheckBox("Stop when win % is precise");
   private final UiContext uiContext;
   private final GameData data;
   private final ConcurrentBattleCalculator calculator;
@@ -192,6 +196,9 @@ class BattleCalculatorPanel extends JPanel {
             + "left' is positive we will retreat when x of non-air is left too.");
     amphibiousCheckBox.setToolTipText(
         "Applies amphibious attack modifiers to all attacking land units");
+    stopWhenPreciseCheckBox.setToolTipText(
+        "Stops before the number of runs once the attacker win % is known to within 1% either "
+            + "way, which takes fewer runs the more lopsided the battle is.");
     attackerUnitsTotalNumber.setToolTipText(
         "Totals do not include AA guns and other infrastructure, and does not "
             + "include Bombarding sea units for land battles.");
@@ -346,7 +353,8 @@ class BattleCalculatorPanel extends JPanel {
     resultsText.add(
         keepOneAttackingLandUnitCheckBox, builder1.gridY(row2++).insets(2, 10, 0, 5).build());
     resultsText.add(amphibiousCheckBox, builder1.gridY(row2++).build());
-    resultsText.add(landBattleCheckBox, builder1.gridY(row2).build());
+    resultsText.add(landBattleCheckBox, builder1.gridY(row2++).build());
+    resultsText.add(stopWhenPreciseCheckBox, builder1.gridY(row2).build());
 
     final JPanel resultsPanel = new JPanel();
     resultsPanel.add(resultsText);
@@ -592,15 +600,19 @@ class BattleCalculatorPanel extends JPanel {
             attackers.set(attacking);
             resultsRef.set(
                 calculator.calculate(
-                    attacker,
-                    defender,
-                    location,
-                    attacking,
-                    defending,
-                    bombarding,
-                    territoryEffects,
-                    retreatWhenOnlyAirLeftCheckBox.isSelected(),
-                    numRuns.getValue()));
+                    BattleSpec.builder()
+                        .attacker(attacker)
+                        .defender(defender)
+                        .location(location)
+                        .attacking(attacking)
+                        .defending(defending)
+                        .bombarding(bombarding)
+                        .territoryEffects(territoryEffects)
+                        .retreatWhenOnlyAirLeft(retreatWhenOnlyAirLeftCheckBox.isSelected())
+                        .runCount(numRuns.getValue())
+                        .confidenceTarget(
+                            stopWhenPreciseCheckBox.isSelected() ? CONFIDENCE_TARGET : null)
+                        .build()));
           } finally {
             SwingUtilities.invokeLater(
                 () -> {
@@ -0,0 +1,36 @@
+package games.strategy.triplea.odds.calculator;
+
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Describes a single battle to be simulated by {@link IBattleCalculator#calculateAll(List)}.
+ *
+ * <p>Specs use identity equality, so every spec passed to a batch gets its own result even if two
+ * specs happen to describe the same battle.
+ *
+ * <p>Without a {@link ConfidenceTarget} the battle is simulated exactly {@code runCount} times.
+ * With one, {@code runCount} is the largest number of runs and the simulation stops as soon as the
+ * target is met.
+ */
+@Builder
+@Getter
+public final class BattleSpec {
+  private final GamePlayer attacker;
+  private final GamePlayer defender;
+  private final Territory location;
+  private final Collection<Unit> attacking;
+  private final Collection<Unit> defending;
+  @Builder.Default private final Collection<Unit> bombarding = List.of();
+  @Builder.Default private final Collection<TerritoryEffect> territoryEffects = List.of();
+  private final boolean retreatWhenOnlyAirLeft;
+  private final int runCount;
+  @Nullable private final ConfidenceTarget confidenceTarget;
+}
@@ -1,5 +1,6 @@
 package games.strategy.triplea.odds.calculator;
 
+import com.google.common.annotations.VisibleForTesting;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
@@ -8,11 +9,19 @@ import games.strategy.engine.data.Unit;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameDataUtils;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
@@ -22,16 +31,37 @@ import lombok.extern.slf4j.Slf4j;
  * Concurrent wrapper class for the OddsCalculator. It spawns multiple worker threads and splits up
  * the run count across these workers. This is mainly to be used by AIs since they call the
  * OddsCalculator a lot.
+ *
+ * <p>Only the first worker is created before the game data is reported as set. The remaining
+ * worker copies are deserialized in the background and join the pool as they become ready, so
+ * calculations can start after a single copy. Copies that have not started when the game data is
+ * replaced are skipped, but a copy that is already being deserialized runs to completion and is
+ * then discarded.
  */
 @Slf4j
 public class ConcurrentBattleCalculator implements IBattleCalculator {
   private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+  // copies worker game data in the background without taking threads from the common pool, which
+  // runs the calculations
+  private static final ExecutorService workerCreationExecutor =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            final Thread thread = new Thread(runnable, "Battle calculator worker creation");
+            thread.setDaemon(true);
+            return thread;
+          });
 
+  // the number of workers to create, 0 to choose it from the time and memory a copy takes
+  private final int workerCount;
+  private final Function<byte[], BattleCalculator> workerFactory;
   private final List<BattleCalculator> workers = new CopyOnWriteArrayList<>();
   // do not let calc be set up til data is set
   private volatile boolean isDataSet = false;
   // shortcut setting of previous game data if we are trying to set it to a new one, or shutdown
   private final AtomicInteger cancelCurrentOperation = new AtomicInteger(0);
+  // identifies the game data the workers belong to, so that background copies of replaced game
+  // data are discarded instead of joining the pool
+  private final AtomicInteger dataGeneration = new AtomicInteger(0);
   // do not let setting of game data happen multiple times while we offload creating workers and
   // copying data to a different thread
   private CompletableFuture<Boolean> latchWorkerThreadsCreation =
@@ -41,6 +71,27 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   private final Object mutexSetGameData = new Object();
   // do not let multiple calculations or setting calc data happen at same time
   private final Object mutexCalcIsRunning = new Object();
+  // do not let a worker join the pool while the worker settings are being changed
+  private final Object mutexWorkerSettings = new Object();
+
+  // settings applied to workers that join the pool after they were changed
+  private boolean keepOneAttackingLandUnit = false;
+  private boolean amphibious = false;
+  private int retreatAfterRound = -1;
+  private int retreatAfterXUnitsLeft = -1;
+  private String attackerOrderOfLosses = null;
+  private String defenderOrderOfLosses = null;
+
+  public ConcurrentBattleCalculator() {
+    this(0, BattleCalculator::new);
+  }
+
+  @VisibleForTesting
+  ConcurrentBattleCalculator(
+      final int workerCount, final Function<byte[], BattleCalculator> workerFactory) {
+    this.workerCount = workerCount;
+    this.workerFactory = workerFactory;
+  }
 
   /** Return value may be ignored. Exceptions are being handled properly. */
   public CompletableFuture<Boolean> setGameData(@Nullable final GameData data) {
@@ -111,7 +162,14 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   }
 
   private boolean createWorkers(@Nullable final GameData data) {
-    workers.clear();
+    final int generation;
+    synchronized (mutexWorkerSettings) {
+      // background workers of the replaced game data check the generation while holding this lock,
+      // so none of them can join the pool after it was cleared
+      generation = dataGeneration.incrementAndGet();
+      workers.clear();
+    }
+    resetWorkerSettings();
     if (data != null && cancelCurrentOperation.get() >= 0) {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
@@ -130,20 +188,31 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
       }
       if (cancelCurrentOperation.get() >= 0) {
         // Create the first battle calc on the current thread to measure the end-to-end copy time.
-        workers.add(new BattleCalculator(serializedData));
-        int threadsToUse = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-        // Now, create the remaining ones in parallel.
-        workers.addAll(
-            IntStream.range(1, threadsToUse)
-                .parallel()
-                .filter(j -> cancelCurrentOperation.get() >= 0)
-                .mapToObj(j -> new BattleCalculator(serializedData))
-                .collect(Collectors.toList()));
+        addWorker(workerFactory.apply(serializedData));
+        final int threadsToUse =
+            workerCount > 0
+                ? workerCount
+                : getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
+        // Now, create the remaining ones in the background. Calculations can already use the
+        // first worker and will pick up the others as soon as they are ready.
+        IntStream.range(1, threadsToUse)
+            .forEach(
+                j ->
+                    CompletableFuture.runAsync(
+                            () -> createBackgroundWorker(serializedData, generation),
+                            workerCreationExecutor)
+                        .exceptionally(
+                            throwable -> {
+                              log.error("Error while creating battle calculator", throwable);
+                              return null;
+                            }));
       }
     }
     if (cancelCurrentOperation.get() < 0 || data == null) {
       // we could have cancelled while setting data, so clear the workers again if so
-      workers.clear();
+      synchronized (mutexWorkerSettings) {
+        workers.clear();
+      }
       return false;
     }
     // should make sure that all workers have their game data set before
@@ -151,6 +220,52 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
     return true;
   }
 
+  private void createBackgroundWorker(final byte[] serializedData, final int generation) {
+    if (!isCurrentGeneration(generation)) {
+      return;
+    }
+    final BattleCalculator worker = workerFactory.apply(serializedData);
+    synchronized (mutexWorkerSettings) {
+      // the game data could have been replaced while this copy was being made
+      if (isCurrentGeneration(generation)) {
+        addWorker(worker);
+      }
+    }
+  }
+
+  // new game data starts out with fresh workers, so the settings go back to the worker defaults
+  private void resetWorkerSettings() {
+    synchronized (mutexWorkerSettings) {
+      keepOneAttackingLandUnit = false;
+      amphibious = false;
+      retreatAfterRound = -1;
+      retreatAfterXUnitsLeft = -1;
+      attackerOrderOfLosses = null;
+      defenderOrderOfLosses = null;
+    }
+  }
+
+  @VisibleForTesting
+  int getWorkerCount() {
+    return workers.size();
+  }
+
+  private boolean isCurrentGeneration(final int generation) {
+    return dataGeneration.get() == generation && cancelCurrentOperation.get() >= 0;
+  }
+
+  private void addWorker(final BattleCalculator worker) {
+    synchronized (mutexWorkerSettings) {
+      worker.setKeepOneAttackingLandUnit(keepOneAttackingLandUnit);
+      worker.setAmphibious(amphibious);
+      worker.setRetreatAfterRound(retreatAfterRound);
+      worker.setRetreatAfterXUnitsLeft(retreatAfterXUnitsLeft);
+      worker.setAttackerOrderOfLosses(attackerOrderOfLosses);
+      worker.setDefenderOrderOfLosses(defenderOrderOfLosses);
+      workers.add(worker);
+    }
+  }
+
   /**
    * Concurrently calculates odds using the OddsCalculatorWorker. It uses Executor to process the
    * results. Then waits for all the future results and combines them together.
@@ -175,39 +290,104 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
         // causing it to abort with null data
         return new AggregateResults(0);
       }
-      final var runCountDistributor = new RunCountDistributor(runCount, workers.size());
-      final AggregateResults results =
-          new AggregateResults(
-              workers.parallelStream()
-                  .map(
-                      worker ->
-                          // Note: Although we're running in parallel, the data passed in does not
-                          // get modified, so no copies are necessary. Also, the outer calculate()
-                          // call is synchronous, so there's no problem if the caller later modifies
-                          // the collections that were provided.
-                          worker.calculate(
-                              attacker,
-                              defender,
-                              location,
-                              attacking,
-                              defending,
-                              bombarding,
-                              territoryEffects,
-                              retreatWhenOnlyAirLeft,
-                              runCountDistributor.nextRunCount()))
-                  .map(AggregateResults::getResults)
-                  .flatMap(Collection::parallelStream)
-                  .collect(Collectors.toList()));
+      // workers can still be joining the pool, so only use those that are ready right now
+      final List<BattleCalculator> readyWorkers = List.copyOf(workers);
+      final var runCountDistributor = new RunCountDistributor(runCount, readyWorkers.size());
+      final AggregateResults results = new AggregateResults(runCount);
+      readyWorkers.parallelStream()
+          .map(
+              worker ->
+                  // Note: Although we're running in parallel, the data passed in does not get
+                  // modified, so no copies are necessary. Also, the outer calculate() call is
+                  // synchronous, so there's no problem if the caller later modifies the
+                  // collections that were provided.
+                  worker.calculate(
+                      attacker,
+                      defender,
+                      location,
+                      attacking,
+                      defending,
+                      bombarding,
+                      territoryEffects,
+                      retreatWhenOnlyAirLeft,
+                      runCountDistributor.nextRunCount()))
+          .collect(Collectors.toList())
+          .forEach(results::addResults);
       results.setTime(System.currentTimeMillis() - start);
       return results;
     }
   }
 
+  /**
+   * Concurrently calculates the odds of a battle. The runs of a battle with a confidence target
+   * are claimed batch by batch by all workers, so that each worker sets the battle up only once.
+   */
+  @Override
+  public AggregateResults calculate(final BattleSpec battle) {
+    if (battle.getConfidenceTarget() == null) {
+      return IBattleCalculator.super.calculate(battle);
+    }
+    waitForGameDataReady();
+    synchronized (mutexCalcIsRunning) {
+      if (!isDataSet) {
+        // we could have attempted to set a new game data, while the old one was still being set,
+        // causing it to abort with null data
+        return new AggregateResults(0);
+      }
+      final ConfidentRuns runs = new ConfidentRuns(battle);
+      List.copyOf(workers).parallelStream().forEach(worker -> worker.calculate(battle, runs));
+      return runs.getResults();
+    }
+  }
+
+  /**
+   * Concurrently calculates the odds of several battles. Unlike {@link #calculate}, which splits
+   * the runs of one battle across all workers, each battle is simulated entirely by a single worker
+   * and the workers take the next pending battle as soon as they are done. This avoids handing
+   * every worker only a few runs when many small battles are estimated in a row.
+   */
+  @Override
+  public Map<BattleSpec, AggregateResults> calculateAll(final List<BattleSpec> battles) {
+    if (battles.size() == 1) {
+      // a single battle is better served by splitting its runs across the workers
+      return IBattleCalculator.super.calculateAll(battles);
+    }
+    waitForGameDataReady();
+    synchronized (mutexCalcIsRunning) {
+      final Map<BattleSpec, AggregateResults> results = new LinkedHashMap<>();
+      if (!isDataSet) {
+        // we could have attempted to set a new game data, while the old one was still being set,
+        // causing it to abort with null data
+        battles.forEach(battle -> results.put(battle, new AggregateResults(0)));
+        return results;
+      }
+      final Queue<BattleSpec> pendingBattles = new ConcurrentLinkedQueue<>(battles);
+      final Map<BattleSpec, AggregateResults> calculatedResults = new ConcurrentHashMap<>();
+      List.copyOf(workers).parallelStream()
+          .forEach(
+              worker -> {
+                BattleSpec battle;
+                while ((battle = pendingBattles.poll()) != null) {
+                  calculatedResults.put(battle, worker.calculate(battle));
+                }
+              });
+      // keep the order of the given battles no matter which worker finished first
+      battles.forEach(
+          battle ->
+              results.put(
+                  battle, calculatedResults.getOrDefault(battle, new AggregateResults(0))));
+      return results;
+    }
+  }
+
   public void setKeepOneAttackingLandUnit(final boolean bool) {
     waitForGameDataReady();
     synchronized (mutexCalcIsRunning) {
-      for (final BattleCalculator worker : workers) {
-        worker.setKeepOneAttackingLandUnit(bool);
+      synchronized (mutexWorkerSettings) {
+        keepOneAttackingLandUnit = bool;
+        for (final BattleCalculator worker : workers) {
+          worker.setKeepOneAttackingLandUnit(bool);
+        }
       }
     }
   }
@@ -215,8 +395,11 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   public void setAmphibious(final boolean bool) {
     waitForGameDataReady();
     synchronized (mutexCalcIsRunning) {
-      for (final BattleCalculator worker : workers) {
-        worker.setAmphibious(bool);
+      synchronized (mutexWorkerSettings) {
+        amphibious = bool;
+        for (final BattleCalculator worker : workers) {
+          worker.setAmphibious(bool);
+        }
       }
     }
   }
@@ -224,8 +407,11 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   public void setRetreatAfterRound(final int value) {
     waitForGameDataReady();
     synchronized (mutexCalcIsRunning) {
-      for (final BattleCalculator worker : workers) {
-        worker.setRetreatAfterRound(value);
+      synchronized (mutexWorkerSettings) {
+        retreatAfterRound = value;
+        for (final BattleCalculator worker : workers) {
+          worker.setRetreatAfterRound(value);
+        }
       }
     }
   }
@@ -233,8 +419,11 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   public void setRetreatAfterXUnitsLeft(final int value) {
     waitForGameDataReady();
     synchronized (mutexCalcIsRunning) {
-      for (final BattleCalculator worker : workers) {
-        worker.setRetreatAfterXUnitsLeft(value);
+      synchronized (mutexWorkerSettings) {
+        retreatAfterXUnitsLeft = value;
+        for (final BattleCalculator worker : workers) {
+          worker.setRetreatAfterXUnitsLeft(value);
+        }
       }
     }
   }
@@ -242,8 +431,11 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   public void setAttackerOrderOfLosses(final String attackerOrderOfLosses) {
     waitForGameDataReady();
     synchronized (mutexCalcIsRunning) {
-      for (final BattleCalculator worker : workers) {
-        worker.setAttackerOrderOfLosses(attackerOrderOfLosses);
+      synchronized (mutexWorkerSettings) {
+        this.attackerOrderOfLosses = attackerOrderOfLosses;
+        for (final BattleCalculator worker : workers) {
+          worker.setAttackerOrderOfLosses(attackerOrderOfLosses);
+        }
       }
     }
   }
@@ -251,8 +443,11 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   public void setDefenderOrderOfLosses(final String defenderOrderOfLosses) {
     waitForGameDataReady();
     synchronized (mutexCalcIsRunning) {
-      for (final BattleCalculator worker : workers) {
-        worker.setDefenderOrderOfLosses(defenderOrderOfLosses);
+      synchronized (mutexWorkerSettings) {
+        this.defenderOrderOfLosses = defenderOrderOfLosses;
+        for (final BattleCalculator worker : workers) {
+          worker.setDefenderOrderOfLosses(defenderOrderOfLosses);
+        }
       }
     }
   }
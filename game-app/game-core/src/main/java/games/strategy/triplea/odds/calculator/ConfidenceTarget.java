@@ -0,0 +1,105 @@
+package games.strategy.triplea.odds.calculator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import games.strategy.engine.data.UnitType;
+import java.time.Duration;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Getter;
+import org.triplea.java.collections.IntegerMap;
+
+/**
+ * Describes how precise the results of a battle simulation need to be. A battle with a confidence
+ * target is simulated in batches until the 95% confidence intervals of the attacker win
+ * probability and the TUV swing are narrow enough, the time budget is used up or the run count of
+ * the battle is reached, whichever comes first.
+ *
+ * <p>Lopsided battles usually meet the target after a few batches, while close battles keep
+ * running up to their run count.
+ */
+@Getter
+public final class ConfidenceTarget {
+  /** The z-score of a two-sided 95% confidence interval. */
+  private static final double Z_95 = 1.96;
+
+  /**
+   * The largest acceptable distance between the estimated attacker win probability (between 0 and
+   * 1) and the bounds of its confidence interval. 0.05 by default.
+   */
+  private final double winPercentError;
+  /**
+   * The largest acceptable distance between the estimated TUV swing and the bounds of its
+   * confidence interval. The TUV swing is not checked by default.
+   */
+  private final double tuvSwingError;
+  /**
+   * The number of runs simulated before the target is checked again. Several workers can each
+   * simulate a batch at the same time, so smaller batches stop closer to the target. 32 by default.
+   */
+  private final int batchSize;
+  /** The time after which no further batches are started, {@code null} for no time limit. */
+  @Nullable private final Duration timeBudget;
+
+  @Builder
+  private ConfidenceTarget(
+      final double winPercentError,
+      final double tuvSwingError,
+      final int batchSize,
+      @Nullable final Duration timeBudget) {
+    checkArgument(
+        winPercentError >= 0, "Win percent error must not be negative: %s", winPercentError);
+    checkArgument(tuvSwingError >= 0, "TUV swing error must not be negative: %s", tuvSwingError);
+    checkArgument(batchSize > 0, "Batch size must be positive: %s", batchSize);
+    checkArgument(
+        timeBudget == null || !timeBudget.isNegative(),
+        "Time budget must not be negative: %s",
+        timeBudget);
+    this.winPercentError = winPercentError;
+    this.tuvSwingError = tuvSwingError;
+    this.batchSize = batchSize;
+    this.timeBudget = timeBudget;
+  }
+
+  /** Returns a builder that starts out with the default target. */
+  public static ConfidenceTargetBuilder builder() {
+    return new ConfidenceTargetBuilder()
+        .winPercentError(0.05)
+        .tuvSwingError(Double.POSITIVE_INFINITY)
+        .batchSize(32);
+  }
+
+  /**
+   * Returns whether {@code results} are precise enough. The TUV costs are only used if a TUV swing
+   * error is set.
+   */
+  boolean isMetBy(
+      final AggregateResults results,
+      final IntegerMap<UnitType> attackerCostsForTuv,
+      final IntegerMap<UnitType> defenderCostsForTuv) {
+    final int runs = results.getRollCount();
+    if (runs < 2) {
+      return false;
+    }
+    // Agresti-Coull interval: unlike the plain normal approximation it does not collapse to zero
+    // width when every run so far ended the same way
+    final double adjustedRuns = runs + Z_95 * Z_95;
+    final double adjustedWinPercent =
+        (results.getAttackerWinPercent() * runs + Z_95 * Z_95 / 2) / adjustedRuns;
+    final double winPercentHalfWidth =
+        Z_95 * Math.sqrt(adjustedWinPercent * (1 - adjustedWinPercent) / adjustedRuns);
+    if (winPercentHalfWidth > winPercentError) {
+      return false;
+    }
+    if (Double.isInfinite(tuvSwingError)) {
+      return true;
+    }
+    final double tuvSwingVariance =
+        results.getTuvSwingVariance(attackerCostsForTuv, defenderCostsForTuv);
+    return Z_95 * Math.sqrt(tuvSwingVariance / runs) <= tuvSwingError;
+  }
+
+  boolean isTimeBudgetExceeded(final long startMillis) {
+    return timeBudget != null && System.currentTimeMillis() - startMillis >= timeBudget.toMillis();
+  }
+}
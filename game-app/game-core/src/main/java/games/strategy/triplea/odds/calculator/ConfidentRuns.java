@@ -0,0 +1,70 @@
+package games.strategy.triplea.odds.calculator;
+
+import com.google.common.base.Preconditions;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.util.TuvCostsCalculator;
+import javax.annotation.concurrent.ThreadSafe;
+import org.triplea.java.collections.IntegerMap;
+
+/**
+ * The runs of a battle with a {@link ConfidenceTarget}. Workers claim batches of runs, simulate
+ * them with the battle set up once and add the results back, until the target is met, the time
+ * budget is used up or the run count of the battle is reached. Several workers can share the runs
+ * of one battle, in which case a few more runs than needed may be simulated by the batches that
+ * were already claimed when the target was met.
+ */
+@ThreadSafe
+final class ConfidentRuns {
+  private final int runCount;
+  private final ConfidenceTarget confidenceTarget;
+  private final IntegerMap<UnitType> attackerCostsForTuv;
+  private final IntegerMap<UnitType> defenderCostsForTuv;
+  private final long start = System.currentTimeMillis();
+  private final AggregateResults results;
+  private int claimedRuns = 0;
+  private boolean done = false;
+
+  ConfidentRuns(final BattleSpec battle) {
+    runCount = battle.getRunCount();
+    confidenceTarget = Preconditions.checkNotNull(battle.getConfidenceTarget());
+    // the TUV costs are only needed to check the TUV swing
+    if (Double.isInfinite(confidenceTarget.getTuvSwingError())) {
+      attackerCostsForTuv = new IntegerMap<>();
+      defenderCostsForTuv = new IntegerMap<>();
+    } else {
+      final TuvCostsCalculator tuvCalculator = new TuvCostsCalculator();
+      attackerCostsForTuv = tuvCalculator.getCostsForTuv(battle.getAttacker());
+      defenderCostsForTuv = tuvCalculator.getCostsForTuv(battle.getDefender());
+    }
+    results = new AggregateResults(runCount);
+  }
+
+  /** Returns the number of runs of the next batch, 0 if no more runs are needed. */
+  synchronized int claimBatch() {
+    if (done) {
+      return 0;
+    }
+    final int batchSize = Math.min(confidenceTarget.getBatchSize(), runCount - claimedRuns);
+    claimedRuns += batchSize;
+    return batchSize;
+  }
+
+  /**
+   * Adds the results of a batch of {@code claimedBatchSize} runs. A batch with fewer results was
+   * cancelled, which ends the runs.
+   */
+  synchronized void addBatch(final int claimedBatchSize, final AggregateResults batch) {
+    results.addResults(batch);
+    if (batch.getRollCount() < claimedBatchSize
+        || claimedRuns >= runCount
+        || confidenceTarget.isMetBy(results, attackerCostsForTuv, defenderCostsForTuv)
+        || confidenceTarget.isTimeBudgetExceeded(start)) {
+      done = true;
+    }
+  }
+
+  synchronized AggregateResults getResults() {
+    results.setTime(System.currentTimeMillis() - start);
+    return results;
+  }
+}
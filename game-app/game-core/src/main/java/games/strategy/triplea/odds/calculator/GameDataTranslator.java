@@ -0,0 +1,158 @@
+package games.strategy.triplea.odds.calculator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.MutableProperty;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * Translates units, players, territories and territory effects of one game data into the
+ * equivalent objects of a battle calculator's own copy of the game data.
+ *
+ * <p>Objects are looked up by their name, units by their id. Units that are not yet known to the
+ * copy are created in it with the state of the original unit. Units that are known get only the
+ * state that differs from the original applied, e.g. hits taken or movement used since the copy
+ * was made. This replaces a Java serialization round trip for every translated collection.
+ */
+class GameDataTranslator {
+  /**
+   * The names of the unit properties that describe the state of a unit, that is every field of a
+   * unit except its identity. Every field of {@link Unit} is a property of the same name.
+   */
+  static final List<String> UNIT_STATE_PROPERTIES =
+      Arrays.stream(Unit.class.getDeclaredFields())
+          .filter(field -> !Modifier.isStatic(field.getModifiers()))
+          .map(Field::getName)
+          .filter(name -> !name.equals("id") && !name.equals("type"))
+          .collect(Collectors.toUnmodifiableList());
+
+  private final GameData gameData;
+
+  GameDataTranslator(final GameData gameData) {
+    this.gameData = checkNotNull(gameData);
+  }
+
+  GamePlayer translate(@Nullable final GamePlayer player) {
+    return player == null
+        ? gameData.getPlayerList().getNullPlayer()
+        : checkNotNull(
+            gameData.getPlayerList().getPlayerId(player.getName()), "Unknown player: %s", player);
+  }
+
+  Territory translate(final Territory territory) {
+    return checkNotNull(
+        gameData.getMap().getTerritory(territory.getName()), "Unknown territory: %s", territory);
+  }
+
+  private UnitType translate(final UnitType unitType) {
+    return checkNotNull(
+        gameData.getUnitTypeList().getUnitType(unitType.getName()),
+        "Unknown unit type: %s",
+        unitType);
+  }
+
+  Collection<TerritoryEffect> translateTerritoryEffects(
+      final Collection<TerritoryEffect> territoryEffects) {
+    final Collection<TerritoryEffect> translated = new ArrayList<>(territoryEffects.size());
+    for (final TerritoryEffect territoryEffect : territoryEffects) {
+      translated.add(
+          checkNotNull(
+              gameData.getTerritoryEffectList().get(territoryEffect.getName()),
+              "Unknown territory effect: %s",
+              territoryEffect));
+    }
+    return translated;
+  }
+
+  Collection<Unit> translateUnits(final Collection<Unit> units) {
+    final Map<UUID, Unit> translatedUnits = new HashMap<>();
+    final Collection<Unit> translated = new ArrayList<>(units.size());
+    for (final Unit unit : units) {
+      translated.add(translate(unit, translatedUnits));
+    }
+    return translated;
+  }
+
+  private Unit translate(final Unit unit, final Map<UUID, Unit> translatedUnits) {
+    final Unit alreadyTranslated = translatedUnits.get(unit.getId());
+    if (alreadyTranslated != null) {
+      return alreadyTranslated;
+    }
+    Unit local = gameData.getUnits().get(unit.getId());
+    if (local == null) {
+      local =
+          new Unit(unit.getId(), translate(unit.getType()), translate(unit.getOwner()), gameData);
+      gameData.getUnits().put(local);
+    }
+    // register before copying the state, units can reference each other (e.g. transports)
+    translatedUnits.put(unit.getId(), local);
+    if (local != unit) {
+      copyState(unit, local, translatedUnits);
+    }
+    return local;
+  }
+
+  private void copyState(final Unit from, final Unit to, final Map<UUID, Unit> translatedUnits) {
+    final GamePlayer owner = to.getOwner();
+    for (final String propertyName : UNIT_STATE_PROPERTIES) {
+      final MutableProperty<?> fromProperty = from.getPropertyOrThrow(propertyName);
+      final MutableProperty<?> toProperty = to.getPropertyOrThrow(propertyName);
+      final Object value = translateValue(fromProperty.getValue(), translatedUnits);
+      if (!Objects.equals(value, toProperty.getValue())) {
+        try {
+          toProperty.setValue(value);
+        } catch (final MutableProperty.InvalidValueException e) {
+          throw new IllegalStateException(
+              "Failed to copy unit property " + propertyName + " of " + from, e);
+        }
+      }
+    }
+    if (!owner.equals(to.getOwner())) {
+      unitOwnersChanged();
+    }
+  }
+
+  /**
+   * Updates the unit indexes of all unit holders of the copy after the owner of a unit known to the
+   * copy was set directly. Units don't know their holder, so the indexes of all holders are reset.
+   */
+  private void unitOwnersChanged() {
+    gameData.getMap().getTerritories().forEach(t -> t.getUnitCollection().unitOwnersChanged());
+    gameData.getPlayerList().forEach(player -> player.getUnitCollection().unitOwnersChanged());
+  }
+
+  private @Nullable Object translateValue(
+      @Nullable final Object value, final Map<UUID, Unit> translatedUnits) {
+    if (value instanceof Unit) {
+      return translate((Unit) value, translatedUnits);
+    } else if (value instanceof GamePlayer) {
+      return translate((GamePlayer) value);
+    } else if (value instanceof Territory) {
+      return translate((Territory) value);
+    } else if (value instanceof List) {
+      final List<Object> translated = new ArrayList<>();
+      for (final Object element : (List<?>) value) {
+        translated.add(translateValue(element, translatedUnits));
+      }
+      return translated;
+    }
+    return value;
+  }
+}
@@ -5,6 +5,9 @@ import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Interface to ensure different implementations of the odds calculator all have the same public
@@ -21,4 +24,48 @@ public interface IBattleCalculator {
       Collection<TerritoryEffect> territoryEffects,
       boolean retreatWhenOnlyAirLeft,
       int runCount);
+
+  /**
+   * Simulates every battle in {@code battles} and returns the results keyed by the spec they
+   * belong to, in the order the specs were given. Implementations may simulate several battles at
+   * the same time, so callers that need many estimates should prefer this over repeated calls to
+   * {@link #calculate}.
+   */
+  default Map<BattleSpec, AggregateResults> calculateAll(final List<BattleSpec> battles) {
+    final Map<BattleSpec, AggregateResults> results = new LinkedHashMap<>();
+    for (final BattleSpec battle : battles) {
+      results.put(battle, calculate(battle));
+    }
+    return results;
+  }
+
+  /**
+   * Simulates the battle described by {@code battle}. If the battle has a {@link ConfidenceTarget},
+   * it is simulated in batches until the target is met. Implementations should simulate the
+   * batches without setting up the battle again for every batch; this default calls {@link
+   * #calculate} once per batch.
+   */
+  default AggregateResults calculate(final BattleSpec battle) {
+    if (battle.getConfidenceTarget() == null) {
+      return calculate(battle, battle.getRunCount());
+    }
+    final ConfidentRuns runs = new ConfidentRuns(battle);
+    for (int batchSize = runs.claimBatch(); batchSize > 0; batchSize = runs.claimBatch()) {
+      runs.addBatch(batchSize, calculate(battle, batchSize));
+    }
+    return runs.getResults();
+  }
+
+  private AggregateResults calculate(final BattleSpec battle, final int runCount) {
+    return calculate(
+        battle.getAttacker(),
+        battle.getDefender(),
+        battle.getLocation(),
+        battle.getAttacking(),
+        battle.getDefending(),
+        battle.getBombarding(),
+        battle.getTerritoryEffects(),
+        battle.isRetreatWhenOnlyAirLeft(),
+        runCount);
+  }
 }
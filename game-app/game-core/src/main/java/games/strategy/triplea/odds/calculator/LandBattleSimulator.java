@@ -0,0 +1,237 @@
+package games.strategy.triplea.odds.calculator;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.delegate.battle.BattleResults;
+import games.strategy.triplea.delegate.battle.BattleState;
+import games.strategy.triplea.delegate.battle.IBattle.WhoWon;
+import games.strategy.triplea.delegate.battle.casualty.CasualtySelector;
+import games.strategy.triplea.delegate.power.calculator.CombatValue;
+import games.strategy.triplea.delegate.power.calculator.CombatValueBuilder;
+import games.strategy.triplea.delegate.power.calculator.PowerStrengthAndRolls;
+import games.strategy.triplea.util.TuvCostsCalculator;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Simulates plain land battles without going through {@link
+ * games.strategy.triplea.delegate.battle.MustFightBattle}.
+ *
+ * <p>Only battles where every unit is a one hit point land combat unit without special combat
+ * abilities (first strike, AA, support, suicide, targeting restrictions, ...) are supported. For
+ * those, the strength, rolls and casualty order of every unit do not change during the battle, so
+ * they are computed once and each run only rolls dice against primitive arrays. Casualties are
+ * taken in the default order of losses, which is what the battle calculator's dummy players pick.
+ *
+ * <p>Use {@link #of} to find out whether a battle can be simulated by this class. Any other battle
+ * has to be fought by the full battle engine.
+ */
+final class LandBattleSimulator {
+  private final GameData gameData;
+  private final int diceSides;
+  private final List<Unit> attackerCasualtyOrder;
+  private final int[] attackerStrengths;
+  private final int[] attackerRolls;
+  private final List<Unit> defenderCasualtyOrder;
+  private final int[] defenderStrengths;
+  private final int[] defenderRolls;
+
+  private LandBattleSimulator(
+      final GameData gameData,
+      final List<Unit> attackerCasualtyOrder,
+      final PowerStrengthAndRolls attackerPower,
+      final List<Unit> defenderCasualtyOrder,
+      final PowerStrengthAndRolls defenderPower) {
+    this.gameData = gameData;
+    this.diceSides = gameData.getDiceSides();
+    this.attackerCasualtyOrder = attackerCasualtyOrder;
+    this.attackerStrengths = getStrengths(attackerCasualtyOrder, attackerPower);
+    this.attackerRolls = getRolls(attackerCasualtyOrder, attackerPower);
+    this.defenderCasualtyOrder = defenderCasualtyOrder;
+    this.defenderStrengths = getStrengths(defenderCasualtyOrder, defenderPower);
+    this.defenderRolls = getRolls(defenderCasualtyOrder, defenderPower);
+  }
+
+  /**
+   * Returns a simulator for the given battle or an empty optional if the battle uses rules this
+   * class does not model.
+   */
+  static Optional<LandBattleSimulator> of(
+      final GameData gameData,
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects,
+      final TuvCostsCalculator tuvCalculator) {
+    if (location.isWater()
+        || attacking.isEmpty()
+        || defending.isEmpty()
+        || !bombarding.isEmpty()
+        || Properties.getLowLuck(gameData.getProperties())
+        || Properties.getLandBattleRounds(gameData.getProperties()) > 0
+        || !attacking.stream().allMatch(isSimpleUnit(true, attacker, location, defending))
+        || !defending.stream().allMatch(isSimpleUnit(false, attacker, location, attacking))
+        || !attacking.stream().allMatch(Matches.unitIsOwnedBy(attacker))
+        || !defending.stream().allMatch(Matches.enemyUnit(attacker))) {
+      return Optional.empty();
+    }
+
+    final CombatValue attackerCombatValue =
+        combatValue(gameData, BattleState.Side.OFFENSE, attacking, defending, territoryEffects);
+    final CombatValue defenderCombatValue =
+        combatValue(gameData, BattleState.Side.DEFENSE, defending, attacking, territoryEffects);
+    final PowerStrengthAndRolls attackerPower =
+        PowerStrengthAndRolls.build(attacking, attackerCombatValue);
+    final PowerStrengthAndRolls defenderPower =
+        PowerStrengthAndRolls.build(defending, defenderCombatValue);
+    // units without any strength would make a stalemate possible, which needs the full engine
+    if (!attacking.stream().allMatch(hasStrengthAndRolls(attackerPower))
+        || !defending.stream().allMatch(hasStrengthAndRolls(defenderPower))) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        new LandBattleSimulator(
+            gameData,
+            List.copyOf(
+                CasualtySelector.getCasualtyOrderOfLoss(
+                    attacking,
+                    attacker,
+                    attackerCombatValue,
+                    location,
+                    tuvCalculator.getCostsForTuv(attacker),
+                    gameData)),
+            attackerPower,
+            List.copyOf(
+                CasualtySelector.getCasualtyOrderOfLoss(
+                    defending,
+                    defender,
+                    defenderCombatValue,
+                    location,
+                    tuvCalculator.getCostsForTuv(defender),
+                    gameData)),
+            defenderPower));
+  }
+
+  private static Predicate<Unit> isSimpleUnit(
+      final boolean attack,
+      final GamePlayer attacker,
+      final Territory location,
+      final Collection<Unit> enemyUnits) {
+    return Matches.unitIsLand()
+        .and(Matches.unitIsNotInfrastructure())
+        .and(Matches.unitCanParticipateInCombat(attack, attacker, location, 1, enemyUnits))
+        .and(Matches.unitIsFirstStrike().negate())
+        .and(Matches.unitCanEvade().negate())
+        .and(Matches.unitIsAaForAnything().negate())
+        .and(Matches.unitIsSuicideOnAttack().negate())
+        .and(Matches.unitIsSuicideOnDefense().negate())
+        .and(Matches.unitIsSuicideOnHit().negate())
+        .and(
+            unit -> {
+              final UnitAttachment ua = unit.getUnitAttachment();
+              return unit.getHits() == 0
+                  && ua.getHitPoints() == 1
+                  && !ua.getChooseBestRoll()
+                  && ua.getCanNotTarget().isEmpty()
+                  && ua.getCanNotBeTargetedBy().isEmpty()
+                  && UnitSupportAttachment.get(unit.getType()).isEmpty();
+            });
+  }
+
+  private static Predicate<Unit> hasStrengthAndRolls(final PowerStrengthAndRolls power) {
+    return unit -> power.getStrength(unit) > 0 && power.getRolls(unit) > 0;
+  }
+
+  private static CombatValue combatValue(
+      final GameData gameData,
+      final BattleState.Side side,
+      final Collection<Unit> friendlyUnits,
+      final Collection<Unit> enemyUnits,
+      final Collection<TerritoryEffect> territoryEffects) {
+    return CombatValueBuilder.mainCombatValue()
+        .enemyUnits(enemyUnits)
+        .friendlyUnits(friendlyUnits)
+        .side(side)
+        .gameSequence(gameData.getSequence())
+        .supportAttachments(gameData.getUnitTypeList().getSupportRules())
+        .lhtrHeavyBombers(Properties.getLhtrHeavyBombers(gameData.getProperties()))
+        .gameDiceSides(gameData.getDiceSides())
+        .territoryEffects(territoryEffects)
+        .build();
+  }
+
+  private static int[] getStrengths(final List<Unit> units, final PowerStrengthAndRolls power) {
+    return units.stream().mapToInt(power::getStrength).toArray();
+  }
+
+  private static int[] getRolls(final List<Unit> units, final PowerStrengthAndRolls power) {
+    return units.stream().mapToInt(power::getRolls).toArray();
+  }
+
+  /** Fights the battle once and returns its result. */
+  BattleResults simulate() {
+    return simulate(ThreadLocalRandom.current());
+  }
+
+  /** Fights the battle once with the dice of {@code random} and returns its result. */
+  BattleResults simulate(final Random random) {
+    // casualties are always taken from the front of the casualty order, so the units still alive
+    // are the ones from these indices to the end of the casualty order
+    int attackersKilled = 0;
+    int defendersKilled = 0;
+    int round = 1;
+    while (true) {
+      final int attackerHits = fire(attackersKilled, attackerStrengths, attackerRolls, random);
+      final int defenderHits = fire(defendersKilled, defenderStrengths, defenderRolls, random);
+      attackersKilled = Math.min(attackerCasualtyOrder.size(), attackersKilled + defenderHits);
+      defendersKilled = Math.min(defenderCasualtyOrder.size(), defendersKilled + attackerHits);
+      if (attackersKilled == attackerCasualtyOrder.size()) {
+        return new BattleResults(
+            round,
+            List.of(),
+            defenderCasualtyOrder.subList(defendersKilled, defenderCasualtyOrder.size()),
+            WhoWon.DEFENDER,
+            gameData);
+      } else if (defendersKilled == defenderCasualtyOrder.size()) {
+        return new BattleResults(
+            round,
+            attackerCasualtyOrder.subList(attackersKilled, attackerCasualtyOrder.size()),
+            List.of(),
+            WhoWon.ATTACKER,
+            gameData);
+      }
+      round++;
+    }
+  }
+
+  private int fire(
+      final int firstAlive,
+      final int[] strengths,
+      final int[] rolls,
+      final Random random) {
+    int hits = 0;
+    for (int i = firstAlive; i < strengths.length; i++) {
+      for (int roll = 0; roll < rolls[i]; roll++) {
+        if (random.nextInt(diceSides) < strengths[i]) {
+          hits++;
+        }
+      }
+    }
+    return hits;
+  }
+}
@@ -54,6 +54,8 @@ public abstract class ClientSetting<T> implements GameSetting<T> {
       new IntegerClientSetting("AI_PAUSE_DURATION", 300);
   public static final ClientSetting<Integer> aiCombatStepPauseDuration =
       new IntegerClientSetting("AI_COMBAT_STEP_PAUSE_DURATION", 1000);
+  public static final ClientSetting<Boolean> aiParallelMoveOptionSearch =
+      new BooleanClientSetting("AI_PARALLEL_MOVE_OPTION_SEARCH");
   public static final ClientSetting<Integer> arrowKeyScrollSpeed =
       new IntegerClientSetting("ARROW_KEY_SCROLL_SPEED", 70);
   public static final ClientSetting<Integer> battleCalcSimulationCountDice =
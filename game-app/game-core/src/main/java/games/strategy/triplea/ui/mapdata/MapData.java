@@ -133,6 +133,7 @@ public class MapData {
   private Set<String> ignoreTransformingUnits;
   private final Map<String, Tuple<List<Point>, Boolean>> place = new HashMap<>();
   private final Map<String, List<Polygon>> polys = new HashMap<>();
+  private final TerritoryPolygonIndex territoryPolygonIndex;
   private final Map<String, Point> centers = new HashMap<>();
   private final Map<String, Point> vcPlace = new HashMap<>();
   private final Map<String, Point> blockadePlace = new HashMap<>();
@@ -191,6 +192,7 @@ public class MapData {
       log.warn("Failed to initialize map data: {}", ex.getMessage(), ex);
     }
 
+    territoryPolygonIndex = new TerritoryPolygonIndex(polys);
     playerColors = new PlayerColors(mapProperties);
     vcImage = loader.loadImage("misc/vc.png").orElse(null);
     blockadeImage = loader.loadImage("misc/blockade.png").orElse(null);
@@ -632,24 +634,7 @@ public class MapData {
 
   /** Get the territory at the x,y co-ordinates could be null. */
   public @Nullable String getTerritoryAt(final double x, final double y) {
-    // try to find a land territory.
-    // sea zones often surround a land territory
-    int smallestArea = Integer.MAX_VALUE;
-    @Nullable String closestMatch = null;
-    for (final String name : polys.keySet()) {
-      final Collection<Polygon> polygons = polys.get(name);
-      for (final Polygon poly : polygons) {
-        if (poly.contains(x, y)) {
-          Dimension size = poly.getBounds().getSize();
-          int area = size.width * size.height;
-          if (area < smallestArea) {
-            closestMatch = name;
-            smallestArea = area;
-          }
-        }
-      }
-    }
-    return closestMatch;
+    return territoryPolygonIndex.getTerritoryAt(x, y);
   }
 
   public Dimension getMapDimensions() {
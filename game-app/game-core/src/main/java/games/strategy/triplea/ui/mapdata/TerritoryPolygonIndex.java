@@ -0,0 +1,94 @@
+package games.strategy.triplea.ui.mapdata;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+
+/**
+ * Uniform grid over the territory polygons of a map. Each grid cell lists the polygons whose
+ * bounding box overlaps the cell, ordered by the area of their bounding box, so that finding the
+ * territory at a point only tests the few polygons of one cell instead of every polygon of the map.
+ */
+class TerritoryPolygonIndex {
+  static final int CELL_SIZE = 128;
+
+  private final Rectangle gridBounds;
+  private final int columns;
+  private final List<List<Entry>> cells;
+
+  @AllArgsConstructor
+  private static class Entry {
+    private final String territoryName;
+    private final Polygon polygon;
+    private final int area;
+  }
+
+  TerritoryPolygonIndex(final Map<String, List<Polygon>> polygons) {
+    final List<Entry> entries = new ArrayList<>();
+    Rectangle bounds = null;
+    for (final Map.Entry<String, List<Polygon>> territory : polygons.entrySet()) {
+      for (final Polygon polygon : territory.getValue()) {
+        final Rectangle polygonBounds = polygon.getBounds();
+        entries.add(
+            new Entry(territory.getKey(), polygon, polygonBounds.width * polygonBounds.height));
+        if (bounds == null) {
+          bounds = polygonBounds;
+        } else {
+          bounds.add(polygonBounds);
+        }
+      }
+    }
+    gridBounds = bounds == null ? new Rectangle() : bounds;
+    columns = cellCount(gridBounds.width);
+    final int rows = cellCount(gridBounds.height);
+    cells = new ArrayList<>(columns * rows);
+    for (int i = 0; i < columns * rows; i++) {
+      cells.add(new ArrayList<>());
+    }
+    // the sort is stable, so among polygons of equal area the first one of the map still wins
+    entries.sort(Comparator.comparingInt(entry -> entry.area));
+    for (final Entry entry : entries) {
+      final Rectangle polygonBounds = entry.polygon.getBounds();
+      final int firstColumn = (polygonBounds.x - gridBounds.x) / CELL_SIZE;
+      final int lastColumn =
+          (polygonBounds.x + Math.max(polygonBounds.width - 1, 0) - gridBounds.x) / CELL_SIZE;
+      final int firstRow = (polygonBounds.y - gridBounds.y) / CELL_SIZE;
+      final int lastRow =
+          (polygonBounds.y + Math.max(polygonBounds.height - 1, 0) - gridBounds.y) / CELL_SIZE;
+      for (int column = firstColumn; column <= Math.min(lastColumn, columns - 1); column++) {
+        for (int row = firstRow; row <= Math.min(lastRow, rows - 1); row++) {
+          cells.get(row * columns + column).add(entry);
+        }
+      }
+    }
+  }
+
+  private static int cellCount(final int length) {
+    return (length + CELL_SIZE - 1) / CELL_SIZE;
+  }
+
+  /**
+   * Returns the name of the territory with the smallest polygon containing the point, or null if
+   * no polygon contains it. Sea zones often surround land territories, so the smallest polygon is
+   * the one the point most likely refers to.
+   */
+  @Nullable
+  String getTerritoryAt(final double x, final double y) {
+    if (!gridBounds.contains(x, y)) {
+      return null;
+    }
+    final int column = (int) ((x - gridBounds.x) / CELL_SIZE);
+    final int row = (int) ((y - gridBounds.y) / CELL_SIZE);
+    for (final Entry entry : cells.get(row * columns + column)) {
+      if (entry.polygon.contains(x, y)) {
+        return entry.territoryName;
+      }
+    }
+    return null;
+  }
+}
@@ -42,11 +42,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.triplea.util.Tuple;
@@ -57,12 +59,19 @@ public class TileManager {
   // Note: This value cannot currently change as map images are stored in tile files of this size.
   public static final int TILE_SIZE = 256;
 
+  // column major grid of tileColumns * tileRows tiles, see createTiles
   private List<Tile> tiles = new ArrayList<>();
+  private int tileColumns;
+  private int tileRows;
   private final Object mutex = new Object();
   private final Map<String, IDrawable> territoryOverlays = new HashMap<>();
   private final Map<String, Set<IDrawable>> territoryDrawables = new HashMap<>();
   private final Map<String, Set<Tile>> territoryTiles = new HashMap<>();
   private final Collection<UnitsDrawer> allUnitDrawables = new ArrayList<>();
+  // unit drawables by the TILE_SIZE grid cells their placement rectangle overlaps, the rectangles
+  // are kept as the unit image size and thereby the placement rectangles change when zooming
+  private final Map<Point, List<UnitsDrawer>> unitDrawablesByCell = new HashMap<>();
+  private final Map<UnitsDrawer, Rectangle> unitDrawableRects = new IdentityHashMap<>();
   private final UiContext uiContext;
 
   public TileManager(final UiContext uiContext) {
@@ -124,32 +133,37 @@ public class TileManager {
     }
     synchronized (mutex) {
       final List<Tile> tilesInBounds = new ArrayList<>();
-      for (final Tile tile : tiles) {
-        final Rectangle tileBounds = tile.getBounds();
-        if (tileBounds.intersects(bounds)) {
-          tilesInBounds.add(tile);
-        }
-      }
+      addTilesIntersecting(bounds, tilesInBounds);
       if (boundsXshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsXshift.contains(tileBounds) || tileBounds.intersects(boundsXshift)) {
-            tilesInBounds.add(tile);
-          }
-        }
+        addTilesIntersecting(boundsXshift, tilesInBounds);
       }
       if (boundsYshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsYshift.contains(tileBounds) || tileBounds.intersects(boundsYshift)) {
-            tilesInBounds.add(tile);
-          }
-        }
+        addTilesIntersecting(boundsYshift, tilesInBounds);
       }
       return tilesInBounds;
     }
   }
 
+  /**
+   * Adds the tiles intersecting {@code bounds} to {@code tilesInBounds}. The tiles form a grid, so
+   * their indexes are computed from the coordinates instead of testing every tile.
+   */
+  private void addTilesIntersecting(final Rectangle2D bounds, final List<Tile> tilesInBounds) {
+    if (bounds.isEmpty()) {
+      return;
+    }
+    final int firstColumn = Math.max((int) Math.floor(bounds.getMinX() / TILE_SIZE), 0);
+    final int lastColumn =
+        Math.min((int) Math.ceil(bounds.getMaxX() / TILE_SIZE) - 1, tileColumns - 1);
+    final int firstRow = Math.max((int) Math.floor(bounds.getMinY() / TILE_SIZE), 0);
+    final int lastRow = Math.min((int) Math.ceil(bounds.getMaxY() / TILE_SIZE) - 1, tileRows - 1);
+    for (int column = firstColumn; column <= lastColumn; column++) {
+      for (int row = firstRow; row <= lastRow; row++) {
+        tilesInBounds.add(tiles.get(column * tileRows + row));
+      }
+    }
+  }
+
   Collection<UnitsDrawer> getUnitDrawables() {
     synchronized (mutex) {
       return new ArrayList<>(allUnitDrawables);
@@ -161,8 +175,10 @@ public class TileManager {
     synchronized (mutex) {
       // create our tiles
       tiles = new ArrayList<>();
-      for (int x = 0; x * TILE_SIZE < bounds.width; x++) {
-        for (int y = 0; y * TILE_SIZE < bounds.height; y++) {
+      tileColumns = (bounds.width + TILE_SIZE - 1) / TILE_SIZE;
+      tileRows = (bounds.height + TILE_SIZE - 1) / TILE_SIZE;
+      for (int x = 0; x < tileColumns; x++) {
+        for (int y = 0; y < tileRows; y++) {
           tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE)));
         }
       }
@@ -235,6 +251,47 @@ public class TileManager {
       tile.removeDrawables(drawables);
     }
     allUnitDrawables.removeAll(drawables);
+    for (final IDrawable drawable : drawables) {
+      if (drawable instanceof UnitsDrawer) {
+        removeUnitDrawableFromCells((UnitsDrawer) drawable);
+      }
+    }
+  }
+
+  private void addUnitDrawableToCells(final UnitsDrawer drawable) {
+    final Rectangle rect = drawable.getPlacementRectangle();
+    unitDrawableRects.put(drawable, rect);
+    forEachCell(
+        rect,
+        cell -> unitDrawablesByCell.computeIfAbsent(cell, key -> new ArrayList<>()).add(drawable));
+  }
+
+  private void removeUnitDrawableFromCells(final UnitsDrawer drawable) {
+    final Rectangle rect = unitDrawableRects.remove(drawable);
+    if (rect == null) {
+      return;
+    }
+    forEachCell(
+        rect,
+        cell -> {
+          final List<UnitsDrawer> cellDrawables = unitDrawablesByCell.get(cell);
+          if (cellDrawables != null) {
+            cellDrawables.remove(drawable);
+            if (cellDrawables.isEmpty()) {
+              unitDrawablesByCell.remove(cell);
+            }
+          }
+        });
+  }
+
+  private static void forEachCell(final Rectangle rect, final Consumer<Point> action) {
+    final int lastX = Math.floorDiv(rect.x + Math.max(rect.width - 1, 0), TILE_SIZE);
+    final int lastY = Math.floorDiv(rect.y + Math.max(rect.height - 1, 0), TILE_SIZE);
+    for (int x = Math.floorDiv(rect.x, TILE_SIZE); x <= lastX; x++) {
+      for (int y = Math.floorDiv(rect.y, TILE_SIZE); y <= lastY; y++) {
+        action.accept(new Point(x, y));
+      }
+    }
   }
 
   private void drawTerritory(
@@ -341,6 +398,7 @@ public class TileManager {
               uiContext);
       drawing.add(drawable);
       allUnitDrawables.add(drawable);
+      addUnitDrawableToCells(drawable);
       for (final Tile tile : getTiles(drawable.getPlacementRectangle())) {
         tile.addDrawable(drawable);
         drawnOn.add(tile);
@@ -511,7 +569,11 @@ public class TileManager {
       final double x, final double y, final GameData gameData) {
     try (GameData.Unlocker ignored = gameData.acquireReadLock()) {
       synchronized (mutex) {
-        for (final UnitsDrawer drawer : allUnitDrawables) {
+        final Point cell =
+            new Point(
+                Math.floorDiv((int) Math.floor(x), TILE_SIZE),
+                Math.floorDiv((int) Math.floor(y), TILE_SIZE));
+        for (final UnitsDrawer drawer : unitDrawablesByCell.getOrDefault(cell, List.of())) {
           if (drawer.getPlacementRectangle().contains(x, y)) {
             return Tuple.of(drawer.getTerritory(gameData), drawer.getUnits(gameData));
           }
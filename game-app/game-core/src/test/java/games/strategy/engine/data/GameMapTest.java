@@ -3,6 +3,7 @@ package games.strategy.engine.data;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.xml.TestMapGameData;
 import org.junit.jupiter.api.Test;
 
@@ -32,4 +33,47 @@ public class GameMapTest {
   void testLandDistanceSameTerritory() {
     assertThat(getLandDistance(caucasus, caucasus), is(0));
   }
+
+  @Test
+  void testCachedDistancesMatchSearchedDistances() {
+    final GameMap map = gameData.getMap();
+    for (final Territory from : map.getTerritories()) {
+      for (final Territory to : map.getTerritories()) {
+        assertThat(map.getDistance(from, to), is(map.getDistance(from, to, it -> true)));
+        assertThat(
+            map.getLandDistance(from, to),
+            is(map.getDistance(from, to, Matches.territoryIsLand())));
+        assertThat(
+            map.getWaterDistance(from, to),
+            is(map.getDistance(from, to, Matches.territoryIsWater())));
+      }
+    }
+  }
+
+  @Test
+  void testCachedNeighborsMatchSearchedNeighbors() {
+    final GameMap map = gameData.getMap();
+    for (final Territory territory : map.getTerritories()) {
+      for (int distance = 0; distance <= 3; distance++) {
+        assertThat(
+            map.getNeighbors(territory, distance),
+            is(map.getNeighbors(territory, distance, (it, it2) -> true)));
+        assertThat(
+            map.getLandNeighbors(territory, distance),
+            is(map.getNeighbors(territory, distance, Matches.territoryIsLand())));
+        assertThat(
+            map.getWaterNeighbors(territory, distance),
+            is(map.getNeighbors(territory, distance, Matches.territoryIsWater())));
+      }
+    }
+  }
+
+  @Test
+  void testCachedDistancesAreUpdatedWithNewConnections() {
+    assertThat(getLandDistance(caucasus, germany), is(3));
+
+    gameData.getMap().addConnection(caucasus, germany);
+
+    assertThat(getLandDistance(caucasus, germany), is(1));
+  }
 }
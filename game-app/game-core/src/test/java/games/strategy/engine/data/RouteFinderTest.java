@@ -2,15 +2,20 @@ package games.strategy.engine.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Preconditions;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -161,6 +166,52 @@ class RouteFinderTest {
     return routeFinder;
   }
 
+  @Test
+  void testFindRouteByCostWithNegativeMovementCost() {
+    final RouteFinder routeFinder = Mockito.spy(new RouteFinder(map, t -> true, List.of(), player));
+    // a territory effect lowering the movement cost by 2 makes moving into territory 1 cost -1
+    doAnswer(
+            invocation ->
+                invocation.getArgument(0).equals(territories.get(1))
+                    ? new BigDecimal(-1)
+                    : BigDecimal.ONE)
+        .when(routeFinder)
+        .getMaxMovementCost(any());
+    doReturn(new BigDecimal(-1)).when(routeFinder).getMinMovementCost();
+
+    final Optional<Route> optRoute =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> routeFinder.findRouteByCost(territories.get(0), territories.get(2)));
+
+    assertEquals(
+        Stream.of(0, 1, 2).map(territories::get).collect(Collectors.toList()),
+        optRoute.orElseThrow().getAllTerritories());
+  }
+
+  @Test
+  void testFindRoutesByCostWithMovementCosts() {
+    final RouteTree routeTree =
+        createRouteFinder(List.of(territories.get(6))).findRoutesByCost(territories.get(0));
+    assertEquals(
+        Stream.of(0, 3, 4, 5, 7, 8).map(territories::get).collect(Collectors.toList()),
+        routeTree.getRoute(territories.get(8)).orElseThrow().getAllTerritories());
+    assertEquals(
+        List.of(territories.get(0)),
+        routeTree.getRoute(territories.get(0)).orElseThrow().getAllTerritories());
+  }
+
+  @Test
+  void testFindRoutesByCostOnlyPassesThroughMatchingTerritories() {
+    final RouteTree routeTree =
+        new RouteFinder(map, t -> !t.equals(territories.get(3)), List.of(), player)
+            .findRoutesByCost(territories.get(0));
+    assertEquals(
+        Stream.of(0, 3).map(territories::get).collect(Collectors.toList()),
+        routeTree.getRoute(territories.get(3)).orElseThrow().getAllTerritories());
+    assertFalse(routeTree.getRoute(territories.get(4)).isPresent());
+  }
+
   @Test
   void testFindRouteByCostEndAndStartAreTheSame() {
     final RouteFinder routeFinder = new RouteFinder(map, t -> true, List.of(), player);
@@ -181,4 +232,33 @@ class RouteFinderTest {
         routeFinder.findRouteByCost(territories.get(0), territories.get(territories.size() - 1));
     assertFalse(optRoute.isPresent());
   }
+
+  @Test
+  void testRouteTreesAreShortestOnRealMap() {
+    final GameMap realMap = TestMapGameData.REVISED.getGameData().getMap();
+    final RouteFinder routeFinder = new RouteFinder(realMap, Matches.territoryIsLand());
+    for (final Territory start : realMap.getTerritories()) {
+      final RouteTree routeTree = routeFinder.findRoutesByDistance(start);
+      for (final Territory end : realMap.getTerritories()) {
+        assertEquals(
+            routeFinder.findRouteByDistance(start, end).map(Route::numberOfSteps).orElse(-1),
+            routeTree.getRoute(end).map(Route::numberOfSteps).orElse(-1),
+            () -> start + " to " + end);
+      }
+    }
+  }
+
+  @Test
+  void testRoutesAreShortestOnRealMap() {
+    final GameMap realMap = TestMapGameData.REVISED.getGameData().getMap();
+    final RouteFinder routeFinder = new RouteFinder(realMap, Matches.territoryIsLand());
+    for (final Territory start : realMap.getTerritories()) {
+      for (final Territory end : realMap.getTerritories()) {
+        assertEquals(
+            realMap.getLandDistance(start, end),
+            routeFinder.findRouteByDistance(start, end).map(Route::numberOfSteps).orElse(-1),
+            () -> start + " to " + end);
+      }
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package games.strategy.engine.data;
 
 import static games.strategy.triplea.delegate.battle.steps.MockGameData.givenGameData;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -12,6 +13,8 @@ import games.strategy.triplea.delegate.Matches;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -159,6 +162,54 @@ class UnitCollectionTest {
     verify(defaultGamePlayer).notifyChanged();
   }
 
+  @Test
+  void unitCountsFollowRemovedUnits() {
+    addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(unitCollection.getUnitCount(unitTypeOne), is(equalTo(unitCountUnitTypeOne)));
+
+    unitCollection.remove(unitOtherPlayer1);
+    unitCollection.removeAll(getDefaultPlayerUnitsOfUnitTypeOne());
+
+    assertThat(unitCollection.getUnitCount(unitTypeOne), is(equalTo(unitCountUnitTypeOne - 2)));
+    assertThat(unitCollection.getUnitCount(unitTypeOne, defaultGamePlayer), is(equalTo(0)));
+    assertThat(
+        unitCollection.getUnitCount(unitTypeOne, otherGamePlayer),
+        is(equalTo(unitCountOtherPlayerUnitTypeOne - 1)));
+    assertThat(unitCollection.contains(unitOtherPlayer1), is(equalTo(false)));
+    assertThat(unitCollection.getUnits(unitTypeOne, 1), is(equalTo(List.of(unitOtherPlayer2))));
+  }
+
+  @Test
+  void unitCountsFollowChangedOwners() {
+    addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(unitCollection.getUnitCount(defaultGamePlayer), is(equalTo(unitCountDefaultPlayer)));
+
+    unitOtherPlayer1.setOwner(defaultGamePlayer);
+    unitCollection.unitOwnersChanged();
+
+    assertThat(
+        unitCollection.getUnitCount(defaultGamePlayer), is(equalTo(unitCountDefaultPlayer + 1)));
+    assertThat(unitCollection.getUnitCount(otherGamePlayer), is(equalTo(unitCountOtherPlayer - 1)));
+  }
+
+  @Test
+  void removedUnitIsTakenFromTheOwnerItWasCountedFor() {
+    addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(
+        unitCollection.getUnitCount(unitTypeOne, defaultGamePlayer),
+        is(equalTo(unitCountDefaultPlayerUnitTypeOne)));
+
+    unitOtherPlayer1.setOwner(defaultGamePlayer);
+    unitCollection.remove(unitOtherPlayer1);
+
+    assertThat(
+        unitCollection.getUnitCount(unitTypeOne, defaultGamePlayer),
+        is(equalTo(unitCountDefaultPlayerUnitTypeOne)));
+    assertThat(
+        unitCollection.getUnitCount(unitTypeOne, otherGamePlayer),
+        is(equalTo(unitCountOtherPlayerUnitTypeOne - 1)));
+  }
+
   @Test
   void getUnitCount() {
     assertThat(unitCollection.getUnitCount(), is(equalTo(0)));
@@ -510,4 +561,23 @@ class UnitCollectionTest {
     final Iterator<Unit> unitCollectionIterator = unitCollection.iterator();
     unitCollectionIterator.forEachRemaining(u -> assertThat(u, is(collectionIterator.next())));
   }
+
+  @Test
+  void indexBuiltByAnotherThreadContainsUnitsAddedMeanwhile() throws Exception {
+    final AtomicInteger unitCount = new AtomicInteger();
+    final Thread reader =
+        new Thread(
+            () -> unitCount.set(unitCollection.getUnitCount(unitTypeOne, defaultGamePlayer)));
+    // the index is built under the same monitor as the units are changed, so the reader has to wait
+    // until the unit is added and then builds an index that contains it
+    synchronized (unitCollection) {
+      reader.start();
+      await().until(reader::getState, is(Thread.State.BLOCKED));
+      unitCollection.add(unitDefaultPlayer1);
+    }
+    reader.join();
+
+    assertThat(unitCount.get(), is(1));
+    assertThat(unitCollection.getUnitCount(unitTypeOne, defaultGamePlayer), is(1));
+  }
 }
@@ -0,0 +1,47 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UnitsListTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final UnitsList unitsList = gameData.getUnits();
+  private final Territory germany = gameData.getMap().getTerritory("Germany");
+
+  @Test
+  void removeUnheldUnitsKeepsOnlyUnitsOfTerritoriesAndPlayers() {
+    final Unit killed = germany.getUnits().iterator().next();
+    final Unit survivor = germany.getUnits().stream().filter(u -> u != killed).findAny().get();
+    final Change kill = ChangeFactory.removeUnits(germany, List.of(killed));
+    gameData.performChange(kill);
+
+    unitsList.removeUnheldUnits(gameData);
+
+    assertThat(unitsList.get(killed.getId()), is(nullValue()));
+    assertThat(unitsList.get(survivor.getId()), is(sameInstance(survivor)));
+
+    gameData.performChange(kill.invert());
+
+    assertThat(unitsList.get(killed.getId()), is(sameInstance(killed)));
+  }
+
+  @Test
+  void removeUnheldUnitsIfGrownKeepsUnitsWhileTheListIsSmall() {
+    final Unit killed = germany.getUnits().iterator().next();
+    gameData.performChange(ChangeFactory.removeUnits(germany, List.of(killed)));
+    unitsList.removeUnheldUnits(gameData);
+    final Unit created = new Unit(killed.getType(), killed.getOwner(), gameData);
+    unitsList.put(created);
+
+    unitsList.removeUnheldUnitsIfGrown(gameData);
+
+    assertThat(unitsList.get(created.getId()), is(sameInstance(created)));
+  }
+}
@@ -1,9 +1,15 @@
 package games.strategy.engine.delegate;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.triplea.java.Interruptibles;
 
@@ -22,6 +28,21 @@ final class DelegateExecutionManagerTest {
     assertDoesNotThrow(delegateExecutionManager::enterDelegateExecution);
   }
 
+  @Test
+  void shouldInvokeHookBeforeLeavingDelegateExecution() {
+    final AtomicReference<DelegateExecutionManager> manager = new AtomicReference<>();
+    final List<Boolean> inDelegateExecutionDuringHook = new ArrayList<>();
+    manager.set(
+        new DelegateExecutionManager(
+            () -> inDelegateExecutionDuringHook.add(manager.get().isInDelegateExecution())));
+    manager.get().enterDelegateExecution();
+
+    manager.get().leaveDelegateExecution();
+
+    assertThat(inDelegateExecutionDuringHook, contains(true));
+    assertThat(manager.get().isInDelegateExecution(), is(false));
+  }
+
   @Test
   void shouldNotAllowNestedExecutionOfDelegatesOnSameThread() {
     // given: a delegate is executed on the current thread
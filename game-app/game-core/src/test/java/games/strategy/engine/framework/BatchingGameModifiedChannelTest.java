@@ -0,0 +1,122 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+final class BatchingGameModifiedChannelTest {
+  private final IGameModifiedChannel broadcaster = mock(IGameModifiedChannel.class);
+  private final List<Change> performedChanges = new ArrayList<>();
+  private final BatchingGameModifiedChannel channel =
+      new BatchingGameModifiedChannel(broadcaster, performedChanges::add);
+  private final Change change1 = mock(Change.class);
+  private final Change change2 = mock(Change.class);
+
+  @Test
+  void changesArePerformedRightAwayButBroadcastWhenFlushed() {
+    channel.gameDataChanged(change1);
+    channel.gameDataChanged(change2);
+
+    assertThat(performedChanges, contains(change1, change2));
+    verify(broadcaster, never()).gameDataChangedInBatch(any());
+
+    channel.flush();
+
+    final ArgumentCaptor<CompositeChange> batch = ArgumentCaptor.forClass(CompositeChange.class);
+    verify(broadcaster).gameDataChangedInBatch(batch.capture());
+    assertThat(batch.getValue().getChanges(), contains(change1, change2));
+  }
+
+  @Test
+  void nothingIsBroadcastWithoutChanges() {
+    channel.flush();
+
+    verify(broadcaster, never()).gameDataChangedInBatch(any());
+  }
+
+  @Test
+  void changesAreBroadcastBeforeOtherModifications() {
+    channel.gameDataChanged(change1);
+    channel.startHistoryEvent("event");
+    channel.gameDataChanged(change2);
+    channel.addChildToEvent("child", null);
+
+    final InOrder inOrder = inOrder(broadcaster);
+    final ArgumentCaptor<CompositeChange> batch = ArgumentCaptor.forClass(CompositeChange.class);
+    inOrder.verify(broadcaster).gameDataChangedInBatch(batch.capture());
+    inOrder.verify(broadcaster).startHistoryEvent("event");
+    inOrder.verify(broadcaster).gameDataChangedInBatch(batch.capture());
+    inOrder.verify(broadcaster).addChildToEvent("child", null);
+    assertThat(batch.getAllValues().get(0).getChanges(), contains(change1));
+    assertThat(batch.getAllValues().get(1).getChanges(), contains(change2));
+  }
+
+  @Test
+  void subscriberRegisteredWhileChangesArePendingOnlyReceivesLaterChanges() {
+    final List<IGameModifiedChannel> subscribers = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              final CompositeChange changes = invocation.getArgument(0);
+              subscribers.forEach(subscriber -> subscriber.gameDataChangedInBatch(changes));
+              return null;
+            })
+        .when(broadcaster)
+        .gameDataChangedInBatch(any());
+    final List<Change> receivedChanges = new ArrayList<>();
+    final IGameModifiedChannel subscriber = mock(IGameModifiedChannel.class);
+    doAnswer(invocation -> receivedChanges.add(invocation.getArgument(0)))
+        .when(subscriber)
+        .gameDataChanged(any());
+    doAnswer(
+            invocation -> {
+              final CompositeChange changes = invocation.getArgument(0);
+              changes.getChanges().forEach(subscriber::gameDataChanged);
+              return null;
+            })
+        .when(subscriber)
+        .gameDataChangedInBatch(any());
+
+    channel.gameDataChanged(change1);
+    // a copy made now already contains change1
+    channel.flushAndGet(() -> subscribers.add(subscriber));
+    channel.gameDataChanged(change2);
+    channel.flush();
+
+    assertThat(receivedChanges, contains(change2));
+  }
+
+  @Test
+  void changesWaitUntilActionOfFlushAndGetReturns() throws Exception {
+    final Thread changingThread = new Thread(() -> channel.gameDataChanged(change2));
+
+    channel.gameDataChanged(change1);
+    final List<Change> changesPerformedDuringAction =
+        channel.flushAndGet(
+            () -> {
+              changingThread.start();
+              try {
+                changingThread.join(100);
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return List.copyOf(performedChanges);
+            });
+    changingThread.join();
+
+    assertThat(changesPerformedDuringAction, contains(change1));
+    assertThat(performedChanges, contains(change1, change2));
+  }
+}
@@ -6,8 +6,14 @@ import static org.mockito.Mockito.verify;
 
 import games.strategy.engine.data.GameData;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.triplea.io.IoUtils;
 
 final class GameDataManagerTest {
@@ -21,6 +27,15 @@ final class GameDataManagerTest {
           IoUtils.readFromMemory(bytes, GameDataManager::loadGame).orElseThrow();
       assertEquals(loaded.getGameName(), data.getGameName());
     }
+
+    @Test
+    void shouldPreserveGameNameOfSnapshot(@TempDir final Path tempDir) throws Exception {
+      final GameData data = new GameData();
+      final Path file = tempDir.resolve("snapshot.tsvg");
+      GameDataManager.saveSnapshot(GameDataManager.writeSnapshot(data), file);
+      final GameData loaded = GameDataManager.loadGame(file).orElseThrow();
+      assertEquals(loaded.getGameName(), data.getGameName());
+    }
   }
 
   @Nested
@@ -33,5 +48,16 @@ final class GameDataManagerTest {
 
       verify(os).close();
     }
+
+    @Test
+    void shouldLeaveOnlySaveGameAfterSavingSnapshot(@TempDir final Path tempDir) throws Exception {
+      final Path file = tempDir.resolve("snapshot.tsvg");
+
+      GameDataManager.saveSnapshot(GameDataManager.writeSnapshot(new GameData()), file);
+
+      try (Stream<Path> files = Files.list(tempDir)) {
+        assertEquals(List.of(file), files.collect(Collectors.toList()));
+      }
+    }
   }
 }
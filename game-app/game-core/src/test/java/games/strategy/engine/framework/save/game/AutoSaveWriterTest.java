@@ -0,0 +1,72 @@
+package games.strategy.engine.framework.save.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.framework.GameDataManager;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class AutoSaveWriterTest {
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final AutoSaveWriter autoSaveWriter = new AutoSaveWriter(executor);
+  private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+
+  private static GameData newGameData(final String gameName) {
+    final GameData gameData = new GameData();
+    gameData.setGameName(gameName);
+    return gameData;
+  }
+
+  private static String loadGameName(final Path file) {
+    return GameDataManager.loadGame(file).orElseThrow().getGameName();
+  }
+
+  /** Keeps the writer thread busy, so that the saves requested meanwhile wait to be written. */
+  private void blockWriterUntil(final CountDownLatch latch) {
+    executor.execute(
+        () -> {
+          try {
+            latch.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+  }
+
+  @Test
+  void shouldWriteSavesOfDifferentFilesRequestedBeforeTheFirstIsWritten(
+      @TempDir final Path tempDir) {
+    final Path roundFile = tempDir.resolve("round.tsvg");
+    final Path stepFile = tempDir.resolve("step.tsvg");
+    final CountDownLatch bothSavesRequested = new CountDownLatch(1);
+    blockWriterUntil(bothSavesRequested);
+
+    autoSaveWriter.save(newGameData("round"), delegateExecutionManager, roundFile);
+    autoSaveWriter.save(newGameData("step"), delegateExecutionManager, stepFile);
+    bothSavesRequested.countDown();
+    autoSaveWriter.shutDown();
+
+    assertEquals("round", loadGameName(roundFile));
+    assertEquals("step", loadGameName(stepFile));
+  }
+
+  @Test
+  void shouldWriteOnlyNewestSaveOfTheSameFile(@TempDir final Path tempDir) {
+    final Path file = tempDir.resolve("autosave.tsvg");
+    final CountDownLatch bothSavesRequested = new CountDownLatch(1);
+    blockWriterUntil(bothSavesRequested);
+
+    autoSaveWriter.save(newGameData("older"), delegateExecutionManager, file);
+    autoSaveWriter.save(newGameData("newer"), delegateExecutionManager, file);
+    bothSavesRequested.countDown();
+    autoSaveWriter.shutDown();
+
+    assertEquals("newer", loadGameName(file));
+  }
+}
@@ -0,0 +1,119 @@
+package games.strategy.engine.history;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class HistoryTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final History history = gameData.getHistory();
+  private final GamePlayer germans = germans(gameData);
+  private final Territory germany = territory("Germany", gameData);
+
+  /** Every round adds three units to Germany. */
+  private void writeRounds(final int roundCount) {
+    history.enableSeeking(null);
+    final HistoryWriter writer = history.getHistoryWriter();
+    for (int round = 1; round <= roundCount; round++) {
+      writer.startNextRound(round);
+      writer.startNextStep("germanCombatMove", "move", germans, "Combat Move");
+      writer.startEvent("Round " + round);
+      writer.addChange(ChangeFactory.addUnits(germany, infantry(gameData).create(3, germans)));
+    }
+  }
+
+  /** Returns the round nodes of the last three rounds in the history. */
+  private static List<Round> getLastThreeRounds(final History history) {
+    final List<Round> rounds = new ArrayList<>();
+    final HistoryNode root = (HistoryNode) history.getRoot();
+    for (int i = 0; i < root.getChildCount(); i++) {
+      if (root.getChildAt(i) instanceof Round) {
+        rounds.add((Round) root.getChildAt(i));
+      }
+    }
+    return rounds.subList(rounds.size() - 3, rounds.size());
+  }
+
+  private static double getGermanUnits(final Round round) {
+    return round.getStatistics().orElseThrow().get("Units").get("Germans");
+  }
+
+  @Test
+  void testStatisticsAreRecordedWhenRoundEnds() {
+    writeRounds(3);
+
+    final List<Round> roundNodes = getLastThreeRounds(history);
+    assertThat(roundNodes.get(2).getStatistics(), is(Optional.empty()));
+    // round 2 adds three units, round 3 is not over yet
+    assertThat(getGermanUnits(roundNodes.get(1)) - getGermanUnits(roundNodes.get(0)), is(3.0));
+  }
+
+  @Test
+  void testRecordedStatisticsAreSaved() {
+    writeRounds(3);
+
+    final GameData clone =
+        GameDataUtils.cloneGameData(
+                gameData, GameDataManager.Options.builder().withHistory(true).build())
+            .orElseThrow();
+
+    final List<Round> roundNodes = getLastThreeRounds(history);
+    final List<Round> clonedRounds = getLastThreeRounds(clone.getHistory());
+    assertThat(getGermanUnits(clonedRounds.get(0)), is(getGermanUnits(roundNodes.get(0))));
+    assertThat(getGermanUnits(clonedRounds.get(1)), is(getGermanUnits(roundNodes.get(1))));
+    assertThat(clonedRounds.get(2).getStatistics(), is(Optional.empty()));
+  }
+
+  /** Writes a round in which two units are added to Germany and then killed. */
+  private Collection<Unit> writeRoundKillingUnits() {
+    history.enableSeeking(null);
+    final HistoryWriter writer = history.getHistoryWriter();
+    writer.startNextRound(1);
+    writer.startNextStep("germanCombatMove", "move", germans, "Combat Move");
+    writer.startEvent("Round 1");
+    final Collection<Unit> units = infantry(gameData).create(2, germans);
+    writer.addChange(ChangeFactory.addUnits(germany, units));
+    writer.startEvent("Battle");
+    writer.addChange(ChangeFactory.removeUnits(germany, units));
+    return units;
+  }
+
+  @Test
+  void testKilledUnitsAreRemovedWhenRoundStarts() {
+    final Unit killedUnit = writeRoundKillingUnits().iterator().next();
+    assertThat(gameData.getUnits().get(killedUnit.getId()), is(notNullValue()));
+
+    history.getHistoryWriter().startNextRound(2);
+
+    assertThat(gameData.getUnits().get(killedUnit.getId()), is(nullValue()));
+  }
+
+  @Test
+  void testKilledUnitsAreKeptWhenRoundStartsAtEarlierPointOfHistory() {
+    final Unit killedUnit = writeRoundKillingUnits().iterator().next();
+    // before the units were added
+    history.gotoNode((HistoryNode) history.getRoot());
+
+    history.getHistoryWriter().startNextRound(2);
+
+    assertThat(gameData.getUnits().get(killedUnit.getId()), is(notNullValue()));
+  }
+}
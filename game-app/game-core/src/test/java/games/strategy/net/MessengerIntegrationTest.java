@@ -70,6 +70,18 @@ class MessengerIntegrationTest {
     assertEquals(0, client1MessageListener.getMessageCount());
   }
 
+  @Test
+  void testServerSendToAll() {
+    final String message = "Hello";
+    serverMessenger.sendToAll(
+        message, List.of(client1Messenger.getLocalNode(), client2Messenger.getLocalNode()));
+    assertEquals(message, client1MessageListener.getLastMessage());
+    assertEquals(client1MessageListener.getLastSender(), serverMessenger.getLocalNode());
+    assertEquals(message, client2MessageListener.getLastMessage());
+    assertEquals(client2MessageListener.getLastSender(), serverMessenger.getLocalNode());
+    assertEquals(0, serverMessageListener.getMessageCount());
+  }
+
   @Test
   void testClientSendToServer() {
     final String message = "Hello";
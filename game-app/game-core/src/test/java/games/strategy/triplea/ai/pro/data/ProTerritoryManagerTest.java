@@ -0,0 +1,102 @@
+package games.strategy.triplea.ai.pro.data;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.player.PlayerBridge;
+import games.strategy.triplea.ai.pro.ProAi;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.ai.pro.util.ProOddsCalculator;
+import games.strategy.triplea.odds.calculator.IBattleCalculator;
+import games.strategy.triplea.settings.ClientSetting;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sonatype.goodies.prefs.memory.MemoryPreferences;
+
+class ProTerritoryManagerTest {
+  private final GameData gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+  private final ProAi proAi = new ProAi("Test Name", "Test Player Label");
+
+  @BeforeEach
+  void setUp() {
+    ClientSetting.setPreferences(new MemoryPreferences());
+    final PlayerBridge playerBridge = mock(PlayerBridge.class);
+    when(playerBridge.getGameData()).thenReturn(gameData);
+    proAi.initialize(playerBridge, germans(gameData));
+  }
+
+  @AfterEach
+  void tearDown() {
+    ClientSetting.resetPreferences();
+  }
+
+  @Test
+  void parallelSearchFindsTheSameOptions() {
+    final ProTerritoryManager sequential = populateOptions(false);
+    final ProTerritoryManager parallel = populateOptions(true);
+
+    assertSameOptions(parallel.getAttackOptions(), sequential.getAttackOptions());
+    assertSameOptions(parallel.getDefendOptions(), sequential.getDefendOptions());
+    for (final Territory t : gameData.getMap().getTerritories()) {
+      assertSameTerritory(
+          parallel.getAlliedAttackOptions().getMax(t),
+          sequential.getAlliedAttackOptions().getMax(t));
+      assertSameTerritory(
+          parallel.getEnemyAttackOptions().getMax(t),
+          sequential.getEnemyAttackOptions().getMax(t));
+    }
+  }
+
+  private ProTerritoryManager populateOptions(final boolean parallelMoveOptionSearch) {
+    ClientSetting.aiParallelMoveOptionSearch.setValue(parallelMoveOptionSearch);
+    final ProData proData = proAi.getProData();
+    proData.initialize(proAi);
+    assertThat(proData.isParallelMoveOptionSearch(), is(parallelMoveOptionSearch));
+    final ProTerritoryManager territoryManager =
+        new ProTerritoryManager(new ProOddsCalculator(mock(IBattleCalculator.class)), proData);
+    territoryManager.populateAttackOptions();
+    territoryManager.populateDefenseOptions(List.of());
+    territoryManager.populateEnemyAttackOptions(List.of(), List.of());
+    return territoryManager;
+  }
+
+  private static void assertSameOptions(
+      final ProMyMoveOptions actual, final ProMyMoveOptions expected) {
+    assertThat(actual.getTerritoryMap().keySet(), is(expected.getTerritoryMap().keySet()));
+    for (final Territory t : expected.getTerritoryMap().keySet()) {
+      assertSameTerritory(actual.getTerritoryMap().get(t), expected.getTerritoryMap().get(t));
+    }
+    assertThat(actual.getUnitMoveMap(), is(expected.getUnitMoveMap()));
+    assertThat(actual.getTransportMoveMap(), is(expected.getTransportMoveMap()));
+    assertThat(actual.getBombardMap(), is(expected.getBombardMap()));
+    assertThat(actual.getTransportList().size(), is(expected.getTransportList().size()));
+    for (int i = 0; i < expected.getTransportList().size(); i++) {
+      final ProTransport actualTransport = actual.getTransportList().get(i);
+      final ProTransport expectedTransport = expected.getTransportList().get(i);
+      assertThat(actualTransport.getTransport(), is(expectedTransport.getTransport()));
+      assertThat(actualTransport.getTransportMap(), is(expectedTransport.getTransportMap()));
+      assertThat(actualTransport.getSeaTransportMap(), is(expectedTransport.getSeaTransportMap()));
+    }
+  }
+
+  private static void assertSameTerritory(final ProTerritory actual, final ProTerritory expected) {
+    if (expected == null) {
+      assertThat(actual, is(nullValue()));
+      return;
+    }
+    assertThat(new ArrayList<>(actual.getMaxUnits()), is(new ArrayList<>(expected.getMaxUnits())));
+    assertThat(actual.getMaxAmphibUnits(), is(expected.getMaxAmphibUnits()));
+    assertThat(actual.getMaxBombardUnits(), is(expected.getMaxBombardUnits()));
+    assertThat(actual.getBombardOptionsMap(), is(expected.getBombardOptionsMap()));
+  }
+}
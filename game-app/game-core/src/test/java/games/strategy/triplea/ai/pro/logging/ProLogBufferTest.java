@@ -0,0 +1,71 @@
+package games.strategy.triplea.ai.pro.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.logging.Level;
+import org.junit.jupiter.api.Test;
+
+class ProLogBufferTest {
+  @Test
+  void rendersIndentedMessagesInOrder() {
+    final ProLogBuffer buffer = new ProLogBuffer();
+
+    buffer.add(Level.FINE, "fine", null);
+    buffer.add(Level.FINER, "finer", null);
+    buffer.add(Level.FINEST, "finest", new IllegalStateException("failed"));
+
+    assertThat(buffer.render(), is("fine\r\n  finer\r\n    finest (error: failed)\r\n"));
+  }
+
+  @Test
+  void dropsOldestMessagesWhenFull() {
+    final ProLogBuffer buffer = new ProLogBuffer(2);
+
+    buffer.add(Level.FINE, "first", null);
+    buffer.add(Level.FINE, "second", null);
+    buffer.add(Level.FINE, "third", null);
+
+    assertThat(buffer.render(), is("(1 earlier messages dropped)\r\nsecond\r\nthird\r\n"));
+  }
+
+  @Test
+  void versionChangesWhenMessageIsAdded() {
+    final ProLogBuffer buffer = new ProLogBuffer();
+    final long version = buffer.getVersion();
+
+    buffer.add(Level.FINE, "message", null);
+
+    assertThat(buffer.getVersion(), is(not(version)));
+  }
+
+  @Test
+  void rendersOnlyMessagesAddedSinceVersion() {
+    final ProLogBuffer buffer = new ProLogBuffer();
+    buffer.add(Level.FINE, "first", null);
+    final long version = buffer.getVersion();
+    buffer.add(Level.FINE, "second", null);
+
+    final ProLogBuffer.Rendering rendering = buffer.renderSince(version);
+
+    assertThat(rendering.isAppendable(), is(true));
+    assertThat(rendering.getText(), is("second\r\n"));
+    assertThat(rendering.getVersion(), is(buffer.getVersion()));
+  }
+
+  @Test
+  void rendersAllMessagesWhenMessagesSinceVersionWereDropped() {
+    final ProLogBuffer buffer = new ProLogBuffer(2);
+    buffer.add(Level.FINE, "first", null);
+    final long version = buffer.getVersion();
+    buffer.add(Level.FINE, "second", null);
+    buffer.add(Level.FINE, "third", null);
+    buffer.add(Level.FINE, "fourth", null);
+
+    final ProLogBuffer.Rendering rendering = buffer.renderSince(version);
+
+    assertThat(rendering.isAppendable(), is(false));
+    assertThat(rendering.getText(), is(buffer.render()));
+  }
+}
@@ -0,0 +1,72 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameState;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import org.junit.jupiter.api.Test;
+
+class ProTerritoryDistancesTest {
+  private final GameState gameData = TestMapGameData.BIG_WORLD_1942.getGameData();
+  private final GameMap map = gameData.getMap();
+  private final GamePlayer germans = germans(gameData);
+  private final ProTerritoryDistances distances = new ProTerritoryDistances(germans);
+
+  @Test
+  void landDistancesMatchBreadthFirstSearch() {
+    final BiPredicate<Territory, Territory> routeCond =
+        (t1, t2) ->
+            ProMatches.territoryCanPotentiallyMoveLandUnits(germans).test(t2)
+                && ProMatches.noCanalsBetweenTerritories(germans).test(t1, t2);
+    final List<Territory> territories = map.getTerritories();
+    for (int i = 0; i < territories.size(); i += 10) {
+      final Territory from = territories.get(i);
+      if (from.isWater()) {
+        continue;
+      }
+      for (final Territory to : territories) {
+        assertThat(
+            from + " to " + to,
+            distances.getLandDistance(from, to),
+            is(map.getDistance(from, to, routeCond)));
+      }
+      assertThat(distances.getLandNeighbors(from, 2), is(map.getNeighbors(from, 2, routeCond)));
+      assertThat(distances.getLandNeighbors(from, 6), is(map.getNeighbors(from, 6, routeCond)));
+    }
+  }
+
+  @Test
+  void seaDistancesMatchRouteSearch() {
+    final List<Territory> territories = map.getTerritories();
+    for (int i = 0; i < territories.size(); i += 20) {
+      final Territory from = territories.get(i);
+      if (!from.isWater()) {
+        continue;
+      }
+      for (final Territory to : territories) {
+        final Route route =
+            map.getRouteForUnits(
+                from, to, ProMatches.territoryCanMoveSeaUnits(germans, true), Set.of(), germans);
+        assertThat(
+            from + " to " + to,
+            distances.getSeaDistance(from, to),
+            is(route == null ? -1 : route.numberOfSteps()));
+      }
+    }
+  }
+
+  @Test
+  void maxLandMassSizeMatchesSearch() {
+    assertThat(
+        distances.getMaxLandMassSize(), is(ProTerritoryValueUtils.findMaxLandMassSize(germans)));
+  }
+}
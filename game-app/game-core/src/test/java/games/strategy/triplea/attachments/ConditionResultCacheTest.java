@@ -0,0 +1,130 @@
+package games.strategy.triplea.attachments;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeAttachmentChange;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionResultCacheTest {
+  private static final int ROUND = 3;
+
+  private final ConditionResultCache cache = new ConditionResultCache();
+  private final RulesAttachment readsGermany = new FakeCondition("germany", inputsOf("Germany"));
+  private final ICondition readsFrance = new FakeCondition("france", inputsOf("France"));
+  private final ICondition readsAllTerritories =
+      new FakeCondition("all", ConditionInputs.ALL_TERRITORIES);
+  private final RulesAttachment untracked =
+      new FakeCondition("untracked", ConditionInputs.UNTRACKED);
+  private final ICondition containsGermany =
+      new FakeCondition("containsGermany", ConditionInputs.NONE, readsGermany);
+  private final ICondition containsUntracked =
+      new FakeCondition("containsUntracked", ConditionInputs.NONE, untracked);
+  private final List<ICondition> conditions =
+      List.of(
+          readsGermany,
+          readsFrance,
+          readsAllTerritories,
+          untracked,
+          containsGermany,
+          containsUntracked);
+
+  /** A condition reading the given inputs, the actual rules are not needed for caching. */
+  private static class FakeCondition extends RulesAttachment {
+    private static final long serialVersionUID = 1L;
+
+    private final ConditionInputs inputs;
+    private final List<RulesAttachment> subConditions;
+
+    FakeCondition(
+        final String name, final ConditionInputs inputs, final RulesAttachment... subConditions) {
+      super(name, null, null);
+      this.inputs = inputs;
+      this.subConditions = List.of(subConditions);
+    }
+
+    @Override
+    public ConditionInputs getConditionInputs() {
+      return inputs;
+    }
+
+    @Override
+    public List<RulesAttachment> getConditions() {
+      return subConditions;
+    }
+  }
+
+  private static ConditionInputs inputsOf(final String territoryName) {
+    return ConditionInputs.ofTerritories(Set.of(territoryName));
+  }
+
+  @BeforeEach
+  void setUp() {
+    cache.putResults(
+        ROUND,
+        Map.of(
+            readsGermany, true,
+            readsFrance, false,
+            readsAllTerritories, true,
+            untracked, true,
+            containsGermany, true,
+            containsUntracked, true));
+  }
+
+  private static Change changeOwnerOf(final String territoryName) {
+    final Territory territory = mock(Territory.class);
+    when(territory.getName()).thenReturn(territoryName);
+    return ChangeFactory.changeOwner(territory, null);
+  }
+
+  @Test
+  void resultsOfTrackedConditionsAreRememberedForTheRound() {
+    assertThat(
+        cache.getResults(ROUND, conditions),
+        is(
+            Map.of(
+                readsGermany, true,
+                readsFrance, false,
+                readsAllTerritories, true,
+                containsGermany, true)));
+    assertThat(cache.getResults(ROUND + 1, conditions), is(anEmptyMap()));
+  }
+
+  @Test
+  void changedTerritoriesOnlyInvalidateConditionsReadingThem() {
+    cache.changePerformed(new CompositeChange(changeOwnerOf("Germany")));
+
+    assertThat(cache.getResults(ROUND, conditions), is(Map.of(readsFrance, false)));
+  }
+
+  @Test
+  void changesNotReadByConditionsInvalidateNothing() {
+    cache.changePerformed(
+        new ChangeAttachmentChange(
+            mock(Attachable.class), "triggerAttachment", "1", "2", "uses", false));
+
+    assertThat(cache.getResults(ROUND, conditions).size(), is(4));
+  }
+
+  @Test
+  void unknownChangesInvalidateAllConditions() {
+    cache.changePerformed(new CompositeChange(changeOwnerOf("France"), mock(Change.class)));
+
+    assertThat(cache.getResults(ROUND, conditions), is(anEmptyMap()));
+  }
+}
@@ -423,4 +423,35 @@ final class MatchesTest {
           is(true));
     }
   }
+
+  @Nested
+  @ExtendWith(MockitoExtension.class)
+  final class UnitCapabilities {
+
+    @Mock GamePlayer player;
+
+    @Test
+    void capabilitiesFollowChangedUnitProperties() throws Exception {
+      final GameData gameData = givenGameData().build();
+      final UnitType unitType = new UnitType("ship", gameData);
+      final UnitAttachment unitAttachment = new UnitAttachment("ship", unitType, gameData);
+      unitType.addAttachment(UNIT_ATTACHMENT_NAME, unitAttachment);
+      final Unit unit = unitType.createTemp(1, player).get(0);
+
+      assertThat(Matches.unitIsLand(), matches(unit));
+      assertThat(Matches.unitIsSea(), notMatches(unit));
+
+      unitAttachment.setIsSea(true);
+      assertThat(Matches.unitIsLand(), notMatches(unit));
+      assertThat(Matches.unitIsSea(), matches(unit));
+      assertThat(Matches.unitIsSeaTransport(), notMatches(unit));
+
+      unitAttachment.getPropertyOrThrow("transportCapacity").setValue("2");
+      assertThat(Matches.unitIsSeaTransport(), matches(unit));
+
+      unitAttachment.getPropertyOrThrow("isSea").resetValue();
+      assertThat(Matches.unitIsSeaTransport(), notMatches(unit));
+      assertThat(Matches.unitIsLand(), matches(unit));
+    }
+  }
 }
@@ -0,0 +1,58 @@
+package games.strategy.triplea.delegate.move.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.AbstractDelegateTestCase;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import org.junit.jupiter.api.Test;
+
+class BestRouteFinderTest extends AbstractDelegateTestCase {
+
+  private void assertSameRoutesAsSingleSearches(
+      final Territory start, final Collection<Unit> units) {
+    final BestRouteFinder finder =
+        BestRouteFinder.withRouteTrees(start, gameData, british, units, true, () -> false);
+    for (final Territory end : gameData.getMap().getTerritories()) {
+      final Optional<Route> expected =
+          Optional.ofNullable(
+              MoveValidator.getBestRoute(start, end, gameData, british, units, true));
+      final Optional<Route> actual = Optional.ofNullable(finder.getBestRoute(end));
+      // routes of equal cost may differ, but on this map every territory costs the same
+      assertEquals(
+          expected.map(Route::numberOfSteps), actual.map(Route::numberOfSteps), end::getName);
+      assertEquals(expected.map(Route::getEnd), actual.map(Route::getEnd), end::getName);
+    }
+  }
+
+  @Test
+  void landUnitsGetTheSameRoutesAsWithSingleSearches() {
+    final Collection<Unit> units = new ArrayList<>(infantry.create(1, british));
+    units.addAll(armour.create(1, british));
+    assertSameRoutesAsSingleSearches(egypt, units);
+  }
+
+  @Test
+  void airUnitsGetTheSameRoutesAsWithSingleSearches() {
+    assertSameRoutesAsSingleSearches(uk, new ArrayList<>(fighter.create(2, british)));
+  }
+
+  @Test
+  void seaUnitsGetTheSameRoutesAsWithSingleSearches() {
+    assertSameRoutesAsSingleSearches(northSea, new ArrayList<>(transport.create(1, british)));
+  }
+
+  @Test
+  void cancelledSearchIsAbandoned() {
+    final Collection<Unit> units = infantry.create(1, british);
+    assertThrows(
+        CancellationException.class,
+        () -> BestRouteFinder.withRouteTrees(egypt, gameData, british, units, true, () -> true));
+  }
+}
@@ -3,12 +3,17 @@ package games.strategy.triplea.odds.calculator;
 import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
 import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
 import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.delegate.battle.BattleResults;
+import games.strategy.triplea.delegate.battle.IBattle.WhoWon;
 import games.strategy.triplea.util.TuvCostsCalculator;
 import games.strategy.triplea.xml.TestMapGameData;
 import java.util.List;
@@ -48,6 +53,67 @@ public class AggregateResultsTest {
     assertIsNaN(results.getAverageBattleRoundsFought());
   }
 
+  @Test
+  void testResultsAreAggregatedPerOutcome() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final GamePlayer attacker = russians(gameData);
+    final List<Unit> attackingUnits = infantry(gameData).create(2, attacker);
+    final GamePlayer defender = germans(gameData);
+    final List<Unit> defendingUnits = infantry(gameData).create(1, defender);
+    final BattleResults attackerWon =
+        new BattleResults(1, attackingUnits, List.of(), WhoWon.ATTACKER, gameData);
+    final BattleResults defenderWon =
+        new BattleResults(3, List.of(), defendingUnits, WhoWon.DEFENDER, gameData);
+
+    final AggregateResults results = new AggregateResults(List.of(attackerWon, attackerWon));
+    final AggregateResults otherResults = new AggregateResults(2);
+    otherResults.addResult(attackerWon);
+    otherResults.addResult(defenderWon);
+    results.addResults(otherResults);
+
+    assertThat(results.getRollCount(), is(4));
+    assertThat(results.getOutcomeCount(), is(2));
+    assertThat(results.getAttackerWinPercent(), is(0.75));
+    assertThat(results.getDefenderWinPercent(), is(0.25));
+    assertThat(results.getDrawPercent(), is(0.0));
+    assertThat(results.getAverageBattleRoundsFought(), is(1.5));
+    assertThat(results.getAverageAttackingUnitsLeft(), is(1.5));
+    assertThat(results.getAverageAttackingUnitsLeftWhenAttackerWon(), is(2.0));
+    assertThat(results.getAverageDefendingUnitsLeft(), is(0.25));
+    assertThat(results.getAverageDefendingUnitsLeftWhenDefenderWon(), is(1.0));
+    assertThat(
+        results.getAverageAttackingUnitsRemaining(),
+        containsInAnyOrder(attackingUnits.toArray()));
+    final IntegerMap<UnitType> costsForTuv = new TuvCostsCalculator().getCostsForTuv(attacker);
+    final int infantryCost = costsForTuv.getInt(infantry(gameData));
+    final Tuple<Double, Double> averageTuv =
+        results.getAverageTuvOfUnitsLeftOver(costsForTuv, costsForTuv);
+    assertThat(averageTuv.getFirst(), is(1.5 * infantryCost));
+    assertThat(averageTuv.getSecond(), is(0.25 * infantryCost));
+    assertThat(
+        results.getTuvSwingVariance(costsForTuv, costsForTuv),
+        is(2.25 * infantryCost * infantryCost));
+  }
+
+  @Test
+  void testOutcomesDoNotDependOnTheOrderOfTheRemainingUnits() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final List<Unit> attackingUnits = infantry(gameData).create(2, russians(gameData));
+    final BattleResults result =
+        new BattleResults(1, attackingUnits, List.of(), WhoWon.ATTACKER, gameData);
+    final BattleResults reorderedResult =
+        new BattleResults(
+            1,
+            List.of(attackingUnits.get(1), attackingUnits.get(0)),
+            List.of(),
+            WhoWon.ATTACKER,
+            gameData);
+
+    final AggregateResults results = new AggregateResults(List.of(result, reorderedResult));
+
+    assertThat(results.getOutcomeCount(), is(1));
+  }
+
   private static void assertIsNaN(final double d) {
     assertTrue(Double.isNaN(d));
   }
@@ -1,6 +1,7 @@
 package games.strategy.triplea.odds.calculator;
 
 import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
 import static games.strategy.triplea.delegate.GameDataTestUtil.bomber;
 import static games.strategy.triplea.delegate.GameDataTestUtil.british;
 import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
@@ -128,4 +129,24 @@ class BattleCalculatorTest extends AbstractClientSettingTestCase {
     assertEquals(1.0, results.getAttackerWinPercent());
     assertEquals(0.0, results.getDefenderWinPercent());
   }
+
+  @Test
+  void testCalculateStopsOnceConfidenceTargetIsMet() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final BattleSpec battle =
+        BattleSpec.builder()
+            .attacker(germans(gameData))
+            .defender(british(gameData))
+            .location(territory("Eastern Canada", gameData))
+            .attacking(armour(gameData).create(10, germans(gameData)))
+            .defending(infantry(gameData).create(1, british(gameData)))
+            .runCount(1000)
+            .confidenceTarget(
+                ConfidenceTarget.builder().winPercentError(0.05).batchSize(20).build())
+            .build();
+    final AggregateResults results = new BattleCalculator(gameData).calculate(battle);
+    assertTrue(results.getRollCount() < 1000);
+    assertEquals(0, results.getRollCount() % 20);
+    assertEquals(1.0, results.getAttackerWinPercent());
+  }
 }
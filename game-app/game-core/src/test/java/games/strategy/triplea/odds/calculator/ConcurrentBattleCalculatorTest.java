@@ -0,0 +1,93 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentBattleCalculatorTest extends AbstractClientSettingTestCase {
+  private static BattleSpec battle(
+      final GameData gameData, final UnitType attackingType, final UnitType defendingType) {
+    return BattleSpec.builder()
+        .attacker(americans(gameData))
+        .defender(germans(gameData))
+        .location(territory("1 Sea Zone", gameData))
+        .attacking(attackingType.create(2, americans(gameData)))
+        .defending(defendingType.create(2, germans(gameData)))
+        .runCount(4)
+        .build();
+  }
+
+  @Test
+  void testCalculateAllSimulatesEveryBattleOnOneWorker() {
+    final GameData gameData = TestMapGameData.WW2V3_1942.getGameData();
+    final List<BattleSpec> battles = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      battles.add(
+          i % 2 == 0
+              ? battle(gameData, submarine(gameData), transport(gameData))
+              : battle(gameData, transport(gameData), submarine(gameData)));
+    }
+    final Set<BattleCalculator> workersWithBattles = ConcurrentHashMap.newKeySet();
+    // the first battle of each worker waits for the other worker to take a battle as well, so
+    // that one worker can't simulate all battles before the other one starts
+    final CountDownLatch bothWorkersStarted = new CountDownLatch(2);
+    final ConcurrentBattleCalculator calculator =
+        new ConcurrentBattleCalculator(
+            2,
+            data ->
+                new BattleCalculator(data) {
+                  @Override
+                  public AggregateResults calculate(final BattleSpec battle) {
+                    if (workersWithBattles.add(this)) {
+                      bothWorkersStarted.countDown();
+                      awaitUninterruptibly(bothWorkersStarted);
+                    }
+                    return super.calculate(battle);
+                  }
+                });
+    assertTrue(calculator.setGameData(gameData).join());
+    // only the first worker exists when the game data is reported as set
+    await().until(calculator::getWorkerCount, is(2));
+
+    final Map<BattleSpec, AggregateResults> results = calculator.calculateAll(battles);
+
+    assertEquals(battles, List.copyOf(results.keySet()));
+    for (int i = 0; i < battles.size(); i++) {
+      final AggregateResults battleResults = results.get(battles.get(i));
+      // every battle gets all of its runs instead of a share of them
+      assertEquals(4, battleResults.getRollCount());
+      // subs always sink transports, transports never sink subs
+      assertEquals(i % 2 == 0 ? 1.0 : 0.0, battleResults.getAttackerWinPercent());
+    }
+    assertThat(workersWithBattles.size(), greaterThan(1));
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
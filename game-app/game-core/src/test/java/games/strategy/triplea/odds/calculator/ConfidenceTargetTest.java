@@ -0,0 +1,43 @@
+package games.strategy.triplea.odds.calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ConfidenceTargetTest {
+  @Test
+  void testDefaults() {
+    final ConfidenceTarget confidenceTarget = ConfidenceTarget.builder().build();
+
+    assertThat(confidenceTarget.getWinPercentError(), is(0.05));
+    assertThat(confidenceTarget.getTuvSwingError(), is(Double.POSITIVE_INFINITY));
+    assertThat(confidenceTarget.getBatchSize(), is(32));
+  }
+
+  @Test
+  void testNonPositiveBatchSizeIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class, () -> ConfidenceTarget.builder().batchSize(0).build());
+    assertThrows(
+        IllegalArgumentException.class, () -> ConfidenceTarget.builder().batchSize(-1).build());
+  }
+
+  @Test
+  void testNegativeErrorsAreRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ConfidenceTarget.builder().winPercentError(-0.01).build());
+    assertThrows(
+        IllegalArgumentException.class, () -> ConfidenceTarget.builder().tuvSwingError(-1).build());
+  }
+
+  @Test
+  void testNegativeTimeBudgetIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ConfidenceTarget.builder().timeBudget(Duration.ofMillis(-1)).build());
+  }
+}
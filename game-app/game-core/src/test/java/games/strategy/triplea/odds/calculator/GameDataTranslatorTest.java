@@ -0,0 +1,102 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameDataTranslatorTest extends AbstractClientSettingTestCase {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final GameData copy =
+      GameDataUtils.cloneGameData(gameData, GameDataManager.Options.forBattleCalculator())
+          .orElseThrow();
+  private final GameDataTranslator translator = new GameDataTranslator(copy);
+
+  @Test
+  void translatesNamedObjectsByName() {
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+
+    assertThat(translator.translate(germany), is(copy.getMap().getTerritory("Germany")));
+    assertThat(
+        translator.translate(germans(gameData)),
+        is(sameInstance(copy.getPlayerList().getPlayerId(germans(gameData).getName()))));
+    assertThat(translator.translate(null), is(copy.getPlayerList().getNullPlayer()));
+  }
+
+  @Test
+  void createsUnitsUnknownToTheCopy() {
+    final Unit unit = infantry(gameData).create(1, germans(gameData)).get(0);
+    unit.setHits(1);
+
+    final Unit translated = translator.translateUnits(List.of(unit)).iterator().next();
+
+    assertThat(translated, is(not(sameInstance(unit))));
+    assertThat(translated.getId(), is(unit.getId()));
+    assertThat(translated.getData(), is(sameInstance(copy)));
+    assertThat(translated.getType(), is(copy.getUnitTypeList().getUnitType("infantry")));
+    assertThat(translated.getOwner(), is(sameInstance(translator.translate(germans(gameData)))));
+    assertThat(translated.getHits(), is(1));
+    assertThat(copy.getUnits().get(unit.getId()), is(sameInstance(translated)));
+  }
+
+  @Test
+  void appliesChangedStateToUnitsKnownToTheCopy() {
+    final Unit unit = gameData.getMap().getTerritory("Germany").getUnits().iterator().next();
+    final Unit local = copy.getUnits().get(unit.getId());
+    unit.setHits(1);
+
+    final Unit translated = translator.translateUnits(List.of(unit)).iterator().next();
+
+    assertThat(translated, is(sameInstance(local)));
+    assertThat(translated.getHits(), is(1));
+  }
+
+  @Test
+  void copiesEveryUnitProperty() {
+    final Unit unit = infantry(gameData).create(1, germans(gameData)).get(0);
+
+    assertThat(
+        GameDataTranslator.UNIT_STATE_PROPERTIES,
+        hasItems("owner", "hits", Unit.TRANSPORTED_BY, Unit.CHARGED_FLAT_FUEL_COST));
+    assertThat(GameDataTranslator.UNIT_STATE_PROPERTIES, not(hasItems("id")));
+    for (final String propertyName : GameDataTranslator.UNIT_STATE_PROPERTIES) {
+      assertThat(
+          "every unit field must be a property of the same name",
+          unit.getPropertyOrNull(propertyName),
+          is(notNullValue()));
+    }
+  }
+
+  @Test
+  void updatesUnitCountsOfTheCopyWhenTheOwnerOfAKnownUnitChanged() {
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    final Unit unit = germany.getUnits().iterator().next();
+    final Territory localGermany = copy.getMap().getTerritory("Germany");
+    final GamePlayer localRussians = translator.translate(russians(gameData));
+    final int localCount =
+        localGermany.getUnitCollection().getUnitCount(unit.getType(), localRussians);
+    unit.setOwner(russians(gameData));
+
+    translator.translateUnits(List.of(unit));
+
+    assertThat(
+        localGermany.getUnitCollection().getUnitCount(unit.getType(), localRussians),
+        is(localCount + 1));
+  }
+}
@@ -0,0 +1,67 @@
+package games.strategy.triplea.odds.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import games.strategy.engine.data.Territory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class IBattleCalculatorTest {
+  private final Territory germany = mock(Territory.class);
+  private final Territory france = mock(Territory.class);
+  private final AggregateResults germanyResults = new AggregateResults(3);
+  private final AggregateResults franceResults = new AggregateResults(5);
+  private final List<Integer> runCounts = new ArrayList<>();
+  private final IBattleCalculator calculator =
+      (attacker,
+          defender,
+          location,
+          attacking,
+          defending,
+          bombarding,
+          territoryEffects,
+          retreatWhenOnlyAirLeft,
+          runCount) -> {
+        runCounts.add(runCount);
+        return location == germany ? germanyResults : franceResults;
+      };
+
+  private static BattleSpec battleIn(final Territory location, final int runCount) {
+    return BattleSpec.builder()
+        .location(location)
+        .attacking(List.of())
+        .defending(List.of())
+        .runCount(runCount)
+        .build();
+  }
+
+  @Test
+  void testCalculateAllReturnsResultPerBattle() {
+    final BattleSpec battleInFrance = battleIn(france, 5);
+    final BattleSpec battleInGermany = battleIn(germany, 3);
+
+    final Map<BattleSpec, AggregateResults> results =
+        calculator.calculateAll(List.of(battleInFrance, battleInGermany));
+
+    assertEquals(List.of(battleInFrance, battleInGermany), List.copyOf(results.keySet()));
+    assertSame(franceResults, results.get(battleInFrance));
+    assertSame(germanyResults, results.get(battleInGermany));
+    assertEquals(List.of(5, 3), runCounts);
+  }
+
+  @Test
+  void testCalculateAllKeepsEqualBattlesApart() {
+    final BattleSpec battle = battleIn(france, 5);
+    final BattleSpec sameBattle = battleIn(france, 5);
+
+    final Map<BattleSpec, AggregateResults> results =
+        calculator.calculateAll(List.of(battle, sameBattle));
+
+    assertEquals(List.of(battle, sameBattle), List.copyOf(results.keySet()));
+    assertEquals(List.of(5, 5), runCounts);
+  }
+}
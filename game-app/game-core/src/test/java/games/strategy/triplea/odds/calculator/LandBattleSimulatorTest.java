@@ -0,0 +1,93 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.artillery;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.battle.BattleResults;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.triplea.util.TuvCostsCalculator;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class LandBattleSimulatorTest extends AbstractClientSettingTestCase {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final GamePlayer germans = germans(gameData);
+  private final GamePlayer british = british(gameData);
+  private final Territory eastCanada = gameData.getMap().getTerritory("Eastern Canada");
+
+  private Optional<LandBattleSimulator> simulator(
+      final List<Unit> attacking, final List<Unit> defending) {
+    return LandBattleSimulator.of(
+        gameData,
+        germans,
+        british,
+        eastCanada,
+        attacking,
+        defending,
+        List.of(),
+        List.of(),
+        new TuvCostsCalculator());
+  }
+
+  @Test
+  void simulatesPlainLandBattles() {
+    final List<Unit> attacking = armour(gameData).create(3, germans);
+    final List<Unit> defending = infantry(gameData).create(2, british);
+
+    final LandBattleSimulator simulator = simulator(attacking, defending).orElseThrow();
+    final BattleResults result = simulator.simulate();
+
+    assertThat(attacking.containsAll(result.getRemainingAttackingUnits()), is(true));
+    assertThat(defending.containsAll(result.getRemainingDefendingUnits()), is(true));
+    assertThat(
+        result.getRemainingAttackingUnits().isEmpty()
+            || result.getRemainingDefendingUnits().isEmpty(),
+        is(true));
+    assertThat(1, lessThanOrEqualTo(result.getBattleRoundsFought()));
+  }
+
+  @Test
+  void doesNotSimulateBattlesWithSupport() {
+    final List<Unit> attacking = infantry(gameData).create(2, germans);
+    attacking.addAll(artillery(gameData).create(1, germans));
+    final List<Unit> defending = infantry(gameData).create(2, british);
+
+    assertThat(simulator(attacking, defending).isPresent(), is(false));
+  }
+
+  @Test
+  void resultsMatchTheFullBattleEngine() {
+    final List<Unit> attacking = armour(gameData).create(3, germans);
+    final List<Unit> defending = infantry(gameData).create(3, british);
+    final BattleCalculator calculator = new BattleCalculator(gameData);
+    // seeded dice make the estimates of both engines the same on every run of the test
+    calculator.setSeed(42);
+    final AggregateResults simulated =
+        calculator.calculate(
+            germans, british, eastCanada, attacking, defending, List.of(), List.of(), false, 5000);
+    calculator.setLandBattleSimulatorEnabled(false);
+    final AggregateResults fought =
+        calculator.calculate(
+            germans, british, eastCanada, attacking, defending, List.of(), List.of(), false, 5000);
+
+    // 5000 runs give a standard deviation of about 0.01 for the difference of the win percentages
+    assertThat(
+        simulated.getAttackerWinPercent(), is(closeTo(fought.getAttackerWinPercent(), 0.05)));
+    assertThat(
+        simulated.getAverageBattleRoundsFought(),
+        is(closeTo(fought.getAverageBattleRoundsFought(), 0.2)));
+  }
+}
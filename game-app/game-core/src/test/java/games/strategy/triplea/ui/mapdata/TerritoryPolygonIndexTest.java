@@ -0,0 +1,48 @@
+package games.strategy.triplea.ui.mapdata;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.awt.Polygon;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class TerritoryPolygonIndexTest {
+  private static final String SEA_ZONE = "Sea Zone";
+  private static final String ISLAND = "Island";
+
+  private final TerritoryPolygonIndex index =
+      new TerritoryPolygonIndex(
+          Map.of(
+              SEA_ZONE,
+              List.of(square(0, 0, 1000)),
+              ISLAND,
+              List.of(square(100, 100, 50), square(700, 700, 200))));
+
+  private static Polygon square(final int x, final int y, final int size) {
+    return new Polygon(
+        new int[] {x, x + size, x + size, x}, new int[] {y, y, y + size, y + size}, 4);
+  }
+
+  @Test
+  void smallestContainingTerritoryIsFound() {
+    assertThat(index.getTerritoryAt(120, 120), is(ISLAND));
+    assertThat(index.getTerritoryAt(850, 850), is(ISLAND));
+  }
+
+  @Test
+  void surroundingTerritoryIsFoundOutsideTheSmallerOnes() {
+    assertThat(index.getTerritoryAt(10, 10), is(SEA_ZONE));
+    assertThat(index.getTerritoryAt(160, 120), is(SEA_ZONE));
+    assertThat(index.getTerritoryAt(999, 999), is(SEA_ZONE));
+  }
+
+  @Test
+  void nothingIsFoundOutsideAllTerritories() {
+    assertThat(index.getTerritoryAt(-1, 10), is(nullValue()));
+    assertThat(index.getTerritoryAt(10, 1000), is(nullValue()));
+    assertThat(new TerritoryPolygonIndex(Map.of()).getTerritoryAt(0, 0), is(nullValue()));
+  }
+}
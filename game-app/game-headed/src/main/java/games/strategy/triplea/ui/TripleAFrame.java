@@ -1761,18 +1761,15 @@ public final class TripleAFrame extends JFrame implements QuitHandler {
     tabsPanel.setSelectedIndex(0);
   }
 
-  private void showHistory() {
-    inHistory.set(true);
-    inGame.set(false);
-    setWidgetActivation();
-    final GameData clonedGameData;
+  @Nullable
+  private GameData cloneAndSynchronizeHistory() {
     try (GameData.Unlocker ignored = data.acquireWriteLock()) {
       // we want to use a clone of the data, so we can make changes to it as we walk up and down the
       // history
       final var cloneOptions = GameDataManager.Options.builder().withHistory(true).build();
-      clonedGameData = GameDataUtils.cloneGameData(data, cloneOptions).orElse(null);
+      final GameData clonedGameData = GameDataUtils.cloneGameData(data, cloneOptions).orElse(null);
       if (clonedGameData == null) {
-        return;
+        return null;
       }
       data.removeDataChangeListener(dataChangeListener);
       if (historySyncher != null) {
@@ -1780,6 +1777,19 @@ public final class TripleAFrame extends JFrame implements QuitHandler {
       }
       historySyncher = new HistorySynchronizer(clonedGameData, game);
       clonedGameData.addDataChangeListener(dataChangeListener);
+      return clonedGameData;
+    }
+  }
+
+  private void showHistory() {
+    inHistory.set(true);
+    inGame.set(false);
+    setWidgetActivation();
+    // the clone has to contain exactly the changes broadcast before the history synchronizer
+    // subscribes, or it would get changes that are already in the clone a second time
+    final GameData clonedGameData = game.getWithChangesBroadcast(this::cloneAndSynchronizeHistory);
+    if (clonedGameData == null) {
+      return;
     }
     statsPanel.setGameData(clonedGameData);
     economyPanel.setGameData(clonedGameData);
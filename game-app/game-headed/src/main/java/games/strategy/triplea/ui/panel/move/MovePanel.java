@@ -4,12 +4,14 @@ import static java.util.function.Predicate.not;
 
 import com.google.common.collect.ImmutableList;
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameDataEvent;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.MoveDescription;
 import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.events.TerritoryListener;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.delegate.AbstractMoveDelegate.MoveType;
 import games.strategy.triplea.delegate.EditDelegate;
@@ -19,6 +21,7 @@ import games.strategy.triplea.delegate.TransportTracker;
 import games.strategy.triplea.delegate.UnitComparator;
 import games.strategy.triplea.delegate.battle.ScrambleLogic;
 import games.strategy.triplea.delegate.data.MustMoveWithDetails;
+import games.strategy.triplea.delegate.move.validation.BestRouteFinder;
 import games.strategy.triplea.delegate.move.validation.MoveValidator;
 import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.triplea.ui.AbstractMovePanel;
@@ -53,6 +56,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -64,10 +72,12 @@ import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.ObjectUtils;
 import org.triplea.java.PredicateBuilder;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
+import org.triplea.java.concurrency.CompletableFutureUtils;
 import org.triplea.swing.CollapsiblePanel;
 import org.triplea.swing.JLabelBuilder;
 import org.triplea.swing.jpanel.JPanelBuilder;
@@ -75,9 +85,18 @@ import org.triplea.swing.key.binding.KeyCode;
 import org.triplea.swing.key.binding.SwingKeyBinding;
 
 /** The action panel displayed during the combat and non-combat move actions. */
+@Slf4j
 public class MovePanel extends AbstractMovePanel {
   private static final long serialVersionUID = 5004515340964828564L;
   private static final int defaultMinTransportCost = 5;
+  // searches the routes of the selected units, so that a new search waits for the cancelled one
+  private static final ExecutorService routeFinderExecutor =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            final Thread thread = new Thread(runnable, "Route finder");
+            thread.setDaemon(true);
+            return thread;
+          });
 
   /** Number of units to add/remove when Alt key is down. */
   private static final int MULTI_SELECT_NUMBER = 10;
@@ -106,6 +125,30 @@ public class MovePanel extends AbstractMovePanel {
   private final @Nullable Image warningImage;
   private final @Nullable Image errorImage;
   private @Nullable Route routeCached = null;
+  // routes of the selected units from the first selected territory, searched in the background
+  // whenever the selection changes so that hovering only needs to look up the best route
+  private @Nullable Territory routeFinderStart;
+  private Set<Unit> routeFinderUnits = Set.of();
+  private @Nullable CompletableFuture<BestRouteFinder> routeFinder;
+  private AtomicBoolean routeFinderCancelled = new AtomicBoolean();
+  // the routes are outdated once the game data changes
+  private final TerritoryListener routeFinderInvalidator =
+      new TerritoryListener() {
+        @Override
+        public void unitsChanged(final Territory territory) {
+          invalidateRouteFinder();
+        }
+
+        @Override
+        public void ownerChanged(final Territory territory) {
+          invalidateRouteFinder();
+        }
+
+        @Override
+        public void attachmentChanged(final Territory territory) {
+          invalidateRouteFinder();
+        }
+      };
   private String displayText = "Combat Move";
   @Setter private MoveType moveType = MoveType.DEFAULT;
   private final UnitScroller unitScroller;
@@ -695,6 +738,10 @@ public class MovePanel extends AbstractMovePanel {
     unitScrollerPanel = unitScroller.build();
     unitScrollerPanel.setVisible(false);
     registerKeyBindings(frame);
+
+    data.addTerritoryListener(routeFinderInvalidator);
+    data.addGameDataEventListener(GameDataEvent.UNIT_MOVED, this::invalidateRouteFinder);
+    data.addGameDataEventListener(GameDataEvent.GAME_STEP_CHANGED, this::invalidateRouteFinder);
   }
 
   private GamePlayer getUnitOwner(final Collection<Unit> units) {
@@ -1044,13 +1091,71 @@ public class MovePanel extends AbstractMovePanel {
     // can't rely on current player being the unit owner in Edit Mode
     // look at the units being moved to determine allies and enemies
     final GamePlayer owner = getUnitOwner(selectedUnits);
+    final boolean forceLandOrSeaRoute = !GameStepPropertiesHelper.isAirborneMove(getData());
+    final @Nullable BestRouteFinder finder =
+        getRouteFinder(start, selectedUnits, owner, forceLandOrSeaRoute);
+    if (finder != null) {
+      return finder.getBestRoute(end);
+    }
     return MoveValidator.getBestRoute(
-        start,
-        end,
-        getData(),
-        owner,
-        selectedUnits,
-        !GameStepPropertiesHelper.isAirborneMove(getData()));
+        start, end, getData(), owner, selectedUnits, forceLandOrSeaRoute);
+  }
+
+  /**
+   * Returns the route finder for the selected units if its background search is done, otherwise
+   * null. Starts a new search if the units are the selected units and the selection changed since
+   * the last search.
+   */
+  private @Nullable BestRouteFinder getRouteFinder(
+      final Territory start,
+      final Collection<Unit> units,
+      final GamePlayer owner,
+      final boolean forceLandOrSeaRoute) {
+    if (!start.equals(getFirstSelectedTerritory())
+        || units.size() != selectedUnits.size()
+        || !selectedUnits.containsAll(units)) {
+      return null;
+    }
+    if (routeFinder == null
+        || !start.equals(routeFinderStart)
+        || !routeFinderUnits.equals(selectedUnits)) {
+      cancelRouteFinder();
+      final GameData data = getData();
+      final Set<Unit> unitsToMove = Set.copyOf(units);
+      final AtomicBoolean cancelled = new AtomicBoolean();
+      routeFinderStart = start;
+      routeFinderUnits = unitsToMove;
+      routeFinderCancelled = cancelled;
+      routeFinder =
+          CompletableFuture.supplyAsync(
+              () ->
+                  BestRouteFinder.withRouteTrees(
+                      start, data, owner, unitsToMove, forceLandOrSeaRoute, cancelled::get),
+              routeFinderExecutor);
+      CompletableFutureUtils.logExceptionWhenComplete(
+          routeFinder,
+          throwable -> {
+            if (!(throwable.getCause() instanceof CancellationException)) {
+              log.warn("Failed to search the routes of the selected units", throwable);
+            }
+          });
+      return null;
+    }
+    return routeFinder.isDone() && !routeFinder.isCompletedExceptionally()
+        ? routeFinder.join()
+        : null;
+  }
+
+  /** Discards the routes found for the selected units. May be called from any thread. */
+  private void invalidateRouteFinder() {
+    SwingUtilities.invokeLater(this::cancelRouteFinder);
+  }
+
+  private void cancelRouteFinder() {
+    routeFinderCancelled.set(true);
+    routeFinder = null;
+    routeFinderStart = null;
+    routeFinderUnits = Set.of();
   }
 
   private void updateUnitsThatCanMoveOnRoute(
@@ -1373,6 +1478,7 @@ public class MovePanel extends AbstractMovePanel {
       return;
     }
     this.firstSelectedTerritory = firstSelectedTerritory;
+    cancelRouteFinder();
     if (firstSelectedTerritory == null) {
       mustMoveWithDetails = null;
     } else {
@@ -1411,6 +1517,7 @@ public class MovePanel extends AbstractMovePanel {
     getMap().removeMouseOverUnitListener(mouseOverUnitListener);
     getMap().setUnitHighlight(Set.of());
     selectedUnits.clear();
+    cancelRouteFinder();
     updateRouteAndMouseShadowUnits(null);
     forced = null;
     getMap().showMouseCursor();
@@ -1433,6 +1540,7 @@ public class MovePanel extends AbstractMovePanel {
 
   @Override
   protected final void undoMoveSpecific() {
+    cancelRouteFinder();
     getMap().setRoute(null);
   }
 
@@ -2,6 +2,7 @@ package org.triplea.game.server;
 
 import java.net.URI;
 import lombok.extern.slf4j.Slf4j;
+import org.triplea.web.socket.MessageSender;
 import org.triplea.web.socket.StandaloneWebsocketServer;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
@@ -12,6 +13,7 @@ import org.triplea.web.socket.WebSocketMessagingBus;
  */
 @Slf4j
 public class GameRelayServer {
+  private final WebSocketMessagingBus webSocketMessagingBus;
   private final StandaloneWebsocketServer standaloneWebsocketServer;
   private final int port;
 
@@ -26,11 +28,16 @@ public class GameRelayServer {
    */
   public GameRelayServer(final int port) {
     this.port = port;
-    final WebSocketMessagingBus webSocketMessagingBus = new WebSocketMessagingBus();
+    webSocketMessagingBus = new WebSocketMessagingBus();
     webSocketMessagingBus.addMessageListener(webSocketMessagingBus::broadcastMessage);
     standaloneWebsocketServer = new StandaloneWebsocketServer(webSocketMessagingBus, port);
   }
 
+  /** Returns statistics about the messages relayed to the connected clients. */
+  public MessageSender.Metrics getSendMetrics() {
+    return webSocketMessagingBus.getSendMetrics();
+  }
+
   public void start() {
     standaloneWebsocketServer.start();
     log.info("Game Relay Server started on port: " + port);
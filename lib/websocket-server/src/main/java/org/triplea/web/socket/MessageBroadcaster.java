@@ -12,18 +12,18 @@ import org.triplea.http.client.web.socket.MessageEnvelope;
 public class MessageBroadcaster
     implements BiConsumer<Collection<WebSocketSession>, MessageEnvelope> {
 
-  private final BiConsumer<WebSocketSession, MessageEnvelope> messageSender;
+  private final MessageSender messageSender;
 
   public static MessageBroadcaster build() {
     return new MessageBroadcaster(new MessageSender());
   }
 
   /**
-   * Sends a message to sessions.
+   * Sends a message to sessions. The message is converted to JSON once and then queued for every
+   * open session, this method does not wait for the message to be sent.
    *
-   * <p>Warning: use a concurrent collection for {@param sessions}, the broadcast could take a
-   * significant amount of time, any modifications during that time could trigger a
-   * ConcurrentModificationException.
+   * <p>Warning: use a concurrent collection for {@param sessions}, any modifications while the
+   * message is queued could trigger a ConcurrentModificationException.
    *
    * @param sessions Sessions to receive message.
    * @param messageEnvelope The message to send.
@@ -31,8 +31,6 @@ public class MessageBroadcaster
   @Override
   public void accept(
       final Collection<WebSocketSession> sessions, final MessageEnvelope messageEnvelope) {
-    sessions.parallelStream()
-        .filter(WebSocketSession::isOpen)
-        .forEach(s -> messageSender.accept(s, messageEnvelope));
+    messageSender.broadcast(sessions, messageEnvelope);
   }
 }
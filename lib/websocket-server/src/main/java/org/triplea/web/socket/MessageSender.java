@@ -1,24 +1,215 @@
 package org.triplea.web.socket;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
+import javax.annotation.concurrent.GuardedBy;
+import javax.websocket.CloseReason;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.triplea.http.client.web.socket.MessageEnvelope;
-import org.triplea.java.Interruptibles;
 
-/** Sends a server message (encoded as a JSON string) to a specific connected websocket sessions. */
+/**
+ * Sends server messages (encoded as JSON strings) to connected websocket sessions.
+ *
+ * <p>Every session has its own queue of outgoing messages that is drained by a small thread pool
+ * shared by all senders, so messages to a session are sent in order. A session that does not
+ * take a message within {@link WebSocketSessionAdapter#SEND_TIMEOUT} is disconnected, so a stalled
+ * session only holds up the other sessions for that long. A session that falls more than {@link
+ * #MAX_QUEUED_MESSAGES} messages behind is disconnected and its queued messages are dropped. The
+ * {@link Metrics} of all sessions are logged whenever a message cannot be sent, and are available
+ * from {@link #getMetrics()} for servers that monitor them.
+ */
+@Slf4j
+@AllArgsConstructor(access = AccessLevel.PACKAGE, onConstructor_ = @VisibleForTesting)
 public class MessageSender implements BiConsumer<WebSocketSession, MessageEnvelope> {
+  @VisibleForTesting static final int MAX_QUEUED_MESSAGES = 1000;
+
   private static final Gson GSON = new Gson();
+  private static final Executor SHARED_EXECUTOR =
+      Executors.newFixedThreadPool(
+          Math.max(2, Runtime.getRuntime().availableProcessors()),
+          runnable -> {
+            final Thread thread = new Thread(runnable, "Websocket message sender");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final Executor executor;
+  private final Map<String, SessionQueue> sessionQueues = new ConcurrentHashMap<>();
+  private final AtomicInteger queuedMessages = new AtomicInteger();
+  private final AtomicLong sentMessages = new AtomicLong();
+  private final AtomicLong droppedMessages = new AtomicLong();
+  private final AtomicLong totalSendLatencyNanos = new AtomicLong();
+  private final AtomicLong maxSendLatencyNanos = new AtomicLong();
+
+  /** Statistics about the messages sent by a {@link MessageSender}. */
+  @Value
+  @Builder
+  public static class Metrics {
+    /** Messages waiting to be sent, summed over all sessions. */
+    int queuedMessages;
+    long sentMessages;
+    /** Messages that were not sent because their session was too slow or closed. */
+    long droppedMessages;
+    /** Average time from queueing a message until it was sent. */
+    Duration averageSendLatency;
+    Duration maxSendLatency;
+  }
+
+  public MessageSender() {
+    this(SHARED_EXECUTOR);
+  }
 
   @Override
   public void accept(final WebSocketSession session, final MessageEnvelope message) {
     if (session.isOpen()) {
-      new Thread(() -> Interruptibles.await(() -> sendMessage(session, message))).start();
+      enqueue(session, GSON.toJson(message));
     }
   }
 
-  private void sendMessage(final WebSocketSession session, final MessageEnvelope message) {
-    if (session.isOpen()) {
-      session.sendText(GSON.toJson(message));
+  /**
+   * Sends a message to all open sessions. The message is converted to JSON only once for all of
+   * them.
+   */
+  public void broadcast(
+      final Collection<WebSocketSession> sessions, final MessageEnvelope message) {
+    final String json = GSON.toJson(message);
+    sessions.stream().filter(WebSocketSession::isOpen).forEach(session -> enqueue(session, json));
+  }
+
+  /** Returns statistics about the messages sent to all sessions so far. */
+  public Metrics getMetrics() {
+    final long sent = sentMessages.get();
+    return Metrics.builder()
+        .queuedMessages(queuedMessages.get())
+        .sentMessages(sent)
+        .droppedMessages(droppedMessages.get())
+        .averageSendLatency(Duration.ofNanos(sent == 0 ? 0 : totalSendLatencyNanos.get() / sent))
+        .maxSendLatency(Duration.ofNanos(maxSendLatencyNanos.get()))
+        .build();
+  }
+
+  private void enqueue(final WebSocketSession session, final String json) {
+    while (true) {
+      final SessionQueue queue =
+          sessionQueues.computeIfAbsent(session.getId(), id -> new SessionQueue(session));
+      // a queue that was just drained completely is removed and must not be used any more
+      if (queue.offer(json)) {
+        return;
+      }
+    }
+  }
+
+  /** The messages that still have to be sent to a session. */
+  private class SessionQueue implements Runnable {
+    private final WebSocketSession session;
+
+    @GuardedBy("this")
+    private final Queue<QueuedMessage> messages = new ArrayDeque<>();
+
+    @GuardedBy("this")
+    private boolean draining;
+
+    @GuardedBy("this")
+    private boolean removed;
+
+    SessionQueue(final WebSocketSession session) {
+      this.session = session;
+    }
+
+    /** Returns false if this queue was removed and the message has to be queued elsewhere. */
+    boolean offer(final String json) {
+      final int droppedQueuedMessages;
+      synchronized (this) {
+        if (removed) {
+          return false;
+        }
+        if (messages.size() < MAX_QUEUED_MESSAGES) {
+          messages.add(new QueuedMessage(json, System.nanoTime()));
+          queuedMessages.incrementAndGet();
+          if (!draining) {
+            draining = true;
+            executor.execute(this);
+          }
+          return true;
+        }
+        droppedQueuedMessages = messages.size();
+        droppedMessages.addAndGet(droppedQueuedMessages + 1);
+        queuedMessages.addAndGet(-droppedQueuedMessages);
+        messages.clear();
+      }
+      // closing can block on the network, so it must not hold up other threads queueing messages
+      disconnectSlowSession(droppedQueuedMessages);
+      return true;
+    }
+
+    private void disconnectSlowSession(final int droppedQueuedMessages) {
+      log.warn(
+          "Disconnecting websocket session {} from {}, it had {} messages waiting to be sent, {}",
+          session.getId(),
+          session.getRemoteAddress(),
+          droppedQueuedMessages,
+          getMetrics());
+      session.close(
+          new CloseReason(
+              CloseReason.CloseCodes.TRY_AGAIN_LATER, "Not reading messages fast enough"));
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        final QueuedMessage message;
+        synchronized (this) {
+          message = messages.poll();
+          if (message == null) {
+            draining = false;
+            removed = true;
+            sessionQueues.remove(session.getId(), this);
+            return;
+          }
+        }
+        queuedMessages.decrementAndGet();
+        send(message);
+      }
     }
+
+    private void send(final QueuedMessage message) {
+      if (!session.isOpen()) {
+        droppedMessages.incrementAndGet();
+        return;
+      }
+      try {
+        session.sendText(message.json);
+      } catch (final RuntimeException e) {
+        droppedMessages.incrementAndGet();
+        log.warn(
+            "Error sending websocket message to session {}, {}", session.getId(), getMetrics(), e);
+        return;
+      }
+      final long latencyNanos = System.nanoTime() - message.queuedAtNanos;
+      sentMessages.incrementAndGet();
+      totalSendLatencyNanos.addAndGet(latencyNanos);
+      maxSendLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+  }
+
+  @AllArgsConstructor
+  private static class QueuedMessage {
+    private final String json;
+    private final long queuedAtNanos;
   }
 }
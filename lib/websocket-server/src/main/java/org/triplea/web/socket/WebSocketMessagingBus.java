@@ -63,6 +63,14 @@ public class WebSocketMessagingBus {
     messageBroadcaster.accept(sessionSet.getSessions(), messageEnvelope);
   }
 
+  /**
+   * Returns statistics about the messages sent to the sessions, e.g. how many are waiting to be
+   * sent and how long sending took.
+   */
+  public MessageSender.Metrics getSendMetrics() {
+    return messageSender.getMetrics();
+  }
+
   /**
    * Adds a listener for specific message types. The messaging bus will automatically exclude any
    * messages that are not of a matching type.
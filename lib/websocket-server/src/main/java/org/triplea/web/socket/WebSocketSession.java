@@ -14,6 +14,11 @@ public interface WebSocketSession {
 
   void close(CloseReason closeReason);
 
+  /**
+   * Sends a message and waits until it was sent.
+   *
+   * @throws RuntimeException If the message could not be sent.
+   */
   void sendText(String text);
 
   String getId();
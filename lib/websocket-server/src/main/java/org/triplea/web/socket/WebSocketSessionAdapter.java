@@ -2,8 +2,12 @@ package org.triplea.web.socket;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.websocket.CloseReason;
 import javax.websocket.Session;
 import lombok.experimental.UtilityClass;
@@ -16,6 +20,9 @@ import org.slf4j.LoggerFactory;
  */
 @UtilityClass
 public class WebSocketSessionAdapter {
+  /** How long a message may take to be sent before its session is disconnected. */
+  static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
   static WebSocketSession fromSession(final Session session) {
     return new WebSocketSession() {
       @Override
@@ -40,11 +47,21 @@ public class WebSocketSessionAdapter {
 
       @Override
       public void sendText(final String text) {
+        final Future<Void> sent = session.getAsyncRemote().sendText(text);
         try {
-          session.getAsyncRemote().sendText(text).get();
-        } catch (final InterruptedException | ExecutionException e) {
-          LoggerFactory.getLogger(WebSocketSessionAdapter.class)
-              .error("Error sending websocket message", e);
+          sent.get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while sending websocket message", e);
+        } catch (final ExecutionException e) {
+          throw new IllegalStateException("Error sending websocket message", e);
+        } catch (final TimeoutException e) {
+          sent.cancel(true);
+          close(
+              new CloseReason(
+                  CloseReason.CloseCodes.TRY_AGAIN_LATER, "Not reading messages fast enough"));
+          throw new IllegalStateException(
+              "Timed out sending websocket message, disconnected session " + session.getId(), e);
         }
       }
 
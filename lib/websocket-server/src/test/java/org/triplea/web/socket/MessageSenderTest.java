@@ -1,16 +1,26 @@
 package org.triplea.web.socket;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.gson.Gson;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.websocket.CloseReason;
 import lombok.AllArgsConstructor;
 import org.jetbrains.annotations.NonNls;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.triplea.http.client.web.socket.MessageEnvelope;
@@ -26,6 +36,7 @@ class MessageSenderTest {
   @NonNls private static final String SERVER_MESSAGE_JSON = new Gson().toJson(MESSAGE_ENVELOPE);
 
   @Mock private WebSocketSession session;
+  @Mock private WebSocketSession closedSession;
 
   @AllArgsConstructor
   private static class StringMessage implements WebSocketMessage {
@@ -51,9 +62,75 @@ class MessageSenderTest {
   @Test
   void sendMessage() {
     when(session.isOpen()).thenReturn(true);
+    when(session.getId()).thenReturn("session");
 
     new MessageSender().accept(session, MESSAGE_ENVELOPE);
 
     verify(session, timeout(1000)).sendText(SERVER_MESSAGE_JSON);
   }
+
+  @Test
+  void broadcastToOpenSessions() {
+    when(session.isOpen()).thenReturn(true);
+    when(session.getId()).thenReturn("session");
+    when(closedSession.isOpen()).thenReturn(false);
+
+    new MessageSender(Runnable::run).broadcast(List.of(session, closedSession), MESSAGE_ENVELOPE);
+
+    verify(session).sendText(SERVER_MESSAGE_JSON);
+    verify(closedSession, never()).sendText(any());
+  }
+
+  @Test
+  void messagesToSessionAreSentInOrder() {
+    when(session.isOpen()).thenReturn(true);
+    when(session.getId()).thenReturn("session");
+    final List<Runnable> tasks = new ArrayList<>();
+    final MessageSender messageSender = new MessageSender(tasks::add);
+    final MessageEnvelope secondMessage = new StringMessage("second").toEnvelope();
+
+    messageSender.accept(session, MESSAGE_ENVELOPE);
+    messageSender.accept(session, secondMessage);
+    assertThat(messageSender.getMetrics().getQueuedMessages(), is(2));
+    // both messages are drained by the same task
+    assertThat(tasks, hasSize(1));
+    tasks.get(0).run();
+
+    final InOrder inOrder = inOrder(session);
+    inOrder.verify(session).sendText(SERVER_MESSAGE_JSON);
+    inOrder.verify(session).sendText(new Gson().toJson(secondMessage));
+    assertThat(messageSender.getMetrics().getQueuedMessages(), is(0));
+    assertThat(messageSender.getMetrics().getSentMessages(), is(2L));
+  }
+
+  @Test
+  void slowSessionIsDisconnected() {
+    when(session.isOpen()).thenReturn(true);
+    when(session.getId()).thenReturn("session");
+    final MessageSender messageSender = new MessageSender(task -> {});
+
+    for (int i = 0; i <= MessageSender.MAX_QUEUED_MESSAGES; i++) {
+      messageSender.accept(session, MESSAGE_ENVELOPE);
+    }
+
+    verify(session).close(any(CloseReason.class));
+    final MessageSender.Metrics metrics = messageSender.getMetrics();
+    assertThat(metrics.getQueuedMessages(), is(0));
+    assertThat(metrics.getDroppedMessages(), is(MessageSender.MAX_QUEUED_MESSAGES + 1L));
+  }
+
+  @Test
+  void failedMessageIsNotCountedAsSent() {
+    when(session.isOpen()).thenReturn(true);
+    when(session.getId()).thenReturn("session");
+    doThrow(new IllegalStateException("timed out")).when(session).sendText(any());
+    final MessageSender messageSender = new MessageSender(Runnable::run);
+
+    messageSender.accept(session, MESSAGE_ENVELOPE);
+
+    final MessageSender.Metrics metrics = messageSender.getMetrics();
+    assertThat(metrics.getSentMessages(), is(0L));
+    assertThat(metrics.getDroppedMessages(), is(1L));
+    assertThat(metrics.getMaxSendLatency(), is(Duration.ZERO));
+  }
 }
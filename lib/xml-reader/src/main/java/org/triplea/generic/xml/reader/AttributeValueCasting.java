@@ -10,19 +10,21 @@ import org.triplea.generic.xml.reader.exceptions.XmlDataException;
 class AttributeValueCasting {
 
   private final Field field;
+  private final Class<?> fieldType;
   private final Attribute attributeAnnotation;
 
   AttributeValueCasting(final Field field) {
     this.field = field;
+    fieldType = field.getType();
     attributeAnnotation = Preconditions.checkNotNull(field.getAnnotation(Attribute.class));
   }
 
   Object castAttributeValue(final String attributeValue) throws XmlDataException {
-    if (field.getType() == Integer.class || field.getType() == Integer.TYPE) {
+    if (fieldType == Integer.class || fieldType == Integer.TYPE) {
       return castToInt(attributeValue);
-    } else if (field.getType() == Double.class || field.getType() == Double.TYPE) {
+    } else if (fieldType == Double.class || fieldType == Double.TYPE) {
       return castToDouble(attributeValue);
-    } else if (field.getType() == Boolean.class || field.getType() == Boolean.TYPE) {
+    } else if (fieldType == Boolean.class || fieldType == Boolean.TYPE) {
       return castToBoolean(attributeValue);
     } else {
       // type is a String
@@ -40,11 +42,11 @@ class AttributeValueCasting {
    */
   private Integer castToInt(final String attributeValue) throws XmlDataException {
     if (attributeValue == null
-        && field.getType() == Integer.class
-        && field.getAnnotation(Attribute.class).defaultInt() == 0) {
+        && fieldType == Integer.class
+        && attributeAnnotation.defaultInt() == 0) {
       return null;
     } else if (attributeValue == null) {
-      return field.getAnnotation(Attribute.class).defaultInt();
+      return attributeAnnotation.defaultInt();
     } else {
       try {
         return Integer.valueOf(attributeValue);
@@ -57,11 +59,11 @@ class AttributeValueCasting {
 
   private Double castToDouble(final String attributeValue) throws XmlDataException {
     if (attributeValue == null
-        && field.getType() == Double.class
-        && field.getAnnotation(Attribute.class).defaultDouble() == 0.0) {
+        && fieldType == Double.class
+        && attributeAnnotation.defaultDouble() == 0.0) {
       return null;
     } else if (attributeValue == null) {
-      return field.getAnnotation(Attribute.class).defaultDouble();
+      return attributeAnnotation.defaultDouble();
     } else {
       try {
         return Double.valueOf(attributeValue);
@@ -74,11 +76,11 @@ class AttributeValueCasting {
 
   private Boolean castToBoolean(final String attributeValue) throws XmlDataException {
     if (attributeValue == null
-        && field.getType() == Boolean.class
-        && !field.getAnnotation(Attribute.class).defaultBoolean()) {
+        && fieldType == Boolean.class
+        && !attributeAnnotation.defaultBoolean()) {
       return null;
     } else if (attributeValue == null) {
-      return field.getAnnotation(Attribute.class).defaultBoolean();
+      return attributeAnnotation.defaultBoolean();
     } else {
       if (!attributeValue.equalsIgnoreCase("true") && !attributeValue.equalsIgnoreCase("false")) {
         throw new XmlDataException(
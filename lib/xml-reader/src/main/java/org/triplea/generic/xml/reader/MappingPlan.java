@@ -0,0 +1,118 @@
+package org.triplea.generic.xml.reader;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+import org.triplea.generic.xml.reader.annotations.Attribute;
+import org.triplea.generic.xml.reader.annotations.Tag;
+import org.triplea.generic.xml.reader.annotations.TagList;
+import org.triplea.generic.xml.reader.exceptions.JavaDataModelException;
+
+/**
+ * Everything needed to map a tag to a java model object that can be read off the java model class
+ * itself: the constructor to use, the annotated fields and the attribute and tag names that are
+ * mapped to each field.
+ *
+ * <p>A map XML contains thousands of tags of the same few types. To not repeat the reflection and
+ * annotation validation for every one of them, plans are created once per class and then shared by
+ * all {@link XmlMapper} instances.
+ *
+ * @param <T> Java model object class type (essentially the tag we are currently creating as a java
+ *     object).
+ */
+@Getter(AccessLevel.PACKAGE)
+class MappingPlan<T> {
+  private static final Map<Class<?>, MappingPlan<?>> plans = new ConcurrentHashMap<>();
+
+  private final Constructor<T> constructor;
+  private final List<AttributeBinding> attributes = new ArrayList<>();
+  private final List<TagBinding> tags = new ArrayList<>();
+  private final List<TagBinding> tagLists = new ArrayList<>();
+  @Nullable private final Field bodyTextField;
+
+  /** An '@Attribute' field and the attribute names that can be mapped to it. */
+  @Value
+  static class AttributeBinding {
+    Field field;
+    String[] names;
+    AttributeValueCasting casting;
+  }
+
+  /**
+   * A '@Tag' or '@TagList' field, the type of the tag object (for lists the list element type) and
+   * the tag names that can be mapped to it.
+   */
+  @Value
+  static class TagBinding {
+    Field field;
+    Class<?> type;
+    String[] names;
+  }
+
+  private MappingPlan(final Class<T> pojo) throws JavaDataModelException {
+    constructor = ReflectionUtils.getNoArgsConstructor(pojo);
+    final AnnotatedFields<T> annotatedFields = new AnnotatedFields<>(pojo);
+
+    for (final Field field : annotatedFields.getAttributeFields()) {
+      final String[] attributeNames =
+          getNamesFromAnnotationOrDefault(
+              field.getAnnotation(Attribute.class).names(), field.getName());
+      attributes.add(new AttributeBinding(field, attributeNames, new AttributeValueCasting(field)));
+    }
+
+    for (final Field field : annotatedFields.getTagFields()) {
+      final String[] tagNames =
+          getNamesFromAnnotationOrDefault(
+              field.getAnnotation(Tag.class).names(), field.getType().getSimpleName());
+      tags.add(new TagBinding(field, field.getType(), tagNames));
+    }
+
+    for (final Field field : annotatedFields.getTagListFields()) {
+      final Class<?> listType = ReflectionUtils.getGenericType(field);
+      final String[] tagNames =
+          getNamesFromAnnotationOrDefault(
+              field.getAnnotation(TagList.class).names(), listType.getSimpleName());
+      tagLists.add(new TagBinding(field, listType, tagNames));
+    }
+
+    bodyTextField =
+        annotatedFields.getBodyTextFields().isEmpty()
+            ? null
+            : annotatedFields.getBodyTextFields().get(0);
+  }
+
+  /**
+   * Returns the plan of the given class, creating and validating it if this class is mapped for the
+   * first time.
+   *
+   * @throws JavaDataModelException Thrown if the class is not a valid java model class. Invalid
+   *     classes are not remembered, the exception is thrown again on every call.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> MappingPlan<T> of(final Class<T> pojo) throws JavaDataModelException {
+    return (MappingPlan<T>) plans.computeIfAbsent(pojo, MappingPlan::new);
+  }
+
+  T newInstance() throws JavaDataModelException {
+    return ReflectionUtils.newInstance(constructor);
+  }
+
+  /** Returns true if the tag has child tags or body text to map, not only attributes. */
+  boolean hasTagContent() {
+    return !tags.isEmpty() || !tagLists.isEmpty() || bodyTextField != null;
+  }
+
+  private static String[] getNamesFromAnnotationOrDefault(
+      final String[] annotationValues, final String defaultValue) {
+    return annotationValues.length == 1 && annotationValues[0].isEmpty()
+        ? new String[] {defaultValue}
+        : annotationValues;
+  }
+}
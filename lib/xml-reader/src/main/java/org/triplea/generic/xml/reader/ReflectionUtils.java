@@ -9,19 +9,25 @@ import org.triplea.generic.xml.reader.exceptions.JavaDataModelException;
 
 @UtilityClass
 class ReflectionUtils {
-  <T> T newInstance(final Class<T> pojo) throws JavaDataModelException {
+  <T> Constructor<T> getNoArgsConstructor(final Class<T> pojo) throws JavaDataModelException {
     try {
       final Constructor<T> constructor = pojo.getDeclaredConstructor();
       constructor.setAccessible(true);
-      return constructor.newInstance();
-    } catch (final IllegalAccessException e) {
-      throw new JavaDataModelException(
-          "Unexpected illegal access error while constructing class", e);
+      return constructor;
     } catch (final NoSuchMethodException e) {
       throw new JavaDataModelException(
           "Cannot instantiate, make sure class is static if it is a nested class, "
               + "and has a no-args constructor.",
           e);
+    }
+  }
+
+  <T> T newInstance(final Constructor<T> constructor) throws JavaDataModelException {
+    try {
+      return constructor.newInstance();
+    } catch (final IllegalAccessException e) {
+      throw new JavaDataModelException(
+          "Unexpected illegal access error while constructing class", e);
     } catch (final InvocationTargetException e) {
       throw new JavaDataModelException(
           "An exception was thrown when invoking the no arg constructor. This not expected, the "
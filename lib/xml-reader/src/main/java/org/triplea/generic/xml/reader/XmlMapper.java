@@ -1,20 +1,15 @@
 package org.triplea.generic.xml.reader;
 
-import com.google.common.base.Preconditions;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import javax.annotation.Nullable;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import lombok.extern.slf4j.Slf4j;
-import org.triplea.generic.xml.reader.annotations.Attribute;
-import org.triplea.generic.xml.reader.annotations.Tag;
-import org.triplea.generic.xml.reader.annotations.TagList;
 import org.triplea.generic.xml.reader.exceptions.JavaDataModelException;
 import org.triplea.generic.xml.reader.exceptions.XmlParsingException;
 
@@ -63,32 +58,22 @@ public class XmlMapper implements Closeable {
     // out of that tag (and then set it).
 
     try {
+      // The mapping plan holds the reflection data of the java model class, it is created and
+      // validated only once per class and then reused for every tag of that type.
+      final MappingPlan<T> mappingPlan = MappingPlan.of(pojo);
+
       // Create the object to return, it is a java representation of the "current tag".
-      final T instance = ReflectionUtils.newInstance(pojo);
-      final AnnotatedFields<T> annotatedFields = new AnnotatedFields<>(pojo);
+      final T instance = mappingPlan.newInstance();
 
       // set attributes on the current object
-      for (final Field field : annotatedFields.getAttributeFields()) {
-
-        final String[] attributeNames =
-            getNamesFromAnnotationOrDefault(
-                field.getAnnotation(Attribute.class).names(), field.getName());
-
-        final String attributeValue =
-            Arrays.stream(attributeNames)
-                .map(attributeName -> xmlStreamReader.getAttributeValue(null, attributeName))
-                .filter(Objects::nonNull)
-                .findAny()
-                .orElse(null);
-
-        final Object value = new AttributeValueCasting(field).castAttributeValue(attributeValue);
-        field.set(instance, value);
+      for (final MappingPlan.AttributeBinding attribute : mappingPlan.getAttributes()) {
+        final String attributeValue = getAttributeValue(attribute.getNames());
+        final Object value = attribute.getCasting().castAttributeValue(attributeValue);
+        attribute.getField().set(instance, value);
       }
 
       // Check if we have any more work to do, if only attributes can go ahead and return now.
-      if (annotatedFields.getTagFields().isEmpty()
-          && annotatedFields.getTagListFields().isEmpty()
-          && annotatedFields.getBodyTextFields().isEmpty()) {
+      if (!mappingPlan.hasTagContent()) {
         return instance;
       }
 
@@ -100,51 +85,37 @@ public class XmlMapper implements Closeable {
       // tag name we'll call the child tag handler. The child tag handler will
       // create a java model representing the child tag and set the field instance
       // on our current running instance object.
-      for (final Field field : annotatedFields.getTagFields()) {
-
-        final String[] tagNames =
-            getNamesFromAnnotationOrDefault(
-                field.getAnnotation(Tag.class).names(), field.getType().getSimpleName());
-
-        Arrays.stream(tagNames)
-            .forEach(
-                expectedTagName ->
-                    tagParser.childTagHandler(
-                        expectedTagName,
-                        () ->
-                            field.set(instance, mapXmlToObject(field.getType(), expectedTagName))));
+      for (final MappingPlan.TagBinding tag : mappingPlan.getTags()) {
+        final Field field = tag.getField();
+        for (final String expectedTagName : tag.getNames()) {
+          tagParser.childTagHandler(
+              expectedTagName,
+              () -> field.set(instance, mapXmlToObject(tag.getType(), expectedTagName)));
+        }
       }
 
       // Set up tag list parsing, similar to tag parsing except we set the field
       // value to a list and each time we see a new child tag we'll add it back to that list.
-      for (final Field field : annotatedFields.getTagListFields()) {
-        final List<Object> tagList = new ArrayList<>();
-        field.set(instance, tagList);
-        final Class<?> listType = ReflectionUtils.getGenericType(field);
-
-        final String[] tagNames =
-            getNamesFromAnnotationOrDefault(
-                field.getAnnotation(TagList.class).names(), listType.getSimpleName());
-
-        Arrays.stream(tagNames)
-            .forEach(
-                expectedTagName ->
-                    tagParser.childTagHandler(
-                        expectedTagName,
-                        () -> tagList.add(mapXmlToObject(listType, expectedTagName))));
+      for (final MappingPlan.TagBinding tagList : mappingPlan.getTagLists()) {
+        final List<Object> tags = new ArrayList<>();
+        tagList.getField().set(instance, tags);
+        for (final String expectedTagName : tagList.getNames()) {
+          tagParser.childTagHandler(
+              expectedTagName, () -> tags.add(mapXmlToObject(tagList.getType(), expectedTagName)));
+        }
       }
 
       // Set up body text handler. The XML cursor will iterate over each line of body
       // content and we will buffer that content, when the full content is read it is trimmed
       // and the setter callback below is executed.
-      for (final Field field : annotatedFields.getBodyTextFields()) {
-        Preconditions.checkState(annotatedFields.getBodyTextFields().size() == 1);
+      final Field bodyTextField = mappingPlan.getBodyTextField();
+      if (bodyTextField != null) {
         tagParser.bodyHandler(
             textContent -> {
               try {
-                field.set(instance, textContent);
+                bodyTextField.set(instance, textContent);
               } catch (final IllegalAccessException e) {
-                throw new JavaDataModelException(field, "Unexpected illegal access", e);
+                throw new JavaDataModelException(bodyTextField, "Unexpected illegal access", e);
               }
             });
       }
@@ -160,11 +131,16 @@ public class XmlMapper implements Closeable {
     }
   }
 
-  private static String[] getNamesFromAnnotationOrDefault(
-      final String[] annotationValues, final String defaultValue) {
-    return annotationValues.length == 1 && annotationValues[0].isEmpty()
-        ? new String[] {defaultValue}
-        : annotationValues;
+  /** Returns the value of the first of the given attributes that is present on the current tag. */
+  @Nullable
+  private String getAttributeValue(final String[] attributeNames) {
+    for (final String attributeName : attributeNames) {
+      final String attributeValue = xmlStreamReader.getAttributeValue(null, attributeName);
+      if (attributeValue != null) {
+        return attributeValue;
+      }
+    }
+    return null;
   }
 
   @Override
@@ -0,0 +1,64 @@
+package org.triplea.generic.xml.reader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.triplea.generic.xml.reader.annotations.Attribute;
+import org.triplea.generic.xml.reader.annotations.Tag;
+import org.triplea.generic.xml.reader.annotations.TagList;
+import org.triplea.generic.xml.reader.exceptions.JavaDataModelException;
+
+@SuppressWarnings("unused")
+class MappingPlanTest {
+
+  static class Example {
+    @Attribute(names = {"name", "alternativeName"})
+    private String name;
+
+    @Tag private Child child;
+
+    @TagList private List<Child> children;
+  }
+
+  static class Child {}
+
+  static class BadAnnotation {
+    @Attribute private Object attribute;
+  }
+
+  @Test
+  void plansAreCreatedOncePerClass() throws Exception {
+    assertThat(MappingPlan.of(Example.class), is(sameInstance(MappingPlan.of(Example.class))));
+  }
+
+  @Test
+  void planHoldsAnnotatedFieldsAndNames() throws Exception {
+    final MappingPlan<Example> plan = MappingPlan.of(Example.class);
+
+    assertThat(plan.getAttributes().get(0).getNames(), arrayContaining("name", "alternativeName"));
+    assertThat(plan.getTags().get(0).getNames(), arrayContaining("Child"));
+    assertThat(plan.getTagLists().get(0).getType(), is(Child.class));
+    assertThat(plan.getBodyTextField(), is(nullValue()));
+    assertThat(plan.hasTagContent(), is(true));
+    assertThat(plan.newInstance().children, is(nullValue()));
+  }
+
+  @Test
+  void plansOfAttributeOnlyClassesHaveNoTagContent() throws Exception {
+    assertThat(MappingPlan.of(Child.class).hasTagContent(), is(false));
+    assertThat(MappingPlan.of(Child.class).getAttributes(), is(empty()));
+  }
+
+  @Test
+  void invalidClassesAreRejectedEveryTime() {
+    assertThrows(JavaDataModelException.class, () -> MappingPlan.of(BadAnnotation.class));
+    assertThrows(JavaDataModelException.class, () -> MappingPlan.of(BadAnnotation.class));
+  }
+}